@@ -81,6 +81,7 @@ public class AplicacionPong extends Application {
 
         gestorEscenas.mostrarMenu();
         inicializarMusicaFondo();
+        inicializarEfectosSonido();
 
         System.out.println("Pong Evolved iniciado correctamente.");
     }
@@ -238,6 +239,17 @@ public class AplicacionPong extends Application {
         }
     }
 
+    /**
+     * Carga los efectos de sonido y abre su linea de salida; el controlador
+     * del juego pone en marcha el mezclador mientras se juega.
+     * Si no hay dispositivo de audio, la aplicacion continua sin efectos.
+     */
+    private void inicializarEfectosSonido() {
+        if (!patrones.observer.GestorAudio.obtenerInstancia().inicializarEfectos()) {
+            System.err.println("La aplicacion continuara sin efectos de sonido.");
+        }
+    }
+
     /**
      * Método ejecutado al cerrar la aplicación.
      * Libera recursos y realiza limpieza necesaria.
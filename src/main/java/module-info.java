@@ -5,6 +5,7 @@ module pong.evolved {
     requires javafx.graphics;
     requires java.desktop;
     requires java.sql;
+    requires jdk.management;
     requires org.kordamp.ikonli.javafx;
     requires org.kordamp.ikonli.fontawesome5;
     requires io.vavr;
@@ -16,6 +17,7 @@ module pong.evolved {
     exports mvc.modelo.entidades;
     exports mvc.modelo.items;
     exports mvc.modelo.enums;
+    exports mvc.modelo.simulacion;
     exports mvc.vista;
     exports mvc.controlador;
     exports patrones.builder;
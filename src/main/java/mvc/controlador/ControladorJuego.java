@@ -1,30 +1,49 @@
 package mvc.controlador;
 
-import io.vavr.collection.List;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import mvc.modelo.CampoJuego;
 import mvc.modelo.ModeloJuego;
 import mvc.modelo.enums.Direccion;
 import mvc.modelo.enums.ModoJuego;
+import mvc.modelo.simulacion.AnilloEventos;
+import mvc.modelo.simulacion.BucleSimulacion;
+import mvc.modelo.simulacion.InstantaneaJuego;
 import mvc.vista.VistaJuego;
 import patrones.adapter.AdaptadorEntradaTeclado;
 import patrones.factory.ia.DificultadIA;
 import patrones.factory.ia.ServicioIA;
+import patrones.observer.GestorAudio;
 import patrones.observer.ObservadorUI;
+import patrones.singleton.ConfiguracionGlobal;
 import util.ParticleEmitter;
+import util.AtlasSprites;
+import util.CapaNeblina;
+import util.GobernadorCalidad;
+import util.ListaDibujo;
+import util.PostprocesoCRT;
 import util.RenderizadorJuego;
-import mvc.modelo.items.ItemNeblina;
+import util.SalpicadorParticulas;
 
 /**
  * Controlador del panel del juego principal.
  * Gestiona la interfaz del juego y la lógica de actualización del estado.
- * Implementa el game loop con AnimationTimer y renderizado usando programación funcional pura.
+ * El modelo se simula a paso fijo en un {@link BucleSimulacion} con hilo propio;
+ * el AnimationTimer solo interpola y renderiza las instantaneas publicadas.
+ * Fuera de la partida en curso (en pausa, antes de iniciar o con la escena
+ * oculta) el AnimationTimer se suspende y solo vuelve a correr para dibujar
+ * un fotograma cuando algo cambia.
  * Implementa el componente Controlador del patrón MVC.
  *
  * @author Equipo-polimorfo
@@ -34,27 +53,113 @@ public class ControladorJuego extends ControladorBase {
 
     private static final double NANOSEGUNDOS_POR_SEGUNDO = 1_000_000_000.0;
 
+    /** Marca de capa estatica invalida; ninguna version real de bloques la alcanza. */
+    private static final long SIN_CAPA_ESTATICA = Long.MIN_VALUE;
+
+    /** Radio con el que se rasteriza el atlas si la primera instantanea no tiene pelotas. */
+    private static final double RADIO_ATLAS_DEFECTO = 8.0;
+
+    /** Alto interno minimo al que la calidad adaptativa reduce la resolucion. */
+    private static final int ALTO_RENDER_MINIMO = 240;
+
+    /**
+     * Un intervalo entre pulsos mayor que esta fraccion del objetivo indica
+     * un pulso perdido, cuyo costo no se ve en el trabajo medido.
+     */
+    private static final double FACTOR_PULSO_PERDIDO = 1.5;
+
+    /** Altos internos que recorre la tecla F4, de menor a mayor. */
+    private static final int[] ALTOS_RENDER_INTERNO = {360, 480, 600, 720, 1080};
+
     @FXML
     private StackPane contenedorJuego;
 
     private VistaJuego vistaJuego;
     private ModeloJuego modeloJuego;
     private Option<AnimationTimer> gameLoop;
+    private boolean gameLoopCorriendo;
+    private Option<BucleSimulacion> bucleSimulacion;
+    private final ChangeListener<Number> oyenteFrecuencia;
+    private final ChangeListener<Number> oyenteResolucion;
+    private final ChangeListener<Boolean> oyenteCalidadAdaptativa;
+    private final ChangeListener<Number> oyenteObjetivoFotograma;
     private Option<ObservadorUI> observadorUI;
-    private ParticleEmitter.SistemaParticulas sistemaParticulas;
+    private final AnilloEventos anilloEventos;
+    private final AnilloEventos.Consumidor consumidorEventos;
+    private final ParticleEmitter.SistemaParticulas sistemaParticulas;
+    /**
+     * Copias de las particulas que lee el hilo del rasterizador por software.
+     * Se alternan solo cuando el lienzo acepta un fotograma, de modo que el
+     * hilo de JavaFX nunca escribe la copia que el hilo de trabajo esta leyendo.
+     */
+    private final ParticleEmitter.SistemaParticulas[] copiasParticulas;
+    private final SalpicadorParticulas salpicadorParticulas;
+    private int copiaParticulasLibre;
     private Option<ServicioIA> servicioIA;
     private AdaptadorEntradaTeclado adaptadorEntrada;
     private long ultimoTiempo;
     private boolean pausado;
     private boolean juegoIniciado;
+    private boolean juegoTerminado;
+    /** Hay un cambio que mostrar aunque la partida no avance. */
+    private boolean renderPendiente;
+    private boolean escenaVisible;
+    /** El mezclador de efectos esta en marcha por esta partida. */
+    private boolean efectosActivos;
+    private Option<Scene> escenaObservada = Option.none();
+    private Option<Window> ventanaObservada = Option.none();
+    private final InvalidationListener oyenteEscena = obs -> observarEscena();
+    private final InvalidationListener oyenteVentana = obs -> observarVentana();
+    private final InvalidationListener oyenteVisibilidad = obs -> actualizarVisibilidad();
+    private double[] posicionesPelotasExtra = new double[0];
+    private Option<AtlasSprites> atlasSprites = Option.none();
+    private final CapaNeblina capaNeblina = new CapaNeblina();
+    private final ListaDibujo listaDibujo = new ListaDibujo();
+    private final PostprocesoCRT postprocesoCRT = new PostprocesoCRT();
+    private final GobernadorCalidad gobernadorCalidad;
+    private double escalaResolucionCalidad = 1.0;
+    /** Pulso del ultimo fotograma medido, o 0 si el anterior no se midio. */
+    private long ultimoPulsoMedido;
+
+    /** Version de bloques dibujada en la capa estatica, o SIN_CAPA_ESTATICA si hay que redibujarla. */
+    private long versionCapaEstatica = SIN_CAPA_ESTATICA;
+    private int anchoCapaEstatica;
+    private int altoCapaEstatica;
+    private long llamadasUltimaCapaEstatica;
+    private long redibujosCapaEstatica;
+    private long fotogramasRenderizados;
+    private long llamadasDibujoTotales;
+    private long llamadasDibujoSinCapa;
 
     /**
      * Constructor por defecto requerido por FXML.
      */
     public ControladorJuego() {
         this.gameLoop = Option.none();
+        this.bucleSimulacion = Option.none();
+        this.oyenteFrecuencia = (obs, anterior, nueva) -> bucleSimulacion.forEach(bucle ->
+            Try.run(() -> bucle.establecerFrecuencia(nueva.intValue()))
+                .onFailure(e -> System.err.println("Frecuencia de simulacion invalida: " + e.getMessage())));
+        this.oyenteResolucion = (obs, anterior, nuevo) -> aplicarResolucionInterna();
+        this.gobernadorCalidad = new GobernadorCalidad(
+            (long) (ConfiguracionGlobal.obtenerInstancia().getObjetivoFotogramaMs() * 1_000_000),
+            this::aplicarNivelCalidad);
+        this.oyenteCalidadAdaptativa = (obs, anterior, activa) -> {
+            if (!activa) {
+                gobernadorCalidad.restablecer();
+            }
+        };
+        this.oyenteObjetivoFotograma = (obs, anterior, nuevo) ->
+            Try.run(() -> gobernadorCalidad.establecerObjetivoNanos((long) (nuevo.doubleValue() * 1_000_000)))
+                .onFailure(e -> System.err.println("Objetivo de fotograma invalido: " + e.getMessage()));
         this.observadorUI = Option.none();
-        this.sistemaParticulas = ParticleEmitter.SistemaParticulas.vacio();
+        this.anilloEventos = new AnilloEventos();
+        this.consumidorEventos = this::procesarEvento;
+        this.sistemaParticulas = new ParticleEmitter.SistemaParticulas();
+        this.salpicadorParticulas = new SalpicadorParticulas();
+        this.copiasParticulas = new ParticleEmitter.SistemaParticulas[] {
+            new ParticleEmitter.SistemaParticulas(), new ParticleEmitter.SistemaParticulas()
+        };
         this.servicioIA = Option.none();
         this.pausado = false;
         this.juegoIniciado = false;
@@ -71,18 +176,186 @@ public class ControladorJuego extends ControladorBase {
                 configurarAtajosTecladoPantallaCompleta(contenedorJuego);
             }
             inicializarVista();
+            configurarCalidadAdaptativa();
             inicializarModelo();
             configurarEntrada();
+            crearBucleSimulacion();
             crearGameLoop();
+            contenedorJuego.sceneProperty().addListener(oyenteEscena);
+            observarEscena();
         }).onFailure(e -> System.err.println("Error inicializando controlador: " + e.getMessage()));
     }
 
     /**
-     * Inicializa la vista del juego.
+     * Sigue la ventana de la escena del juego. {@link mvc.vista.GestorEscenas}
+     * cambia de vista reemplazando la escena del escenario, con lo que la
+     * escena del juego queda sin ventana.
+     */
+    private void observarEscena() {
+        escenaObservada.forEach(escena -> escena.windowProperty().removeListener(oyenteVentana));
+        escenaObservada = Option.of(contenedorJuego.getScene());
+        escenaObservada.forEach(escena -> escena.windowProperty().addListener(oyenteVentana));
+        observarVentana();
+    }
+
+    /**
+     * Sigue si la ventana que muestra el juego esta visible, minimizada o
+     * con el foco.
+     */
+    private void observarVentana() {
+        ventanaObservada.forEach(ventana -> {
+            ventana.showingProperty().removeListener(oyenteVisibilidad);
+            ventana.focusedProperty().removeListener(oyenteVisibilidad);
+            if (ventana instanceof Stage escenario) {
+                escenario.iconifiedProperty().removeListener(oyenteVisibilidad);
+            }
+        });
+        ventanaObservada = escenaObservada.flatMap(escena -> Option.of(escena.getWindow()));
+        ventanaObservada.forEach(ventana -> {
+            ventana.showingProperty().addListener(oyenteVisibilidad);
+            ventana.focusedProperty().addListener(oyenteVisibilidad);
+            if (ventana instanceof Stage escenario) {
+                escenario.iconifiedProperty().addListener(oyenteVisibilidad);
+            }
+        });
+        actualizarVisibilidad();
+    }
+
+    /**
+     * Pausa la partida si la escena deja de verse o la ventana pierde el
+     * foco, y suspende o reanuda el AnimationTimer segun corresponda. Al
+     * volver a verse la escena se dibuja un fotograma.
+     */
+    private void actualizarVisibilidad() {
+        final boolean visible = ventanaObservada
+            .exists(v -> v.isShowing() && !(v instanceof Stage escenario && escenario.isIconified()));
+        final boolean conFoco = visible && ventanaObservada.exists(Window::isFocused);
+        if (!conFoco) {
+            Option.of(adaptadorEntrada).forEach(AdaptadorEntradaTeclado::liberarTodas);
+            if (enJuego()) {
+                alternarPausa();
+            }
+        }
+        if (visible && !escenaVisible) {
+            renderPendiente = true;
+        }
+        escenaVisible = visible;
+        actualizarGameLoop();
+    }
+
+    /**
+     * Indica si la partida esta avanzando y hay que dibujar en cada pulso.
+     *
+     * @return true si el juego esta iniciado, sin pausa y sin terminar
+     */
+    private boolean enJuego() {
+        return juegoIniciado && !pausado && !juegoTerminado;
+    }
+
+    /**
+     * Mantiene el mezclador de efectos en marcha solo mientras la partida
+     * se ve y no esta en pausa, para que no escriba silencio minimizada o
+     * en pausa. Sigue en marcha al terminar la partida, para que suene el
+     * ultimo gol, hasta que se reinicia el estado.
+     */
+    private void actualizarEfectos() {
+        final boolean activos = escenaVisible && juegoIniciado && !pausado;
+        if (activos == efectosActivos) {
+            return;
+        }
+        efectosActivos = activos;
+        if (activos) {
+            GestorAudio.obtenerInstancia().reanudarEfectos();
+        } else {
+            GestorAudio.obtenerInstancia().suspenderEfectos();
+        }
+    }
+
+    /**
+     * Pide dibujar un fotograma aunque la partida no avance, por ejemplo al
+     * pausar o al cambiar la resolucion.
+     */
+    private void solicitarRenderizado() {
+        renderPendiente = true;
+        actualizarGameLoop();
+    }
+
+    /**
+     * Arranca el AnimationTimer si la escena se ve y hay algo que dibujar, y
+     * lo detiene en caso contrario. Al arrancar se descarta el tiempo que
+     * estuvo detenido, para que el primer delta no lo incluya.
+     */
+    private void actualizarGameLoop() {
+        actualizarEfectos();
+        final boolean softwarePendiente = Option.of(vistaJuego)
+            .exists(vista -> vista.obtenerLienzoSoftware().tieneFotogramaPendiente());
+        final boolean correr = escenaVisible && (enJuego() || renderPendiente || softwarePendiente);
+        if (correr == gameLoopCorriendo || gameLoop.isEmpty()) {
+            return;
+        }
+        gameLoopCorriendo = correr;
+        if (correr) {
+            reiniciarDelta();
+            gameLoop.forEach(AnimationTimer::start);
+        } else {
+            gameLoop.forEach(AnimationTimer::stop);
+        }
+    }
+
+    /**
+     * Inicializa la vista del juego con la resolucion interna de
+     * {@link ConfiguracionGlobal} y sigue sus cambios.
      */
     private void inicializarVista() {
         vistaJuego = new VistaJuego();
         contenedorJuego.getChildren().add(vistaJuego.obtenerContenedor());
+
+        final ConfiguracionGlobal configuracion = ConfiguracionGlobal.obtenerInstancia();
+        aplicarResolucionInterna();
+        configuracion.altoRenderInternoProperty().removeListener(oyenteResolucion);
+        configuracion.altoRenderInternoProperty().addListener(oyenteResolucion);
+    }
+
+    /**
+     * Sigue la activacion y el objetivo de la calidad adaptativa en
+     * {@link ConfiguracionGlobal}.
+     */
+    private void configurarCalidadAdaptativa() {
+        final ConfiguracionGlobal configuracion = ConfiguracionGlobal.obtenerInstancia();
+        configuracion.calidadAdaptativaProperty().removeListener(oyenteCalidadAdaptativa);
+        configuracion.calidadAdaptativaProperty().addListener(oyenteCalidadAdaptativa);
+        configuracion.objetivoFotogramaMsProperty().removeListener(oyenteObjetivoFotograma);
+        configuracion.objetivoFotogramaMsProperty().addListener(oyenteObjetivoFotograma);
+    }
+
+    /**
+     * Aplica el alto interno configurado, reducido por la escala del nivel
+     * de calidad actual.
+     */
+    private void aplicarResolucionInterna() {
+        Option.of(vistaJuego).forEach(vista -> Try.run(() -> {
+            final int configurado = ConfiguracionGlobal.obtenerInstancia().getAltoRenderInterno();
+            final int alto = Math.max(Math.min(configurado, ALTO_RENDER_MINIMO),
+                (int) Math.round(configurado * escalaResolucionCalidad));
+            if (alto != vista.obtenerAltoInterno()) {
+                vista.establecerResolucionInterna(alto);
+                solicitarRenderizado();
+            }
+        }).onFailure(e -> System.err.println("Resolucion interna invalida: " + e.getMessage())));
+    }
+
+    /**
+     * Traslada un nivel de la calidad adaptativa a los ajustes visuales.
+     *
+     * @param nivel nivel elegido por el gobernador
+     */
+    private void aplicarNivelCalidad(final GobernadorCalidad.NivelCalidad nivel) {
+        ParticleEmitter.establecerFactorCantidad(nivel.factorParticulas());
+        RenderizadorJuego.establecerSegmentosTrail(nivel.segmentosEstela());
+        capaNeblina.establecerTexturizada(nivel.neblinaTexturizada());
+        postprocesoCRT.establecerEfectosMaximos(nivel.efectosCRT());
+        escalaResolucionCalidad = nivel.escalaResolucion();
+        aplicarResolucionInterna();
     }
 
     /**
@@ -90,6 +363,7 @@ public class ControladorJuego extends ControladorBase {
      */
     private void inicializarModelo() {
         modeloJuego = new ModeloJuego();
+        modeloJuego.establecerAnilloEventos(anilloEventos);
 
         final Option<Runnable> callbackDetener = Option.of(this::detenerGameLoop);
         final Option<Runnable> callbackMenu = Option.of(this::navegarAlMenu);
@@ -106,6 +380,29 @@ public class ControladorJuego extends ControladorBase {
             .peek(mvc.vista.GestorEscenas::mostrarMenu);
     }
 
+    /**
+     * Crea el bucle de simulacion para el modelo actual, inicialmente pausado.
+     * La frecuencia se toma de {@link ConfiguracionGlobal} y sigue sus cambios.
+     */
+    private void crearBucleSimulacion() {
+        final ConfiguracionGlobal configuracion = ConfiguracionGlobal.obtenerInstancia();
+        final BucleSimulacion bucle = new BucleSimulacion(modeloJuego, configuracion.getFrecuenciaSimulacion());
+        bucle.establecerProcesadorEntrada(this::procesarEntradaContinua);
+        bucle.iniciar();
+
+        configuracion.frecuenciaSimulacionProperty().removeListener(oyenteFrecuencia);
+        configuracion.frecuenciaSimulacionProperty().addListener(oyenteFrecuencia);
+        bucleSimulacion = Option.of(bucle);
+    }
+
+    /**
+     * Pausa la simulacion y espera a que termine el tick en curso,
+     * de modo que el modelo pueda reconfigurarse desde el hilo de JavaFX.
+     */
+    private void pausarSimulacion() {
+        bucleSimulacion.forEach(BucleSimulacion::pausar);
+    }
+
     private void configurarEntrada() {
         adaptadorEntrada = new AdaptadorEntradaTeclado();
         contenedorJuego.setFocusTraversable(true);
@@ -134,6 +431,36 @@ public class ControladorJuego extends ControladorBase {
                 return;
             }
 
+            if (event.getCode() == KeyCode.F3) {
+                vistaJuego.establecerRenderSoftware(!vistaJuego.usaRenderSoftware());
+                informarDiagnostico("Renderizado " + (vistaJuego.usaRenderSoftware() ? "por software" : "sobre canvas"));
+                solicitarRenderizado();
+                event.consume();
+                return;
+            }
+
+            if (event.getCode() == KeyCode.F5) {
+                alternarPostprocesoCRT();
+                solicitarRenderizado();
+                event.consume();
+                return;
+            }
+
+            if (event.getCode() == KeyCode.F4) {
+                alternarResolucionInterna();
+                event.consume();
+                return;
+            }
+
+            if (event.getCode() == KeyCode.F6) {
+                final ConfiguracionGlobal configuracion = ConfiguracionGlobal.obtenerInstancia();
+                configuracion.setCalidadAdaptativa(!configuracion.isCalidadAdaptativa());
+                informarDiagnostico("Calidad adaptativa "
+                    + (configuracion.isCalidadAdaptativa() ? "activada" : "desactivada"));
+                event.consume();
+                return;
+            }
+
             if (!pausado && juegoIniciado) {
                 procesarMovimiento(event.getCode(), true);
             }
@@ -162,6 +489,16 @@ public class ControladorJuego extends ControladorBase {
     private void procesarMovimiento(final KeyCode code, final boolean presionada) {
         if (!presionada) return;
 
+        bucleSimulacion.forEach(bucle -> bucle.encolar(() -> aplicarImpulsoTecla(code)));
+    }
+
+    /**
+     * Aplica el desplazamiento inmediato asociado a una pulsacion de tecla.
+     * Se ejecuta en el hilo de simulacion.
+     *
+     * @param code Código de la tecla
+     */
+    private void aplicarImpulsoTecla(final KeyCode code) {
         final ModoJuego modo = modeloJuego.obtenerModoActual();
 
         switch (code) {
@@ -192,21 +529,34 @@ public class ControladorJuego extends ControladorBase {
     private void alternarPausa() {
         pausado = !pausado;
         if (pausado) {
+            pausarSimulacion();
             vistaJuego.actualizarInfo("PAUSA - ALT: Reanudar");
             vistaJuego.mostrarMensajeCentral("PAUSA");
         } else {
             vistaJuego.actualizarInfo("ESPACIO: Iniciar | ALT: Pausa");
-            ultimoTiempo = System.nanoTime();
+            reiniciarDelta();
+            if (juegoIniciado) {
+                bucleSimulacion.forEach(BucleSimulacion::reanudar);
+            }
         }
+        solicitarRenderizado();
     }
 
     private void iniciarJuego() {
         Try.run(() -> {
             juegoIniciado = true;
+            pausarSimulacion();
             modeloJuego.establecerActivo(true);
             vistaJuego.actualizarInfo("W/S: Jugador 1 | Flechas: Jugador 2 | ALT: Pausa");
             vistaJuego.mostrarMensajeCentral("¡COMIENZA!");
-            ultimoTiempo = System.nanoTime();
+            reiniciarDelta();
+            bucleSimulacion.forEach(bucle -> {
+                bucle.publicarEstadoActual();
+                if (!pausado) {
+                    bucle.reanudar();
+                }
+            });
+            solicitarRenderizado();
         }).onFailure(e -> System.err.println("Error iniciando juego: " + e.getMessage()));
     }
 
@@ -214,24 +564,72 @@ public class ControladorJuego extends ControladorBase {
         final AnimationTimer timer = new AnimationTimer() {
             @Override
             public void handle(final long ahora) {
-                if (!modeloJuego.estaActivo()) {
-                    return;
-                }
+                anilloEventos.drenar(consumidorEventos);
+                bucleSimulacion.forEach(bucle -> {
+                    final BucleSimulacion.Fotograma fotograma = bucle.obtenerFotograma();
+                    final boolean dibujable = juegoIniciado && fotograma.actual().activo();
 
-                if (!pausado && juegoIniciado) {
-                    final double delta = calcularDelta(ahora);
-                    actualizar(delta);
-                    renderizar();
-                    ultimoTiempo = ahora;
-                } else if (juegoIniciado) {
-                    renderizar();
-                }
+                    if (dibujable && enJuego()) {
+                        final long inicio = System.nanoTime();
+                        final double delta = calcularDelta(ahora);
+                        actualizar(delta, fotograma.actual());
+                        renderizar(fotograma, fotograma.calcularAlfa(ahora));
+                        ultimoTiempo = ahora;
+                        registrarTiempoFotograma(ahora, System.nanoTime() - inicio);
+                    } else if (renderPendiente) {
+                        if (juegoIniciado) {
+                            // El ultimo gol puede llegar en la instantanea que termina la partida.
+                            actualizarHUD(fotograma.actual());
+                        }
+                        renderPendiente = dibujable && !renderizar(fotograma, 1.0);
+                    } else {
+                        vistaJuego.obtenerLienzoSoftware().publicar();
+                    }
+                });
+                actualizarGameLoop();
             }
         };
 
         gameLoop = Option.of(timer);
-        gameLoop.forEach(AnimationTimer::start);
-        ultimoTiempo = System.nanoTime();
+        gameLoopCorriendo = false;
+        actualizarGameLoop();
+    }
+
+    /**
+     * Descarta la referencia de tiempo del ultimo pulso, de modo que el
+     * siguiente delta sea cero en lugar de incluir una pausa.
+     */
+    private void reiniciarDelta() {
+        ultimoTiempo = 0;
+        ultimoPulsoMedido = 0;
+    }
+
+    /**
+     * Entrega al gobernador de calidad el costo de un fotograma de juego.
+     * <p>
+     * El costo es el trabajo medido en este pulso o, con el renderizado por
+     * software, el del rasterizador si fue mayor. El pintado de Prism ocurre
+     * fuera del pulso y no puede medirse aqui; cuando excede el intervalo se
+     * pierden pulsos, de modo que un intervalo mucho mayor que el objetivo
+     * cuenta como costo del fotograma.
+     * </p>
+     *
+     * @param ahora        Marca del pulso en nanosegundos
+     * @param nanosTrabajo Nanosegundos que tomo actualizar y renderizar
+     */
+    private void registrarTiempoFotograma(final long ahora, final long nanosTrabajo) {
+        long nanos = nanosTrabajo;
+        if (vistaJuego.usaRenderSoftware()) {
+            nanos = Math.max(nanos, vistaJuego.obtenerLienzoSoftware().obtenerNanosUltimoFotograma());
+        }
+        final long intervalo = ahora - ultimoPulsoMedido;
+        if (ultimoPulsoMedido != 0 && intervalo > gobernadorCalidad.obtenerObjetivoNanos() * FACTOR_PULSO_PERDIDO) {
+            nanos = Math.max(nanos, intervalo);
+        }
+        ultimoPulsoMedido = ahora;
+        if (ConfiguracionGlobal.obtenerInstancia().isCalidadAdaptativa()) {
+            gobernadorCalidad.registrarFotograma(nanos);
+        }
     }
 
     /**
@@ -241,25 +639,91 @@ public class ControladorJuego extends ControladorBase {
      * @return Delta en segundos
      */
     private double calcularDelta(final long ahora) {
-        return Math.min((ahora - ultimoTiempo) / NANOSEGUNDOS_POR_SEGUNDO, 0.1);
+        if (ultimoTiempo == 0) {
+            return 0.0;
+        }
+        return Math.max(0.0, Math.min((ahora - ultimoTiempo) / NANOSEGUNDOS_POR_SEGUNDO, 0.1));
     }
 
     /**
-     * Actualiza el estado del juego.
+     * Actualiza los elementos puramente visuales del frame (partículas y HUD).
+     * La simulacion del modelo avanza por separado en el hilo de simulacion.
      *
-     * @param delta Tiempo transcurrido en segundos
+     * @param delta     Tiempo transcurrido en segundos
+     * @param instantanea Ultima instantanea publicada por la simulacion
      */
-    private void actualizar(final double delta) {
+    private void actualizar(final double delta, final InstantaneaJuego instantanea) {
         Try.run(() -> {
-            procesarEntradaContinua(delta);
-            modeloJuego.actualizar(delta);
-            sistemaParticulas = sistemaParticulas.actualizar(delta);
-            actualizarHUD();
+            sistemaParticulas.actualizar(delta);
+            actualizarHUD(instantanea);
         }).onFailure(e -> System.err.println("Error actualizando juego: " + e.getMessage()));
     }
 
     /**
-     * Procesa la entrada de teclado de forma continua en cada frame.
+     * Reparte un evento drenado del anillo entre las particulas, el sonido y
+     * los indicadores. Se ejecuta en el hilo de JavaFX, una vez por evento,
+     * al comienzo de cada pulso.
+     *
+     * @param evento evento publicado por la simulacion
+     */
+    private void procesarEvento(final AnilloEventos.Evento evento) {
+        Try.run(() -> {
+            emitirParticulas(evento);
+            reproducirSonido(evento);
+            actualizarIndicadores(evento);
+        }).onFailure(e -> System.err.println("Error procesando evento de juego: " + e.getMessage()));
+    }
+
+    private void emitirParticulas(final AnilloEventos.Evento evento) {
+        switch (evento.obtenerTipo()) {
+            case GOLPE_PALETA -> ParticleEmitter.crearImpacto(sistemaParticulas, evento.obtenerX(),
+                evento.obtenerY(), evento.obtenerNormalX(), evento.obtenerNormalY(),
+                javafx.scene.paint.Color.WHITE);
+            case GOLPE_BLOQUE -> ParticleEmitter.crearImpacto(sistemaParticulas,
+                evento.obtenerX() + evento.obtenerAncho() / 2.0, evento.obtenerY() + evento.obtenerAlto() / 2.0,
+                -evento.obtenerNormalX(), -evento.obtenerNormalY(),
+                RenderizadorJuego.calcularColorBloque(evento.obtenerValor()));
+            case BLOQUE_DESTRUIDO -> ParticleEmitter.crearFragmentosBloque(sistemaParticulas, evento.obtenerX(),
+                evento.obtenerY(), evento.obtenerAncho(), evento.obtenerAlto(),
+                RenderizadorJuego.calcularColorBloque(evento.obtenerValor()));
+            case GOL -> ParticleEmitter.crearConfeti(sistemaParticulas, evento.obtenerX(), evento.obtenerY(), 40);
+            case ITEM_GENERADO -> ParticleEmitter.crearChispas(sistemaParticulas,
+                evento.obtenerX() + evento.obtenerAncho() / 2.0, evento.obtenerY() + evento.obtenerAlto() / 2.0,
+                20, javafx.scene.paint.Color.YELLOW);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Dispara el efecto de sonido del evento. Los bloques mas resistentes
+     * suenan mas agudos y la destruccion, mas grave y fuerte que un golpe.
+     */
+    private void reproducirSonido(final AnilloEventos.Evento evento) {
+        final GestorAudio audio = GestorAudio.obtenerInstancia();
+        switch (evento.obtenerTipo()) {
+            case GOLPE_PALETA -> audio.reproducirSonido(GestorAudio.EFECTO_PALETA);
+            case GOLPE_PARED -> audio.reproducirSonido(GestorAudio.EFECTO_PARED, 0.6, 1.0);
+            case GOLPE_BLOQUE -> audio.reproducirSonido(GestorAudio.EFECTO_BLOQUE, 0.7,
+                1.0 + 0.06 * evento.obtenerValor());
+            case BLOQUE_DESTRUIDO -> audio.reproducirSonido(GestorAudio.EFECTO_BLOQUE, 1.0, 0.75);
+            case GOL -> audio.reproducirSonido(GestorAudio.EFECTO_GOL);
+            default -> {
+            }
+        }
+    }
+
+    private void actualizarIndicadores(final AnilloEventos.Evento evento) {
+        switch (evento.obtenerTipo()) {
+            case ITEM_GENERADO -> vistaJuego.mostrarMensajeCentral("POWER-UP");
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Procesa la entrada de teclado de forma continua en cada tick de simulacion.
+     * Se ejecuta en el hilo de simulacion antes de actualizar el modelo.
      *
      * @param delta Tiempo transcurrido en segundos
      */
@@ -286,49 +750,236 @@ public class ControladorJuego extends ControladorBase {
     }
 
     /**
-     * Actualiza el HUD con información del juego.
+     * Pasa al siguiente alto de {@link #ALTOS_RENDER_INTERNO}, volviendo al
+     * primero despues del ultimo.
+     */
+    private void alternarResolucionInterna() {
+        final ConfiguracionGlobal configuracion = ConfiguracionGlobal.obtenerInstancia();
+        final int actual = configuracion.getAltoRenderInterno();
+        int siguiente = ALTOS_RENDER_INTERNO[0];
+        for (final int alto : ALTOS_RENDER_INTERNO) {
+            if (alto > actual) {
+                siguiente = alto;
+                break;
+            }
+        }
+        configuracion.setAltoRenderInterno(siguiente);
+        informarDiagnostico("Resolucion interna: " + vistaJuego.obtenerAnchoInterno() + "x"
+            + vistaJuego.obtenerAltoInterno());
+    }
+
+    /**
+     * Activa o desactiva el postproceso CRT. Opera sobre los pixeles del
+     * rasterizado por software, por lo que al activarlo se selecciona ese
+     * renderizado.
      */
-    private void actualizarHUD() {
-        final double tiempoRestante = modeloJuego.obtenerDuracionPartida() - modeloJuego.obtenerTiempoTranscurrido();
-        vistaJuego.actualizarTiempo(Math.max(0, tiempoRestante));
+    private void alternarPostprocesoCRT() {
+        final boolean activo = !postprocesoCRT.estaActivo();
+        postprocesoCRT.establecerActivo(activo);
+        if (activo && !vistaJuego.usaRenderSoftware()) {
+            vistaJuego.establecerRenderSoftware(true);
+        }
+        informarDiagnostico("Postproceso CRT " + (activo ? "activado" : "desactivado"));
     }
 
     /**
-     * Renderiza el juego en el canvas.
+     * Actualiza el HUD con información del juego. El puntaje se toma de la
+     * instantanea y no de los eventos de gol, que el anillo puede descartar
+     * si se llena; la vista solo redibuja los valores que cambiaron.
+     *
+     * @param instantanea Ultima instantanea publicada por la simulacion
      */
-    private void renderizar() {
-        Try.run(() -> {
+    private void actualizarHUD(final InstantaneaJuego instantanea) {
+        vistaJuego.actualizarPuntaje(1, instantanea.puntaje1());
+        vistaJuego.actualizarPuntaje(2, instantanea.puntaje2());
+        vistaJuego.actualizarTiempo(instantanea.tiempoRestante());
+    }
+
+    /**
+     * Renderiza el juego interpolando entre las dos ultimas instantaneas de
+     * la simulacion.
+     * <p>
+     * El fondo y los bloques viven en una capa estatica que solo se vuelve a
+     * dibujar cuando cambia la version de bloques (un bloque pierde
+     * resistencia o se destruye) o el tamano del canvas. Cada fotograma solo
+     * limpia la capa dinamica y dibuja paletas, pelotas, items y particulas.
+     * Paletas, pelotas e items se describen en una {@link ListaDibujo} que se
+     * ordena por estilo antes de reproducirse.
+     * </p>
+     * <p>
+     * Todo se dibuja en coordenadas logicas de {@link CampoJuego}; los
+     * contextos graficos de la vista las escalan a la resolucion interna.
+     * Con el renderizado por software, el hilo de trabajo aplica ademas el
+     * {@link PostprocesoCRT} sobre los pixeles del fotograma.
+     * </p>
+     *
+     * @param fotograma Par de instantaneas publicado por la simulacion
+     * @param alfa      Fraccion del tick transcurrida, en [0, 1]
+     * @return true si el fotograma se dibujo o se encargo al hilo de trabajo,
+     *         false si el rasterizador por software seguia ocupado
+     */
+    private boolean renderizar(final BucleSimulacion.Fotograma fotograma, final double alfa) {
+        return Try.of(() -> {
             final GraphicsContext gc = vistaJuego.obtenerContextoGrafico();
-            final double ancho = vistaJuego.obtenerAncho();
-            final double alto = vistaJuego.obtenerAlto();
+            final double ancho = CampoJuego.ANCHO;
+            final double alto = CampoJuego.ALTO;
+            final InstantaneaJuego actual = fotograma.actual();
+            final InstantaneaJuego previa = fotograma.previa();
+
+            if (vistaJuego.usaRenderSoftware()) {
+                final ParticleEmitter.SistemaParticulas particulas = copiasParticulas[copiaParticulasLibre];
+                sistemaParticulas.copiarEn(particulas);
+                final double escala = vistaJuego.obtenerEscalaInterna();
+                final int segmentosEstela = RenderizadorJuego.obtenerSegmentosTrail();
+                final boolean encargado = vistaJuego.obtenerLienzoSoftware().presentar(
+                    vistaJuego.obtenerAnchoInterno(), vistaJuego.obtenerAltoInterno(), rasterizador -> {
+                        rasterizador.establecerEscala(escala);
+                        rasterizador.establecerSegmentosEstela(segmentosEstela);
+                        rasterizador.rasterizar(actual, previa, alfa, particulas);
+                        postprocesoCRT.aplicar(rasterizador.obtenerPixeles(), rasterizador.obtenerAncho(),
+                            rasterizador.obtenerAlto());
+                    });
+                if (encargado) {
+                    copiaParticulasLibre ^= 1;
+                }
+                return encargado;
+            }
+
+            final AtlasSprites atlas = obtenerAtlas(actual);
+
+            RenderizadorJuego.reiniciarLlamadasDibujo();
+            actualizarCapaEstatica(actual, atlas);
+            final long llamadasCapaEstatica = RenderizadorJuego.obtenerLlamadasDibujo();
 
             RenderizadorJuego.limpiarCanvas(gc, ancho, alto);
-            RenderizadorJuego.renderizarFondo(gc, ancho, alto);
-            
-            RenderizadorJuego.renderizarBloques(gc, List.ofAll(modeloJuego.obtenerBloques()));
-            
-            Option.of(modeloJuego.obtenerJugador1())
-                .forEach(paleta -> RenderizadorJuego.renderizarPaleta(gc, paleta));
-            
-            Option.of(modeloJuego.obtenerJugador2())
-                .forEach(paleta -> RenderizadorJuego.renderizarPaleta(gc, paleta));
-            
-            Option.of(modeloJuego.obtenerPelota())
-                .forEach(pelota -> RenderizadorJuego.renderizarPelota(gc, pelota));
-            
-            final List<mvc.modelo.items.Item> items = List.ofAll(modeloJuego.obtenerItems());
-            RenderizadorJuego.renderizarItems(gc, items);
 
-            final boolean neblinaActiva = items
-                .filter(item -> item instanceof ItemNeblina)
-                .exists(item -> item.estaActivo());
+            posicionesPelotasExtra = RenderizadorJuego.emitirEntidades(listaDibujo, actual, previa, alfa,
+                posicionesPelotasExtra);
+            listaDibujo.ordenar();
+            listaDibujo.reproducir(gc, atlas);
 
-            if (neblinaActiva) {
-                RenderizadorJuego.renderizarNeblina(gc, ancho, alto, 1.0);
+            if (actual.neblinaActiva()) {
+                renderizarNeblinas(gc, actual, ancho, alto);
             }
             
-            sistemaParticulas.renderizar(gc);
-        }).onFailure(e -> System.err.println("Error renderizando: " + e.getMessage()));
+            RenderizadorJuego.registrarLlamadasDibujo(salpicadorParticulas.renderizar(gc,
+                vistaJuego.obtenerAnchoInterno(), vistaJuego.obtenerAltoInterno(), vistaJuego.obtenerEscalaInterna(),
+                sistemaParticulas));
+
+            if (ConfiguracionGlobal.DIAGNOSTICO) {
+                final long llamadasDinamicas = RenderizadorJuego.obtenerLlamadasDibujo() - llamadasCapaEstatica;
+                fotogramasRenderizados++;
+                llamadasDibujoTotales += llamadasCapaEstatica + llamadasDinamicas;
+                llamadasDibujoSinCapa += llamadasUltimaCapaEstatica + llamadasDinamicas;
+            }
+            return true;
+        }).onFailure(e -> System.err.println("Error renderizando: " + e.getMessage()))
+            .getOrElse(true);
+    }
+
+    /**
+     * Dibuja las neblinas activas desde la textura cacheada. Una neblina sin
+     * paleta objetivo cubre todo el campo y hace innecesarias las franjas;
+     * las franjas repetidas sobre la misma paleta se dibujan una sola vez.
+     *
+     * @param gc          Contexto grafico de la capa dinamica
+     * @param instantanea Instantanea con las neblinas activas
+     * @param ancho       Ancho logico del campo
+     * @param alto        Alto logico del campo
+     */
+    private void renderizarNeblinas(final GraphicsContext gc, final InstantaneaJuego instantanea,
+                                    final double ancho, final double alto) {
+        final double segundos = System.nanoTime() / NANOSEGUNDOS_POR_SEGUNDO;
+        if (instantanea.neblinas().exists(n -> !n.enPaleta())) {
+            RenderizadorJuego.renderizarNeblina(gc, capaNeblina, ancho, alto, 0.0, ancho, 1.0, segundos);
+            return;
+        }
+        instantanea.neblinas().distinct().forEach(n ->
+            RenderizadorJuego.renderizarNeblina(gc, capaNeblina, ancho, alto,
+                n.centroX() - n.ancho() / 2, n.ancho(), 1.0, segundos));
+    }
+
+    /**
+     * Obtiene el atlas de sprites del nivel, construyendolo con el primer
+     * fotograma que se dibuja del modelo actual.
+     *
+     * @param instantanea Instantanea de la que se toman los tamanos de bloque y el radio
+     * @return atlas del nivel en curso
+     */
+    private AtlasSprites obtenerAtlas(final InstantaneaJuego instantanea) {
+        if (atlasSprites.isEmpty()) {
+            final double radio = instantanea.pelota()
+                .map(InstantaneaJuego.EstadoPelota::radio)
+                .getOrElse(instantanea.radioPelotasExtra() > 0 ? instantanea.radioPelotasExtra() : RADIO_ATLAS_DEFECTO);
+            atlasSprites = Option.of(AtlasSprites.construir(instantanea.bloques(), radio));
+        }
+        return atlasSprites.get();
+    }
+
+    /**
+     * Redibuja la capa estatica si los bloques o la resolucion interna
+     * cambiaron desde el ultimo dibujo. El tamano de la ventana no influye.
+     *
+     * @param instantanea Instantanea cuyos bloques se dibujan
+     * @param atlas       Atlas con las pieles de bloque
+     */
+    private void actualizarCapaEstatica(final InstantaneaJuego instantanea, final AtlasSprites atlas) {
+        final int ancho = vistaJuego.obtenerAnchoInterno();
+        final int alto = vistaJuego.obtenerAltoInterno();
+        if (instantanea.versionBloques() == versionCapaEstatica
+                && ancho == anchoCapaEstatica && alto == altoCapaEstatica) {
+            return;
+        }
+        final GraphicsContext gc = vistaJuego.obtenerContextoGraficoEstatico();
+        final long llamadasPrevias = RenderizadorJuego.obtenerLlamadasDibujo();
+
+        RenderizadorJuego.renderizarFondo(gc, CampoJuego.ANCHO, CampoJuego.ALTO);
+        instantanea.bloques().forEach(b ->
+            RenderizadorJuego.renderizarBloque(gc, atlas, b.x(), b.y(), b.ancho(), b.alto(), b.resistencia()));
+
+        versionCapaEstatica = instantanea.versionBloques();
+        anchoCapaEstatica = ancho;
+        altoCapaEstatica = alto;
+        llamadasUltimaCapaEstatica = RenderizadorJuego.obtenerLlamadasDibujo() - llamadasPrevias;
+        redibujosCapaEstatica++;
+    }
+
+    /**
+     * Informa las llamadas de dibujo promedio por fotograma desde el ultimo
+     * informe, junto con las que se habrian emitido redibujando el fondo y
+     * los bloques en cada fotograma, y los cambios de estado del ultimo
+     * fotograma frente a los de un renderizado inmediato. Solo con
+     * {@link ConfiguracionGlobal#DIAGNOSTICO} activo.
+     */
+    private void informarLlamadasDibujo() {
+        if (fotogramasRenderizados == 0) {
+            return;
+        }
+        System.out.printf("Render: %d fotogramas, %.1f llamadas de dibujo por fotograma "
+                + "(%.1f sin capa estatica), capa estatica redibujada %d veces%n",
+            fotogramasRenderizados,
+            (double) llamadasDibujoTotales / fotogramasRenderizados,
+            (double) llamadasDibujoSinCapa / fotogramasRenderizados,
+            redibujosCapaEstatica);
+        System.out.println("Lista de dibujo: " + listaDibujo.cantidad() + " comandos, "
+            + listaDibujo.contarCambiosEstado() + " cambios de estado ordenada ("
+            + listaDibujo.contarCambiosEstadoInmediatos() + " en modo inmediato)");
+        fotogramasRenderizados = 0;
+        llamadasDibujoTotales = 0;
+        llamadasDibujoSinCapa = 0;
+        redibujosCapaEstatica = 0;
+    }
+
+    /**
+     * Escribe un mensaje de diagnostico por consola si
+     * {@link ConfiguracionGlobal#DIAGNOSTICO} esta activo.
+     *
+     * @param mensaje mensaje a escribir
+     */
+    private static void informarDiagnostico(final String mensaje) {
+        if (ConfiguracionGlobal.DIAGNOSTICO) {
+            System.out.println(mensaje);
+        }
     }
 
     /**
@@ -338,10 +989,16 @@ public class ControladorJuego extends ControladorBase {
      */
     public void establecerModelo(final ModeloJuego modelo) {
         Try.run(() -> {
+            bucleSimulacion.forEach(BucleSimulacion::detener);
             this.modeloJuego = modelo;
+            anilloEventos.descartar();
+            modeloJuego.establecerAnilloEventos(anilloEventos);
+            invalidarCachesGraficas();
             observadorUI.forEach(obs -> {
                 modeloJuego.agregarObservador(obs);
             });
+            crearBucleSimulacion();
+            solicitarRenderizado();
         }).onFailure(e -> System.err.println("Error estableciendo modelo: " + e.getMessage()));
     }
 
@@ -355,31 +1012,34 @@ public class ControladorJuego extends ControladorBase {
      */
     public void agregarEfectoParticulas(final double x, final double y, final int cantidad, final String tipo) {
         Try.run(() -> {
-            final io.vavr.collection.List<ParticleEmitter.Particula> nuevasParticulas = switch (tipo) {
-                case "explosion" -> ParticleEmitter.crearExplosion(x, y, cantidad, javafx.scene.paint.Color.WHITE, 1.0);
-                case "chispas" -> ParticleEmitter.crearChispas(x, y, cantidad, javafx.scene.paint.Color.YELLOW);
-                case "confeti" -> ParticleEmitter.crearConfeti(x, y, cantidad);
-                default -> io.vavr.collection.List.empty();
-            };
-
-            sistemaParticulas = sistemaParticulas.agregar(nuevasParticulas);
+            switch (tipo) {
+                case "explosion" -> ParticleEmitter.crearExplosion(sistemaParticulas, x, y, cantidad,
+                    javafx.scene.paint.Color.WHITE, 1.0);
+                case "chispas" -> ParticleEmitter.crearChispas(sistemaParticulas, x, y, cantidad,
+                    javafx.scene.paint.Color.YELLOW);
+                case "confeti" -> ParticleEmitter.crearConfeti(sistemaParticulas, x, y, cantidad);
+                default -> {
+                }
+            }
         }).onFailure(e -> System.err.println("Error agregando partículas: " + e.getMessage()));
     }
 
     public void reiniciarEstado() {
         Try.run(() -> {
+            pausarSimulacion();
             pausado = false;
             juegoIniciado = false;
-            sistemaParticulas = ParticleEmitter.SistemaParticulas.vacio();
+            juegoTerminado = false;
+            actualizarEfectos();
+            sistemaParticulas.vaciar();
+            anilloEventos.descartar();
+            invalidarCachesGraficas();
 
-            Option.of(vistaJuego)
-                .flatMap(vista -> Option.of(modeloJuego)
-                    .flatMap(modelo -> modelo.inicializarEntidadesJuego(
-                        vista.obtenerAncho(),
-                        vista.obtenerAlto()
-                    )));
+            Option.of(modeloJuego)
+                .flatMap(modelo -> modelo.inicializarEntidadesJuego(CampoJuego.ANCHO, CampoJuego.ALTO));
 
             modeloJuego.reiniciarValoresJuego();
+            bucleSimulacion.forEach(BucleSimulacion::publicarEstadoActual);
 
             vistaJuego.actualizarInfo("ESPACIO: Iniciar | ALT: Pausa");
             vistaJuego.actualizarPuntaje(1, 0);
@@ -398,8 +1058,20 @@ public class ControladorJuego extends ControladorBase {
      * @param nivel nivel a establecer
      */
     public void establecerNivel(final mvc.modelo.entidades.Nivel nivel) {
+        pausarSimulacion();
         io.vavr.control.Option.of(modeloJuego)
             .peek(modelo -> modelo.establecerNivel(nivel));
+        invalidarCachesGraficas();
+    }
+
+    /**
+     * Descarta el atlas de sprites y la capa estatica de bloques. El
+     * controlador se reutiliza entre niveles, asi que ambos deben
+     * reconstruirse desde la siguiente instantanea del nuevo nivel.
+     */
+    private void invalidarCachesGraficas() {
+        versionCapaEstatica = SIN_CAPA_ESTATICA;
+        atlasSprites = Option.none();
     }
 
     /**
@@ -410,6 +1082,7 @@ public class ControladorJuego extends ControladorBase {
      * @param dificultad nivel de dificultad de la IA (1-10)
      */
     public void configurarDificultadIA(final int dificultad) {
+        pausarSimulacion();
         this.servicioIA = DificultadIA.desdeNumeroNivel(dificultad)
                 .map(ServicioIA::new)
                 .peek(servicio -> 
@@ -429,6 +1102,7 @@ public class ControladorJuego extends ControladorBase {
      * @param modo el modo de juego a establecer
      */
     public void establecerModo(final mvc.modelo.enums.ModoJuego modo) {
+        pausarSimulacion();
         io.vavr.control.Option.of(modeloJuego)
             .peek(modelo -> modelo.establecerModo(modo));
     }
@@ -437,11 +1111,16 @@ public class ControladorJuego extends ControladorBase {
      * Detiene el game loop del juego de forma segura.
      * <p>
      * Este metodo puede ser llamado cuando el juego termina para detener
-     * la actualizacion y renderizado del juego.
+     * la actualizacion y renderizado del juego. Se dibuja un ultimo
+     * fotograma con el estado final y el AnimationTimer queda suspendido
+     * hasta que se reinicie el estado.
      * </p>
      */
     public void detenerGameLoop() {
-        gameLoop.forEach(AnimationTimer::stop);
+        juegoTerminado = true;
+        pausarSimulacion();
+        solicitarRenderizado();
+        informarLlamadasDibujo();
     }
 
     /**
@@ -451,8 +1130,23 @@ public class ControladorJuego extends ControladorBase {
         Try.run(() -> {
             gameLoop.forEach(AnimationTimer::stop);
             gameLoop = Option.none();
+            gameLoopCorriendo = false;
+            Option.of(contenedorJuego).forEach(contenedor -> contenedor.sceneProperty().removeListener(oyenteEscena));
+            escenaObservada.forEach(escena -> escena.windowProperty().removeListener(oyenteVentana));
+            escenaObservada = Option.none();
+            observarVentana();
+            bucleSimulacion.forEach(BucleSimulacion::detener);
+            bucleSimulacion = Option.none();
+            efectosActivos = false;
+            GestorAudio.obtenerInstancia().suspenderEfectos();
+            final ConfiguracionGlobal configuracion = ConfiguracionGlobal.obtenerInstancia();
+            configuracion.frecuenciaSimulacionProperty().removeListener(oyenteFrecuencia);
+            configuracion.altoRenderInternoProperty().removeListener(oyenteResolucion);
+            configuracion.calidadAdaptativaProperty().removeListener(oyenteCalidadAdaptativa);
+            configuracion.objetivoFotogramaMsProperty().removeListener(oyenteObjetivoFotograma);
             observadorUI.forEach(obs -> modeloJuego.eliminarObservador(obs));
             observadorUI = Option.none();
+            Option.of(vistaJuego).forEach(vista -> vista.obtenerLienzoSoftware().close());
         }).onFailure(e -> System.err.println("Error liberando recursos: " + e.getMessage()));
     }
 }
@@ -0,0 +1,55 @@
+package mvc.modelo;
+
+/**
+ * Espacio de coordenadas logicas del campo de juego.
+ * <p>
+ * Toda la jugabilidad (posiciones, colisiones, limites de paletas y
+ * trayectorias de la IA) se expresa en estas unidades, independientes del
+ * tamano de la ventana. La vista rasteriza el campo a una resolucion interna
+ * y la escala a la ventana, de modo que una partida se juega igual a
+ * cualquier resolucion.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class CampoJuego {
+
+    /** Ancho del campo en unidades logicas. */
+    public static final double ANCHO = 800.0;
+
+    /** Alto del campo en unidades logicas. */
+    public static final double ALTO = 600.0;
+
+    private CampoJuego() {
+    }
+
+    /**
+     * Calcula el ancho en pixeles de una resolucion con el alto dado y la
+     * misma proporcion que el campo.
+     *
+     * @param alto alto en pixeles
+     * @return ancho en pixeles, al menos 1
+     */
+    public static int anchoParaAlto(final int alto) {
+        return Math.max(1, (int) Math.round(alto * ANCHO / ALTO));
+    }
+
+    /**
+     * Calcula la escala uniforme con la que una superficie de origen cabe
+     * entera en un destino, conservando la proporcion.
+     *
+     * @param anchoOrigen  ancho de la superficie a escalar
+     * @param altoOrigen   alto de la superficie a escalar
+     * @param anchoDestino ancho disponible
+     * @param altoDestino  alto disponible
+     * @return escala de ajuste, o 1 si alguna dimension no es positiva
+     */
+    public static double escalaAjuste(final double anchoOrigen, final double altoOrigen,
+                                      final double anchoDestino, final double altoDestino) {
+        if (anchoOrigen <= 0 || altoOrigen <= 0 || anchoDestino <= 0 || altoDestino <= 0) {
+            return 1.0;
+        }
+        return Math.min(anchoDestino / anchoOrigen, altoDestino / altoOrigen);
+    }
+}
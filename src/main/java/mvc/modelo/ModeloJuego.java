@@ -1,26 +1,29 @@
 package mvc.modelo;
 
-import io.vavr.collection.HashMap;
 import io.vavr.collection.List;
-import io.vavr.collection.Map;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 
 import mvc.modelo.entidades.Nivel;
+import mvc.modelo.entidades.AlmacenEntidades;
 import mvc.modelo.entidades.Bloque;
 import mvc.modelo.entidades.paleta.Paleta;
+import mvc.modelo.entidades.pelota.ConjuntoPelotas;
 import mvc.modelo.entidades.pelota.Pelota;
 import mvc.modelo.items.Item;
 import mvc.modelo.enums.ModoJuego;
 import mvc.modelo.enums.Direccion;
+import mvc.modelo.enums.TipoEventoJuego;
+import mvc.modelo.simulacion.AnilloEventos;
 import patrones.singleton.GestorPrototiposPaleta;
 import patrones.observer.ObservadorJuego;
 import patrones.memento.MementoPaletas;
-import patrones.strategy.colision.EstrategiaColision;
+import patrones.strategy.colision.TablaColisiones;
 import patrones.strategy.colision.EstrategiaColisionPelotaPared;
 import patrones.strategy.colision.EstrategiaColisionPelotaPaleta;
 import patrones.strategy.colision.EstrategiaColisionPelotaBloque;
 import patrones.strategy.colision.GestorColisiones;
+import patrones.strategy.colision.RejillaEspacial;
 import patrones.factory.ia.ServicioIA;
 
 /**
@@ -39,10 +42,13 @@ import patrones.factory.ia.ServicioIA;
 public class ModeloJuego {
 
     private Pelota pelota;
-    private List<Pelota> pelotas;
+    private final ConjuntoPelotas pelotasExtra;
     private Paleta jugador1;
     private Paleta jugador2;
-    private List<Bloque> bloques;
+    private final AlmacenEntidades<Bloque> almacenBloques;
+    private RejillaEspacial rejillaBloques;
+    private double anchoCampo;
+    private double altoCampo;
     private List<Item> items;
     private Nivel nivel;
     private int puntaje1;
@@ -50,12 +56,23 @@ public class ModeloJuego {
     private ModoJuego modoJuego;
     private ModoJuego modoActual;
     private List<ObservadorJuego> observadores;
+    private AnilloEventos anilloEventos;
     private Option<MementoPaletas> mementoGuardado;
     private Option<GestorColisiones> gestorColisiones;
     private Option<ServicioIA> servicioIA;
+    private Option<ServicioIA> servicioIAJugador1;
     private double tiempoTranscurrido;
-    private static final double DURACION_PARTIDA = 300.0;
-    private boolean juegoActivo;
+    /** Duracion por defecto de una partida en segundos. */
+    public static final double DURACION_PARTIDA = 300.0;
+    private double duracionPartida;
+    private volatile boolean juegoActivo;
+    private long versionBloques;
+    private static final double ANCHO_CAMPO_DEFECTO = CampoJuego.ANCHO;
+    private static final double ALTO_CAMPO_DEFECTO = CampoJuego.ALTO;
+    /** Desvio maximo, en radianes, de las pelotas que salen al dividir la principal. */
+    private static final double DESVIO_MAXIMO_DIVISION = Math.toRadians(60);
+    /** Conjugado de la razon aurea, para repartir los desvios sin repetirlos. */
+    private static final double RAZON_AUREA = 0.6180339887498949;
 
     /**
      * Construye un nuevo modelo de juego con estado inicial vacío.
@@ -65,17 +82,23 @@ public class ModeloJuego {
      * </p>
      */
     public ModeloJuego() {
-        this.bloques = List.empty();
+        this.almacenBloques = new AlmacenEntidades<>();
+        this.anchoCampo = ANCHO_CAMPO_DEFECTO;
+        this.altoCampo = ALTO_CAMPO_DEFECTO;
+        this.rejillaBloques = new RejillaEspacial(anchoCampo, altoCampo, RejillaEspacial.TAMANO_CELDA_DEFECTO);
         this.items = List.empty();
-        this.pelotas = List.empty();
+        this.pelotasExtra = new ConjuntoPelotas();
         this.observadores = List.empty();
         this.mementoGuardado = Option.none();
         this.gestorColisiones = Option.none();
         this.servicioIA = Option.none();
+        this.servicioIAJugador1 = Option.none();
+        this.duracionPartida = DURACION_PARTIDA;
         this.puntaje1 = 0;
         this.puntaje2 = 0;
         this.tiempoTranscurrido = 0.0;
         this.juegoActivo = true;
+        this.versionBloques = 0L;
     }
 
     /**
@@ -85,52 +108,83 @@ public class ModeloJuego {
      * entidades del juego, verificando colisiones, actualizando items activos,
      * controlando la IA si está configurada, y verificando condiciones de victoria/derrota.
      * </p>
+     * <p>
+     * Se ejecuta cientos de veces por segundo, por lo que el camino estable
+     * (sin puntos, bloques destruidos ni items nuevos) no asigna memoria:
+     * usa comprobaciones de null en lugar de Option y lambdas, recorre las
+     * listas inmutables nodo a nodo con {@code head()}/{@code tail()} en lugar
+     * de crear iteradores o listas filtradas nuevas en cada tick, y guarda los
+     * bloques en un {@link AlmacenEntidades} del que solo se eliminan los
+     * inactivos cuando los hay.
+     * </p>
      *
      * @param tiempoDelta el tiempo transcurrido desde la última actualización en segundos
      */
     public void actualizar(double tiempoDelta) {
-        Try.run(() -> {
-            if (!juegoActivo) {
-                return;
-            }
+        if (!juegoActivo) {
+            return;
+        }
 
+        try {
             tiempoTranscurrido = actualizarTiempo(tiempoTranscurrido, tiempoDelta);
 
-            Option.of(pelota).forEach(p -> p.actualizar(tiempoDelta));
-            Option.of(jugador1).forEach(j -> j.actualizar(tiempoDelta));
-            Option.of(jugador2).forEach(j -> j.actualizar(tiempoDelta));
+            if (pelota != null && gestorColisiones.isEmpty()) {
+                pelota.actualizar(tiempoDelta);
+            }
+            if (jugador1 != null) {
+                jugador1.actualizar(tiempoDelta);
+            }
+            if (jugador2 != null) {
+                jugador2.actualizar(tiempoDelta);
+            }
 
             aplicarMovimientoIA(tiempoDelta);
 
-            bloques = actualizarBloques(bloques, tiempoDelta);
             items = actualizarItems(items, tiempoDelta);
 
-            gestorColisiones.forEach(gc -> gc.verificarTodasColisiones(this));
+            if (gestorColisiones.isDefined()) {
+                gestorColisiones.get().avanzarPelota(this, tiempoDelta);
+            }
+            if (almacenBloques.hayInactivas()) {
+                eliminarBloquesInactivos();
+            }
 
             verificarCondicionesFinales();
-        });
+        } catch (RuntimeException e) {
+            System.err.println("Error al actualizar el modelo de juego: " + e.getMessage());
+        }
     }
 
     /**
      * Aplica el movimiento de la IA a la paleta del jugador 2 si hay servicio configurado
-     * y el modo de juego actual es CONTRA_IA.
-     * Utiliza programacion funcional pura con Vavr Option para composicion segura.
+     * y el modo de juego actual es CONTRA_IA o IA_CONTRA_IA. En IA_CONTRA_IA tambien
+     * mueve la paleta del jugador 1 con su propio servicio.
      *
      * @param tiempoDelta el tiempo transcurrido desde la última actualización en segundos
      */
     private void aplicarMovimientoIA(double tiempoDelta) {
-        if (modoActual == ModoJuego.CONTRA_IA) {
-            servicioIA
-                    .flatMap(servicio ->
-                            Option.of(jugador2)
-                                    .flatMap(paleta -> Option.of(pelota).map(p -> {
-                                        Direccion movimiento = servicio.calcularSiguienteMovimiento(
-                                                paleta, p, tiempoDelta);
-                                        paleta.moverEnDireccion(movimiento, tiempoDelta);
-                                        return movimiento;
-                                    }))
-                    );
+        if (modoActual == ModoJuego.CONTRA_IA || modoActual == ModoJuego.IA_CONTRA_IA) {
+            moverPaletaConIA(servicioIA, jugador2, tiempoDelta);
+        }
+        if (modoActual == ModoJuego.IA_CONTRA_IA) {
+            moverPaletaConIA(servicioIAJugador1, jugador1, tiempoDelta);
+        }
+    }
+
+    /**
+     * Mueve una paleta segun el movimiento calculado por un servicio de IA.
+     *
+     * @param servicio el servicio de IA que controla la paleta, si existe
+     * @param paletaIA la paleta a mover
+     * @param tiempoDelta el tiempo transcurrido desde la última actualización en segundos
+     */
+    private void moverPaletaConIA(Option<ServicioIA> servicio, Paleta paletaIA, double tiempoDelta) {
+        if (servicio.isEmpty() || paletaIA == null || pelota == null) {
+            return;
         }
+        final Direccion movimiento = servicio.get().calcularSiguienteMovimiento(
+                paletaIA, pelota, tiempoDelta);
+        paletaIA.moverEnDireccion(movimiento, tiempoDelta);
     }
 
     /**
@@ -143,47 +197,38 @@ public class ModeloJuego {
     private double actualizarTiempo(double tiempoActual, double delta) {
         double nuevoTiempo = tiempoActual + delta;
 
-        if (nuevoTiempo >= DURACION_PARTIDA) {
+        if (nuevoTiempo >= duracionPartida) {
             finalizarPorTiempo();
         }
 
         return nuevoTiempo;
     }
 
-    /**
-     * Actualiza todos los bloques del juego de forma funcional.
-     * <p>
-     * Nota: Aunque la lista es inmutable, los objetos Bloque internos
-     * son mutados por actualizar(). Esta limitacion existe debido a que
-     * las entidades del juego fueron disenadas con estado mutable por
-     * otros miembros del equipo.
-     * </p>
-     *
-     * @param bloquesActuales la lista actual de bloques
-     * @param tiempoDelta el tiempo transcurrido
-     * @return una nueva lista filtrada con bloques activos
-     */
-    private List<Bloque> actualizarBloques(List<Bloque> bloquesActuales, double tiempoDelta) {
-        return bloquesActuales
-            .filter(Bloque::estaActivo)
-            .peek(b -> b.actualizar(tiempoDelta));
-    }
-
     /**
      * Actualiza todos los items activos del juego de forma funcional.
      * <p>
-     * Nota: Similar a actualizarBloques, los objetos Item son mutados
+     * Nota: Aunque la lista es inmutable, los objetos Item son mutados
      * internamente debido al diseno mutable de las entidades del juego.
      * </p>
      *
      * @param itemsActuales la lista actual de items
      * @param tiempoDelta el tiempo transcurrido
-     * @return una nueva lista filtrada con items activos
+     * @return la lista con solo items activos
      */
     private List<Item> actualizarItems(List<Item> itemsActuales, double tiempoDelta) {
-        return itemsActuales
-            .filter(Item::estaActivo)
-            .peek(i -> i.actualizar(tiempoDelta, null));
+        boolean hayInactivos = false;
+        for (List<Item> resto = itemsActuales; !resto.isEmpty(); resto = resto.tail()) {
+            final Item item = resto.head();
+            if (item.estaActivo()) {
+                item.actualizar(tiempoDelta, null);
+                if (!item.estaActivo()) {
+                    publicarEvento(TipoEventoJuego.ITEM_EXPIRADO, 0, 0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+                }
+            } else {
+                hayInactivos = true;
+            }
+        }
+        return hayInactivos ? itemsActuales.filter(Item::estaActivo) : itemsActuales;
     }
 
     /**
@@ -202,7 +247,7 @@ public class ModeloJuego {
      * @return true si no quedan bloques activos, false en caso contrario
      */
     private boolean todosBloquesDestruidos() {
-        return bloques.filter(b -> b.estaActivo()).isEmpty();
+        return almacenBloques.cantidadActivas() == 0;
     }
 
     /**
@@ -238,13 +283,15 @@ public class ModeloJuego {
     public void reiniciar() {
         Try.run(() -> {
             Option.of(pelota).forEach(Pelota::reiniciar);
+            pelotasExtra.vaciar();
             Option.of(jugador1).forEach(Paleta::restaurarEstado);
             Option.of(jugador2).forEach(Paleta::restaurarEstado);
 
-            bloques = reiniciarBloques();
+            reiniciarBloques();
             items = List.empty();
             tiempoTranscurrido = 0.0;
             juegoActivo = true;
+            notificarCambioBloques();
         });
     }
 
@@ -266,12 +313,14 @@ public class ModeloJuego {
      */
     public Option<Boolean> reiniciarValoresJuego() {
         return Try.of(() -> {
-            bloques = reiniciarBloques();
+            reiniciarBloques();
             items = List.empty();
+            pelotasExtra.vaciar();
             puntaje1 = 0;
             puntaje2 = 0;
             tiempoTranscurrido = 0.0;
             juegoActivo = true;
+            notificarCambioBloques();
             return true;
         }).toOption();
     }
@@ -309,17 +358,16 @@ public class ModeloJuego {
             inicializarPelota(pelotaNueva);
             inicializarPaletas(paletaJugador1, paletaJugador2);
 
-            final EstrategiaColision estrategiaPared = new EstrategiaColisionPelotaPared(anchoCanvas, altoCanvas);
-            final EstrategiaColision estrategiaPaleta = new EstrategiaColisionPelotaPaleta();
-            final EstrategiaColision estrategiaBloque = new EstrategiaColisionPelotaBloque();
+            anchoCampo = anchoCanvas;
+            altoCampo = altoCanvas;
+            reconstruirRejillaBloques();
 
-            final Map<String, EstrategiaColision> estrategias = HashMap.of(
-                "pelota-pared", estrategiaPared,
-                "pelota-paleta", estrategiaPaleta,
-                "pelota-bloque", estrategiaBloque
-            );
+            final TablaColisiones tabla = new TablaColisiones()
+                .registrar(new EstrategiaColisionPelotaPared(anchoCanvas, altoCanvas))
+                .registrar(new EstrategiaColisionPelotaPaleta())
+                .registrar(new EstrategiaColisionPelotaBloque());
 
-            final GestorColisiones gestor = new GestorColisiones(estrategias.toJavaMap());
+            final GestorColisiones gestor = new GestorColisiones(tabla);
             establecerGestorColisiones(gestor);
 
             return true;
@@ -332,34 +380,95 @@ public class ModeloJuego {
     }
 
     /**
-     * Reinicia los bloques del nivel actual de forma funcional.
-     *
-     * @return una nueva lista con los bloques reiniciados
+     * Reinicia los bloques del nivel actual, vinculando cada bloque del nivel
+     * al almacen de entidades y reconstruyendo la rejilla de colisiones. Los
+     * bloques ya destruidos se vinculan inactivos y se descartan en el
+     * siguiente tick.
+     */
+    private void reiniciarBloques() {
+        while (almacenBloques.cantidad() > 0) {
+            almacenBloques.obtenerVistaEn(almacenBloques.cantidad() - 1).desvincular();
+        }
+        if (nivel != null) {
+            for (Bloque bloque : nivel.obtenerBloques()) {
+                bloque.vincular(almacenBloques);
+            }
+        }
+        reconstruirRejillaBloques();
+    }
+
+    /**
+     * Crea la rejilla de colisiones para los bloques actuales, con celdas del
+     * tamano medio de los bloques y nunca menores que la pelota.
      */
-    private List<Bloque> reiniciarBloques() {
-        return Option.of(nivel)
-            .map(n -> List.ofAll(n.obtenerBloques()))
-            .getOrElse(List.empty());
+    private void reconstruirRejillaBloques() {
+        final double minimo = pelota != null ? pelota.obtenerAncho() : 0.0;
+        rejillaBloques = new RejillaEspacial(anchoCampo, altoCampo,
+            RejillaEspacial.calcularTamanoCelda(almacenBloques, minimo));
+        rejillaBloques.reconstruir(almacenBloques);
+    }
+
+    /**
+     * Elimina del almacen y de la rejilla los bloques desactivados,
+     * recorriendo de atras hacia adelante para no saltar posiciones.
+     */
+    private void eliminarBloquesInactivos() {
+        for (int posicion = almacenBloques.cantidad() - 1;
+             posicion >= 0 && almacenBloques.hayInactivas(); posicion--) {
+            if (!almacenBloques.estaActivaEn(posicion)) {
+                rejillaBloques.eliminar(almacenBloques, posicion);
+                almacenBloques.eliminarEn(posicion);
+            }
+        }
     }
 
     /**
-     * Agrega un bloque al juego de forma inmutable.
+     * Agrega un bloque al juego, vinculandolo al almacen de entidades e
+     * insertandolo en la rejilla de colisiones.
      *
      * @param bloque el bloque a agregar
      */
     public void agregarBloque(Bloque bloque) {
-        bloques = Option.of(bloque)
-            .map(b -> bloques.append(b))
-            .getOrElse(bloques);
+        if (bloque != null) {
+            eliminarBloque(bloque);
+            bloque.vincular(almacenBloques);
+            rejillaBloques.insertar(almacenBloques, almacenBloques.obtenerPosicion(bloque.obtenerEntidad()));
+        }
+        notificarCambioBloques();
     }
 
     /**
-     * Elimina un bloque del juego de forma inmutable.
+     * Elimina un bloque del juego y de la rejilla de colisiones.
      *
      * @param bloque el bloque a eliminar
      */
     public void eliminarBloque(Bloque bloque) {
-        bloques = bloques.remove(bloque);
+        if (bloque != null && bloque.estaVinculadoA(almacenBloques)) {
+            rejillaBloques.eliminar(almacenBloques, almacenBloques.obtenerPosicion(bloque.obtenerEntidad()));
+            bloque.desvincular();
+        }
+        notificarCambioBloques();
+    }
+
+    /**
+     * Registra que el estado visible de los bloques cambio (golpe, destruccion,
+     * alta o baja), para que las instantaneas de simulacion vuelvan a copiarlos.
+     */
+    public void notificarCambioBloques() {
+        versionBloques++;
+    }
+
+    /**
+     * Obtiene la version actual de los bloques.
+     * <p>
+     * El valor solo crece; dos lecturas iguales garantizan que ningun bloque
+     * cambio entre ambas.
+     * </p>
+     *
+     * @return version de los bloques
+     */
+    public long obtenerVersionBloques() {
+        return versionBloques;
     }
 
     /**
@@ -379,6 +488,64 @@ public class ModeloJuego {
             .getOrElse(items);
     }
 
+    /**
+     * Agrega pelotas adicionales que parten de la posicion de la pelota
+     * principal, con su misma rapidez y sentido horizontal.
+     *
+     * @param cantidad cantidad de pelotas a agregar
+     * @return cantidad agregada
+     * @see #dividirPelota(Pelota, int)
+     */
+    public int dividirPelota(int cantidad) {
+        return dividirPelota(pelota, cantidad);
+    }
+
+    /**
+     * Agrega pelotas adicionales que parten de la posicion de una pelota,
+     * con su misma rapidez y sentido horizontal.
+     * <p>
+     * Cada pelota nueva se desvia hasta 60 grados de la horizontal; los
+     * desvios siguen la sucesion de la razon aurea, de modo que muchas
+     * pelotas quedan repartidas en abanico sin depender de un generador
+     * aleatorio. Sirve tanto para el item de multipelota como para la prueba
+     * de carga con miles de pelotas.
+     * </p>
+     *
+     * @param origen pelota de la que salen las nuevas; puede ser el cursor
+     *               de {@link ConjuntoPelotas} mientras se avanza
+     * @param cantidad cantidad de pelotas a agregar
+     * @return cantidad agregada; puede ser menor si se alcanza
+     *         {@link ConjuntoPelotas#CAPACIDAD_MAXIMA} o no hay pelota de origen
+     */
+    public int dividirPelota(Pelota origen, int cantidad) {
+        if (origen == null) {
+            return 0;
+        }
+        final double rapidez = origen.obtenerVelocidad();
+        final double sentido = origen.obtenerVelocidadX() < 0 ? -1.0 : 1.0;
+        final int inicio = pelotasExtra.cantidad();
+        int agregadas = 0;
+        while (agregadas < cantidad) {
+            final double fraccion = ((inicio + agregadas + 1) * RAZON_AUREA) % 1.0;
+            final double desvio = DESVIO_MAXIMO_DIVISION * (2.0 * fraccion - 1.0);
+            if (!pelotasExtra.agregar(origen.obtenerX(), origen.obtenerY(),
+                    sentido * rapidez * Math.cos(desvio), rapidez * Math.sin(desvio))) {
+                break;
+            }
+            agregadas++;
+        }
+        return agregadas;
+    }
+
+    /**
+     * Obtiene las pelotas adicionales del modo multipelota.
+     *
+     * @return conjunto de pelotas adicionales, vacio si no hay multipelota
+     */
+    public ConjuntoPelotas obtenerPelotasExtra() {
+        return pelotasExtra;
+    }
+
     /**
      * Incrementa el puntaje de un jugador de forma inmutable.
      * <p>
@@ -392,9 +559,55 @@ public class ModeloJuego {
         if (jugador == 1) {
             puntaje1 = calcularNuevoPuntaje(puntaje1, puntos);
             notificarCambioPuntaje(1, puntaje1);
+            publicarEvento(TipoEventoJuego.GOL, 1, puntaje1, anchoCampo, altoCampo / 2.0, 0.0, 0.0, -1.0, 0.0);
         } else if (jugador == 2) {
             puntaje2 = calcularNuevoPuntaje(puntaje2, puntos);
             notificarCambioPuntaje(2, puntaje2);
+            publicarEvento(TipoEventoJuego.GOL, 2, puntaje2, 0.0, altoCampo / 2.0, 0.0, 0.0, 1.0, 0.0);
+        }
+    }
+
+    /**
+     * Establece el anillo en el que se publican los eventos de juego.
+     * <p>
+     * Debe llamarse con la simulacion detenida o pausada; desde entonces el
+     * hilo de simulacion es su unico productor.
+     * </p>
+     *
+     * @param anillo anillo de eventos, o null para no publicar eventos
+     */
+    public void establecerAnilloEventos(AnilloEventos anillo) {
+        this.anilloEventos = anillo;
+    }
+
+    /**
+     * Obtiene el anillo en el que se publican los eventos de juego.
+     *
+     * @return anillo de eventos, o null si no hay
+     */
+    public AnilloEventos obtenerAnilloEventos() {
+        return anilloEventos;
+    }
+
+    /**
+     * Publica un evento de juego en el anillo, si hay uno. No asigna
+     * memoria, por lo que puede llamarse en cada tick.
+     *
+     * @param tipo tipo del evento
+     * @param jugador jugador involucrado, o 0
+     * @param valor valor entero del evento
+     * @param x coordenada X del impacto o del rectangulo
+     * @param y coordenada Y del impacto o del rectangulo
+     * @param ancho ancho del rectangulo, o 0
+     * @param alto alto del rectangulo, o 0
+     * @param normalX componente X de la normal del impacto, o 0
+     * @param normalY componente Y de la normal del impacto, o 0
+     * @see AnilloEventos#publicar
+     */
+    public void publicarEvento(TipoEventoJuego tipo, int jugador, int valor, double x, double y,
+                               double ancho, double alto, double normalX, double normalY) {
+        if (anilloEventos != null) {
+            anilloEventos.publicar(tipo, jugador, valor, x, y, ancho, alto, normalX, normalY);
         }
     }
 
@@ -502,6 +715,15 @@ public class ModeloJuego {
         this.gestorColisiones = Option.of(gestor);
     }
 
+    /**
+     * Obtiene el gestor de colisiones del juego.
+     *
+     * @return Option con el gestor, o none si no se establecio
+     */
+    public Option<GestorColisiones> obtenerGestorColisiones() {
+        return gestorColisiones;
+    }
+
     /**
      * Establece el nivel actual del juego.
      *
@@ -509,9 +731,8 @@ public class ModeloJuego {
      */
     public void establecerNivel(Nivel nivel) {
         this.nivel = nivel;
-        this.bloques = Option.of(nivel)
-            .map(n -> List.ofAll(n.obtenerBloques()))
-            .getOrElse(List.empty());
+        reiniciarBloques();
+        notificarCambioBloques();
     }
 
     /**
@@ -521,7 +742,9 @@ public class ModeloJuego {
      * @param nuevoPuntaje el nuevo puntaje
      */
     private void notificarCambioPuntaje(int jugador, int nuevoPuntaje) {
-        observadores.forEach(o -> o.alcambiarPuntaje(jugador, nuevoPuntaje));
+        for (List<ObservadorJuego> resto = observadores; !resto.isEmpty(); resto = resto.tail()) {
+            resto.head().alcambiarPuntaje(jugador, nuevoPuntaje);
+        }
     }
 
     /**
@@ -540,6 +763,18 @@ public class ModeloJuego {
         observadores.forEach(ObservadorJuego::alCompletarNivel);
     }
 
+    /**
+     * Notifica a todos los observadores que la pelota golpeo la paleta de un jugador.
+     *
+     * @param paleta la paleta golpeada
+     */
+    public void notificarGolpePaleta(Paleta paleta) {
+        final int jugador = paleta == jugador1 ? 1 : 2;
+        for (List<ObservadorJuego> resto = observadores; !resto.isEmpty(); resto = resto.tail()) {
+            resto.head().alGolpearPaleta(jugador);
+        }
+    }
+
     /**
      * Notifica a todos los observadores sobre la generación de un item.
      *
@@ -577,12 +812,53 @@ public class ModeloJuego {
     }
 
     /**
-     * Obtiene la lista inmutable de bloques del juego.
+     * Obtiene el almacen de entidades con los bloques del juego.
+     * <p>
+     * Pensado para recorridos en el tick de simulacion, que leen los
+     * componentes por posicion densa sin pasar por los objetos {@link Bloque}.
+     * Puede contener bloques desactivados durante el tick en curso.
+     * </p>
+     *
+     * @return el almacen de bloques
+     */
+    public AlmacenEntidades<Bloque> obtenerAlmacenBloques() {
+        return almacenBloques;
+    }
+
+    /**
+     * Obtiene la lista inmutable de items sin envolverla en una vista de Java.
+     *
+     * @return la lista de items
+     * @see #obtenerAlmacenBloques()
+     */
+    public List<Item> obtenerListaItems() {
+        return items;
+    }
+
+    /**
+     * Obtiene la rejilla de colisiones de los bloques.
+     * <p>
+     * Se construye al cargar el nivel y se actualiza al agregar, eliminar o
+     * destruir bloques; la usa la fase amplia de {@link GestorColisiones}.
+     * </p>
+     *
+     * @return la rejilla de bloques
+     */
+    public RejillaEspacial obtenerRejillaBloques() {
+        return rejillaBloques;
+    }
+
+    /**
+     * Obtiene una vista de solo lectura de los bloques del juego.
+     * <p>
+     * La vista refleja el almacen de entidades en vivo, por lo que solo debe
+     * recorrerse desde el hilo de simulacion; la interfaz usa las instantaneas.
+     * </p>
      *
      * @return la lista de bloques
      */
     public java.util.List<Bloque> obtenerBloques() {
-        return bloques.asJava();
+        return almacenBloques.obtenerVistas();
     }
 
     /**
@@ -627,7 +903,20 @@ public class ModeloJuego {
      * @return la duración en segundos
      */
     public double obtenerDuracionPartida() {
-        return DURACION_PARTIDA;
+        return duracionPartida;
+    }
+
+    /**
+     * Establece la duración total de una partida.
+     *
+     * @param segundos la nueva duración en segundos
+     * @throws IllegalArgumentException si la duración no es positiva
+     */
+    public void establecerDuracionPartida(double segundos) {
+        if (segundos <= 0) {
+            throw new IllegalArgumentException("La duracion de la partida debe ser positiva: " + segundos);
+        }
+        this.duracionPartida = segundos;
     }
 
     /**
@@ -659,6 +948,10 @@ public class ModeloJuego {
      */
     public void inicializarPelota(Pelota pelota) {
         this.pelota = Option.of(pelota).getOrNull();
+        pelotasExtra.vaciar();
+        if (this.pelota != null) {
+            pelotasExtra.establecerPlantilla(this.pelota);
+        }
     }
 
     /**
@@ -685,4 +978,14 @@ public class ModeloJuego {
     public void establecerServicioIA(ServicioIA servicio) {
         this.servicioIA = Option.of(servicio);
     }
+
+    /**
+     * Establece el servicio de IA que controla la paleta del jugador 1
+     * en el modo IA_CONTRA_IA.
+     *
+     * @param servicio el servicio de IA configurado con una dificultad específica
+     */
+    public void establecerServicioIAJugador1(ServicioIA servicio) {
+        this.servicioIAJugador1 = Option.of(servicio);
+    }
 }
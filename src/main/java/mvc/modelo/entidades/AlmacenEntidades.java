@@ -0,0 +1,511 @@
+package mvc.modelo.entidades;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Almacen de entidades orientado a datos.
+ * <p>
+ * Guarda los componentes de cada entidad (posicion, tamano, velocidad,
+ * resistencia, tipo y estado activo) en arreglos primitivos paralelos y
+ * densos, de modo que los recorridos de colision y renderizado leen memoria
+ * contigua en lugar de saltar entre objetos del heap.
+ * </p>
+ * <p>
+ * Cada entidad se identifica con un manejador generacional de 64 bits:
+ * los 32 bits bajos son el indice del hueco y los altos su generacion.
+ * Al eliminar una entidad su generacion avanza, por lo que los manejadores
+ * viejos dejan de ser validos aunque el hueco se reutilice. Alta y baja son
+ * O(1): la baja mueve la ultima entidad densa al hueco liberado.
+ * </p>
+ * <p>
+ * Las posiciones densas ({@code 0 .. cantidad() - 1}) son estables solo
+ * mientras no se elimine ninguna entidad. Los recorridos que eliminan deben
+ * hacerlo de atras hacia adelante.
+ * </p>
+ * <p>
+ * Cada entidad puede tener una vista asociada (por ejemplo un {@link Bloque})
+ * que expone la API orientada a objetos sobre los mismos datos.
+ * </p>
+ * <p>
+ * No es seguro para uso concurrente; debe usarse desde el hilo que actualiza el modelo.
+ * </p>
+ *
+ * @param <V> tipo de las vistas asociadas a las entidades
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class AlmacenEntidades<V> {
+
+    /** Manejador que nunca corresponde a una entidad viva. */
+    public static final long ENTIDAD_NULA = -1L;
+
+    private static final int CAPACIDAD_INICIAL = 64;
+
+    private static final long MASCARA_INDICE = 0xFFFF_FFFFL;
+
+    // Componentes densos, indexados por posicion.
+    private double[] x;
+    private double[] y;
+    private double[] ancho;
+    private double[] alto;
+    private double[] velocidadX;
+    private double[] velocidadY;
+    private int[] resistencia;
+    private int[] tipo;
+    private boolean[] activo;
+    private Object[] vistas;
+    private int[] indiceEnPosicion;
+
+    // Tabla dispersa, indexada por indice de hueco.
+    private int[] posicionDeIndice;
+    private int[] generacionDeIndice;
+    private int[] indicesLibres;
+    private int cantidadLibres;
+    private int indicesUsados;
+
+    private int cantidad;
+    private int inactivos;
+    private final List<V> vistaLista;
+
+    /**
+     * Crea un almacen vacio con la capacidad inicial por defecto.
+     */
+    public AlmacenEntidades() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Crea un almacen vacio con una capacidad inicial dada.
+     *
+     * @param capacidadInicial cantidad de entidades que caben sin redimensionar
+     * @throws IllegalArgumentException si la capacidad no es positiva
+     */
+    public AlmacenEntidades(final int capacidadInicial) {
+        if (capacidadInicial <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacidadInicial);
+        }
+        this.x = new double[capacidadInicial];
+        this.y = new double[capacidadInicial];
+        this.ancho = new double[capacidadInicial];
+        this.alto = new double[capacidadInicial];
+        this.velocidadX = new double[capacidadInicial];
+        this.velocidadY = new double[capacidadInicial];
+        this.resistencia = new int[capacidadInicial];
+        this.tipo = new int[capacidadInicial];
+        this.activo = new boolean[capacidadInicial];
+        this.vistas = new Object[capacidadInicial];
+        this.indiceEnPosicion = new int[capacidadInicial];
+        this.posicionDeIndice = new int[capacidadInicial];
+        this.generacionDeIndice = new int[capacidadInicial];
+        this.indicesLibres = new int[capacidadInicial];
+        this.vistaLista = new VistaLista();
+    }
+
+    /**
+     * Crea una entidad activa con los componentes indicados.
+     *
+     * @param vista vista asociada a la entidad, puede ser null
+     * @param x posicion X
+     * @param y posicion Y
+     * @param ancho ancho
+     * @param alto alto
+     * @param tipo codigo de tipo definido por el llamador
+     * @param resistencia resistencia inicial
+     * @return manejador de la nueva entidad
+     */
+    public long crear(final V vista, final double x, final double y, final double ancho,
+                      final double alto, final int tipo, final int resistencia) {
+        final int indice = reservarIndice();
+        if (cantidad == this.x.length) {
+            crecerDensos();
+        }
+        final int posicion = cantidad++;
+        this.x[posicion] = x;
+        this.y[posicion] = y;
+        this.ancho[posicion] = ancho;
+        this.alto[posicion] = alto;
+        this.velocidadX[posicion] = 0.0;
+        this.velocidadY[posicion] = 0.0;
+        this.resistencia[posicion] = resistencia;
+        this.tipo[posicion] = tipo;
+        this.activo[posicion] = true;
+        this.vistas[posicion] = vista;
+        this.indiceEnPosicion[posicion] = indice;
+        this.posicionDeIndice[indice] = posicion;
+        return manejador(indice, generacionDeIndice[indice]);
+    }
+
+    /**
+     * Elimina una entidad en O(1). La ultima entidad densa ocupa su posicion.
+     *
+     * @param entidad manejador de la entidad
+     * @return true si la entidad existia y fue eliminada
+     */
+    public boolean eliminar(final long entidad) {
+        final int posicion = obtenerPosicion(entidad);
+        if (posicion < 0) {
+            return false;
+        }
+        eliminarEn(posicion);
+        return true;
+    }
+
+    /**
+     * Elimina la entidad que ocupa una posicion densa.
+     *
+     * @param posicion posicion densa en {@code [0, cantidad())}
+     * @throws IndexOutOfBoundsException si la posicion no es valida
+     */
+    public void eliminarEn(final int posicion) {
+        verificarPosicion(posicion);
+        if (!activo[posicion]) {
+            inactivos--;
+        }
+        final int indice = indiceEnPosicion[posicion];
+        final int ultima = --cantidad;
+        if (posicion != ultima) {
+            x[posicion] = x[ultima];
+            y[posicion] = y[ultima];
+            ancho[posicion] = ancho[ultima];
+            alto[posicion] = alto[ultima];
+            velocidadX[posicion] = velocidadX[ultima];
+            velocidadY[posicion] = velocidadY[ultima];
+            resistencia[posicion] = resistencia[ultima];
+            tipo[posicion] = tipo[ultima];
+            activo[posicion] = activo[ultima];
+            vistas[posicion] = vistas[ultima];
+            indiceEnPosicion[posicion] = indiceEnPosicion[ultima];
+            posicionDeIndice[indiceEnPosicion[posicion]] = posicion;
+        }
+        vistas[ultima] = null;
+        posicionDeIndice[indice] = -1;
+        generacionDeIndice[indice]++;
+        indicesLibres[cantidadLibres++] = indice;
+    }
+
+    /**
+     * Elimina todas las entidades. Los manejadores existentes dejan de ser validos.
+     */
+    public void vaciar() {
+        while (cantidad > 0) {
+            eliminarEn(cantidad - 1);
+        }
+    }
+
+    /**
+     * Indica si un manejador corresponde a una entidad viva.
+     *
+     * @param entidad manejador a verificar
+     * @return true si la entidad existe
+     */
+    public boolean existe(final long entidad) {
+        return obtenerPosicion(entidad) >= 0;
+    }
+
+    /**
+     * Obtiene la posicion densa actual de una entidad.
+     *
+     * @param entidad manejador de la entidad
+     * @return posicion densa, o -1 si el manejador no es valido
+     */
+    public int obtenerPosicion(final long entidad) {
+        if (entidad == ENTIDAD_NULA) {
+            return -1;
+        }
+        final int indice = (int) (entidad & MASCARA_INDICE);
+        final int generacion = (int) (entidad >>> 32);
+        if (indice < 0 || indice >= indicesUsados || generacionDeIndice[indice] != generacion) {
+            return -1;
+        }
+        return posicionDeIndice[indice];
+    }
+
+    /**
+     * Obtiene el manejador de la entidad en una posicion densa.
+     *
+     * @param posicion posicion densa
+     * @return manejador de la entidad
+     */
+    public long obtenerEntidadEn(final int posicion) {
+        verificarPosicion(posicion);
+        final int indice = indiceEnPosicion[posicion];
+        return manejador(indice, generacionDeIndice[indice]);
+    }
+
+    /**
+     * Cantidad de entidades vivas, activas o no.
+     *
+     * @return cantidad de entidades
+     */
+    public int cantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Cantidad de entidades vivas marcadas como activas.
+     *
+     * @return cantidad de entidades activas
+     */
+    public int cantidadActivas() {
+        return cantidad - inactivos;
+    }
+
+    /**
+     * Indica si hay entidades vivas marcadas como inactivas, pendientes de eliminar.
+     *
+     * @return true si hay al menos una entidad inactiva
+     */
+    public boolean hayInactivas() {
+        return inactivos > 0;
+    }
+
+    /**
+     * Elimina todas las entidades inactivas, recorriendo de atras hacia adelante.
+     *
+     * @return cantidad de entidades eliminadas
+     */
+    public int eliminarInactivas() {
+        int eliminadas = 0;
+        for (int posicion = cantidad - 1; posicion >= 0 && inactivos > 0; posicion--) {
+            if (!activo[posicion]) {
+                eliminarEn(posicion);
+                eliminadas++;
+            }
+        }
+        return eliminadas;
+    }
+
+    /**
+     * Vista de solo lectura, viva y sin copias, de las vistas asociadas en orden denso.
+     *
+     * @return lista de vistas
+     */
+    public List<V> obtenerVistas() {
+        return vistaLista;
+    }
+
+    /**
+     * Obtiene la vista asociada a la entidad en una posicion densa.
+     *
+     * @param posicion posicion densa
+     * @return la vista, o null si no tiene
+     */
+    @SuppressWarnings("unchecked")
+    public V obtenerVistaEn(final int posicion) {
+        verificarPosicion(posicion);
+        return (V) vistas[posicion];
+    }
+
+    // ========== COMPONENTES POR POSICION DENSA ==========
+
+    /**
+     * Obtiene la posicion X.
+     *
+     * @param posicion posicion densa
+     * @return coordenada X
+     */
+    public double obtenerXEn(final int posicion) {
+        return x[posicion];
+    }
+
+    /**
+     * Obtiene la posicion Y.
+     *
+     * @param posicion posicion densa
+     * @return coordenada Y
+     */
+    public double obtenerYEn(final int posicion) {
+        return y[posicion];
+    }
+
+    /**
+     * Obtiene el ancho.
+     *
+     * @param posicion posicion densa
+     * @return ancho
+     */
+    public double obtenerAnchoEn(final int posicion) {
+        return ancho[posicion];
+    }
+
+    /**
+     * Obtiene el alto.
+     *
+     * @param posicion posicion densa
+     * @return alto
+     */
+    public double obtenerAltoEn(final int posicion) {
+        return alto[posicion];
+    }
+
+    /**
+     * Obtiene la velocidad horizontal.
+     *
+     * @param posicion posicion densa
+     * @return velocidad X en pixeles por segundo
+     */
+    public double obtenerVelocidadXEn(final int posicion) {
+        return velocidadX[posicion];
+    }
+
+    /**
+     * Obtiene la velocidad vertical.
+     *
+     * @param posicion posicion densa
+     * @return velocidad Y en pixeles por segundo
+     */
+    public double obtenerVelocidadYEn(final int posicion) {
+        return velocidadY[posicion];
+    }
+
+    /**
+     * Obtiene la resistencia.
+     *
+     * @param posicion posicion densa
+     * @return resistencia restante
+     */
+    public int obtenerResistenciaEn(final int posicion) {
+        return resistencia[posicion];
+    }
+
+    /**
+     * Obtiene el codigo de tipo.
+     *
+     * @param posicion posicion densa
+     * @return codigo de tipo definido por el llamador
+     */
+    public int obtenerTipoEn(final int posicion) {
+        return tipo[posicion];
+    }
+
+    /**
+     * Indica si la entidad esta activa.
+     *
+     * @param posicion posicion densa
+     * @return true si esta activa
+     */
+    public boolean estaActivaEn(final int posicion) {
+        return activo[posicion];
+    }
+
+    /**
+     * Establece la posicion.
+     *
+     * @param posicion posicion densa
+     * @param nuevoX coordenada X
+     * @param nuevoY coordenada Y
+     */
+    public void establecerPosicionEn(final int posicion, final double nuevoX, final double nuevoY) {
+        x[posicion] = nuevoX;
+        y[posicion] = nuevoY;
+    }
+
+    /**
+     * Establece el tamano.
+     *
+     * @param posicion posicion densa
+     * @param nuevoAncho ancho
+     * @param nuevoAlto alto
+     */
+    public void establecerTamanoEn(final int posicion, final double nuevoAncho, final double nuevoAlto) {
+        ancho[posicion] = nuevoAncho;
+        alto[posicion] = nuevoAlto;
+    }
+
+    /**
+     * Establece la velocidad.
+     *
+     * @param posicion posicion densa
+     * @param nuevaVelocidadX velocidad X en pixeles por segundo
+     * @param nuevaVelocidadY velocidad Y en pixeles por segundo
+     */
+    public void establecerVelocidadEn(final int posicion, final double nuevaVelocidadX,
+                                      final double nuevaVelocidadY) {
+        velocidadX[posicion] = nuevaVelocidadX;
+        velocidadY[posicion] = nuevaVelocidadY;
+    }
+
+    /**
+     * Establece la resistencia.
+     *
+     * @param posicion posicion densa
+     * @param nuevaResistencia resistencia restante
+     */
+    public void establecerResistenciaEn(final int posicion, final int nuevaResistencia) {
+        resistencia[posicion] = nuevaResistencia;
+    }
+
+    /**
+     * Marca la entidad como activa o inactiva. Las inactivas siguen vivas hasta
+     * que se eliminan, por ejemplo con {@link #eliminarInactivas()}.
+     *
+     * @param posicion posicion densa
+     * @param nuevoActivo true para activarla
+     */
+    public void establecerActivaEn(final int posicion, final boolean nuevoActivo) {
+        if (activo[posicion] != nuevoActivo) {
+            inactivos += nuevoActivo ? -1 : 1;
+            activo[posicion] = nuevoActivo;
+        }
+    }
+
+    // ========== INTERNOS ==========
+
+    private static long manejador(final int indice, final int generacion) {
+        return ((long) generacion << 32) | (indice & MASCARA_INDICE);
+    }
+
+    private int reservarIndice() {
+        if (cantidadLibres > 0) {
+            return indicesLibres[--cantidadLibres];
+        }
+        if (indicesUsados == posicionDeIndice.length) {
+            final int nuevaCapacidad = posicionDeIndice.length * 2;
+            posicionDeIndice = Arrays.copyOf(posicionDeIndice, nuevaCapacidad);
+            generacionDeIndice = Arrays.copyOf(generacionDeIndice, nuevaCapacidad);
+            indicesLibres = Arrays.copyOf(indicesLibres, nuevaCapacidad);
+        }
+        return indicesUsados++;
+    }
+
+    private void crecerDensos() {
+        final int nuevaCapacidad = x.length * 2;
+        x = Arrays.copyOf(x, nuevaCapacidad);
+        y = Arrays.copyOf(y, nuevaCapacidad);
+        ancho = Arrays.copyOf(ancho, nuevaCapacidad);
+        alto = Arrays.copyOf(alto, nuevaCapacidad);
+        velocidadX = Arrays.copyOf(velocidadX, nuevaCapacidad);
+        velocidadY = Arrays.copyOf(velocidadY, nuevaCapacidad);
+        resistencia = Arrays.copyOf(resistencia, nuevaCapacidad);
+        tipo = Arrays.copyOf(tipo, nuevaCapacidad);
+        activo = Arrays.copyOf(activo, nuevaCapacidad);
+        vistas = Arrays.copyOf(vistas, nuevaCapacidad);
+        indiceEnPosicion = Arrays.copyOf(indiceEnPosicion, nuevaCapacidad);
+    }
+
+    private void verificarPosicion(final int posicion) {
+        if (posicion < 0 || posicion >= cantidad) {
+            throw new IndexOutOfBoundsException("Posicion " + posicion + " fuera de [0, " + cantidad + ")");
+        }
+    }
+
+    /**
+     * Lista de solo lectura sobre las vistas densas.
+     */
+    private final class VistaLista extends AbstractList<V> implements RandomAccess {
+
+        @Override
+        public V get(final int posicion) {
+            return obtenerVistaEn(posicion);
+        }
+
+        @Override
+        public int size() {
+            return cantidad;
+        }
+    }
+}
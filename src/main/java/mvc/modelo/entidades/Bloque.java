@@ -1,10 +1,18 @@
 package mvc.modelo.entidades;
 
+import mvc.modelo.enums.TipoEntidad;
 import patrones.builder.TipoBloque;
 
 /**
  * Representa un bloque destructible en el juego.
  * Forma parte del patrón Composite como componente hoja.
+ * <p>
+ * Un bloque puede vincularse a un {@link AlmacenEntidades}; desde entonces
+ * actúa como vista sobre la entidad del almacén, que es la que recorren los
+ * pasos de colisión y renderizado. Los cambios se escriben tanto en el
+ * almacén como en los campos propios, de modo que el bloque conserva su
+ * estado si la entidad se elimina.
+ * </p>
  *
  * @author Equipo-polimorfo
  * @version 1.0
@@ -13,6 +21,8 @@ public class Bloque extends ObjetoJuego {
 
     private int resistencia;
     private TipoBloque tipo;
+    private AlmacenEntidades<Bloque> almacen;
+    private long entidad;
 
     /**
      * Constructor de Bloque.
@@ -28,6 +38,101 @@ public class Bloque extends ObjetoJuego {
         super(x, y, ancho, alto);
         this.resistencia = resistencia;
         this.tipo = tipo;
+        this.almacen = null;
+        this.entidad = AlmacenEntidades.ENTIDAD_NULA;
+    }
+
+    /**
+     * Vincula el bloque a un almacén, creando en él una entidad con el estado actual.
+     * Si ya estaba vinculado a otro almacén, primero se desvincula.
+     *
+     * @param destino almacén al que se vincula
+     */
+    public void vincular(AlmacenEntidades<Bloque> destino) {
+        desvincular();
+        this.almacen = destino;
+        this.entidad = destino.crear(this, x, y, ancho, alto, tipo != null ? tipo.ordinal() : -1, resistencia);
+        if (!activo) {
+            destino.establecerActivaEn(destino.obtenerPosicion(entidad), false);
+        }
+    }
+
+    /**
+     * Elimina la entidad del almacén vinculado, si la hay. El bloque conserva su estado.
+     */
+    public void desvincular() {
+        if (almacen != null) {
+            almacen.eliminar(entidad);
+            almacen = null;
+            entidad = AlmacenEntidades.ENTIDAD_NULA;
+        }
+    }
+
+    /**
+     * Obtiene el manejador de la entidad vinculada.
+     *
+     * @return manejador, o {@link AlmacenEntidades#ENTIDAD_NULA} si no está vinculado
+     */
+    public long obtenerEntidad() {
+        return entidad;
+    }
+
+    /**
+     * Indica si el bloque está vinculado a un almacén dado.
+     *
+     * @param candidato almacén a comparar
+     * @return true si el bloque es vista de una entidad viva de ese almacén
+     */
+    public boolean estaVinculadoA(AlmacenEntidades<Bloque> candidato) {
+        return almacen == candidato && candidato != null && candidato.existe(entidad);
+    }
+
+    /**
+     * Obtiene la posición densa de la entidad vinculada.
+     *
+     * @return posición en el almacén, o -1 si no está vinculado o la entidad ya no existe
+     */
+    private int posicionEnAlmacen() {
+        return almacen != null ? almacen.obtenerPosicion(entidad) : -1;
+    }
+
+    @Override
+    public double obtenerX() {
+        final int posicion = posicionEnAlmacen();
+        return posicion >= 0 ? almacen.obtenerXEn(posicion) : x;
+    }
+
+    @Override
+    public double obtenerY() {
+        final int posicion = posicionEnAlmacen();
+        return posicion >= 0 ? almacen.obtenerYEn(posicion) : y;
+    }
+
+    @Override
+    public double obtenerAncho() {
+        final int posicion = posicionEnAlmacen();
+        return posicion >= 0 ? almacen.obtenerAnchoEn(posicion) : ancho;
+    }
+
+    @Override
+    public double obtenerAlto() {
+        final int posicion = posicionEnAlmacen();
+        return posicion >= 0 ? almacen.obtenerAltoEn(posicion) : alto;
+    }
+
+    @Override
+    public boolean estaActivo() {
+        final int posicion = posicionEnAlmacen();
+        return posicion >= 0 ? almacen.estaActivaEn(posicion) : activo;
+    }
+
+    @Override
+    public void establecerActivo(boolean activo) {
+        super.establecerActivo(activo);
+        final int posicion = posicionEnAlmacen();
+        if (posicion >= 0) {
+            almacen.establecerActivaEn(posicion, activo);
+        }
     }
 
     /**
@@ -36,7 +141,8 @@ public class Bloque extends ObjetoJuego {
      * @return resistencia
      */
     public int obtenerResistencia() {
-        return resistencia;
+        final int posicion = posicionEnAlmacen();
+        return posicion >= 0 ? almacen.obtenerResistenciaEn(posicion) : resistencia;
     }
 
     /**
@@ -48,12 +154,32 @@ public class Bloque extends ObjetoJuego {
         return tipo;
     }
 
+    /**
+     * Crea una copia independiente del bloque con su estado actual.
+     * <p>
+     * Permite que varias partidas usen el mismo {@link Nivel} sin compartir
+     * la resistencia ni el estado activo de sus bloques.
+     * </p>
+     *
+     * @return una nueva instancia de {@code Bloque} con los mismos valores, sin vincular
+     */
+    public Bloque clonar() {
+        Bloque copia = new Bloque(obtenerX(), obtenerY(), obtenerAncho(), obtenerAlto(),
+            obtenerResistencia(), tipo);
+        copia.establecerActivo(estaActivo());
+        return copia;
+    }
+
     /**
      * Reduce la resistencia del bloque en 1.
      */
     public void reducirResistencia() {
         if (resistencia > 0) {
             resistencia--;
+            final int posicion = posicionEnAlmacen();
+            if (posicion >= 0) {
+                almacen.establecerResistenciaEn(posicion, resistencia);
+            }
         }
     }
 
@@ -63,7 +189,7 @@ public class Bloque extends ObjetoJuego {
      * @return true si la resistencia es 0, false en caso contrario
      */
     public boolean estaDestruido() {
-        return resistencia <= 0;
+        return obtenerResistencia() <= 0;
     }
 
     /**
@@ -95,4 +221,14 @@ public class Bloque extends ObjetoJuego {
     public void dibujar(javafx.scene.canvas.GraphicsContext gc) {
         throw new UnsupportedOperationException("Unimplemented method 'dibujar'");
     }
+
+    /**
+     * Obtiene el tipo de entidad del objeto.
+     *
+     * @return {@link TipoEntidad#BLOQUE}
+     */
+    @Override
+    public TipoEntidad obtenerTipoEntidad() {
+        return TipoEntidad.BLOQUE;
+    }
 }
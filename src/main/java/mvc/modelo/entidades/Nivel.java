@@ -74,6 +74,30 @@ public class Nivel {
         return bloques;
     }
 
+    /**
+     * Crea una copia del nivel con copias independientes de sus bloques.
+     *
+     * <p>Los bloques se mutan durante una partida, por lo que cada partida
+     * simultanea debe jugar sobre su propia copia.</p>
+     *
+     * @return un nuevo {@code Nivel} con los mismos atributos y bloques clonados.
+     */
+    public Nivel clonar() {
+        Nivel copia = new Nivel();
+        copia.id = id;
+        copia.nombre = nombre;
+        copia.dificultad = dificultad;
+        copia.mapaPersonalizado = mapaPersonalizado;
+        copia.creador = creador;
+        copia.bloques = new ArrayList<>();
+        if (bloques != null) {
+            for (Bloque bloque : bloques) {
+                copia.bloques.add(bloque.clonar());
+            }
+        }
+        return copia;
+    }
+
    /**
      * Verifica si el nivel está completado.
      *
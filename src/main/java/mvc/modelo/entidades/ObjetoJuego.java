@@ -2,6 +2,7 @@ package mvc.modelo.entidades;
 
 import javafx.geometry.Rectangle2D;
 import javafx.scene.canvas.GraphicsContext;
+import mvc.modelo.enums.TipoEntidad;
 
 /**
  * Clase base abstracta para todos los objetos del juego
@@ -116,4 +117,12 @@ public abstract class ObjetoJuego {
      * @param gc el contexto gráfico de JavaFX donde se dibujará el objeto
      */
     public abstract void dibujar(GraphicsContext gc);
+
+    /**
+     * Obtiene el tipo de entidad del objeto, usado para elegir la estrategia
+     * de colision de un par de objetos sin comprobar clases.
+     *
+     * @return tipo de entidad del objeto
+     */
+    public abstract TipoEntidad obtenerTipoEntidad();
 }
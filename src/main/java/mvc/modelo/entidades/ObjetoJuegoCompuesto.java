@@ -5,6 +5,7 @@ import java.util.List;
 
 import javafx.geometry.Rectangle2D;
 import javafx.scene.canvas.GraphicsContext;
+import mvc.modelo.enums.TipoEntidad;
 
 /**
  * Implementacion del patron Composite para manejar grupos de objetos del juego.
@@ -140,4 +141,14 @@ public class ObjetoJuegoCompuesto extends ObjetoJuego{
             objetoJuego.dibujar(gc);
         }
     }
+
+    /**
+     * Obtiene el tipo de entidad del objeto.
+     *
+     * @return {@link TipoEntidad#COMPUESTO}
+     */
+    @Override
+    public TipoEntidad obtenerTipoEntidad() {
+        return TipoEntidad.COMPUESTO;
+    }
 }
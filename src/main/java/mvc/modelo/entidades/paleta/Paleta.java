@@ -6,8 +6,10 @@ import java.util.List;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import mvc.modelo.CampoJuego;
 import mvc.modelo.entidades.ObjetoJuego;
 import mvc.modelo.enums.LadoHorizontal;
+import mvc.modelo.enums.TipoEntidad;
 import patrones.strategy.movimiento.EstrategiaMovimiento;
 
 /**
@@ -34,13 +36,14 @@ import patrones.strategy.movimiento.EstrategiaMovimiento;
 public class Paleta extends ObjetoJuego {
 
     private int colisionEnX;
-    private int centro;
+    /** Centro vertical con precision de subpixel, para que el movimiento no dependa del paso. */
+    private double centro;
     private int ancho;
     private int anchoLateral;
     private int grosor;
     private int limiteNorte;
     private int limiteSur;
-    private int velocidad;
+    private double velocidad;
     private LadoHorizontal ladoPantalla;
     private Color colorPrimario;
     private Color colorSecundario;
@@ -66,8 +69,8 @@ public class Paleta extends ObjetoJuego {
             (int)ancho,
             300,
             (int)(alto/2),
-            (int)(600 - alto/2),
-            x < 400 ? LadoHorizontal.IZQUIERDA : LadoHorizontal.DERECHA,
+            (int)(CampoJuego.ALTO - alto/2),
+            x < CampoJuego.ANCHO / 2 ? LadoHorizontal.IZQUIERDA : LadoHorizontal.DERECHA,
             Color.WHITE,
             Color.RED
         );
@@ -166,28 +169,28 @@ public class Paleta extends ObjetoJuego {
 
     /**
      * Mueve la plataforma hacia arriba.
-     * Si la paleta llega al limite superior, la posicion del centro no se actualizara.
+     * Si la paleta alcanza el limite superior, se detiene sobre el.
      *
      * @param deltaTime tiempo transcurrido en segundos
      */
     public void moverArriba(double deltaTime) {
-        int desplazamiento = (int)(velocidad * deltaTime);
-        if((this.centro - this.anchoLateral) - desplazamiento >= this.limiteNorte){
-            this.centro -= desplazamiento;
-        }
+        this.centro = Math.max(
+            this.limiteNorte + this.anchoLateral,
+            this.centro - this.velocidad * deltaTime
+        );
     }
 
     /**
      * Mueve la plataforma hacia abajo.
-     * Si la paleta llega al limite inferior, la posicion del centro no se actualizara.
+     * Si la paleta alcanza el limite inferior, se detiene sobre el.
      *
      * @param deltaTime tiempo transcurrido en segundos
      */
     public void moverAbajo(double deltaTime) {
-        int desplazamiento = (int)(velocidad * deltaTime);
-        if((this.centro + this.anchoLateral) + desplazamiento <= this.limiteSur){
-            this.centro += desplazamiento;
-        }
+        this.centro = Math.min(
+            this.limiteSur - this.anchoLateral,
+            this.centro + this.velocidad * deltaTime
+        );
     }
 
     /**
@@ -262,12 +265,12 @@ public class Paleta extends ObjetoJuego {
      * @return una nueva instancia de {@code Paleta} con los mismos valores que esta
      */
     public Paleta clonar(){
-        return new Paleta(
+        Paleta copia = new Paleta(
             this.colisionEnX,
-            this.centro,
+            obtenerCentro(),
             this.ancho,
             this.grosor,
-            this.velocidad,
+            (int) this.velocidad,
             this.limiteNorte,
             this.limiteSur,
             this.ladoPantalla,
@@ -275,6 +278,9 @@ public class Paleta extends ObjetoJuego {
             this.colorSecundario,
             this.estadoOriginal
         );
+        copia.centro = this.centro;
+        copia.velocidad = this.velocidad;
+        return copia;
     }
 
     /**
@@ -331,25 +337,25 @@ public class Paleta extends ObjetoJuego {
     }
 
     /**
-     * Establece el ancho de la paleta.
+     * Establece el ancho de la paleta. El ancho se limita al espacio entre
+     * los limites norte y sur, y el centro se desplaza lo necesario para que
+     * la paleta no los exceda, igual que al moverla.
      *
      * @param nuevoAncho nuevo ancho de la paleta
-     * @throws IndexOutOfBoundsException si el ancho no es valido
+     * @throws IndexOutOfBoundsException si el ancho no es positivo
      */
     public void establecerAncho(int nuevoAncho) throws IndexOutOfBoundsException {
         if(nuevoAncho <= 0) {
             throw new IndexOutOfBoundsException("Valor de ancho no positivo no es valido.");
         }
+        nuevoAncho = Math.min(nuevoAncho, this.limiteSur - this.limiteNorte);
         if(nuevoAncho % 2 == 1)
             nuevoAncho--;
 
-        if(this.centro - nuevoAncho/2 < this.limiteNorte)
-            throw new IndexOutOfBoundsException("El nuevo ancho obligaria a la paleta a exceder el limite norte.");
-        if(this.centro + nuevoAncho/2 > this.limiteSur)
-            throw new IndexOutOfBoundsException("El nuevo ancho obligaria a la paleta a exceder el limite sur.");
-
         this.ancho = nuevoAncho;
         this.anchoLateral = nuevoAncho/2;
+        this.centro = Math.max(this.limiteNorte + this.anchoLateral,
+            Math.min(this.limiteSur - this.anchoLateral, this.centro));
     }
 
     // ========== METODOS DE ACCESO (GETTERS) ==========
@@ -364,12 +370,12 @@ public class Paleta extends ObjetoJuego {
     }
 
     /**
-     * Obtiene la posicion vertical del centro.
+     * Obtiene la posicion vertical del centro, redondeada al pixel.
      *
      * @return posicion Y del centro
      */
     public int obtenerCentro() {
-        return this.centro;
+        return (int) Math.round(this.centro);
     }
 
     /**
@@ -387,7 +393,7 @@ public class Paleta extends ObjetoJuego {
      * @return velocidad
      */
     public double obtenerVelocidad() {
-        return (double)this.velocidad;
+        return this.velocidad;
     }
 
     /**
@@ -512,7 +518,7 @@ public class Paleta extends ObjetoJuego {
      * @param velocidad nueva velocidad
      */
     public void establecerVelocidad(double velocidad) {
-        this.velocidad = (int)velocidad;
+        this.velocidad = velocidad;
     }
 
     /**
@@ -557,7 +563,7 @@ public class Paleta extends ObjetoJuego {
      * @param velocidad nueva velocidad
      */
     public void setVelocidad(double velocidad) {
-        this.velocidad = (int)velocidad;
+        this.velocidad = velocidad;
     }
 
     /**
@@ -628,10 +634,10 @@ public class Paleta extends ObjetoJuego {
     public void guardarEstado() {
         this.estadoOriginal = new ConfigPaleta(
             this.colisionEnX,
-            this.centro,
+            obtenerCentro(),
             this.ancho,
             this.grosor,
-            this.velocidad,
+            (int) this.velocidad,
             this.limiteNorte,
             this.limiteSur,
             this.ladoPantalla,
@@ -657,4 +663,14 @@ public class Paleta extends ObjetoJuego {
     public void setEstadoOriginal(ConfigPaleta estado) {
         establecerEstadoOriginal(estado);
     }
+
+    /**
+     * Obtiene el tipo de entidad del objeto.
+     *
+     * @return {@link TipoEntidad#PALETA}
+     */
+    @Override
+    public TipoEntidad obtenerTipoEntidad() {
+        return TipoEntidad.PALETA;
+    }
 }
@@ -0,0 +1,275 @@
+package mvc.modelo.entidades.pelota;
+
+import java.util.Arrays;
+
+import mvc.modelo.entidades.paleta.Paleta;
+
+/**
+ * Pelotas adicionales del modo multipelota, guardadas en arreglos paralelos.
+ * <p>
+ * Cada pelota ocupa una posicion densa de los arreglos de posicion, velocidad
+ * y ultima paleta que la golpeo, sin un objeto por pelota: con miles de
+ * pelotas el recorrido es secuencial y no hay presion sobre el recolector.
+ * Todas comparten el radio y la velocidad maxima de la pelota principal.
+ * </p>
+ * <p>
+ * Para reutilizar las estrategias de colision, que trabajan sobre una
+ * {@link Pelota}, el conjunto mantiene un cursor: una pelota que se carga con
+ * el estado de una posicion, se avanza y se vuelve a guardar. Eliminar una
+ * pelota mueve la ultima a su posicion, por lo que el orden no se conserva.
+ * </p>
+ * <p>
+ * Solo la lectura es segura desde varios hilos; agregar, eliminar y escribir
+ * debe hacerse desde el hilo que actualiza el modelo.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class ConjuntoPelotas {
+
+    /** Maximo de pelotas adicionales, para acotar el costo de un tick. */
+    public static final int CAPACIDAD_MAXIMA = 8_192;
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private static final byte SIN_PALETA = 0;
+    private static final byte PALETA_JUGADOR1 = 1;
+    private static final byte PALETA_JUGADOR2 = 2;
+
+    private double[] posicionX;
+    private double[] posicionY;
+    private double[] velocidadX;
+    private double[] velocidadY;
+    private byte[] ultimaPaleta;
+    private int cantidad;
+
+    private Pelota cursor;
+
+    /**
+     * Crea un conjunto vacio.
+     */
+    public ConjuntoPelotas() {
+        this.posicionX = new double[CAPACIDAD_INICIAL];
+        this.posicionY = new double[CAPACIDAD_INICIAL];
+        this.velocidadX = new double[CAPACIDAD_INICIAL];
+        this.velocidadY = new double[CAPACIDAD_INICIAL];
+        this.ultimaPaleta = new byte[CAPACIDAD_INICIAL];
+    }
+
+    /**
+     * Toma de una pelota el radio y la velocidad maxima que compartiran las
+     * pelotas del conjunto, creando el cursor como copia suya.
+     *
+     * @param plantilla pelota de referencia, normalmente la principal
+     * @throws NullPointerException si la plantilla es nula
+     */
+    public void establecerPlantilla(final Pelota plantilla) {
+        if (plantilla == null) {
+            throw new NullPointerException("La plantilla de pelota no puede ser nula");
+        }
+        this.cursor = plantilla.clonar();
+        this.cursor.establecerActivo(true);
+    }
+
+    /**
+     * Obtiene la pelota que se usa para cargar y avanzar cada posicion.
+     *
+     * @return cursor del conjunto, o null si no se establecio una plantilla
+     */
+    public Pelota obtenerCursor() {
+        return cursor;
+    }
+
+    /**
+     * Agrega una pelota.
+     *
+     * @param x posicion X, con el criterio de {@link Pelota#obtenerX()}
+     * @param y posicion Y, con el criterio de {@link Pelota#obtenerY()}
+     * @param vx velocidad horizontal en pixeles por segundo
+     * @param vy velocidad vertical en pixeles por segundo
+     * @return true si se agrego, false si el conjunto esta lleno
+     */
+    public boolean agregar(final double x, final double y, final double vx, final double vy) {
+        if (cantidad == CAPACIDAD_MAXIMA) {
+            return false;
+        }
+        if (cantidad == posicionX.length) {
+            final int capacidad = Math.min(CAPACIDAD_MAXIMA, posicionX.length * 2);
+            posicionX = Arrays.copyOf(posicionX, capacidad);
+            posicionY = Arrays.copyOf(posicionY, capacidad);
+            velocidadX = Arrays.copyOf(velocidadX, capacidad);
+            velocidadY = Arrays.copyOf(velocidadY, capacidad);
+            ultimaPaleta = Arrays.copyOf(ultimaPaleta, capacidad);
+        }
+        posicionX[cantidad] = x;
+        posicionY[cantidad] = y;
+        velocidadX[cantidad] = vx;
+        velocidadY[cantidad] = vy;
+        ultimaPaleta[cantidad] = SIN_PALETA;
+        cantidad++;
+        return true;
+    }
+
+    /**
+     * Elimina la pelota de una posicion moviendo la ultima a su lugar.
+     *
+     * @param posicion posicion densa en {@code [0, cantidad())}
+     */
+    public void eliminarEn(final int posicion) {
+        final int ultima = --cantidad;
+        posicionX[posicion] = posicionX[ultima];
+        posicionY[posicion] = posicionY[ultima];
+        velocidadX[posicion] = velocidadX[ultima];
+        velocidadY[posicion] = velocidadY[ultima];
+        ultimaPaleta[posicion] = ultimaPaleta[ultima];
+    }
+
+    /**
+     * Elimina todas las pelotas, conservando la memoria de los arreglos.
+     */
+    public void vaciar() {
+        cantidad = 0;
+    }
+
+    /**
+     * Obtiene la cantidad de pelotas.
+     *
+     * @return cantidad de posiciones ocupadas
+     */
+    public int cantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Obtiene la posicion X, con el criterio de {@link Pelota#obtenerX()}.
+     *
+     * @param posicion posicion densa
+     * @return coordenada X
+     */
+    public double obtenerXEn(final int posicion) {
+        return posicionX[posicion];
+    }
+
+    /**
+     * Obtiene la posicion Y, con el criterio de {@link Pelota#obtenerY()}.
+     *
+     * @param posicion posicion densa
+     * @return coordenada Y
+     */
+    public double obtenerYEn(final int posicion) {
+        return posicionY[posicion];
+    }
+
+    /**
+     * Obtiene la velocidad horizontal.
+     *
+     * @param posicion posicion densa
+     * @return velocidad en pixeles por segundo
+     */
+    public double obtenerVelocidadXEn(final int posicion) {
+        return velocidadX[posicion];
+    }
+
+    /**
+     * Obtiene la velocidad vertical.
+     *
+     * @param posicion posicion densa
+     * @return velocidad en pixeles por segundo
+     */
+    public double obtenerVelocidadYEn(final int posicion) {
+        return velocidadY[posicion];
+    }
+
+    /**
+     * Obtiene el radio comun de las pelotas del conjunto.
+     *
+     * @return radio, o 0 si no se establecio una plantilla
+     */
+    public double obtenerRadio() {
+        return cursor != null ? cursor.obtenerRadio() : 0.0;
+    }
+
+    /**
+     * Copia el estado de una posicion al cursor.
+     *
+     * @param posicion posicion densa a cargar
+     * @param jugador1 paleta del jugador 1, para restaurar la ultima que golpeo
+     * @param jugador2 paleta del jugador 2
+     */
+    public void cargarEn(final int posicion, final Paleta jugador1, final Paleta jugador2) {
+        cargarEn(posicion, cursor, jugador1, jugador2);
+    }
+
+    /**
+     * Copia el estado de una posicion a otra pelota, como un cursor propio de
+     * un hilo. Solo lee el conjunto, por lo que varios hilos pueden cargar
+     * posiciones a la vez mientras nadie lo modifique.
+     *
+     * @param posicion posicion densa a cargar
+     * @param destino pelota que recibe el estado; debe tener el radio del conjunto
+     * @param jugador1 paleta del jugador 1, para restaurar la ultima que golpeo
+     * @param jugador2 paleta del jugador 2
+     */
+    public void cargarEn(final int posicion, final Pelota destino, final Paleta jugador1, final Paleta jugador2) {
+        destino.establecerPosicionExacta(posicionX[posicion], posicionY[posicion]);
+        destino.establecerVelocidad(velocidadX[posicion], velocidadY[posicion]);
+        destino.establecerUltimaPaletaQueGolpeo(switch (ultimaPaleta[posicion]) {
+            case PALETA_JUGADOR1 -> jugador1;
+            case PALETA_JUGADOR2 -> jugador2;
+            default -> null;
+        });
+    }
+
+    /**
+     * Guarda el estado del cursor en una posicion.
+     *
+     * @param posicion posicion densa a escribir
+     * @param jugador1 paleta del jugador 1
+     * @param jugador2 paleta del jugador 2
+     */
+    public void guardarEn(final int posicion, final Paleta jugador1, final Paleta jugador2) {
+        posicionX[posicion] = cursor.obtenerX();
+        posicionY[posicion] = cursor.obtenerY();
+        velocidadX[posicion] = cursor.obtenerVelocidadX();
+        velocidadY[posicion] = cursor.obtenerVelocidadY();
+        final Paleta paleta = cursor.obtenerUltimaPaletaQueGolpeoDirecta();
+        ultimaPaleta[posicion] = paleta == null ? SIN_PALETA
+            : paleta == jugador1 ? PALETA_JUGADOR1
+            : paleta == jugador2 ? PALETA_JUGADOR2
+            : SIN_PALETA;
+    }
+
+    /**
+     * Reemplaza la posicion y la velocidad de una pelota, conservando la
+     * ultima paleta que la golpeo.
+     *
+     * @param posicion posicion densa a escribir
+     * @param x posicion X
+     * @param y posicion Y
+     * @param vx velocidad horizontal
+     * @param vy velocidad vertical
+     */
+    public void establecerEn(final int posicion, final double x, final double y,
+                             final double vx, final double vy) {
+        posicionX[posicion] = x;
+        posicionY[posicion] = y;
+        velocidadX[posicion] = vx;
+        velocidadY[posicion] = vy;
+    }
+
+    /**
+     * Copia las posiciones de todas las pelotas, intercaladas como
+     * {@code x0, y0, x1, y1, ...}, en un arreglo nuevo del tamano justo.
+     *
+     * @return posiciones intercaladas
+     */
+    public double[] copiarPosiciones() {
+        final double[] posiciones = new double[cantidad * 2];
+        for (int i = 0; i < cantidad; i++) {
+            posiciones[2 * i] = posicionX[i];
+            posiciones[2 * i + 1] = posicionY[i];
+        }
+        return posiciones;
+    }
+}
@@ -6,6 +6,7 @@ import javafx.scene.canvas.GraphicsContext;
 import mvc.modelo.entidades.ObjetoJuego;
 import mvc.modelo.entidades.paleta.Paleta;
 import mvc.modelo.enums.LadoHorizontal;
+import mvc.modelo.enums.TipoEntidad;
 
 /**
  * Representa la pelota del juego Pong.
@@ -30,18 +31,32 @@ public class Pelota extends ObjetoJuego {
 
     private static final double PI = Math.PI;
 
-    private int centroEnX;
-    private int centroEnY;
+    /**
+     * Posicion del centro con precision de subpixel, para que el recorrido
+     * de la pelota no dependa de la frecuencia de simulacion.
+     */
+    private double centroEnX;
+    private double centroEnY;
     private int radio;
-    private int velocidad;
+
+    /**
+     * Velocidad en pixeles por segundo, en coordenadas de pantalla (Y crece
+     * hacia abajo). Se guarda como vector para que mover, rebotar y reflejar
+     * no necesiten trigonometria; el angulo direccional se deriva al pedirlo.
+     */
+    private double velocidadX;
+    private double velocidadY;
     private int velocidadMaxima;
-    private double anguloDireccional;
 
     private ConfigPelota estadoOriginal;
 
     private boolean activo;
 
-    private Option<Paleta> ultimaPaletaQueGolpeo;
+    /**
+     * Ultima paleta que golpeo la pelota, o null si ninguna. Se guarda sin envolver
+     * para que registrar un golpe no asigne memoria en cada rebote.
+     */
+    private Paleta ultimaPaletaQueGolpeo;
 
     /**
      * Constructor principal de la pelota.
@@ -69,16 +84,11 @@ public class Pelota extends ObjetoJuego {
             velocidadInicial, velocidadMaxima, anguloDireccional
         );
 
-        this.centroEnX = validacion.centroEnX();
-        this.centroEnY = validacion.centroEnY();
-        this.radio = validacion.radio();
-        this.velocidad = validacion.velocidad();
-        this.velocidadMaxima = validacion.velocidadMaxima();
-        this.anguloDireccional = validacion.anguloDireccional();
+        this.configurar(validacion);
 
         this.estadoOriginal = validacion;
         this.activo = true;
-        this.ultimaPaletaQueGolpeo = Option.none();
+        this.ultimaPaletaQueGolpeo = null;
     }
 
     /**
@@ -114,24 +124,37 @@ public class Pelota extends ObjetoJuego {
      * @param sentido sentido horizontal inicial
      */
     public void inicializaDireccionLateral(LadoHorizontal sentido){
+        final double angulo;
         if(sentido == LadoHorizontal.DERECHA)
-            this.anguloDireccional = ( ((PI/4) * Math.random()) + (7*PI/8) ) % (2*PI);
+            angulo = ( ((PI/4) * Math.random()) + (7*PI/8) ) % (2*PI);
         else
-            this.anguloDireccional = ((PI/4) * Math.random()) - (PI*3/8);
+            angulo = ((PI/4) * Math.random()) - (PI*3/8);
+        orientar(angulo, obtenerVelocidad());
     }
 
     /**
-     * Invierte el sentido horizontal de la pelota cambiando su angulo de direccion.
+     * Invierte el sentido horizontal de la pelota.
      */
     public void alternarSentidoHorizontal() {
-        this.anguloDireccional = PI - this.anguloDireccional;
+        this.velocidadX = -this.velocidadX;
     }
 
     /**
-     * Invierte el sentido vertical de la pelota cambiando su angulo de direccion.
+     * Invierte el sentido vertical de la pelota.
      */
     public void alternarSentidoVertical() {
-        this.anguloDireccional = -this.anguloDireccional;
+        this.velocidadY = -this.velocidadY;
+    }
+
+    /**
+     * Fija el vector de velocidad a partir de un angulo y una magnitud.
+     *
+     * @param angulo angulo en radianes, medido en sentido antihorario
+     * @param magnitud rapidez en pixeles por segundo
+     */
+    private void orientar(double angulo, double magnitud) {
+        this.velocidadX = magnitud * Math.cos(angulo);
+        this.velocidadY = -magnitud * Math.sin(angulo);
     }
 
     /**
@@ -170,9 +193,8 @@ public class Pelota extends ObjetoJuego {
         this.centroEnX = configuracion.centroEnX();
         this.centroEnY = configuracion.centroEnY();
         this.radio = configuracion.radio();
-        this.velocidad = configuracion.velocidad();
         this.velocidadMaxima = configuracion.velocidadMaxima();
-        this.anguloDireccional = configuracion.anguloDireccional();
+        orientar(configuracion.anguloDireccional(), configuracion.velocidad());
     }
 
     /**
@@ -191,11 +213,8 @@ public class Pelota extends ObjetoJuego {
     public void actualizar(double deltaTime) {
         if (!activo) return;
 
-        double velocidadX = Math.cos(anguloDireccional) * velocidad;
-        double velocidadY = -Math.sin(anguloDireccional) * velocidad;
-
-        this.centroEnX += (int)(velocidadX * deltaTime);
-        this.centroEnY += (int)(velocidadY * deltaTime);
+        this.centroEnX += this.velocidadX * deltaTime;
+        this.centroEnY += this.velocidadY * deltaTime;
     }
 
     /**
@@ -238,14 +257,19 @@ public class Pelota extends ObjetoJuego {
      */
     public Pelota clonar() {
         Pelota copia = new Pelota(
-            this.centroEnX,
-            this.centroEnY,
+            this.estadoOriginal.centroEnX(),
+            this.estadoOriginal.centroEnY(),
             this.radio,
-            this.velocidad,
-            this.velocidadMaxima,
-            this.anguloDireccional,
+            this.estadoOriginal.velocidad(),
+            this.estadoOriginal.velocidadMaxima(),
+            this.estadoOriginal.anguloDireccional(),
             this.estadoOriginal
         );
+        copia.centroEnX = this.centroEnX;
+        copia.centroEnY = this.centroEnY;
+        copia.velocidadX = this.velocidadX;
+        copia.velocidadY = this.velocidadY;
+        copia.velocidadMaxima = this.velocidadMaxima;
         copia.activo = this.activo;
         copia.ultimaPaletaQueGolpeo = this.ultimaPaletaQueGolpeo;
         return copia;
@@ -258,7 +282,7 @@ public class Pelota extends ObjetoJuego {
      *
      * @return coordenada X del centro
      */
-    public int obtenerCentroEnX() {
+    public double obtenerCentroEnX() {
         return this.centroEnX;
     }
 
@@ -267,7 +291,7 @@ public class Pelota extends ObjetoJuego {
      *
      * @return coordenada Y del centro
      */
-    public int obtenerCentroEnY() {
+    public double obtenerCentroEnY() {
         return this.centroEnY;
     }
 
@@ -286,7 +310,7 @@ public class Pelota extends ObjetoJuego {
      * @return velocidad actual
      */
     public double obtenerVelocidad() {
-        return (double)this.velocidad;
+        return Math.sqrt(this.velocidadX * this.velocidadX + this.velocidadY * this.velocidadY);
     }
 
     /**
@@ -299,12 +323,13 @@ public class Pelota extends ObjetoJuego {
     }
 
     /**
-     * Obtiene el angulo direccional.
+     * Obtiene el angulo direccional, derivado del vector de velocidad.
      *
-     * @return angulo direccional en radianes
+     * @return angulo direccional en radianes, en el rango [0, 2*PI)
      */
     public double obtenerAnguloDireccional() {
-        return this.anguloDireccional;
+        final double angulo = Math.atan2(-this.velocidadY, this.velocidadX);
+        return angulo < 0 ? angulo + 2*PI : angulo;
     }
 
     /**
@@ -313,7 +338,7 @@ public class Pelota extends ObjetoJuego {
      * @return velocidad en el eje X
      */
     public double obtenerVelocidadX() {
-        return this.velocidad * Math.cos(this.anguloDireccional);
+        return this.velocidadX;
     }
 
     /**
@@ -322,7 +347,7 @@ public class Pelota extends ObjetoJuego {
      * @return velocidad en el eje Y
      */
     public double obtenerVelocidadY() {
-        return this.velocidad * -Math.sin(this.anguloDireccional);
+        return this.velocidadY;
     }
 
     // ========== METODOS DE MODIFICACION (SETTERS) ==========
@@ -333,7 +358,7 @@ public class Pelota extends ObjetoJuego {
      * @param nuevoCentroEnX nueva coordenada X
      * @throws IndexOutOfBoundsException si el valor no es positivo
      */
-    public void establecerCentroEnX(int nuevoCentroEnX) throws IndexOutOfBoundsException {
+    public void establecerCentroEnX(double nuevoCentroEnX) throws IndexOutOfBoundsException {
         if(nuevoCentroEnX <= 0) {
             throw new IndexOutOfBoundsException("Valor de posicion horizontal no positivo no es valido.");
         }
@@ -346,7 +371,7 @@ public class Pelota extends ObjetoJuego {
      * @param nuevoCentroEnY nueva coordenada Y
      * @throws IndexOutOfBoundsException si el valor no es positivo
      */
-    public void establecerCentroEnY(int nuevoCentroEnY) throws IndexOutOfBoundsException {
+    public void establecerCentroEnY(double nuevoCentroEnY) throws IndexOutOfBoundsException {
         if(nuevoCentroEnY <= 0) {
             throw new IndexOutOfBoundsException("Valor de posicion vertical no positivo no es valido.");
         }
@@ -360,7 +385,7 @@ public class Pelota extends ObjetoJuego {
      * @param nuevoCentroEnY nueva coordenada Y del centro
      * @throws IndexOutOfBoundsException si alguno de los valores no es positivo
      */
-    public void establecerPosicionCentro(int nuevoCentroEnX, int nuevoCentroEnY)
+    public void establecerPosicionCentro(double nuevoCentroEnX, double nuevoCentroEnY)
             throws IndexOutOfBoundsException {
         establecerCentroEnX(nuevoCentroEnX);
         establecerCentroEnY(nuevoCentroEnY);
@@ -395,7 +420,7 @@ public class Pelota extends ObjetoJuego {
         if(nuevaVelocidad > this.velocidadMaxima) {
             throw new IndexOutOfBoundsException("El valor excede la velocidad maxima permitida.");
         }
-        this.velocidad = nuevaVelocidad;
+        escalarVelocidad(nuevaVelocidad);
     }
 
     /**
@@ -413,7 +438,7 @@ public class Pelota extends ObjetoJuego {
                 "El valor excede el radio, esto podria generar problemas de colision."
             );
         }
-        if(nuevaVelocidadMaxima < this.velocidad) {
+        if(nuevaVelocidadMaxima < obtenerVelocidad()) {
             throw new IndexOutOfBoundsException(
                 "La velocidad maxima no puede ser menor que la velocidad actual."
             );
@@ -432,33 +457,39 @@ public class Pelota extends ObjetoJuego {
         if(nuevoAnguloDireccional < 0 || nuevoAnguloDireccional >= 2*PI) {
             throw new IndexOutOfBoundsException("El angulo direccional debe estar en el rango [0, 2*PI).");
         }
-        this.anguloDireccional = nuevoAnguloDireccional;
+        orientar(nuevoAnguloDireccional, obtenerVelocidad());
     }
 
     // ========== METODOS DE COMPATIBILIDAD CON API ANTIGUA ==========
 
     /**
      * Establece la componente horizontal de la velocidad.
-     * Actualiza el angulo direccional y la magnitud de velocidad.
      *
      * @param velocidadX nueva velocidad en el eje X
      */
     public void establecerVelocidadX(double velocidadX) {
-        double velocidadY = obtenerVelocidadY();
-        this.velocidad = (int)Math.sqrt(velocidadX * velocidadX + velocidadY * velocidadY);
-        this.anguloDireccional = Math.atan2(velocidadY, velocidadX);
+        this.velocidadX = velocidadX;
     }
 
     /**
-     * Establece la componente vertical de la velocidad.
-     * Actualiza el angulo direccional y la magnitud de velocidad.
+     * Establece la componente vertical de la velocidad, en coordenadas de
+     * pantalla (positiva hacia abajo).
      *
      * @param velocidadY nueva velocidad en el eje Y
      */
     public void establecerVelocidadY(double velocidadY) {
-        double velocidadX = obtenerVelocidadX();
-        this.velocidad = (int)Math.sqrt(velocidadX * velocidadX + velocidadY * velocidadY);
-        this.anguloDireccional = Math.atan2(velocidadY, velocidadX);
+        this.velocidadY = velocidadY;
+    }
+
+    /**
+     * Establece ambas componentes de la velocidad.
+     *
+     * @param velocidadX nueva velocidad en el eje X
+     * @param velocidadY nueva velocidad en el eje Y, positiva hacia abajo
+     */
+    public void establecerVelocidad(double velocidadX, double velocidadY) {
+        this.velocidadX = velocidadX;
+        this.velocidadY = velocidadY;
     }
 
     /**
@@ -488,7 +519,24 @@ public class Pelota extends ObjetoJuego {
      * @param velocidad nueva velocidad
      */
     public void establecerVelocidadGeneral(double velocidad) {
-        this.velocidad = (int)velocidad;
+        escalarVelocidad(velocidad);
+    }
+
+    /**
+     * Cambia la rapidez conservando la direccion. Si la pelota estaba quieta
+     * no hay direccion que conservar y se usa la del estado original.
+     *
+     * @param magnitud nueva rapidez en pixeles por segundo
+     */
+    private void escalarVelocidad(double magnitud) {
+        final double actual = obtenerVelocidad();
+        if (actual == 0.0) {
+            orientar(this.estadoOriginal.anguloDireccional(), magnitud);
+            return;
+        }
+        final double factor = magnitud / actual;
+        this.velocidadX *= factor;
+        this.velocidadY *= factor;
     }
 
     /**
@@ -509,6 +557,44 @@ public class Pelota extends ObjetoJuego {
         return this.centroEnY - this.radio;
     }
 
+    /**
+     * Coloca la pelota en una posicion, con el mismo criterio que
+     * {@link #obtenerX()} y {@link #obtenerY()}.
+     *
+     * @param x posicion en el eje X
+     * @param y posicion en el eje Y
+     */
+    public void establecerPosicionExacta(double x, double y) {
+        this.centroEnX = x + this.radio;
+        this.centroEnY = y + this.radio;
+    }
+
+    /**
+     * Refleja la velocidad de la pelota respecto de una normal unitaria, en
+     * coordenadas de pantalla. No hace nada si la pelota ya se aleja de la
+     * superficie. Las normales de los ejes usan {@link #invertirX()} e
+     * {@link #invertirY()}.
+     *
+     * @param normalX componente X de la normal
+     * @param normalY componente Y de la normal
+     */
+    public void reflejar(double normalX, double normalY) {
+        if (normalY == 0.0) {
+            invertirX();
+            return;
+        }
+        if (normalX == 0.0) {
+            invertirY();
+            return;
+        }
+        final double producto = this.velocidadX * normalX + this.velocidadY * normalY;
+        if (producto >= 0) {
+            return;
+        }
+        this.velocidadX -= 2 * producto * normalX;
+        this.velocidadY -= 2 * producto * normalY;
+    }
+
     /**
      * Obtiene el ancho de la pelota (diametro).
      *
@@ -555,7 +641,7 @@ public class Pelota extends ObjetoJuego {
      * @return Option conteniendo la paleta si existe, Option.none() en caso contrario
      */
     public Option<Paleta> obtenerUltimaPaletaQueGolpeo() {
-        return this.ultimaPaletaQueGolpeo;
+        return Option.of(this.ultimaPaletaQueGolpeo);
     }
 
     /**
@@ -569,6 +655,26 @@ public class Pelota extends ObjetoJuego {
      * @param paleta la paleta que acaba de golpear esta pelota
      */
     public void establecerUltimaPaletaQueGolpeo(final Paleta paleta) {
-        this.ultimaPaletaQueGolpeo = Option.of(paleta);
+        this.ultimaPaletaQueGolpeo = paleta;
+    }
+
+    /**
+     * Obtiene la ultima paleta que golpeo esta pelota sin envolverla, para
+     * que {@link ConjuntoPelotas} guarde el cursor sin asignar memoria.
+     *
+     * @return la paleta, o null si ninguna la golpeo
+     */
+    Paleta obtenerUltimaPaletaQueGolpeoDirecta() {
+        return this.ultimaPaletaQueGolpeo;
+    }
+
+    /**
+     * Obtiene el tipo de entidad del objeto.
+     *
+     * @return {@link TipoEntidad#PELOTA}
+     */
+    @Override
+    public TipoEntidad obtenerTipoEntidad() {
+        return TipoEntidad.PELOTA;
     }
 }
@@ -11,6 +11,7 @@ package mvc.modelo.enums;
  *       se pueden agregar distintos tipos de bloques y más elementos).</li>
  *   <li>{@link #CONTRA_IA}: Un jugador contra una IA, configurable en distintas dificultades.</li>
  *   <li>{@link #MODO_CONSTRUCTOR}: Modo constructor, permite la creación de niveles personalizados.</li>
+ *   <li>{@link #IA_CONTRA_IA}: Dos IA enfrentadas, usado por las simulaciones sin interfaz.</li>
  * </ul>
  *
  * @author Equipo-polimorfo
@@ -28,5 +29,8 @@ public enum ModoJuego {
     CONTRA_IA,
 
     /** Permite la creación de niveles personalizados. */
-    MODO_CONSTRUCTOR
+    MODO_CONSTRUCTOR,
+
+    /** Ambas paletas controladas por inteligencia artificial. */
+    IA_CONTRA_IA
 }
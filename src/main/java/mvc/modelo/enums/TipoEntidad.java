@@ -0,0 +1,21 @@
+package mvc.modelo.enums;
+
+/**
+ * Enumeración de los tipos de entidad que pueden participar en una colisión.
+ * <p>
+ * El ordinal de cada tipo indexa la tabla de despacho de colisiones, por lo
+ * que agregar un tipo nuevo solo agranda la tabla y no agrega costo al
+ * despacho de un par.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public enum TipoEntidad {
+    PELOTA,
+    PALETA,
+    BLOQUE,
+    /** Bordes del campo; no tienen un objeto de juego asociado. */
+    PARED,
+    COMPUESTO;
+}
@@ -0,0 +1,42 @@
+package mvc.modelo.enums;
+
+/**
+ * Tipos de evento que la simulacion publica en el
+ * {@link mvc.modelo.simulacion.AnilloEventos} para que la vista los
+ * traduzca en particulas, sonido e indicadores.
+ *
+ * <ul>
+ *   <li>{@link #GOLPE_PALETA}: la pelota golpeo la paleta de un jugador.</li>
+ *   <li>{@link #GOLPE_PARED}: la pelota principal reboto en una pared.</li>
+ *   <li>{@link #GOLPE_BLOQUE}: un bloque perdio resistencia sin romperse.</li>
+ *   <li>{@link #BLOQUE_DESTRUIDO}: un bloque se rompio.</li>
+ *   <li>{@link #GOL}: un jugador anoto un punto.</li>
+ *   <li>{@link #ITEM_GENERADO}: un bloque roto libero un item.</li>
+ *   <li>{@link #ITEM_EXPIRADO}: termino el efecto de un item.</li>
+ * </ul>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public enum TipoEventoJuego {
+    /** La pelota golpeo una paleta. */
+    GOLPE_PALETA,
+
+    /** La pelota principal reboto en una pared. */
+    GOLPE_PARED,
+
+    /** Un bloque fue golpeado sin romperse. */
+    GOLPE_BLOQUE,
+
+    /** Un bloque fue destruido. */
+    BLOQUE_DESTRUIDO,
+
+    /** Un jugador anoto un punto. */
+    GOL,
+
+    /** Se genero un item. */
+    ITEM_GENERADO,
+
+    /** Expiro el efecto de un item. */
+    ITEM_EXPIRADO
+}
@@ -0,0 +1,128 @@
+package mvc.modelo.items;
+
+import mvc.modelo.entidades.ObjetoJuego;
+
+/**
+ * Item que divide la pelota que rompió el bloque en varias pelotas.
+ *
+ * A diferencia de los demás power-ups, su efecto es instantáneo y no recae
+ * sobre la paleta: el gestor de colisiones agrega las pelotas nuevas al
+ * modelo en el momento en que se genera el item, y éstas siguen en juego
+ * hasta que salen por un lateral. Por eso el item nunca queda activo y
+ * el modelo lo descarta en el siguiente tick.
+ */
+public class ItemMultiPelota implements Item {
+    /**
+     * Cantidad de pelotas que se agregan al dividir.
+     */
+    private final int pelotasNuevas;
+
+    /**
+     * Construye un nuevo item de multipelota.
+     *
+     * @param pelotasNuevas cantidad de pelotas que se agregan al dividir
+     * @throws IllegalArgumentException si la cantidad no es positiva
+     */
+    public ItemMultiPelota(int pelotasNuevas) {
+        if(pelotasNuevas <= 0) throw new IllegalArgumentException("La cantidad de pelotas debe ser mayor a 0");
+
+        this.pelotasNuevas = pelotasNuevas;
+    }
+
+    /**
+     * Obtiene la cantidad de pelotas que agrega el item.
+     *
+     * @return cantidad de pelotas nuevas
+     */
+    public int obtenerPelotasNuevas() {
+        return pelotasNuevas;
+    }
+
+    /**
+     * No tiene efecto sobre la paleta; la división la realiza el gestor de colisiones.
+     *
+     * @param objeto la paleta que golpeó la pelota por última vez
+     */
+    @Override
+    public void aplicar(ObjetoJuego objeto) {
+    }
+
+    /**
+     * Obtiene la duración del efecto.
+     *
+     * @return 0.0, el efecto es instantáneo
+     */
+    @Override
+    public double obtenerDuracion() {
+        return 0.0;
+    }
+
+    /**
+     * El item nunca queda activo, porque su efecto es instantáneo.
+     *
+     * @return false
+     */
+    @Override
+    public boolean estaActivo() {
+        return false;
+    }
+
+    /**
+     * No hay efecto que revertir.
+     *
+     * @param objeto ignorado
+     */
+    @Override
+    public void desactivar(ObjetoJuego objeto) {
+    }
+
+    /**
+     * No hay tiempo que descontar.
+     *
+     * @param deltaTiempo ignorado
+     * @param objeto ignorado
+     */
+    @Override
+    public void actualizar(double deltaTiempo, ObjetoJuego objeto) {
+    }
+
+    /**
+     * Obtiene la posición X del item para renderizado.
+     *
+     * @return 0.0 (sin posición física)
+     */
+    @Override
+    public double obtenerX() {
+        return 0.0;
+    }
+
+    /**
+     * Obtiene la posición Y del item para renderizado.
+     *
+     * @return 0.0 (sin posición física)
+     */
+    @Override
+    public double obtenerY() {
+        return 0.0;
+    }
+
+    /**
+     * Obtiene el ancho del item para renderizado.
+     *
+     * @return 20.0 píxeles
+     */
+    @Override
+    public double obtenerAncho() {
+        return 20.0;
+    }
+
+    /**
+     * Obtiene el alto del item para renderizado.
+     *
+     * @return 20.0 píxeles
+     */
+    @Override
+    public double obtenerAlto() {
+        return 20.0;
+    }
+}
@@ -2,6 +2,7 @@ package mvc.modelo.items;
 
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import mvc.modelo.CampoJuego;
 import mvc.modelo.entidades.ObjetoJuego;
 import mvc.modelo.entidades.paleta.Paleta;
 
@@ -151,6 +152,15 @@ public class ItemNeblina implements Item {
         return 100.0;
     }
 
+    /**
+     * Obtiene la paleta sobre la que se aplicó la neblina.
+     *
+     * @return la paleta objetivo, o null si el efecto no está activo
+     */
+    public Paleta obtenerPaletaObjetivo() {
+        return paletaObjetivo;
+    }
+
     /**
      * Renderiza el efecto de neblina en el canvas.
      *
@@ -168,7 +178,7 @@ public class ItemNeblina implements Item {
         double ancho = paleta.obtenerAncho();
 
         gc.setFill(colorNeblina);
-        gc.fillRect(x, 0, ancho, gc.getCanvas().getHeight());
+        gc.fillRect(x, 0, ancho, CampoJuego.ALTO);
     }
 
     /**
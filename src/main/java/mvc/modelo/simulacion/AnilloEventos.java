@@ -0,0 +1,293 @@
+package mvc.modelo.simulacion;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import mvc.modelo.enums.TipoEventoJuego;
+
+/**
+ * Anillo de eventos de juego sin bloqueos, con un productor y un
+ * consumidor.
+ * <p>
+ * El hilo de simulacion publica cada golpe, gol o item en el momento en que
+ * ocurre, y el hilo de JavaFX drena el anillo una vez por fotograma y
+ * reparte los eventos entre las particulas, el sonido y los indicadores.
+ * Los campos de los eventos se guardan en arreglos paralelos reservados al
+ * crear el anillo, de modo que publicar no asigna memoria ni toma cerrojos:
+ * el productor escribe los campos y despues avanza su contador con
+ * {@link AtomicLong#lazySet(long)}, que los hace visibles al consumidor que
+ * lea ese contador. El consumidor libera las posiciones del mismo modo.
+ * </p>
+ * <p>
+ * Si el consumidor se atrasa y el anillo se llena, el evento nuevo se
+ * descarta y se cuenta; la simulacion nunca espera a la vista.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class AnilloEventos {
+
+    /** Capacidad por defecto: sobra para varios fotogramas de eventos. */
+    public static final int CAPACIDAD_DEFECTO = 1024;
+
+    private static final TipoEventoJuego[] TIPOS = TipoEventoJuego.values();
+
+    /**
+     * Recibe los eventos drenados del anillo.
+     */
+    @FunctionalInterface
+    public interface Consumidor {
+
+        /**
+         * Procesa un evento. La vista solo es valida durante la llamada.
+         *
+         * @param evento evento a procesar
+         */
+        void alEvento(Evento evento);
+    }
+
+    /**
+     * Vista reutilizable de la posicion que se esta drenando; cada llamada
+     * al consumidor la apunta a otra posicion en lugar de crear un objeto.
+     */
+    public final class Evento {
+
+        private int indice;
+
+        private Evento() {
+        }
+
+        /**
+         * Obtiene el tipo del evento.
+         *
+         * @return tipo del evento
+         */
+        public TipoEventoJuego obtenerTipo() {
+            return TIPOS[tipo[indice]];
+        }
+
+        /**
+         * Obtiene el jugador involucrado.
+         *
+         * @return 1 o 2, o 0 si el evento no corresponde a un jugador
+         */
+        public int obtenerJugador() {
+            return jugador[indice];
+        }
+
+        /**
+         * Obtiene el valor entero del evento: el puntaje nuevo en un gol y la
+         * resistencia previa en los eventos de bloque.
+         *
+         * @return valor del evento
+         */
+        public int obtenerValor() {
+            return valor[indice];
+        }
+
+        /**
+         * Obtiene la coordenada X del evento.
+         *
+         * @return posicion X del impacto o esquina del rectangulo afectado
+         */
+        public double obtenerX() {
+            return x[indice];
+        }
+
+        /**
+         * Obtiene la coordenada Y del evento.
+         *
+         * @return posicion Y del impacto o esquina del rectangulo afectado
+         */
+        public double obtenerY() {
+            return y[indice];
+        }
+
+        /**
+         * Obtiene el ancho del rectangulo afectado.
+         *
+         * @return ancho, o 0 para eventos puntuales
+         */
+        public double obtenerAncho() {
+            return ancho[indice];
+        }
+
+        /**
+         * Obtiene el alto del rectangulo afectado.
+         *
+         * @return alto, o 0 para eventos puntuales
+         */
+        public double obtenerAlto() {
+            return alto[indice];
+        }
+
+        /**
+         * Obtiene la componente X de la normal del impacto.
+         *
+         * @return componente X, o 0 si el evento no es un impacto
+         */
+        public double obtenerNormalX() {
+            return normalX[indice];
+        }
+
+        /**
+         * Obtiene la componente Y de la normal del impacto.
+         *
+         * @return componente Y, o 0 si el evento no es un impacto
+         */
+        public double obtenerNormalY() {
+            return normalY[indice];
+        }
+    }
+
+    private final int mascara;
+    private final int[] tipo;
+    private final int[] jugador;
+    private final int[] valor;
+    private final double[] x;
+    private final double[] y;
+    private final double[] ancho;
+    private final double[] alto;
+    private final double[] normalX;
+    private final double[] normalY;
+    private final Evento evento;
+
+    /** Eventos publicados; solo lo escribe el productor. */
+    private final AtomicLong escritos = new AtomicLong();
+
+    /** Eventos consumidos; solo lo escribe el consumidor. */
+    private final AtomicLong leidos = new AtomicLong();
+
+    private volatile long descartados;
+
+    /**
+     * Crea un anillo con la capacidad por defecto.
+     */
+    public AnilloEventos() {
+        this(CAPACIDAD_DEFECTO);
+    }
+
+    /**
+     * Crea un anillo con la capacidad indicada.
+     *
+     * @param capacidad cantidad de eventos pendientes que admite; potencia de dos
+     * @throws IllegalArgumentException si la capacidad no es una potencia de dos positiva
+     */
+    public AnilloEventos(final int capacidad) {
+        if (capacidad <= 0 || Integer.bitCount(capacidad) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser una potencia de dos: " + capacidad);
+        }
+        this.mascara = capacidad - 1;
+        this.tipo = new int[capacidad];
+        this.jugador = new int[capacidad];
+        this.valor = new int[capacidad];
+        this.x = new double[capacidad];
+        this.y = new double[capacidad];
+        this.ancho = new double[capacidad];
+        this.alto = new double[capacidad];
+        this.normalX = new double[capacidad];
+        this.normalY = new double[capacidad];
+        this.evento = new Evento();
+    }
+
+    /**
+     * Publica un evento. Solo debe llamarse desde el hilo productor.
+     *
+     * @param tipoEvento tipo del evento
+     * @param jugadorEvento jugador involucrado, o 0
+     * @param valorEvento valor entero del evento
+     * @param posicionX coordenada X del impacto o del rectangulo
+     * @param posicionY coordenada Y del impacto o del rectangulo
+     * @param anchoEvento ancho del rectangulo, o 0
+     * @param altoEvento alto del rectangulo, o 0
+     * @param normalImpactoX componente X de la normal del impacto, o 0
+     * @param normalImpactoY componente Y de la normal del impacto, o 0
+     * @return true si se publico; false si el anillo estaba lleno y se descarto
+     */
+    public boolean publicar(final TipoEventoJuego tipoEvento, final int jugadorEvento, final int valorEvento,
+                            final double posicionX, final double posicionY,
+                            final double anchoEvento, final double altoEvento,
+                            final double normalImpactoX, final double normalImpactoY) {
+        final long posicion = escritos.get();
+        if (posicion - leidos.get() > mascara) {
+            descartados++;
+            return false;
+        }
+        final int i = (int) posicion & mascara;
+        tipo[i] = tipoEvento.ordinal();
+        jugador[i] = jugadorEvento;
+        valor[i] = valorEvento;
+        x[i] = posicionX;
+        y[i] = posicionY;
+        ancho[i] = anchoEvento;
+        alto[i] = altoEvento;
+        normalX[i] = normalImpactoX;
+        normalY[i] = normalImpactoY;
+        escritos.lazySet(posicion + 1);
+        return true;
+    }
+
+    /**
+     * Entrega al consumidor los eventos publicados hasta este momento, en
+     * orden, y libera sus posiciones. Los que se publiquen mientras tanto
+     * quedan para el siguiente drenado. Solo debe llamarse desde el hilo
+     * consumidor.
+     *
+     * @param consumidor receptor de cada evento
+     * @return cantidad de eventos entregados
+     */
+    public int drenar(final Consumidor consumidor) {
+        final long desde = leidos.get();
+        final long hasta = escritos.get();
+        for (long posicion = desde; posicion < hasta; posicion++) {
+            evento.indice = (int) posicion & mascara;
+            consumidor.alEvento(evento);
+        }
+        leidos.lazySet(hasta);
+        return (int) (hasta - desde);
+    }
+
+    /**
+     * Libera los eventos pendientes sin entregarlos, por ejemplo al
+     * reiniciar la partida. Solo debe llamarse desde el hilo consumidor.
+     */
+    public void descartar() {
+        leidos.lazySet(escritos.get());
+    }
+
+    /**
+     * Obtiene la cantidad de eventos publicados y aun no drenados.
+     *
+     * @return eventos pendientes
+     */
+    public int obtenerPendientes() {
+        return (int) (escritos.get() - leidos.get());
+    }
+
+    /**
+     * Obtiene la cantidad total de eventos publicados.
+     *
+     * @return eventos publicados desde la creacion
+     */
+    public long obtenerPublicados() {
+        return escritos.get();
+    }
+
+    /**
+     * Obtiene la cantidad de eventos descartados por anillo lleno.
+     *
+     * @return eventos descartados desde la creacion
+     */
+    public long obtenerDescartados() {
+        return descartados;
+    }
+
+    /**
+     * Obtiene la capacidad del anillo.
+     *
+     * @return cantidad maxima de eventos pendientes
+     */
+    public int obtenerCapacidad() {
+        return mascara + 1;
+    }
+}
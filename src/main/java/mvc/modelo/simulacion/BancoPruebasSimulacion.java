@@ -0,0 +1,725 @@
+package mvc.modelo.simulacion;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import io.vavr.collection.List;
+import mvc.modelo.ModeloJuego;
+import mvc.modelo.entidades.Bloque;
+import mvc.modelo.entidades.Nivel;
+import mvc.modelo.entidades.paleta.Paleta;
+import mvc.modelo.entidades.pelota.ConjuntoPelotas;
+import mvc.modelo.enums.ModoJuego;
+import mvc.modelo.items.Item;
+import patrones.builder.ConstructorMapa;
+import patrones.builder.TipoBloque;
+import patrones.factory.ia.DificultadIA;
+import patrones.factory.ia.ServicioIA;
+import patrones.observer.ObservadorJuego;
+import patrones.strategy.colision.EstrategiaColisionPelotaBloque;
+import patrones.strategy.colision.EstrategiaColisionPelotaPaleta;
+import patrones.strategy.colision.EstrategiaColisionPelotaPared;
+import patrones.strategy.colision.GestorColisiones;
+import patrones.strategy.colision.TablaColisiones;
+import patrones.singleton.ConfiguracionGlobal;
+
+/**
+ * Banco de pruebas del tick de simulacion sin interfaz grafica.
+ * <p>
+ * Mide con {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}
+ * la memoria que asigna cada tick completo de {@link BucleSimulacion} en una
+ * partida IA contra IA sobre un nivel denso. Los ticks en que ocurre un
+ * evento (punto, golpe a un bloque, item que aparece o expira, fin de partida)
+ * pueden asignar memoria legitimamente; en el resto, el camino estable, solo
+ * debe asignarse la instantanea publicada para la vista.
+ * </p>
+ * <p>
+ * Tambien mide como escala el costo por tick con la cantidad de bloques del
+ * nivel, para comprobar que la fase amplia de colisiones lo mantiene plano,
+ * y con la cantidad de pelotas del modo multipelota, que debe crecer de
+ * forma lineal. Para el avance paralelo de las pelotas mide la aceleracion
+ * con distintas cantidades de hilos y comprueba que el resultado sea
+ * identico bit a bit al del avance en serie.
+ * </p>
+ * <p>
+ * Solo mide la simulacion: los bancos del renderizado, de las particulas y
+ * del mezclador de efectos estan junto al codigo que miden, en el paquete
+ * {@code util}, cada uno con su propio programa principal, y usan los
+ * niveles y partidas publicos de esta clase. Termina con codigo 1 si la verificacion del modo fallo o si el tick
+ * estable asigno memoria en todos los intentos, para poder usarlo como
+ * verificacion automatica.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class BancoPruebasSimulacion {
+
+    /** Ticks que se ejecutan antes de medir, para que el JIT compile el camino caliente. */
+    private static final int TICKS_CALENTAMIENTO = 50_000;
+
+    /**
+     * Ticks de calentamiento de la medicion de asignaciones: bastantes
+     * partidas para que el JIT vea los caminos de eventos poco frecuentes y no
+     * desoptimice durante la medicion.
+     */
+    private static final int TICKS_CALENTAMIENTO_ASIGNACIONES = 200_000;
+
+    /** Ticks medidos por defecto. */
+    private static final int TICKS_MEDIDOS = 10_000;
+
+    /**
+     * Mediciones de asignaciones que se intentan antes de fallar. Cada partida
+     * es distinta, y cuando el JIT desoptimiza un metodo en un tick estable
+     * vuelve a crear en el heap los objetos que habia eliminado; una
+     * asignacion real del camino estable aparece en todos los intentos.
+     */
+    private static final int INTENTOS_ASIGNACIONES = 3;
+
+    /** Duracion de un tick a la frecuencia de simulacion por defecto, en segundos. */
+    public static final double PASO = 1.0 / ConfiguracionGlobal.FRECUENCIA_SIMULACION_DEFECTO;
+
+    /** Cantidades de bloques que se comparan en la medicion de escalado. */
+    private static final int[] CANTIDADES_ESCALADO = {100, 500, 1_000, 2_000, 5_000};
+
+    /** Cantidades de pelotas adicionales que se comparan en la prueba de carga. */
+    private static final int[] CANTIDADES_MULTIPELOTA = {0, 1_000, 2_000, 4_000, 8_000};
+
+    /** Bloques indestructibles del nivel de la prueba de carga. */
+    public static final int BLOQUES_MULTIPELOTA = 500;
+
+    /** Hilos que se comparan en la medicion del avance paralelo. */
+    private static final int[] HILOS_PARALELO = {1, 2, 4, 8};
+
+    /** Pelotas adicionales de la medicion del avance paralelo. */
+    private static final int PELOTAS_PARALELO = 4_000;
+
+    /** Semilla de los items de la verificacion de determinismo, igual en ambas partidas. */
+    private static final long SEMILLA_ITEMS = 0x4954454DL;
+
+    /** Margen lateral que se deja libre delante de cada paleta. */
+    private static final double MARGEN_PALETAS = 100.0;
+
+    /**
+     * Resultado de una medicion de asignaciones.
+     *
+     * @param ticks ticks medidos
+     * @param ticksConEventos ticks en los que ocurrio algun evento de juego
+     * @param bytesTotales bytes asignados en todos los ticks medidos
+     * @param bytesPublicacion bytes de las instantaneas publicadas en los ticks sin eventos
+     * @param bytesEstables bytes asignados en los ticks sin eventos, aparte de la instantanea
+     * @param bloques bloques del nivel al iniciar la medicion
+     * @param eventosAnillo eventos publicados y drenados por el {@link AnilloEventos}
+     */
+    public record ResultadoAsignaciones(int ticks, int ticksConEventos, long bytesTotales,
+                                        long bytesPublicacion, long bytesEstables, int bloques,
+                                        long eventosAnillo) {
+
+        /**
+         * Indica si el camino estable no asigno memoria aparte de la instantanea.
+         *
+         * @return true si los ticks sin eventos no asignaron nada mas
+         */
+        public boolean sinAsignacionesEstables() {
+            return bytesEstables == 0L;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "Ticks medidos: %d (%d con eventos) sobre %d bloques%n"
+                    + "Bytes asignados: %d en total, %d en ticks estables aparte de %d de instantaneas%n"
+                    + "Eventos drenados del anillo: %d",
+                ticks, ticksConEventos, bloques, bytesTotales, bytesEstables, bytesPublicacion, eventosAnillo);
+        }
+    }
+
+    /**
+     * Costo medio por tick sobre un nivel con una cantidad dada de bloques.
+     *
+     * @param bloques bloques del nivel
+     * @param ticks ticks medidos
+     * @param nanosPorTick tiempo medio de {@link ModeloJuego#actualizar(double)}
+     */
+    public record ResultadoEscalado(int bloques, int ticks, double nanosPorTick) {
+
+        @Override
+        public String toString() {
+            return String.format("%6d bloques: %8.1f ns/tick", bloques, nanosPorTick);
+        }
+    }
+
+    /**
+     * Costo medio por tick con una cantidad dada de pelotas adicionales.
+     *
+     * @param pelotas pelotas adicionales en juego
+     * @param ticks ticks medidos
+     * @param nanosPorTick tiempo medio de {@link ModeloJuego#actualizar(double)}
+     */
+    public record ResultadoMultiPelota(int pelotas, int ticks, double nanosPorTick) {
+
+        /**
+         * Fraccion de cada segundo real que ocupa la simulacion a la
+         * frecuencia por defecto; debe quedar por debajo de 1 para no
+         * atrasarse respecto del reloj.
+         *
+         * @return fraccion del tiempo real usada por la simulacion
+         */
+        public double fraccionTiempoReal() {
+            return nanosPorTick * ConfiguracionGlobal.FRECUENCIA_SIMULACION_DEFECTO / 1e9;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%6d pelotas: %10.1f ns/tick, %6.1f ns/pelota, %5.1f%% del tiempo real",
+                pelotas, nanosPorTick, pelotas > 0 ? nanosPorTick / pelotas : 0.0, 100 * fraccionTiempoReal());
+        }
+    }
+
+    /**
+     * Costo medio por tick del avance de las pelotas con una cantidad de hilos.
+     *
+     * @param hilos hilos del pool; 1 es el avance en serie
+     * @param pelotas pelotas adicionales en juego
+     * @param nanosPorTick tiempo medio de {@link ModeloJuego#actualizar(double)}
+     * @param aceleracion tiempo en serie dividido por este tiempo
+     * @param identico true si el resultado coincidio bit a bit con el avance en serie
+     */
+    public record ResultadoParalelo(int hilos, int pelotas, double nanosPorTick, double aceleracion,
+                                    boolean identico) {
+
+        @Override
+        public String toString() {
+            return String.format("%2d hilos, %5d pelotas: %10.1f ns/tick, aceleracion %4.2fx, %s",
+                hilos, pelotas, nanosPorTick, aceleracion, identico ? "identico al serie" : "DIFIERE del serie");
+        }
+    }
+
+    private BancoPruebasSimulacion() {
+    }
+
+    /**
+     * Mide las asignaciones por tick de una partida IA contra IA.
+     * <p>
+     * Cada tick se ejecuta con {@link BucleSimulacion#ejecutarTickSincrono()},
+     * es decir comandos, entrada, actualizacion del modelo y publicacion de la
+     * instantanea. En los ticks sin eventos se publica ademas el mismo estado
+     * con {@link BucleSimulacion#publicarEstadoActual()}, que captura una
+     * instantanea identica, y su costo se descuenta del tick: lo que queda debe
+     * ser cero.
+     * </p>
+     * <p>
+     * El modelo publica sus eventos en un {@link AnilloEventos} que se drena
+     * tras cada tick, de modo que los golpes de paleta y pared, que no
+     * cuentan como eventos, tambien deben publicarse sin asignar memoria.
+     * </p>
+     *
+     * @param nivel nivel a jugar; no se modifica
+     * @param ticks cantidad de ticks a medir
+     * @return resultado de la medicion
+     * @throws IllegalStateException si la JVM no permite medir asignaciones por hilo
+     */
+    public static ResultadoAsignaciones medirAsignaciones(final Nivel nivel, final int ticks) {
+        final com.sun.management.ThreadMXBean mx =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!mx.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("La JVM no permite medir asignaciones por hilo");
+        }
+        mx.setThreadAllocatedMemoryEnabled(true);
+
+        final ContadorEventos eventos = new ContadorEventos();
+        final AnilloEventos anillo = new AnilloEventos();
+        final AnilloEventos.Consumidor descartarEvento = evento -> { };
+        ModeloJuego modelo = crearModelo(nivel, eventos);
+        modelo.establecerAnilloEventos(anillo);
+        BucleSimulacion bucle = crearBucle(modelo);
+        for (int i = 0; i < TICKS_CALENTAMIENTO_ASIGNACIONES; i++) {
+            if (!modelo.estaActivo()) {
+                modelo = crearModelo(nivel, eventos);
+                modelo.establecerAnilloEventos(anillo);
+                bucle = crearBucle(modelo);
+            }
+            bucle.ejecutarTickSincrono();
+            bucle.publicarEstadoActual();
+            anillo.drenar(descartarEvento);
+        }
+
+        modelo = crearModelo(nivel, eventos);
+        modelo.establecerAnilloEventos(anillo);
+        bucle = crearBucle(modelo);
+        final int bloques = modelo.obtenerAlmacenBloques().cantidad();
+
+        long bytesTotales = 0L;
+        long bytesPublicacion = 0L;
+        long bytesEstables = 0L;
+        long eventosAnillo = 0L;
+        int ticksConEventos = 0;
+        for (int i = 0; i < ticks && modelo.estaActivo(); i++) {
+            final long eventosAntes = eventos.total + modelo.obtenerVersionBloques();
+            final int bloquesAntes = modelo.obtenerAlmacenBloques().cantidad();
+            final List<?> itemsAntes = modelo.obtenerListaItems();
+            final long antes = mx.getCurrentThreadAllocatedBytes();
+            bucle.ejecutarTickSincrono();
+            eventosAnillo += anillo.drenar(descartarEvento);
+            final long asignados = mx.getCurrentThreadAllocatedBytes() - antes;
+
+            bytesTotales += asignados;
+            final boolean huboEvento = eventos.total + modelo.obtenerVersionBloques() != eventosAntes
+                || modelo.obtenerAlmacenBloques().cantidad() != bloquesAntes
+                || modelo.obtenerListaItems() != itemsAntes;
+            if (huboEvento) {
+                ticksConEventos++;
+            } else {
+                final long antesPublicacion = mx.getCurrentThreadAllocatedBytes();
+                bucle.publicarEstadoActual();
+                final long publicacion = mx.getCurrentThreadAllocatedBytes() - antesPublicacion;
+                bytesPublicacion += publicacion;
+                bytesEstables += asignados - publicacion;
+            }
+        }
+        return new ResultadoAsignaciones(ticks, ticksConEventos, bytesTotales, bytesPublicacion, bytesEstables,
+            bloques, eventosAnillo);
+    }
+
+    /**
+     * Crea un bucle reanudado para ejecutar ticks en el hilo llamador.
+     *
+     * @param modelo modelo a simular
+     * @return bucle sin hilo propio
+     */
+    private static BucleSimulacion crearBucle(final ModeloJuego modelo) {
+        final BucleSimulacion bucle = new BucleSimulacion(modelo, ConfiguracionGlobal.FRECUENCIA_SIMULACION_DEFECTO);
+        bucle.reanudar();
+        return bucle;
+    }
+
+    /**
+     * Mide el tiempo medio por tick sobre niveles uniformes de distinto tamano.
+     * <p>
+     * Los niveles cubren todo el campo entre las paletas con bloques
+     * indestructibles, de modo que la cantidad de bloques no cambia durante la
+     * medicion y la pelota siempre esta rodeada de ellos.
+     * </p>
+     *
+     * @param cantidades cantidades de bloques a comparar
+     * @param ticks ticks medidos por cada nivel
+     * @return un resultado por cantidad, en el mismo orden
+     */
+    public static List<ResultadoEscalado> medirEscalado(final int[] cantidades, final int ticks) {
+        List<ResultadoEscalado> resultados = List.empty();
+        for (final int cantidad : cantidades) {
+            final Nivel nivel = construirNivelUniforme(cantidad);
+            final ContadorEventos eventos = new ContadorEventos();
+            ModeloJuego modelo = crearModelo(nivel, eventos);
+            for (int i = 0; i < TICKS_CALENTAMIENTO; i++) {
+                if (!modelo.estaActivo()) {
+                    modelo = crearModelo(nivel, eventos);
+                }
+                modelo.actualizar(PASO);
+            }
+
+            modelo = crearModelo(nivel, eventos);
+            final int bloques = modelo.obtenerAlmacenBloques().cantidad();
+            int medidos = 0;
+            final long inicio = System.nanoTime();
+            for (; medidos < ticks && modelo.estaActivo(); medidos++) {
+                modelo.actualizar(PASO);
+            }
+            final long nanos = System.nanoTime() - inicio;
+            resultados = resultados.append(
+                new ResultadoEscalado(bloques, medidos, medidos > 0 ? (double) nanos / medidos : 0.0));
+        }
+        return resultados;
+    }
+
+    /**
+     * Mide el tiempo medio por tick con distintas cantidades de pelotas adicionales.
+     * <p>
+     * Se juega sobre un nivel uniforme de bloques indestructibles, de modo que
+     * las pelotas rebotan entre bloques todo el tiempo. Las pelotas que anotan
+     * se reponen antes de cada tick para mantener la cantidad constante.
+     * </p>
+     *
+     * @param cantidades cantidades de pelotas a comparar
+     * @param ticks ticks medidos por cada cantidad
+     * @return un resultado por cantidad, en el mismo orden
+     */
+    public static List<ResultadoMultiPelota> medirMultiPelota(final int[] cantidades, final int ticks) {
+        final Nivel nivel = construirNivelUniforme(BLOQUES_MULTIPELOTA);
+        List<ResultadoMultiPelota> resultados = List.empty();
+        for (final int cantidad : cantidades) {
+            resultados = resultados.append(
+                new ResultadoMultiPelota(cantidad, ticks, medirTickMultiPelota(nivel, cantidad, ticks, null)));
+        }
+        return resultados;
+    }
+
+    /**
+     * Mide la aceleracion del avance paralelo de las pelotas adicionales.
+     * <p>
+     * Para cada cantidad de hilos mide el tiempo por tick como
+     * {@link #medirMultiPelota(int[], int)} y comprueba con
+     * {@link #verificarDeterminismo(int, ForkJoinPool, int)} que el resultado
+     * sea identico al del avance en serie. Con un hilo se usa el avance en
+     * serie, que es la referencia de la aceleracion. La aceleracion esta
+     * acotada por los nucleos de la maquina, no por los hilos pedidos.
+     * </p>
+     *
+     * @param hilos cantidades de hilos a comparar
+     * @param pelotas pelotas adicionales en juego
+     * @param ticks ticks medidos por cada cantidad de hilos
+     * @return un resultado por cantidad de hilos, en el mismo orden
+     */
+    public static List<ResultadoParalelo> medirParalelo(final int[] hilos, final int pelotas, final int ticks) {
+        final Nivel nivel = construirNivelUniforme(BLOQUES_MULTIPELOTA);
+        final double serie = medirTickMultiPelota(nivel, pelotas, ticks, null);
+        List<ResultadoParalelo> resultados = List.empty();
+        for (final int cantidadHilos : hilos) {
+            if (cantidadHilos <= 1) {
+                resultados = resultados.append(new ResultadoParalelo(1, pelotas, serie, 1.0, true));
+                continue;
+            }
+            final ForkJoinPool pool = new ForkJoinPool(cantidadHilos);
+            try {
+                final double nanos = medirTickMultiPelota(nivel, pelotas, ticks, pool);
+                final boolean identico = verificarDeterminismo(pelotas, pool, Math.min(ticks, 2_000));
+                resultados = resultados.append(
+                    new ResultadoParalelo(cantidadHilos, pelotas, nanos, serie / nanos, identico));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        return resultados;
+    }
+
+    /**
+     * Compara, tick a tick, una partida que avanza las pelotas en serie con
+     * otra identica que las avanza con un pool.
+     * <p>
+     * Se juega sobre un nivel denso de bloques destructibles y bonus, para
+     * que los daños, las destrucciones, los puntos y los items se resuelvan
+     * en ambas partidas: los items agrandan paletas y dividen pelotas a mitad
+     * del tick. Cada partida usa la estrategia pelota-bloque del juego con un
+     * generador de items de la misma semilla. La pelota principal queda quieta
+     * y las paletas solo cambian por los items, porque el relanzamiento de la
+     * pelota y el error de la IA usan numeros aleatorios que no se pueden
+     * repetir. Se comparan bit a bit las posiciones y velocidades de todas las
+     * pelotas, los puntajes, el tamaño de las paletas y la resistencia de cada
+     * bloque.
+     * </p>
+     *
+     * @param pelotas pelotas adicionales con las que empieza la partida
+     * @param pool pool del avance paralelo
+     * @param ticks ticks a comparar
+     * @return true si ambas partidas coincidieron en todos los ticks
+     */
+    public static boolean verificarDeterminismo(final int pelotas, final ForkJoinPool pool, final int ticks) {
+        final Nivel nivel = construirNivelConBonus(12, 10);
+        final ModeloJuego serie = crearModeloDeterminista(nivel, pelotas, null);
+        final ModeloJuego paralelo = crearModeloDeterminista(nivel, pelotas, pool);
+        for (int i = 0; i < ticks && serie.estaActivo(); i++) {
+            serie.actualizar(PASO);
+            paralelo.actualizar(PASO);
+            if (!mismoEstado(serie, paralelo)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ModeloJuego crearModeloDeterminista(final Nivel nivel, final int pelotas,
+                                                       final ForkJoinPool pool) {
+        final ModeloJuego modelo = new ModeloJuego();
+        modelo.inicializarEntidadesJuego(PartidaHeadless.ANCHO_CAMPO, PartidaHeadless.ALTO_CAMPO)
+            .getOrElseThrow(() -> new IllegalStateException("No se pudieron crear las entidades"));
+        modelo.establecerNivel(nivel.clonar());
+        modelo.reiniciarValoresJuego();
+        modelo.establecerModo(ModoJuego.DOS_JUGADORES);
+
+        final GestorColisiones gestor = new GestorColisiones(new TablaColisiones()
+            .registrar(new EstrategiaColisionPelotaPared(PartidaHeadless.ANCHO_CAMPO, PartidaHeadless.ALTO_CAMPO))
+            .registrar(new EstrategiaColisionPelotaPaleta())
+            .registrar(new EstrategiaColisionPelotaBloque(new Random(SEMILLA_ITEMS))));
+        gestor.establecerPoolParalelo(pool);
+        gestor.establecerUmbralParalelo(1);
+        modelo.establecerGestorColisiones(gestor);
+
+        modelo.dividirPelota(pelotas);
+        modelo.obtenerPelota().establecerActivo(false);
+        return modelo;
+    }
+
+    private static boolean mismoEstado(final ModeloJuego a, final ModeloJuego b) {
+        if (a.obtenerPuntaje1() != b.obtenerPuntaje1() || a.obtenerPuntaje2() != b.obtenerPuntaje2()
+            || a.obtenerItems().size() != b.obtenerItems().size()
+            || !mismaPaleta(a.obtenerJugador1(), b.obtenerJugador1())
+            || !mismaPaleta(a.obtenerJugador2(), b.obtenerJugador2())) {
+            return false;
+        }
+        final ConjuntoPelotas pelotasA = a.obtenerPelotasExtra();
+        final ConjuntoPelotas pelotasB = b.obtenerPelotasExtra();
+        if (pelotasA.cantidad() != pelotasB.cantidad()) {
+            return false;
+        }
+        for (int i = 0; i < pelotasA.cantidad(); i++) {
+            if (Double.doubleToRawLongBits(pelotasA.obtenerXEn(i)) != Double.doubleToRawLongBits(pelotasB.obtenerXEn(i))
+                || Double.doubleToRawLongBits(pelotasA.obtenerYEn(i)) != Double.doubleToRawLongBits(pelotasB.obtenerYEn(i))
+                || Double.doubleToRawLongBits(pelotasA.obtenerVelocidadXEn(i))
+                    != Double.doubleToRawLongBits(pelotasB.obtenerVelocidadXEn(i))
+                || Double.doubleToRawLongBits(pelotasA.obtenerVelocidadYEn(i))
+                    != Double.doubleToRawLongBits(pelotasB.obtenerVelocidadYEn(i))) {
+                return false;
+            }
+        }
+        if (a.obtenerAlmacenBloques().cantidad() != b.obtenerAlmacenBloques().cantidad()) {
+            return false;
+        }
+        for (int i = 0; i < a.obtenerAlmacenBloques().cantidad(); i++) {
+            if (a.obtenerAlmacenBloques().obtenerResistenciaEn(i) != b.obtenerAlmacenBloques().obtenerResistenciaEn(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean mismaPaleta(final Paleta a, final Paleta b) {
+        return Double.doubleToRawLongBits(a.obtenerY()) == Double.doubleToRawLongBits(b.obtenerY())
+            && Double.doubleToRawLongBits(a.obtenerAncho()) == Double.doubleToRawLongBits(b.obtenerAncho())
+            && Double.doubleToRawLongBits(a.obtenerAlto()) == Double.doubleToRawLongBits(b.obtenerAlto());
+    }
+
+    /**
+     * Mide el tiempo medio por tick con una cantidad constante de pelotas
+     * adicionales; las que anotan se reponen antes de cada tick.
+     *
+     * @param pool pool del avance paralelo, o null para avanzar en serie
+     */
+    private static double medirTickMultiPelota(final Nivel nivel, final int cantidad, final int ticks,
+                                               final ForkJoinPool pool) {
+        final ContadorEventos eventos = new ContadorEventos();
+        ModeloJuego modelo = crearModelo(nivel, eventos, pool);
+        for (int i = 0; i < TICKS_CALENTAMIENTO / 10; i++) {
+            if (!modelo.estaActivo()) {
+                modelo = crearModelo(nivel, eventos, pool);
+            }
+            reponerPelotas(modelo, cantidad);
+            modelo.actualizar(PASO);
+        }
+
+        modelo = crearModelo(nivel, eventos, pool);
+        int medidos = 0;
+        long nanos = 0L;
+        for (; medidos < ticks && modelo.estaActivo(); medidos++) {
+            reponerPelotas(modelo, cantidad);
+            final long inicio = System.nanoTime();
+            modelo.actualizar(PASO);
+            nanos += System.nanoTime() - inicio;
+        }
+        return medidos > 0 ? (double) nanos / medidos : 0.0;
+    }
+
+    /**
+     * Agrega pelotas adicionales hasta llegar a la cantidad indicada.
+     *
+     * @param modelo modelo a completar
+     * @param cantidad pelotas adicionales que debe tener
+     */
+    public static void reponerPelotas(final ModeloJuego modelo, final int cantidad) {
+        final int faltantes = cantidad - modelo.obtenerPelotasExtra().cantidad();
+        if (faltantes > 0) {
+            modelo.dividirPelota(faltantes);
+        }
+    }
+
+    /**
+     * Construye un nivel que reparte aproximadamente {@code cantidad} bloques
+     * indestructibles en una rejilla regular sobre todo el campo entre las paletas.
+     * El tamano de cada bloque se reduce para que entren todos.
+     *
+     * @param cantidad cantidad aproximada de bloques
+     * @return el nivel construido
+     * @throws IllegalArgumentException si la cantidad no es positiva
+     */
+    public static Nivel construirNivelUniforme(final int cantidad) {
+        if (cantidad <= 0) {
+            throw new IllegalArgumentException("La cantidad de bloques debe ser positiva: " + cantidad);
+        }
+        final double anchoZona = PartidaHeadless.ANCHO_CAMPO - 2 * MARGEN_PALETAS;
+        final double altoZona = PartidaHeadless.ALTO_CAMPO;
+        final double lado = Math.sqrt(anchoZona * altoZona / cantidad);
+        final int columnas = Math.max(1, (int) (anchoZona / lado));
+        final int filas = Math.max(1, (int) Math.ceil((double) cantidad / columnas));
+        final double pasoX = anchoZona / columnas;
+        final double pasoY = altoZona / filas;
+
+        final Nivel nivel = new Nivel();
+        nivel.setNombre("Nivel Uniforme " + cantidad);
+        nivel.setBloques(new java.util.ArrayList<>());
+        for (int i = 0; i < cantidad; i++) {
+            final int fila = i / columnas;
+            final int columna = i % columnas;
+            nivel.agregarBloque(new Bloque(
+                MARGEN_PALETAS + columna * pasoX,
+                fila * pasoY,
+                pasoX * 0.6,
+                pasoY * 0.6,
+                999,
+                TipoBloque.INDESTRUCTIBLE));
+        }
+        return nivel;
+    }
+
+    /**
+     * Construye un nivel con una rejilla de bloques destructibles en el centro del campo.
+     *
+     * @param filas filas de la rejilla
+     * @param columnas columnas de la rejilla
+     * @return el nivel construido
+     */
+    public static Nivel construirNivelDenso(final int filas, final int columnas) {
+        final ConstructorMapa constructor = new ConstructorMapa().reiniciar();
+        constructor.establecerNombre("Nivel Denso " + filas + "x" + columnas);
+        final double anchoRejilla = columnas * 55.0;
+        final double inicioX = (PartidaHeadless.ANCHO_CAMPO - anchoRejilla) / 2.0;
+        for (int fila = 0; fila < filas; fila++) {
+            for (int columna = 0; columna < columnas; columna++) {
+                constructor.agregarBloqueDestructible(inicioX + columna * 55.0, 5.0 + fila * 24.0);
+            }
+        }
+        return constructor.construir();
+    }
+
+    /**
+     * Construye un nivel como {@link #construirNivelDenso(int, int)} en el que
+     * los bloques bonus, que generan un item al romperse, se alternan con los
+     * destructibles como en un tablero.
+     *
+     * @param filas filas de la rejilla
+     * @param columnas columnas de la rejilla
+     * @return el nivel construido
+     */
+    public static Nivel construirNivelConBonus(final int filas, final int columnas) {
+        final ConstructorMapa constructor = new ConstructorMapa().reiniciar();
+        constructor.establecerNombre("Nivel Bonus " + filas + "x" + columnas);
+        final double anchoRejilla = columnas * 55.0;
+        final double inicioX = (PartidaHeadless.ANCHO_CAMPO - anchoRejilla) / 2.0;
+        for (int fila = 0; fila < filas; fila++) {
+            for (int columna = 0; columna < columnas; columna++) {
+                constructor.agregarBloque(inicioX + columna * 55.0, 5.0 + fila * 24.0,
+                    (fila + columna) % 2 == 0 ? TipoBloque.BONUS : TipoBloque.DESTRUCTIBLE);
+            }
+        }
+        return constructor.construir();
+    }
+
+    private static ModeloJuego crearModelo(final Nivel nivel, final ObservadorJuego observador,
+                                           final ForkJoinPool pool) {
+        final ModeloJuego modelo = crearModelo(nivel, observador);
+        modelo.obtenerGestorColisiones().forEach(gestor -> gestor.establecerPoolParalelo(pool));
+        return modelo;
+    }
+
+    /**
+     * Crea una partida IA contra IA sobre una copia del nivel.
+     *
+     * @param nivel nivel a jugar; no se modifica
+     * @param observador observador de los eventos de la partida
+     * @return el modelo listo para actualizar
+     */
+    public static ModeloJuego crearModelo(final Nivel nivel, final ObservadorJuego observador) {
+        final ModeloJuego modelo = new ModeloJuego();
+        modelo.inicializarEntidadesJuego(PartidaHeadless.ANCHO_CAMPO, PartidaHeadless.ALTO_CAMPO)
+            .getOrElseThrow(() -> new IllegalStateException("No se pudieron crear las entidades"));
+        modelo.establecerNivel(nivel.clonar());
+        modelo.reiniciarValoresJuego();
+        modelo.establecerModo(ModoJuego.IA_CONTRA_IA);
+        modelo.establecerServicioIAJugador1(new ServicioIA(DificultadIA.NIVEL_10));
+        modelo.establecerServicioIA(new ServicioIA(DificultadIA.NIVEL_10));
+        modelo.agregarObservador(observador);
+        return modelo;
+    }
+
+    /**
+     * Cuenta los eventos de juego para distinguir los ticks que pueden asignar memoria.
+     */
+    public static final class ContadorEventos implements ObservadorJuego {
+
+        private long total;
+
+        @Override
+        public void alcambiarPuntaje(final int jugador, final int nuevoPuntaje) {
+            total++;
+        }
+
+        @Override
+        public void alTerminarJuego(final int ganador) {
+            total++;
+        }
+
+        @Override
+        public void alCompletarNivel() {
+            total++;
+        }
+
+        @Override
+        public void alGenrarItem(final Item item) {
+            total++;
+        }
+    }
+
+    /**
+     * Punto de entrada. Argumentos opcionales: cantidad de ticks a medir
+     * (10000) y un modo que agrega una medicion antes de la de asignaciones,
+     * que siempre se hace:
+     * <ul>
+     *   <li>{@code escalado}: costo por tick sobre niveles de 100 a 5000 bloques.</li>
+     *   <li>{@code multipelota}: costo por tick con 0 a 8000 pelotas adicionales.</li>
+     *   <li>{@code paralelo}: aceleracion del avance de 4000 pelotas con 1, 2, 4
+     *       y 8 hilos; falla si el resultado difiere del avance en serie.</li>
+     * </ul>
+     *
+     * @param args argumentos de la linea de comandos
+     */
+    public static void main(final String[] args) {
+        final int ticks = args.length > 0 ? Integer.parseInt(args[0]) : TICKS_MEDIDOS;
+        if (args.length > 1 && !ejecutarModo(args[1].toLowerCase(java.util.Locale.ROOT), ticks)) {
+            System.exit(1);
+        }
+        for (int intento = 1; intento <= INTENTOS_ASIGNACIONES; intento++) {
+            final ResultadoAsignaciones resultado = medirAsignaciones(construirNivelDenso(12, 10), ticks);
+            System.out.println(resultado);
+            if (resultado.sinAsignacionesEstables()) {
+                return;
+            }
+        }
+        System.err.println("El tick estable asigno memoria");
+        System.exit(1);
+    }
+
+    /**
+     * Ejecuta la medicion de un modo de {@link #main(String[])}. Un modo
+     * desconocido no mide nada.
+     *
+     * @return false si la verificacion del modo fallo
+     */
+    private static boolean ejecutarModo(final String modo, final int ticks) {
+        switch (modo) {
+            case "escalado" -> medirEscalado(CANTIDADES_ESCALADO, ticks).forEach(System.out::println);
+            case "multipelota" -> medirMultiPelota(CANTIDADES_MULTIPELOTA, ticks).forEach(System.out::println);
+            case "paralelo" -> {
+                System.out.println("Procesadores disponibles: " + Runtime.getRuntime().availableProcessors());
+                final List<ResultadoParalelo> resultados = medirParalelo(HILOS_PARALELO, PELOTAS_PARALELO, ticks);
+                resultados.forEach(System.out::println);
+                if (resultados.exists(r -> !r.identico())) {
+                    System.err.println("El avance paralelo difiere del avance en serie");
+                    return false;
+                }
+            }
+            default -> {
+                return true;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,338 @@
+package mvc.modelo.simulacion;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleConsumer;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import mvc.modelo.ModeloJuego;
+
+/**
+ * Bucle de simulacion de paso fijo que actualiza el {@link ModeloJuego}
+ * en un hilo dedicado, independiente del pulso de renderizado de JavaFX.
+ * <p>
+ * El hilo acumula el tiempo real transcurrido y ejecuta tantos ticks de
+ * duracion fija como correspondan, de modo que la fisica, las colisiones y
+ * la IA producen el mismo resultado sin importar la tasa de refresco del
+ * monitor. Tras cada tick se publica un {@link Fotograma} con la instantanea
+ * anterior y la actual para que la vista interpole entre ambas.
+ * </p>
+ * <p>
+ * Toda mutacion del modelo desde otros hilos debe hacerse mediante
+ * {@link #encolar(Runnable)} o con el bucle pausado, ya que
+ * {@link #pausar()} espera a que termine el tick en curso.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public class BucleSimulacion {
+
+    /** Frecuencia minima admitida en hercios. */
+    public static final int FRECUENCIA_MINIMA = 30;
+
+    /** Frecuencia maxima admitida en hercios. */
+    public static final int FRECUENCIA_MAXIMA = 1000;
+
+    /**
+     * Maximo de ticks que se recuperan en un ciclo; si el hilo se atrasa mas,
+     * el tiempo sobrante se descarta para evitar una espiral de recuperacion.
+     */
+    private static final int MAXIMO_TICKS_POR_CICLO = 8;
+
+    private static final long NANOSEGUNDOS_POR_SEGUNDO = 1_000_000_000L;
+
+    /**
+     * Par de instantaneas consecutivas publicadas por el hilo de simulacion.
+     *
+     * @param previa instantanea del tick anterior
+     * @param actual instantanea del ultimo tick
+     * @param instanteNanos marca de {@link System#nanoTime()} en que se publico {@code actual}
+     * @param periodoNanos duracion de un tick en nanosegundos
+     */
+    public record Fotograma(InstantaneaJuego previa, InstantaneaJuego actual,
+                            long instanteNanos, long periodoNanos) {
+
+        /**
+         * Calcula la fraccion del tick transcurrida en un instante dado,
+         * usada como factor de interpolacion entre {@code previa} y {@code actual}.
+         *
+         * @param ahoraNanos instante actual en nanosegundos
+         * @return fraccion en el rango [0, 1]
+         */
+        public double calcularAlfa(final long ahoraNanos) {
+            final double alfa = (double) (ahoraNanos - instanteNanos) / periodoNanos;
+            return Math.max(0.0, Math.min(1.0, alfa));
+        }
+    }
+
+    private final ModeloJuego modelo;
+    private final Queue<Runnable> comandos;
+    private final AtomicReference<Fotograma> fotograma;
+    private final ReentrantLock cerrojoTick;
+
+    private volatile long periodoNanos;
+    private volatile boolean pausado;
+    private volatile boolean ejecutando;
+    private volatile DoubleConsumer procesadorEntrada;
+
+    private Option<Thread> hilo;
+    private long tick;
+
+    /**
+     * Construye el bucle para un modelo con la frecuencia indicada.
+     * El bucle se crea pausado.
+     *
+     * @param modelo modelo a simular
+     * @param frecuenciaHz ticks por segundo
+     * @throws IllegalArgumentException si la frecuencia esta fuera de rango
+     */
+    public BucleSimulacion(final ModeloJuego modelo, final int frecuenciaHz) {
+        this.modelo = modelo;
+        this.comandos = new ConcurrentLinkedQueue<>();
+        this.cerrojoTick = new ReentrantLock();
+        this.procesadorEntrada = delta -> { };
+        this.hilo = Option.none();
+        this.pausado = true;
+        this.ejecutando = false;
+        this.tick = 0L;
+        establecerFrecuencia(frecuenciaHz);
+
+        final InstantaneaJuego inicial = InstantaneaJuego.capturar(modelo, 0L, InstantaneaJuego.vacia());
+        this.fotograma = new AtomicReference<>(new Fotograma(inicial, inicial, System.nanoTime(), periodoNanos));
+    }
+
+    /**
+     * Arranca el hilo de simulacion. Llamadas repetidas no tienen efecto.
+     */
+    public synchronized void iniciar() {
+        if (ejecutando) {
+            return;
+        }
+        ejecutando = true;
+        final Thread nuevo = new Thread(this::ejecutar, "pong-simulacion");
+        nuevo.setDaemon(true);
+        hilo = Option.of(nuevo);
+        nuevo.start();
+    }
+
+    /**
+     * Detiene el hilo de simulacion y espera a que termine.
+     */
+    public synchronized void detener() {
+        ejecutando = false;
+        hilo.forEach(h -> {
+            LockSupport.unpark(h);
+            Try.run(() -> h.join(1000))
+                .onFailure(e -> Thread.currentThread().interrupt());
+        });
+        hilo = Option.none();
+    }
+
+    /**
+     * Pausa la simulacion. Al retornar no hay ningun tick en curso ni puede
+     * comenzar otro, por lo que el llamador puede modificar el modelo de
+     * forma segura: el tick que ya toma el cerrojo en ese momento vuelve a
+     * mirar la pausa con el cerrojo tomado y no avanza el modelo.
+     */
+    public void pausar() {
+        pausado = true;
+        cerrojoTick.lock();
+        cerrojoTick.unlock();
+    }
+
+    /**
+     * Reanuda la simulacion desde el instante actual, sin recuperar
+     * el tiempo que estuvo pausada.
+     */
+    public void reanudar() {
+        pausado = false;
+        hilo.forEach(LockSupport::unpark);
+    }
+
+    /**
+     * Indica si la simulacion esta pausada.
+     *
+     * @return true si esta pausada
+     */
+    public boolean estaPausado() {
+        return pausado;
+    }
+
+    /**
+     * Cambia la frecuencia de simulacion; surte efecto en el siguiente tick.
+     *
+     * @param frecuenciaHz ticks por segundo
+     * @throws IllegalArgumentException si la frecuencia esta fuera de rango
+     */
+    public void establecerFrecuencia(final int frecuenciaHz) {
+        if (frecuenciaHz < FRECUENCIA_MINIMA || frecuenciaHz > FRECUENCIA_MAXIMA) {
+            throw new IllegalArgumentException(
+                "Frecuencia de simulacion fuera de rango [" + FRECUENCIA_MINIMA + ", "
+                    + FRECUENCIA_MAXIMA + "]: " + frecuenciaHz);
+        }
+        this.periodoNanos = NANOSEGUNDOS_POR_SEGUNDO / frecuenciaHz;
+    }
+
+    /**
+     * Obtiene la duracion de un tick en segundos.
+     *
+     * @return duracion del tick
+     */
+    public double obtenerPasoSegundos() {
+        return (double) periodoNanos / NANOSEGUNDOS_POR_SEGUNDO;
+    }
+
+    /**
+     * Establece la funcion que se invoca al inicio de cada tick, en el hilo
+     * de simulacion, para aplicar la entrada continua del jugador.
+     *
+     * @param procesador funcion que recibe la duracion del tick en segundos
+     */
+    public void establecerProcesadorEntrada(final DoubleConsumer procesador) {
+        this.procesadorEntrada = procesador != null ? procesador : delta -> { };
+    }
+
+    /**
+     * Encola un comando que se ejecutara en el hilo de simulacion
+     * antes del siguiente tick.
+     *
+     * @param comando accion sobre el modelo
+     */
+    public void encolar(final Runnable comando) {
+        Option.of(comando).forEach(comandos::offer);
+    }
+
+    /**
+     * Obtiene el ultimo fotograma publicado. Seguro desde cualquier hilo.
+     *
+     * @return fotograma con las dos ultimas instantaneas
+     */
+    public Fotograma obtenerFotograma() {
+        return fotograma.get();
+    }
+
+    /**
+     * Captura y publica el estado actual del modelo sin avanzar la simulacion.
+     * <p>
+     * Util tras reconfigurar el modelo con el bucle pausado, para que la vista
+     * muestre el nuevo estado sin interpolar desde el anterior.
+     * </p>
+     */
+    public void publicarEstadoActual() {
+        cerrojoTick.lock();
+        try {
+            final InstantaneaJuego actual = InstantaneaJuego.capturar(modelo, tick, fotograma.get().actual());
+            fotograma.set(new Fotograma(actual, actual, System.nanoTime(), periodoNanos));
+        } finally {
+            cerrojoTick.unlock();
+        }
+    }
+
+    /**
+     * Ejecuta un tick en el hilo llamador, con el hilo de simulacion sin
+     * arrancar y el bucle reanudado. Lo usa {@link BancoPruebasSimulacion}
+     * para medir las asignaciones del tick completo.
+     *
+     * @return false si la simulacion esta pausada
+     */
+    boolean ejecutarTickSincrono() {
+        return ejecutarTick(periodoNanos);
+    }
+
+    /**
+     * Cuerpo del hilo de simulacion: acumula tiempo real y ejecuta ticks fijos.
+     */
+    private void ejecutar() {
+        long anterior = System.nanoTime();
+        long acumulado = 0L;
+
+        while (ejecutando) {
+            if (pausado) {
+                // Sin plazo: reanudar y detener despiertan al hilo, que no
+                // consume CPU mientras el juego esta en pausa.
+                LockSupport.park(this);
+                anterior = System.nanoTime();
+                acumulado = 0L;
+                continue;
+            }
+
+            final long ahora = System.nanoTime();
+            acumulado += ahora - anterior;
+            anterior = ahora;
+
+            final long periodo = periodoNanos;
+            int ticksEjecutados = 0;
+            while (acumulado >= periodo && ticksEjecutados < MAXIMO_TICKS_POR_CICLO && !pausado) {
+                if (!ejecutarTick(periodo)) {
+                    break;
+                }
+                acumulado -= periodo;
+                ticksEjecutados++;
+            }
+            if (ticksEjecutados == MAXIMO_TICKS_POR_CICLO) {
+                acumulado = 0L;
+            }
+
+            final long espera = periodo - acumulado;
+            if (espera > 0) {
+                LockSupport.parkNanos(this, espera);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta un tick completo bajo el cerrojo: comandos pendientes, entrada,
+     * actualizacion del modelo y publicacion de la nueva instantanea.
+     * <p>
+     * La pausa se vuelve a mirar con el cerrojo tomado: si {@link #pausar()}
+     * marco la pausa y libero el cerrojo entre la comprobacion del bucle y
+     * este punto, ya retorno y el llamador puede estar modificando el modelo.
+     * </p>
+     * <p>
+     * Se ejecuta cientos de veces por segundo, por lo que los errores se
+     * capturan con try/catch en lugar de {@link Try}: fuera de la instantanea
+     * publicada, un tick sin eventos no asigna memoria.
+     * </p>
+     *
+     * @param periodo duracion del tick en nanosegundos
+     * @return false si la simulacion se pauso antes de comenzar el tick
+     */
+    private boolean ejecutarTick(final long periodo) {
+        final double delta = (double) periodo / NANOSEGUNDOS_POR_SEGUNDO;
+
+        cerrojoTick.lock();
+        try {
+            if (pausado) {
+                return false;
+            }
+            Runnable comando;
+            while ((comando = comandos.poll()) != null) {
+                try {
+                    comando.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error ejecutando comando de simulacion: " + e.getMessage());
+                }
+            }
+
+            try {
+                procesadorEntrada.accept(delta);
+                modelo.actualizar(delta);
+            } catch (RuntimeException e) {
+                System.err.println("Error en tick de simulacion: " + e.getMessage());
+            }
+
+            tick++;
+            final InstantaneaJuego previa = fotograma.get().actual();
+            final InstantaneaJuego actual = InstantaneaJuego.capturar(modelo, tick, previa);
+            fotograma.set(new Fotograma(previa, actual, System.nanoTime(), periodo));
+            return true;
+        } finally {
+            cerrojoTick.unlock();
+        }
+    }
+}
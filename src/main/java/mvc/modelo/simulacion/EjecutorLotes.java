@@ -0,0 +1,197 @@
+package mvc.modelo.simulacion;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import io.vavr.collection.List;
+import io.vavr.control.Try;
+import mvc.modelo.entidades.Nivel;
+import patrones.builder.ConstructorMapa;
+import patrones.builder.DirectorNiveles;
+import patrones.factory.ia.DificultadIA;
+import patrones.singleton.ConfiguracionGlobal;
+
+/**
+ * Ejecuta lotes de partidas IA contra IA en paralelo sobre un {@link ForkJoinPool}.
+ * <p>
+ * Permite evaluar cambios de balance en segundos: cada partida se simula con
+ * {@link PartidaHeadless} y el lote se resume en un {@link InformeLotes} con
+ * partidas por segundo, longitud media de intercambio y tasas de victoria.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public class EjecutorLotes implements AutoCloseable {
+
+    /** Cantidad de partidas por debajo de la cual una tarea deja de dividirse. */
+    private static final int UMBRAL_DIVISION = 4;
+
+    private static final double NANOSEGUNDOS_POR_SEGUNDO = 1_000_000_000.0;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un ejecutor que usa todos los procesadores disponibles.
+     */
+    public EjecutorLotes() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea un ejecutor con un paralelismo dado.
+     *
+     * @param paralelismo cantidad de hilos de trabajo
+     * @throws IllegalArgumentException si el paralelismo no es positivo
+     */
+    public EjecutorLotes(final int paralelismo) {
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser positivo: " + paralelismo);
+        }
+        this.pool = new ForkJoinPool(paralelismo);
+    }
+
+    /**
+     * Juega un lote de partidas y devuelve su resumen.
+     *
+     * @param nivel nivel sobre el que se juegan todas las partidas
+     * @param dificultadJugador1 dificultad de la IA del jugador 1
+     * @param dificultadJugador2 dificultad de la IA del jugador 2
+     * @param partidas cantidad de partidas a jugar
+     * @param duracionSegundos duracion maxima de cada partida en tiempo de juego
+     * @return informe agregado del lote
+     * @throws IllegalArgumentException si la cantidad de partidas no es positiva
+     */
+    public InformeLotes ejecutar(final Nivel nivel,
+                                 final DificultadIA dificultadJugador1,
+                                 final DificultadIA dificultadJugador2,
+                                 final int partidas,
+                                 final double duracionSegundos) {
+        return ejecutar(nivel, dificultadJugador1, dificultadJugador2, partidas, duracionSegundos,
+            1.0 / ConfiguracionGlobal.FRECUENCIA_SIMULACION_DEFECTO);
+    }
+
+    /**
+     * Juega un lote de partidas con un paso de simulacion dado.
+     * <p>
+     * Como las colisiones de la pelota se resuelven de forma continua, un
+     * paso mayor que el del juego interactivo no pierde golpes y permite
+     * simular mas partidas por segundo.
+     * </p>
+     *
+     * @param nivel nivel sobre el que se juegan todas las partidas
+     * @param dificultadJugador1 dificultad de la IA del jugador 1
+     * @param dificultadJugador2 dificultad de la IA del jugador 2
+     * @param partidas cantidad de partidas a jugar
+     * @param duracionSegundos duracion maxima de cada partida en tiempo de juego
+     * @param pasoSegundos duracion de cada tick de simulacion
+     * @return informe agregado del lote
+     * @throws IllegalArgumentException si la cantidad de partidas o el paso no son positivos
+     */
+    public InformeLotes ejecutar(final Nivel nivel,
+                                 final DificultadIA dificultadJugador1,
+                                 final DificultadIA dificultadJugador2,
+                                 final int partidas,
+                                 final double duracionSegundos,
+                                 final double pasoSegundos) {
+        if (partidas <= 0) {
+            throw new IllegalArgumentException("La cantidad de partidas debe ser positiva: " + partidas);
+        }
+        final PartidaHeadless partida = new PartidaHeadless(nivel, dificultadJugador1, dificultadJugador2)
+            .establecerDuracion(duracionSegundos)
+            .establecerPaso(pasoSegundos);
+
+        final long inicio = System.nanoTime();
+        final List<ResultadoPartida> resultados = pool.invoke(new TareaPartidas(partida, partidas));
+        final double segundos = (System.nanoTime() - inicio) / NANOSEGUNDOS_POR_SEGUNDO;
+
+        return InformeLotes.desde(resultados, segundos);
+    }
+
+    /**
+     * Obtiene el paralelismo del pool de trabajo.
+     *
+     * @return cantidad de hilos de trabajo
+     */
+    public int obtenerParalelismo() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Libera los hilos del pool de trabajo.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Tarea que divide recursivamente un rango de partidas hasta el umbral
+     * y concatena los resultados.
+     */
+    private static final class TareaPartidas extends RecursiveTask<List<ResultadoPartida>> {
+
+        private final PartidaHeadless partida;
+        private final int cantidad;
+
+        private TareaPartidas(final PartidaHeadless partida, final int cantidad) {
+            this.partida = partida;
+            this.cantidad = cantidad;
+        }
+
+        @Override
+        protected List<ResultadoPartida> compute() {
+            if (cantidad <= UMBRAL_DIVISION) {
+                return List.fill(cantidad, partida::jugar);
+            }
+            final int mitad = cantidad / 2;
+            final TareaPartidas izquierda = new TareaPartidas(partida, mitad);
+            final TareaPartidas derecha = new TareaPartidas(partida, cantidad - mitad);
+            izquierda.fork();
+            final List<ResultadoPartida> resultadosDerecha = derecha.compute();
+            return izquierda.join().appendAll(resultadosDerecha);
+        }
+    }
+
+    /**
+     * Punto de entrada para evaluar el balance desde la linea de comandos.
+     * <p>
+     * Argumentos opcionales, en orden: partidas (1000), dificultad del
+     * jugador 1 (1-10, 5), dificultad del jugador 2 (1-10, 5), nivel
+     * (facil, medio o dificil; medio), duracion en segundos (120), hilos
+     * (procesadores disponibles) y frecuencia de simulacion en Hz (la del juego).
+     * </p>
+     *
+     * @param args argumentos de la linea de comandos
+     */
+    public static void main(final String[] args) {
+        final int partidas = argumentoEntero(args, 0, 1000);
+        final DificultadIA ia1 = DificultadIA.desdeNumeroNivelDirecto(argumentoEntero(args, 1, 5));
+        final DificultadIA ia2 = DificultadIA.desdeNumeroNivelDirecto(argumentoEntero(args, 2, 5));
+        final Nivel nivel = construirNivel(args.length > 3 ? args[3] : "medio");
+        final double duracion = argumentoEntero(args, 4, 120);
+        final int hilos = argumentoEntero(args, 5, Runtime.getRuntime().availableProcessors());
+        final int frecuencia = argumentoEntero(args, 6, ConfiguracionGlobal.FRECUENCIA_SIMULACION_DEFECTO);
+
+        try (EjecutorLotes ejecutor = new EjecutorLotes(hilos)) {
+            System.out.println("Lote " + ia1 + " vs " + ia2 + " en " + nivel.getNombre()
+                + " con " + ejecutor.obtenerParalelismo() + " hilos a " + frecuencia + " Hz");
+            System.out.println(ejecutor.ejecutar(nivel, ia1, ia2, partidas, duracion, 1.0 / frecuencia));
+        }
+    }
+
+    private static int argumentoEntero(final String[] args, final int indice, final int defecto) {
+        return args.length > indice
+            ? Try.of(() -> Integer.parseInt(args[indice])).getOrElse(defecto)
+            : defecto;
+    }
+
+    private static Nivel construirNivel(final String nombre) {
+        final DirectorNiveles director = new DirectorNiveles(new ConstructorMapa());
+        return switch (nombre.toLowerCase()) {
+            case "facil" -> director.construirNivelFacil();
+            case "dificil" -> director.construirNivelDificil();
+            default -> director.construirNivelMedio();
+        };
+    }
+}
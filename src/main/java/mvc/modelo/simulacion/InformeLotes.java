@@ -0,0 +1,116 @@
+package mvc.modelo.simulacion;
+
+import io.vavr.collection.Seq;
+
+/**
+ * Resumen agregado de un lote de partidas simuladas.
+ *
+ * @param partidas cantidad de partidas jugadas
+ * @param segundosReales tiempo de reloj que tardo el lote
+ * @param victoriasJugador1 partidas ganadas por el jugador 1
+ * @param victoriasJugador2 partidas ganadas por el jugador 2
+ * @param empates partidas empatadas
+ * @param golpesPaleta total de golpes de paleta en el lote
+ * @param intercambios total de intercambios en el lote
+ * @param ticks total de ticks de simulacion ejecutados
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public record InformeLotes(
+    int partidas,
+    double segundosReales,
+    int victoriasJugador1,
+    int victoriasJugador2,
+    int empates,
+    long golpesPaleta,
+    long intercambios,
+    long ticks
+) {
+
+    /**
+     * Construye el informe a partir de los resultados individuales.
+     *
+     * @param resultados resultados de cada partida
+     * @param segundosReales tiempo de reloj que tardo el lote
+     * @return informe agregado
+     */
+    public static InformeLotes desde(final Seq<ResultadoPartida> resultados, final double segundosReales) {
+        return new InformeLotes(
+            resultados.size(),
+            segundosReales,
+            resultados.count(r -> r.ganador() == 1),
+            resultados.count(r -> r.ganador() == 2),
+            resultados.count(r -> r.ganador() == 0),
+            resultados.map(ResultadoPartida::golpesPaleta).sum().longValue(),
+            resultados.map(ResultadoPartida::intercambios).sum().longValue(),
+            resultados.map(ResultadoPartida::ticks).sum().longValue()
+        );
+    }
+
+    /**
+     * Partidas completadas por segundo de reloj.
+     *
+     * @return rendimiento del lote
+     */
+    public double partidasPorSegundo() {
+        return segundosReales > 0 ? partidas / segundosReales : 0.0;
+    }
+
+    /**
+     * Promedio de golpes de paleta por intercambio en todo el lote.
+     *
+     * @return longitud media de los intercambios
+     */
+    public double longitudPromedioIntercambio() {
+        return intercambios > 0 ? (double) golpesPaleta / intercambios : 0.0;
+    }
+
+    /**
+     * Fraccion de partidas ganadas por el jugador 1.
+     *
+     * @return tasa de victoria en [0, 1]
+     */
+    public double tasaVictoriaJugador1() {
+        return fraccion(victoriasJugador1);
+    }
+
+    /**
+     * Fraccion de partidas ganadas por el jugador 2.
+     *
+     * @return tasa de victoria en [0, 1]
+     */
+    public double tasaVictoriaJugador2() {
+        return fraccion(victoriasJugador2);
+    }
+
+    /**
+     * Fraccion de partidas empatadas.
+     *
+     * @return tasa de empate en [0, 1]
+     */
+    public double tasaEmpate() {
+        return fraccion(empates);
+    }
+
+    private double fraccion(final int cantidad) {
+        return partidas > 0 ? (double) cantidad / partidas : 0.0;
+    }
+
+    /**
+     * Representacion legible del informe para consola.
+     *
+     * @return texto con las metricas del lote
+     */
+    @Override
+    public String toString() {
+        return String.format(
+            "Partidas: %d en %.2fs (%.1f partidas/s, %.0f ticks/s)%n"
+                + "Intercambio promedio: %.2f golpes%n"
+                + "Victorias J1: %.1f%% | Victorias J2: %.1f%% | Empates: %.1f%%",
+            partidas, segundosReales, partidasPorSegundo(),
+            segundosReales > 0 ? ticks / segundosReales : 0.0,
+            longitudPromedioIntercambio(),
+            tasaVictoriaJugador1() * 100, tasaVictoriaJugador2() * 100, tasaEmpate() * 100);
+    }
+}
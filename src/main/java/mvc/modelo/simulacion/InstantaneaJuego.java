@@ -0,0 +1,311 @@
+package mvc.modelo.simulacion;
+
+import io.vavr.collection.List;
+import io.vavr.control.Option;
+import javafx.scene.paint.Color;
+import mvc.modelo.ModeloJuego;
+import mvc.modelo.entidades.Bloque;
+import mvc.modelo.entidades.paleta.Paleta;
+import mvc.modelo.entidades.pelota.Pelota;
+import mvc.modelo.items.Item;
+import mvc.modelo.items.ItemNeblina;
+
+/**
+ * Fotografia inmutable del estado del juego al final de un tick de simulacion.
+ * <p>
+ * El hilo de simulacion publica una instancia por tick y el hilo de JavaFX
+ * la consume para renderizar, de modo que la vista nunca lee las entidades
+ * mutables del modelo mientras estan siendo actualizadas.
+ * </p>
+ * <p>
+ * La lista de bloques solo se reconstruye cuando cambia la version de bloques
+ * del modelo; en los demas ticks se comparte la lista de la instantanea anterior.
+ * </p>
+ * <p>
+ * Las pelotas adicionales del modo multipelota se copian a un arreglo de
+ * posiciones intercaladas en lugar de un registro por pelota, para que
+ * capturar y dibujar miles de ellas no cree miles de objetos por tick. El
+ * arreglo no debe modificarse una vez publicada la instantanea.
+ * </p>
+ *
+ * @param tick numero de tick en el que se capturo el estado
+ * @param tiempoRestante segundos restantes de la partida
+ * @param puntaje1 puntaje del jugador 1
+ * @param puntaje2 puntaje del jugador 2
+ * @param activo indica si la partida sigue activa
+ * @param pelota estado de la pelota, o none si no hay pelota
+ * @param pelotasExtra posiciones de las pelotas adicionales, intercaladas como {@code x0, y0, x1, y1, ...}
+ * @param radioPelotasExtra radio comun de las pelotas adicionales
+ * @param jugador1 estado de la paleta del jugador 1, o none
+ * @param jugador2 estado de la paleta del jugador 2, o none
+ * @param versionBloques version de bloques del modelo al capturar
+ * @param bloques estado de los bloques activos
+ * @param items estado de los items activos
+ * @param neblinas neblinas activas; una sin paleta objetivo cubre todo el campo
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public record InstantaneaJuego(
+    long tick,
+    double tiempoRestante,
+    int puntaje1,
+    int puntaje2,
+    boolean activo,
+    Option<EstadoPelota> pelota,
+    double[] pelotasExtra,
+    double radioPelotasExtra,
+    Option<EstadoPaleta> jugador1,
+    Option<EstadoPaleta> jugador2,
+    long versionBloques,
+    List<EstadoBloque> bloques,
+    List<EstadoItem> items,
+    List<EstadoNeblina> neblinas
+) {
+
+    /**
+     * Estado inmutable de la pelota.
+     *
+     * @param x posicion horizontal usada para colisiones y renderizado
+     * @param y posicion vertical usada para colisiones y renderizado
+     * @param radio radio de la pelota
+     * @param velocidadX componente horizontal de la velocidad
+     * @param velocidadY componente vertical de la velocidad
+     */
+    public record EstadoPelota(double x, double y, double radio, double velocidadX, double velocidadY) {
+    }
+
+    /**
+     * Estado inmutable de una paleta.
+     *
+     * @param x posicion horizontal
+     * @param y posicion vertical
+     * @param ancho ancho de la paleta
+     * @param alto alto de la paleta
+     * @param color color primario de la paleta
+     */
+    public record EstadoPaleta(double x, double y, double ancho, double alto, Color color) {
+    }
+
+    /**
+     * Estado inmutable de un bloque.
+     *
+     * @param x posicion horizontal
+     * @param y posicion vertical
+     * @param ancho ancho del bloque
+     * @param alto alto del bloque
+     * @param resistencia resistencia restante
+     */
+    public record EstadoBloque(double x, double y, double ancho, double alto, int resistencia) {
+    }
+
+    /**
+     * Estado inmutable de un item.
+     *
+     * @param x posicion horizontal
+     * @param y posicion vertical
+     * @param ancho ancho del item
+     * @param alto alto del item
+     */
+    public record EstadoItem(double x, double y, double ancho, double alto) {
+    }
+
+    /**
+     * Estado inmutable de una neblina activa.
+     *
+     * @param enPaleta indica si la neblina es una franja sobre una paleta
+     * @param centroX centro horizontal de la franja
+     * @param ancho ancho de la franja
+     */
+    public record EstadoNeblina(boolean enPaleta, double centroX, double ancho) {
+    }
+
+    /**
+     * Distancia maxima que se interpola entre dos ticks; saltos mayores
+     * (por ejemplo, la pelota reiniciada al centro tras un gol) se dibujan sin interpolar.
+     */
+    private static final double SALTO_MAXIMO_INTERPOLABLE = 100.0;
+
+    private static final double[] SIN_PELOTAS = new double[0];
+
+    /**
+     * Instantanea vacia usada antes de que se publique el primer tick.
+     *
+     * @return instantanea sin entidades
+     */
+    public static InstantaneaJuego vacia() {
+        return new InstantaneaJuego(0L, 0.0, 0, 0, false,
+            Option.none(), SIN_PELOTAS, 0.0, Option.none(), Option.none(),
+            -1L, List.empty(), List.empty(), List.empty());
+    }
+
+    /**
+     * Captura el estado actual del modelo.
+     * <p>
+     * Debe invocarse desde el hilo que actualiza el modelo. Si la version de
+     * bloques no cambio desde {@code anterior}, se reutiliza su lista de bloques.
+     * </p>
+     *
+     * @param modelo modelo del que se captura el estado
+     * @param tick numero de tick actual
+     * @param anterior instantanea publicada previamente
+     * @return nueva instantanea inmutable
+     */
+    public static InstantaneaJuego capturar(final ModeloJuego modelo, final long tick,
+                                            final InstantaneaJuego anterior) {
+        final long versionBloques = modelo.obtenerVersionBloques();
+        final List<EstadoBloque> bloques = versionBloques == anterior.versionBloques()
+            ? anterior.bloques()
+            : capturarBloques(modelo.obtenerBloques());
+
+        final List<Item> itemsActivos = List.ofAll(modelo.obtenerItems()).filter(Item::estaActivo);
+
+        return new InstantaneaJuego(
+            tick,
+            Math.max(0.0, modelo.obtenerDuracionPartida() - modelo.obtenerTiempoTranscurrido()),
+            modelo.obtenerPuntaje1(),
+            modelo.obtenerPuntaje2(),
+            modelo.estaActivo(),
+            Option.of(modelo.obtenerPelota()).map(InstantaneaJuego::capturarPelota),
+            modelo.obtenerPelotasExtra().cantidad() > 0 ? modelo.obtenerPelotasExtra().copiarPosiciones() : SIN_PELOTAS,
+            modelo.obtenerPelotasExtra().obtenerRadio(),
+            Option.of(modelo.obtenerJugador1()).map(InstantaneaJuego::capturarPaleta),
+            Option.of(modelo.obtenerJugador2()).map(InstantaneaJuego::capturarPaleta),
+            versionBloques,
+            bloques,
+            itemsActivos.map(i -> new EstadoItem(i.obtenerX(), i.obtenerY(), i.obtenerAncho(), i.obtenerAlto())),
+            itemsActivos.filter(i -> i instanceof ItemNeblina).map(i -> capturarNeblina((ItemNeblina) i))
+        );
+    }
+
+    /**
+     * Indica si hay alguna neblina activa.
+     *
+     * @return true si la lista de neblinas no esta vacia
+     */
+    public boolean neblinaActiva() {
+        return !neblinas.isEmpty();
+    }
+
+    /**
+     * Interpola linealmente entre dos valores.
+     *
+     * @param desde valor en la instantanea previa
+     * @param hasta valor en la instantanea actual
+     * @param alfa fraccion del tick transcurrida, en [0, 1]
+     * @return valor interpolado
+     */
+    public static double interpolar(final double desde, final double hasta, final double alfa) {
+        if (Math.abs(hasta - desde) > SALTO_MAXIMO_INTERPOLABLE) {
+            return hasta;
+        }
+        return desde + (hasta - desde) * alfa;
+    }
+
+    /**
+     * Calcula el estado de la pelota interpolado entre dos instantaneas.
+     *
+     * @param previa instantanea del tick anterior
+     * @param alfa fraccion del tick transcurrida, en [0, 1]
+     * @return estado interpolado de la pelota, o none si no hay pelota
+     */
+    public Option<EstadoPelota> pelotaInterpolada(final InstantaneaJuego previa, final double alfa) {
+        return pelota.map(actual -> previa.pelota()
+            .map(antes -> new EstadoPelota(
+                interpolar(antes.x(), actual.x(), alfa),
+                interpolar(antes.y(), actual.y(), alfa),
+                actual.radio(),
+                actual.velocidadX(),
+                actual.velocidadY()))
+            .getOrElse(actual));
+    }
+
+    /**
+     * Obtiene la cantidad de pelotas adicionales.
+     *
+     * @return cantidad de pelotas del modo multipelota
+     */
+    public int cantidadPelotasExtra() {
+        return pelotasExtra.length / 2;
+    }
+
+    /**
+     * Escribe las posiciones interpoladas de las pelotas adicionales.
+     * <p>
+     * Solo se interpola si ambas instantaneas tienen la misma cantidad de
+     * pelotas: al eliminar una, la ultima ocupa su lugar y las posiciones
+     * dejan de corresponderse. El destino se reutiliza entre fotogramas para
+     * no asignar memoria; se reemplaza por uno mayor solo si no alcanza.
+     * </p>
+     *
+     * @param previa instantanea del tick anterior
+     * @param alfa fraccion del tick transcurrida, en [0, 1]
+     * @param destino arreglo donde escribir las posiciones intercaladas
+     * @return el destino, o un arreglo nuevo si el destino era demasiado chico
+     */
+    public double[] interpolarPelotasExtra(final InstantaneaJuego previa, final double alfa,
+                                           final double[] destino) {
+        final double[] resultado = destino.length >= pelotasExtra.length
+            ? destino
+            : new double[pelotasExtra.length];
+        final double[] anteriores = previa.pelotasExtra();
+        if (anteriores.length != pelotasExtra.length) {
+            System.arraycopy(pelotasExtra, 0, resultado, 0, pelotasExtra.length);
+            return resultado;
+        }
+        for (int i = 0; i < pelotasExtra.length; i++) {
+            resultado[i] = interpolar(anteriores[i], pelotasExtra[i], alfa);
+        }
+        return resultado;
+    }
+
+    /**
+     * Calcula el estado de una paleta interpolado entre dos instantaneas.
+     *
+     * @param actual estado de la paleta en este tick
+     * @param previa estado de la paleta en el tick anterior
+     * @param alfa fraccion del tick transcurrida, en [0, 1]
+     * @return estado interpolado de la paleta
+     */
+    public static Option<EstadoPaleta> interpolarPaleta(final Option<EstadoPaleta> actual,
+                                                        final Option<EstadoPaleta> previa,
+                                                        final double alfa) {
+        return actual.map(a -> previa
+            .map(p -> new EstadoPaleta(a.x(), interpolar(p.y(), a.y(), alfa), a.ancho(), a.alto(), a.color()))
+            .getOrElse(a));
+    }
+
+    private static EstadoPelota capturarPelota(final Pelota pelota) {
+        return new EstadoPelota(
+            pelota.obtenerX(),
+            pelota.obtenerY(),
+            Math.min(pelota.obtenerAncho(), pelota.obtenerAlto()) / 2.0,
+            pelota.obtenerVelocidadX(),
+            pelota.obtenerVelocidadY()
+        );
+    }
+
+    private static EstadoPaleta capturarPaleta(final Paleta paleta) {
+        return new EstadoPaleta(
+            paleta.obtenerX(),
+            paleta.obtenerY(),
+            paleta.obtenerAncho(),
+            paleta.obtenerAlto(),
+            paleta.obtenerColor()
+        );
+    }
+
+    private static EstadoNeblina capturarNeblina(final ItemNeblina neblina) {
+        final Paleta paleta = neblina.obtenerPaletaObjetivo();
+        return paleta == null
+            ? new EstadoNeblina(false, 0.0, 0.0)
+            : new EstadoNeblina(true, paleta.obtenerX() + paleta.obtenerAncho() / 2, neblina.obtenerAnchoNeblina());
+    }
+
+    private static List<EstadoBloque> capturarBloques(final java.util.List<Bloque> bloques) {
+        return List.ofAll(bloques)
+            .filter(b -> !b.estaDestruido())
+            .map(b -> new EstadoBloque(b.obtenerX(), b.obtenerY(), b.obtenerAncho(), b.obtenerAlto(),
+                b.obtenerResistencia()));
+    }
+}
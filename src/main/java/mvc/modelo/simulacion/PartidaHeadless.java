@@ -0,0 +1,174 @@
+package mvc.modelo.simulacion;
+
+import java.util.Objects;
+
+import mvc.modelo.CampoJuego;
+import mvc.modelo.ModeloJuego;
+import mvc.modelo.entidades.Nivel;
+import mvc.modelo.enums.ModoJuego;
+import mvc.modelo.items.Item;
+import patrones.factory.ia.DificultadIA;
+import patrones.factory.ia.ServicioIA;
+import patrones.observer.ObservadorJuego;
+import patrones.singleton.ConfiguracionGlobal;
+
+/**
+ * Partida completa entre dos IA simulada sin interfaz grafica.
+ * <p>
+ * Avanza el {@link ModeloJuego} a paso fijo tan rapido como permita la CPU,
+ * sin renderizado ni hilo de JavaFX. Los tipos de JavaFX que usa el modelo
+ * ({@code Color}, {@code Rectangle2D}) son clases de valor que no requieren
+ * inicializar el toolkit, por lo que la partida puede ejecutarse en cualquier hilo.
+ * </p>
+ * <p>
+ * Cada invocacion de {@link #jugar()} crea su propio modelo y una copia del
+ * nivel, de modo que varias partidas pueden jugarse en paralelo con la misma
+ * instancia.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public class PartidaHeadless {
+
+    /** Ancho del campo de juego simulado. */
+    public static final double ANCHO_CAMPO = CampoJuego.ANCHO;
+
+    /** Alto del campo de juego simulado. */
+    public static final double ALTO_CAMPO = CampoJuego.ALTO;
+
+    private static final double PASO_DEFECTO = 1.0 / ConfiguracionGlobal.FRECUENCIA_SIMULACION_DEFECTO;
+
+    private final Nivel nivel;
+    private final DificultadIA dificultadJugador1;
+    private final DificultadIA dificultadJugador2;
+    private double duracionSegundos;
+    private double pasoSegundos;
+
+    /**
+     * Construye una partida entre dos niveles de IA sobre un nivel dado.
+     *
+     * @param nivel nivel a jugar; no se modifica, cada partida usa una copia
+     * @param dificultadJugador1 dificultad de la IA que controla al jugador 1
+     * @param dificultadJugador2 dificultad de la IA que controla al jugador 2
+     * @throws NullPointerException si algun parametro es nulo
+     */
+    public PartidaHeadless(final Nivel nivel,
+                           final DificultadIA dificultadJugador1,
+                           final DificultadIA dificultadJugador2) {
+        this.nivel = Objects.requireNonNull(nivel, "El nivel no puede ser null");
+        this.dificultadJugador1 = Objects.requireNonNull(dificultadJugador1, "La dificultad 1 no puede ser null");
+        this.dificultadJugador2 = Objects.requireNonNull(dificultadJugador2, "La dificultad 2 no puede ser null");
+        this.duracionSegundos = ModeloJuego.DURACION_PARTIDA;
+        this.pasoSegundos = PASO_DEFECTO;
+    }
+
+    /**
+     * Establece la duracion maxima de la partida en tiempo de juego.
+     *
+     * @param segundos duracion en segundos
+     * @return esta partida, para encadenar llamadas
+     * @throws IllegalArgumentException si la duracion no es positiva
+     */
+    public PartidaHeadless establecerDuracion(final double segundos) {
+        if (segundos <= 0) {
+            throw new IllegalArgumentException("La duracion debe ser positiva: " + segundos);
+        }
+        this.duracionSegundos = segundos;
+        return this;
+    }
+
+    /**
+     * Establece el paso fijo de simulacion.
+     *
+     * @param segundos duracion de un tick en segundos
+     * @return esta partida, para encadenar llamadas
+     * @throws IllegalArgumentException si el paso no es positivo
+     */
+    public PartidaHeadless establecerPaso(final double segundos) {
+        if (segundos <= 0) {
+            throw new IllegalArgumentException("El paso debe ser positivo: " + segundos);
+        }
+        this.pasoSegundos = segundos;
+        return this;
+    }
+
+    /**
+     * Juega la partida completa hasta que se agota el tiempo o se destruyen
+     * todos los bloques del nivel.
+     *
+     * @return resultado de la partida
+     * @throws IllegalStateException si no se pudieron crear las entidades del juego
+     */
+    public ResultadoPartida jugar() {
+        final ModeloJuego modelo = new ModeloJuego();
+        modelo.inicializarEntidadesJuego(ANCHO_CAMPO, ALTO_CAMPO)
+            .getOrElseThrow(() -> new IllegalStateException("No se pudieron crear las entidades de la partida"));
+        modelo.establecerNivel(nivel.clonar());
+        modelo.reiniciarValoresJuego();
+        modelo.establecerDuracionPartida(duracionSegundos);
+        modelo.establecerModo(ModoJuego.IA_CONTRA_IA);
+        modelo.establecerServicioIAJugador1(new ServicioIA(dificultadJugador1));
+        modelo.establecerServicioIA(new ServicioIA(dificultadJugador2));
+
+        final ContadorIntercambios contador = new ContadorIntercambios();
+        modelo.agregarObservador(contador);
+
+        final long ticksMaximos = (long) Math.ceil(duracionSegundos / pasoSegundos) + 1;
+        long ticks = 0;
+        while (modelo.estaActivo() && ticks < ticksMaximos) {
+            modelo.actualizar(pasoSegundos);
+            ticks++;
+        }
+
+        final int puntaje1 = modelo.obtenerPuntaje1();
+        final int puntaje2 = modelo.obtenerPuntaje2();
+        return new ResultadoPartida(
+            puntaje1 > puntaje2 ? 1 : puntaje2 > puntaje1 ? 2 : 0,
+            puntaje1,
+            puntaje2,
+            contador.golpes,
+            contador.puntos + (contador.golpesIntercambioActual > 0 ? 1 : 0),
+            ticks,
+            modelo.obtenerTiempoTranscurrido(),
+            contador.nivelCompletado
+        );
+    }
+
+    /**
+     * Observador que cuenta golpes de paleta y puntos para medir los intercambios.
+     * Cada partida tiene el suyo, por lo que no necesita sincronizacion.
+     */
+    private static final class ContadorIntercambios implements ObservadorJuego {
+
+        private int golpes;
+        private int golpesIntercambioActual;
+        private int puntos;
+        private boolean nivelCompletado;
+
+        @Override
+        public void alGolpearPaleta(final int jugador) {
+            golpes++;
+            golpesIntercambioActual++;
+        }
+
+        @Override
+        public void alcambiarPuntaje(final int jugador, final int nuevoPuntaje) {
+            puntos++;
+            golpesIntercambioActual = 0;
+        }
+
+        @Override
+        public void alTerminarJuego(final int ganador) {
+        }
+
+        @Override
+        public void alCompletarNivel() {
+            nivelCompletado = true;
+        }
+
+        @Override
+        public void alGenrarItem(final Item item) {
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package mvc.modelo.simulacion;
+
+/**
+ * Resultado inmutable de una partida simulada sin interfaz.
+ *
+ * @param ganador 1 o 2 segun el jugador con mas puntos, 0 si hay empate
+ * @param puntaje1 puntaje final del jugador 1
+ * @param puntaje2 puntaje final del jugador 2
+ * @param golpesPaleta cantidad total de rebotes en paletas
+ * @param intercambios cantidad de intercambios jugados (uno por punto, mas el
+ *                     intercambio en curso si la partida termino sin gol)
+ * @param ticks ticks de simulacion ejecutados
+ * @param segundosSimulados tiempo de juego simulado en segundos
+ * @param nivelCompletado indica si la partida termino por destruir todos los bloques
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public record ResultadoPartida(
+    int ganador,
+    int puntaje1,
+    int puntaje2,
+    int golpesPaleta,
+    int intercambios,
+    long ticks,
+    double segundosSimulados,
+    boolean nivelCompletado
+) {
+
+    /**
+     * Calcula el promedio de golpes de paleta por intercambio.
+     *
+     * @return longitud media de los intercambios, 0 si no hubo ninguno
+     */
+    public double longitudPromedioIntercambio() {
+        return intercambios == 0 ? 0.0 : (double) golpesPaleta / intercambios;
+    }
+}
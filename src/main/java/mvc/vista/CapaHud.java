@@ -0,0 +1,206 @@
+package mvc.vista;
+
+import javafx.animation.PauseTransition;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+import mvc.modelo.CampoJuego;
+import util.TiraGlifos;
+
+/**
+ * Capa del HUD dibujada en un canvas propio sobre el campo de juego.
+ * <p>
+ * Puntajes, tiempo, la linea de ayuda y el mensaje central se dibujan con
+ * una {@link TiraGlifos} en coordenadas logicas de {@link CampoJuego}. Cada
+ * actualizacion compara el valor con el que se muestra y solo redibuja la
+ * capa si cambio, de modo que el tiempo se redibuja una vez por segundo y
+ * los puntajes solo al anotar. Durante la partida no se modifica el grafo
+ * de escena: no hay etiquetas que recalculen CSS ni layout, y el mensaje
+ * central expira con una unica transicion reutilizada.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class CapaHud {
+
+    private static final double TAMANIO_TIRA = 24.0;
+    private static final double TAMANIO_PUNTAJE = 24.0;
+    private static final double TAMANIO_INFO = 12.0;
+    private static final double TAMANIO_MENSAJE = 18.0;
+    private static final double PADDING = 20.0;
+    private static final double RADIO_FONDO_MENSAJE = 10.0;
+    private static final Color FONDO_MENSAJE = Color.rgb(0, 0, 0, 0.8);
+    private static final int SIN_SEGUNDOS = -1;
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final PauseTransition expiracionMensaje;
+    private TiraGlifos tira;
+
+    private int puntaje1;
+    private int puntaje2;
+    private String textoPuntaje1;
+    private String textoPuntaje2;
+    private int segundosMostrados;
+    private String textoTiempo;
+    private String textoInfo;
+    private String textoMensaje;
+    private long redibujos;
+
+    /**
+     * Crea la capa con puntajes en cero y sin mensaje central.
+     *
+     * @param info linea de ayuda inicial
+     */
+    public CapaHud(final String info) {
+        this.canvas = new Canvas();
+        this.canvas.setMouseTransparent(true);
+        this.gc = canvas.getGraphicsContext2D();
+        this.expiracionMensaje = new PauseTransition();
+        this.expiracionMensaje.setOnFinished(evento -> {
+            textoMensaje = null;
+            redibujar();
+        });
+        this.textoPuntaje1 = "0";
+        this.textoPuntaje2 = "0";
+        this.segundosMostrados = SIN_SEGUNDOS;
+        this.textoTiempo = "";
+        this.textoInfo = info;
+    }
+
+    /**
+     * Obtiene el canvas de la capa.
+     *
+     * @return canvas del HUD
+     */
+    public Canvas obtenerNodo() {
+        return canvas;
+    }
+
+    /**
+     * Obtiene cuantas veces se redibujo la capa, para verificar que solo
+     * ocurre al cambiar lo que se muestra.
+     *
+     * @return redibujos desde la creacion
+     */
+    public long obtenerRedibujos() {
+        return redibujos;
+    }
+
+    /**
+     * Ajusta la capa a la resolucion interna y la redibuja.
+     *
+     * @param ancho  ancho interno en pixeles
+     * @param alto   alto interno en pixeles
+     * @param escala pixeles internos por unidad logica
+     */
+    public void establecerResolucion(final int ancho, final int alto, final double escala) {
+        canvas.setWidth(ancho);
+        canvas.setHeight(alto);
+        gc.setTransform(escala, 0.0, 0.0, escala, 0.0, 0.0);
+        redibujar();
+    }
+
+    /**
+     * Muestra el puntaje de un jugador si difiere del actual.
+     *
+     * @param jugador numero del jugador (1 o 2)
+     * @param puntaje puntaje a mostrar
+     */
+    public void establecerPuntaje(final int jugador, final int puntaje) {
+        if (jugador == 1 && puntaje != puntaje1) {
+            puntaje1 = puntaje;
+            textoPuntaje1 = String.valueOf(puntaje);
+            redibujar();
+        } else if (jugador == 2 && puntaje != puntaje2) {
+            puntaje2 = puntaje;
+            textoPuntaje2 = String.valueOf(puntaje);
+            redibujar();
+        }
+    }
+
+    /**
+     * Muestra el tiempo restante en formato M:SS si cambio el segundo
+     * mostrado. Mientras el segundo no cambia no se crea ninguna cadena.
+     *
+     * @param segundosRestantes segundos restantes de la partida
+     */
+    public void establecerTiempo(final double segundosRestantes) {
+        final int segundos = (int) segundosRestantes;
+        if (segundos == segundosMostrados) {
+            return;
+        }
+        segundosMostrados = segundos;
+        textoTiempo = String.format("%d:%02d", segundos / 60, segundos % 60);
+        redibujar();
+    }
+
+    /**
+     * Muestra la linea de ayuda inferior si difiere de la actual.
+     *
+     * @param info texto de ayuda
+     */
+    public void establecerInfo(final String info) {
+        if (!info.equals(textoInfo)) {
+            textoInfo = info;
+            redibujar();
+        }
+    }
+
+    /**
+     * Muestra un mensaje central durante un tiempo, reemplazando al anterior.
+     *
+     * @param mensaje          texto del mensaje
+     * @param duracionSegundos segundos que el mensaje permanece visible
+     */
+    public void mostrarMensaje(final String mensaje, final double duracionSegundos) {
+        expiracionMensaje.stop();
+        textoMensaje = mensaje;
+        expiracionMensaje.setDuration(Duration.seconds(duracionSegundos));
+        expiracionMensaje.playFromStart();
+        redibujar();
+    }
+
+    /**
+     * Limpia la capa y dibuja todos los elementos del HUD.
+     */
+    private void redibujar() {
+        if (canvas.getWidth() <= 0 || canvas.getHeight() <= 0) {
+            return;
+        }
+        if (tira == null) {
+            tira = TiraGlifos.construir(TAMANIO_TIRA, TiraGlifos.CARACTERES_DEFECTO);
+        }
+        gc.clearRect(0, 0, CampoJuego.ANCHO, CampoJuego.ALTO);
+
+        tira.dibujar(gc, textoPuntaje1, PADDING, PADDING, TAMANIO_PUNTAJE);
+        tira.dibujar(gc, textoPuntaje2,
+            CampoJuego.ANCHO - PADDING - tira.medirAncho(textoPuntaje2, TAMANIO_PUNTAJE), PADDING, TAMANIO_PUNTAJE);
+        dibujarCentrado(textoTiempo, PADDING, TAMANIO_INFO);
+
+        final double tamanioInfo = Math.min(TAMANIO_INFO,
+            (CampoJuego.ANCHO - 2 * PADDING) / Math.max(1, textoInfo.length()));
+        dibujarCentrado(textoInfo, CampoJuego.ALTO - PADDING - tira.obtenerAltoLinea(tamanioInfo), tamanioInfo);
+
+        if (textoMensaje != null) {
+            dibujarMensaje();
+        }
+        redibujos++;
+    }
+
+    private void dibujarMensaje() {
+        final double ancho = tira.medirAncho(textoMensaje, TAMANIO_MENSAJE) + 2 * PADDING;
+        final double alto = tira.obtenerAltoLinea(TAMANIO_MENSAJE) + 2 * PADDING;
+        final double x = (CampoJuego.ANCHO - ancho) / 2;
+        final double y = (CampoJuego.ALTO - alto) / 2;
+        gc.setFill(FONDO_MENSAJE);
+        gc.fillRoundRect(x, y, ancho, alto, RADIO_FONDO_MENSAJE * 2, RADIO_FONDO_MENSAJE * 2);
+        tira.dibujar(gc, textoMensaje, x + PADDING, y + PADDING, TAMANIO_MENSAJE);
+    }
+
+    private void dibujarCentrado(final String texto, final double y, final double tamanio) {
+        tira.dibujar(gc, texto, (CampoJuego.ANCHO - tira.medirAncho(texto, tamanio)) / 2, y, tamanio);
+    }
+}
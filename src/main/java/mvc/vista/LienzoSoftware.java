@@ -0,0 +1,183 @@
+package mvc.vista;
+
+import java.nio.IntBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import util.RasterizadorSoftware;
+
+/**
+ * Superficie de dibujo alternativa al canvas, rasterizada por software en un
+ * hilo de trabajo.
+ * <p>
+ * Mantiene dos superficies, cada una con un {@link RasterizadorSoftware} cuyo
+ * arreglo de pixeles respalda un {@link PixelBuffer} y una
+ * {@link WritableImage}. Mientras el {@link ImageView} muestra una, el hilo
+ * de trabajo dibuja el fotograma siguiente en la otra. El hilo de JavaFX no
+ * rasteriza ni copia pixeles: solo llama a
+ * {@link PixelBuffer#updateBuffer} sobre la superficie terminada y la
+ * muestra, por lo que un fotograma se presenta con un pulso de retraso.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class LienzoSoftware implements AutoCloseable {
+
+    private static final int SIN_SUPERFICIE = -1;
+
+    private final ImageView vista;
+    private final ExecutorService trabajador;
+    private final AtomicBoolean ocupado;
+    private final AtomicInteger terminada;
+    private Superficie[] superficies;
+    private int mostrada;
+    private volatile long nanosUltimoFotograma;
+
+    /**
+     * Crea el lienzo sin superficies; se crean con el primer fotograma.
+     */
+    public LienzoSoftware() {
+        this.vista = new ImageView();
+        this.vista.setSmooth(false);
+        this.trabajador = Executors.newSingleThreadExecutor(tarea -> {
+            final Thread hilo = new Thread(tarea, "RasterizadorSoftware");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        this.ocupado = new AtomicBoolean(false);
+        this.terminada = new AtomicInteger(SIN_SUPERFICIE);
+        this.superficies = new Superficie[0];
+        this.mostrada = SIN_SUPERFICIE;
+    }
+
+    /**
+     * Obtiene el nodo que muestra los fotogramas.
+     *
+     * @return vista de imagen del lienzo
+     */
+    public ImageView obtenerNodo() {
+        return vista;
+    }
+
+    /**
+     * Obtiene lo que tardo el hilo de trabajo en rasterizar el ultimo fotograma.
+     *
+     * @return nanosegundos del ultimo fotograma, o 0 si aun no hubo ninguno
+     */
+    public long obtenerNanosUltimoFotograma() {
+        return nanosUltimoFotograma;
+    }
+
+    /**
+     * Presenta el ultimo fotograma terminado y, si el hilo de trabajo esta
+     * libre, le encarga el siguiente. Debe invocarse desde el hilo de JavaFX
+     * en cada pulso.
+     * <p>
+     * El dibujo recibe el rasterizador de la superficie libre y se ejecuta en
+     * el hilo de trabajo, por lo que solo debe leer datos inmutables, como
+     * las instantaneas de la simulacion.
+     * </p>
+     *
+     * @param ancho  ancho deseado en pixeles
+     * @param alto   alto deseado en pixeles
+     * @param dibujo dibujo del fotograma siguiente
+     * @return true si se encargo el dibujo, false si el hilo de trabajo
+     *         estaba ocupado o las dimensiones no son validas
+     */
+    public boolean presentar(final int ancho, final int alto, final Consumer<RasterizadorSoftware> dibujo) {
+        publicarTerminada();
+        if (ancho <= 0 || alto <= 0 || !ocupado.compareAndSet(false, true)) {
+            return false;
+        }
+        // El trabajo anterior pudo terminar entre la primera publicacion y la
+        // adquisicion; se publica antes de elegir o recrear superficies.
+        publicarTerminada();
+        if (superficies.length == 0 || superficies[0].rasterizador.obtenerAncho() != ancho
+                || superficies[0].rasterizador.obtenerAlto() != alto) {
+            superficies = new Superficie[] {new Superficie(ancho, alto), new Superficie(ancho, alto)};
+            mostrada = SIN_SUPERFICIE;
+        }
+
+        final int destino = mostrada == 0 ? 1 : 0;
+        final RasterizadorSoftware rasterizador = superficies[destino].rasterizador;
+        trabajador.execute(() -> {
+            try {
+                final long inicio = System.nanoTime();
+                dibujo.accept(rasterizador);
+                nanosUltimoFotograma = System.nanoTime() - inicio;
+                terminada.set(destino);
+            } catch (RuntimeException e) {
+                System.err.println("Error rasterizando: " + e.getMessage());
+            } finally {
+                ocupado.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Muestra el fotograma que termino el hilo de trabajo, si hay uno, sin
+     * encargar otro. Sirve para publicar el ultimo fotograma cuando ya no se
+     * dibujan mas.
+     */
+    public void publicar() {
+        publicarTerminada();
+    }
+
+    /**
+     * Indica si hay un fotograma en el hilo de trabajo o terminado sin
+     * mostrar. Mientras sea asi hace falta otro pulso que lo publique.
+     *
+     * @return true si queda un fotograma por mostrar
+     */
+    public boolean tieneFotogramaPendiente() {
+        return ocupado.get() || terminada.get() != SIN_SUPERFICIE;
+    }
+
+    /**
+     * Muestra la superficie que termino de rasterizar el hilo de trabajo, si hay una.
+     */
+    private void publicarTerminada() {
+        final int lista = terminada.getAndSet(SIN_SUPERFICIE);
+        if (lista == SIN_SUPERFICIE) {
+            return;
+        }
+        final Superficie superficie = superficies[lista];
+        superficie.pixeles.updateBuffer(buffer -> null);
+        vista.setImage(superficie.imagen);
+        mostrada = lista;
+    }
+
+    /**
+     * Detiene el hilo de trabajo.
+     */
+    @Override
+    public void close() {
+        trabajador.shutdownNow();
+    }
+
+    /**
+     * Rasterizador con el buffer de pixeles y la imagen que lo muestran.
+     */
+    private static final class Superficie {
+
+        private final RasterizadorSoftware rasterizador;
+        private final PixelBuffer<IntBuffer> pixeles;
+        private final WritableImage imagen;
+
+        private Superficie(final int ancho, final int alto) {
+            this.rasterizador = new RasterizadorSoftware(ancho, alto);
+            this.pixeles = new PixelBuffer<>(ancho, alto, rasterizador.obtenerBuffer(),
+                PixelFormat.getIntArgbPreInstance());
+            this.imagen = new WritableImage(pixeles);
+        }
+    }
+}
@@ -3,15 +3,12 @@ package mvc.vista;
 import io.vavr.control.Try;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
-import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.control.Label;
 import javafx.scene.layout.*;
-import javafx.scene.paint.Color;
-import javafx.scene.text.Font;
-import javafx.scene.text.TextAlignment;
+import javafx.scene.transform.Affine;
+import mvc.modelo.CampoJuego;
 import util.CargadorRecursos;
 
 import java.util.Optional;
@@ -20,31 +17,42 @@ import java.util.Optional;
  * Vista principal del juego que muestra el campo de juego, paletas,
  * pelota y bloques.
  * Implementa responsividad mediante bindings con las dimensiones de la escena.
+ * <p>
+ * Los canvas y el lienzo por software no siguen el tamano de la ventana:
+ * tienen una resolucion interna fija, dibujan en coordenadas logicas de
+ * {@link CampoJuego} y una transformacion los escala a la ventana con
+ * bandas negras si la proporcion no coincide. Asi el costo de relleno
+ * depende de la resolucion interna y no del tamano de la ventana.
+ * </p>
+ * <p>
+ * El HUD se dibuja en una {@link CapaHud} sobre el campo, que solo se
+ * redibuja cuando cambia lo que muestra.
+ * </p>
  *
  * @author Equipo-polimorfo
  * @version 1.0
  */
 public class VistaJuego {
 
-    private static final String FUENTE_RETRO = "Press Start 2P";
-    private static final double TAMANIO_FUENTE_PUNTAJE = 24.0;
-    private static final double TAMANIO_FUENTE_INFO = 12.0;
-    private static final double PADDING_HUD = 20.0;
+    private static final String INFO_INICIAL = "ESPACIO: Iniciar | ALT: Pausa";
+    private static final double DURACION_MENSAJE_DEFECTO = 2.0;
 
     private StackPane contenedor;
     private Pane panelJuego;
+    private Pane superficieRender;
+    private Affine escaladoSuperficie;
+    private int anchoInterno;
+    private int altoInterno;
+    private Canvas canvasEstatico;
+    private GraphicsContext gcEstatico;
     private Canvas canvas;
     private GraphicsContext gc;
+    private LienzoSoftware lienzoSoftware;
+    private boolean renderSoftware;
     private DoubleProperty anchoProperty;
     private DoubleProperty altoProperty;
 
-    private Label labelPuntaje1;
-    private Label labelPuntaje2;
-    private Label labelTiempo;
-    private Label labelInfo;
-    private HBox hudSuperior;
-    private VBox hudIzquierdo;
-    private VBox hudDerecho;
+    private CapaHud capaHud;
 
     /**
      * Constructor que inicializa la vista del juego con responsividad.
@@ -52,8 +60,8 @@ public class VistaJuego {
     public VistaJuego() {
         inicializarPropiedades();
         cargarFuentes();
-        inicializarCanvas();
         inicializarHUD();
+        inicializarCanvas();
         inicializarContenedores();
         configurarResponsividad();
     }
@@ -75,106 +83,46 @@ public class VistaJuego {
     }
 
     /**
-     * Inicializa el canvas para renderizado del juego.
+     * Inicializa los canvas para renderizado del juego.
+     * La capa estática, con el fondo y los bloques, queda debajo de la
+     * dinámica y solo se redibuja cuando cambian los bloques; la dinámica
+     * es transparente y se redibuja en cada fotograma. Ambos empiezan a la
+     * resolucion nativa del campo.
      */
     private void inicializarCanvas() {
-        this.canvas = new Canvas(800, 600);
+        this.canvasEstatico = new Canvas();
+        this.gcEstatico = canvasEstatico.getGraphicsContext2D();
+        this.canvas = new Canvas();
         this.gc = canvas.getGraphicsContext2D();
 
-        canvas.widthProperty().bind(anchoProperty);
-        canvas.heightProperty().bind(altoProperty);
-    }
-
-    /**
-     * Inicializa el HUD (Heads-Up Display) con puntajes, tiempo e información.
-     */
-    private void inicializarHUD() {
-        crearLabels();
-        crearPanelesHUD();
-        aplicarEstilosHUD();
-    }
-
-    /**
-     * Crea los labels del HUD.
-     */
-    private void crearLabels() {
-        labelPuntaje1 = crearLabel("0", TAMANIO_FUENTE_PUNTAJE);
-        labelPuntaje2 = crearLabel("0", TAMANIO_FUENTE_PUNTAJE);
-        labelTiempo = crearLabel("3:00", TAMANIO_FUENTE_INFO);
-        labelInfo = crearLabel("ESPACIO: Iniciar | ALT: Pausa", TAMANIO_FUENTE_INFO);
-    }
+        this.lienzoSoftware = new LienzoSoftware();
+        this.lienzoSoftware.obtenerNodo().setVisible(false);
+        this.renderSoftware = false;
 
-    /**
-     * Crea un label con estilo retro.
-     *
-     * @param texto      Texto inicial del label
-     * @param tamanioFuente Tamaño de la fuente
-     * @return Label configurado
-     */
-    private Label crearLabel(final String texto, final double tamanioFuente) {
-        final Label label = new Label(texto);
-        label.setFont(Font.font(FUENTE_RETRO, tamanioFuente));
-        label.setTextFill(Color.WHITE);
-        label.setTextAlignment(TextAlignment.CENTER);
-        return label;
+        this.escaladoSuperficie = new Affine();
+        this.superficieRender = new Pane(canvasEstatico, canvas, lienzoSoftware.obtenerNodo(),
+            capaHud.obtenerNodo());
+        this.superficieRender.getTransforms().add(escaladoSuperficie);
+        establecerResolucionInterna((int) CampoJuego.ALTO);
     }
 
     /**
-     * Crea los paneles del HUD.
+     * Inicializa el HUD (Heads-Up Display) con puntajes, tiempo e información,
+     * dibujado en su propio canvas.
      */
-    private void crearPanelesHUD() {
-        hudSuperior = new HBox(PADDING_HUD);
-        hudSuperior.setAlignment(Pos.CENTER);
-        hudSuperior.getChildren().addAll(labelTiempo);
-
-        hudIzquierdo = new VBox(PADDING_HUD);
-        hudIzquierdo.setAlignment(Pos.TOP_LEFT);
-        hudIzquierdo.getChildren().add(labelPuntaje1);
-
-        hudDerecho = new VBox(PADDING_HUD);
-        hudDerecho.setAlignment(Pos.TOP_RIGHT);
-        hudDerecho.getChildren().add(labelPuntaje2);
-    }
-
-    /**
-     * Aplica estilos a los paneles del HUD.
-     */
-    private void aplicarEstilosHUD() {
-        hudSuperior.setStyle("-fx-padding: " + PADDING_HUD + ";");
-        hudIzquierdo.setStyle("-fx-padding: " + PADDING_HUD + ";");
-        hudDerecho.setStyle("-fx-padding: " + PADDING_HUD + ";");
+    private void inicializarHUD() {
+        this.capaHud = new CapaHud(INFO_INICIAL);
     }
 
     /**
      * Inicializa los contenedores de la vista.
      */
     private void inicializarContenedores() {
-        this.panelJuego = new Pane(canvas);
-
-        final BorderPane layoutPrincipal = new BorderPane();
-        layoutPrincipal.setCenter(panelJuego);
-        layoutPrincipal.setTop(hudSuperior);
-        layoutPrincipal.setLeft(hudIzquierdo);
-        layoutPrincipal.setRight(hudDerecho);
-        layoutPrincipal.setBottom(crearPanelInferior());
-
-        this.contenedor = new StackPane(layoutPrincipal);
+        this.panelJuego = new Pane(superficieRender);
+        this.contenedor = new StackPane(panelJuego);
         aplicarEstilosContenedor();
     }
 
-    /**
-     * Crea el panel inferior con información.
-     *
-     * @return HBox con información inferior
-     */
-    private HBox crearPanelInferior() {
-        final HBox panelInferior = new HBox();
-        panelInferior.setAlignment(Pos.CENTER);
-        panelInferior.setStyle("-fx-padding: " + PADDING_HUD + ";");
-        panelInferior.getChildren().add(labelInfo);
-        return panelInferior;
-    }
-
     /**
      * Aplica estilos al contenedor principal.
      */
@@ -188,6 +136,22 @@ public class VistaJuego {
      */
     private void configurarResponsividad() {
         vincularDimensionesPanel();
+        anchoProperty.addListener((obs, anterior, nuevo) -> actualizarEscalado());
+        altoProperty.addListener((obs, anterior, nuevo) -> actualizarEscalado());
+        actualizarEscalado();
+    }
+
+    /**
+     * Escala la superficie de renderizado para que quepa entera en el panel
+     * de juego, conservando la proporcion, y la centra.
+     */
+    private void actualizarEscalado() {
+        final double ancho = anchoProperty.get();
+        final double alto = altoProperty.get();
+        final double escala = CampoJuego.escalaAjuste(anchoInterno, altoInterno, ancho, alto);
+        escaladoSuperficie.setToTransform(
+            escala, 0.0, (ancho - anchoInterno * escala) / 2,
+            0.0, escala, (alto - altoInterno * escala) / 2);
     }
 
     /**
@@ -285,6 +249,61 @@ public class VistaJuego {
         return altoProperty;
     }
 
+    /**
+     * Establece la resolucion interna a la que se rasteriza el campo. El
+     * ancho se deriva del alto con la proporcion de {@link CampoJuego}; los
+     * contextos graficos quedan escalados para recibir coordenadas logicas.
+     *
+     * @param alto alto interno en pixeles
+     * @throws IllegalArgumentException si el alto no es positivo
+     */
+    public void establecerResolucionInterna(final int alto) {
+        if (alto <= 0) {
+            throw new IllegalArgumentException("El alto interno debe ser positivo: " + alto);
+        }
+        this.altoInterno = alto;
+        this.anchoInterno = CampoJuego.anchoParaAlto(alto);
+
+        canvasEstatico.setWidth(anchoInterno);
+        canvasEstatico.setHeight(altoInterno);
+        canvas.setWidth(anchoInterno);
+        canvas.setHeight(altoInterno);
+        superficieRender.setPrefSize(anchoInterno, altoInterno);
+
+        final double escala = obtenerEscalaInterna();
+        gcEstatico.setTransform(escala, 0.0, 0.0, escala, 0.0, 0.0);
+        gc.setTransform(escala, 0.0, 0.0, escala, 0.0, 0.0);
+        capaHud.establecerResolucion(anchoInterno, altoInterno, escala);
+        actualizarEscalado();
+    }
+
+    /**
+     * Obtiene el ancho de la resolucion interna de renderizado.
+     *
+     * @return ancho interno en pixeles
+     */
+    public int obtenerAnchoInterno() {
+        return anchoInterno;
+    }
+
+    /**
+     * Obtiene el alto de la resolucion interna de renderizado.
+     *
+     * @return alto interno en pixeles
+     */
+    public int obtenerAltoInterno() {
+        return altoInterno;
+    }
+
+    /**
+     * Obtiene los pixeles internos por unidad logica del campo.
+     *
+     * @return escala de coordenadas logicas a la resolucion interna
+     */
+    public double obtenerEscalaInterna() {
+        return altoInterno / CampoJuego.ALTO;
+    }
+
     /**
      * Obtiene el canvas de renderizado.
      *
@@ -294,6 +313,48 @@ public class VistaJuego {
         return canvas;
     }
 
+    /**
+     * Selecciona el renderizado por software, que rasteriza cada fotograma
+     * en un hilo de trabajo y lo muestra en una imagen, o el renderizado
+     * sobre los canvas en el hilo de JavaFX.
+     *
+     * @param activo true para rasterizar por software
+     */
+    public void establecerRenderSoftware(final boolean activo) {
+        this.renderSoftware = activo;
+        lienzoSoftware.obtenerNodo().setVisible(activo);
+        canvasEstatico.setVisible(!activo);
+        canvas.setVisible(!activo);
+    }
+
+    /**
+     * Indica si está seleccionado el renderizado por software.
+     *
+     * @return true si los fotogramas se rasterizan por software
+     */
+    public boolean usaRenderSoftware() {
+        return renderSoftware;
+    }
+
+    /**
+     * Obtiene el lienzo del renderizado por software.
+     *
+     * @return lienzo rasterizado en un hilo de trabajo
+     */
+    public LienzoSoftware obtenerLienzoSoftware() {
+        return lienzoSoftware;
+    }
+
+    /**
+     * Obtiene el contexto gráfico de la capa estática, donde se dibujan el
+     * fondo y los bloques.
+     *
+     * @return GraphicsContext de la capa estática
+     */
+    public GraphicsContext obtenerContextoGraficoEstatico() {
+        return gcEstatico;
+    }
+
     /**
      * Obtiene el contexto gráfico del canvas.
      *
@@ -304,34 +365,24 @@ public class VistaJuego {
     }
 
     /**
-     * Actualiza el puntaje mostrado para un jugador.
+     * Actualiza el puntaje mostrado para un jugador. Puede invocarse en cada
+     * fotograma: solo redibuja el HUD si el puntaje cambió.
      *
      * @param jugador Número del jugador (1 o 2)
      * @param nuevoPuntaje Nuevo puntaje a mostrar
      */
     public void actualizarPuntaje(final int jugador, final int nuevoPuntaje) {
-        Try.run(() -> {
-            final String puntajeFormateado = String.valueOf(nuevoPuntaje);
-            if (jugador == 1) {
-                labelPuntaje1.setText(puntajeFormateado);
-            } else if (jugador == 2) {
-                labelPuntaje2.setText(puntajeFormateado);
-            }
-        }).onFailure(e -> System.err.println("Error actualizando puntaje: " + e.getMessage()));
+        capaHud.establecerPuntaje(jugador, nuevoPuntaje);
     }
 
     /**
-     * Actualiza el tiempo mostrado en formato MM:SS.
+     * Actualiza el tiempo mostrado en formato MM:SS. Puede invocarse en cada
+     * fotograma: solo formatea y redibuja cuando cambia el segundo mostrado.
      *
      * @param segundosRestantes Segundos restantes del juego
      */
     public void actualizarTiempo(final double segundosRestantes) {
-        Try.run(() -> {
-            final int minutos = (int) segundosRestantes / 60;
-            final int segundos = (int) segundosRestantes % 60;
-            final String tiempoFormateado = String.format("%d:%02d", minutos, segundos);
-            labelTiempo.setText(tiempoFormateado);
-        }).onFailure(e -> System.err.println("Error actualizando tiempo: " + e.getMessage()));
+        capaHud.establecerTiempo(segundosRestantes);
     }
 
     /**
@@ -340,7 +391,7 @@ public class VistaJuego {
      * @param mensaje Nuevo mensaje a mostrar
      */
     public void actualizarInfo(final String mensaje) {
-        Try.run(() -> labelInfo.setText(mensaje))
+        Try.run(() -> capaHud.establecerInfo(mensaje))
                 .onFailure(e -> System.err.println("Error actualizando info: " + e.getMessage()));
     }
 
@@ -350,34 +401,28 @@ public class VistaJuego {
      * @param mensaje Mensaje a mostrar
      */
     public void mostrarMensajeCentral(final String mensaje) {
-        mostrarMensajeCentral(mensaje, 2.0);
+        mostrarMensajeCentral(mensaje, DURACION_MENSAJE_DEFECTO);
     }
 
     /**
      * Muestra un mensaje temporal en el centro de la pantalla con duracion personalizada.
+     * El mensaje se dibuja en la capa del HUD y reemplaza al anterior.
      *
      * @param mensaje Mensaje a mostrar
      * @param duracionSegundos Duracion en segundos que el mensaje permanecera visible
      */
     public void mostrarMensajeCentral(final String mensaje, final double duracionSegundos) {
-        Try.run(() -> {
-            final Label labelMensaje = crearLabel(mensaje, TAMANIO_FUENTE_INFO * 1.5);
-            labelMensaje.setStyle(
-                    "-fx-background-color: rgba(0, 0, 0, 0.8);" +
-                    "-fx-padding: 20;" +
-                    "-fx-background-radius: 10;"
-            );
-
-            contenedor.getChildren().add(labelMensaje);
-            StackPane.setAlignment(labelMensaje, Pos.CENTER);
-
-            new javafx.animation.Timeline(
-                    new javafx.animation.KeyFrame(
-                            javafx.util.Duration.seconds(duracionSegundos),
-                            event -> contenedor.getChildren().remove(labelMensaje)
-                    )
-            ).play();
-        }).onFailure(e -> System.err.println("Error mostrando mensaje: " + e.getMessage()));
+        Try.run(() -> capaHud.mostrarMensaje(mensaje, duracionSegundos))
+                .onFailure(e -> System.err.println("Error mostrando mensaje: " + e.getMessage()));
+    }
+
+    /**
+     * Obtiene la capa del HUD.
+     *
+     * @return capa dibujada sobre el campo de juego
+     */
+    public CapaHud obtenerCapaHud() {
+        return capaHud;
     }
 
     /**
@@ -3,8 +3,8 @@ package patrones.adapter;
 import javafx.scene.input.KeyCode;
 
 import java.lang.annotation.Inherited;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -32,8 +32,12 @@ import java.util.Set;
  */
 public class AdaptadorEntradaTeclado implements AdaptadorEntrada {
 
-    /** Conjunto las teclas que se han estan presionando actualmente.*/
-    private Set<KeyCode> teclasPresionadas = new HashSet<>();
+    /**
+     * Conjunto las teclas que se han estan presionando actualmente.
+     * Es concurrente porque se escribe desde el hilo de JavaFX y se lee
+     * desde el hilo de simulacion.
+     */
+    private final Set<KeyCode> teclasPresionadas = ConcurrentHashMap.newKeySet();
 
     /**
      * Detecta si una tecla está siendo presionada.
@@ -53,6 +57,14 @@ public class AdaptadorEntradaTeclado implements AdaptadorEntrada {
         teclasPresionadas.remove(key);
     }
 
+    /**
+     * Libera todas las teclas, por ejemplo al perder el foco la ventana,
+     * cuando las liberaciones ya no llegan como eventos.
+     */
+    public void liberarTodas() {
+        teclasPresionadas.clear();
+    }
+
     /**{@InheritDoc}*/
     @Override
     public boolean arribaPresionado() {
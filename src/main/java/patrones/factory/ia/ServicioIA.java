@@ -214,9 +214,11 @@ public class ServicioIA {
         Objects.requireNonNull(paleta, "La paleta no puede ser null");
         Objects.requireNonNull(pelota, "La pelota no puede ser null");
 
-        return obtenerEstrategiaMovimiento()
-                .map(estrategia -> estrategia.calcularMovimiento(paleta, pelota, tiempoDelta))
-                .getOrElse(Direccion.NINGUNA);
+        // Se invoca en cada tick: se evita envolver la estrategia en un Option
+        // para no asignar memoria en el camino caliente.
+        return estrategiaActual != null
+                ? estrategiaActual.calcularMovimiento(paleta, pelota, tiempoDelta)
+                : Direccion.NINGUNA;
     }
 
     /**
@@ -25,6 +25,11 @@ public final class FabricaItems {
      */
     private static final double DURACION_PREDETERMINADA = 10.0;
 
+    /**
+     * Pelotas que agrega el item de multipelota.
+     */
+    private static final int PELOTAS_POR_DIVISION = 2;
+
     /**
      * Lista inmutable de proveedores de items.
      * Cada proveedor es una funcion pura que crea una nueva instancia de item.
@@ -32,7 +37,8 @@ public final class FabricaItems {
     private static final List<Supplier<Item>> proveedoresItems = List.of(
         () -> new ItemAumentoVelocidad(1.5, DURACION_PREDETERMINADA, false, DURACION_PREDETERMINADA),
         () -> new ItemNeblina(DURACION_PREDETERMINADA),
-        () -> new ItemRedimensionarPaleta(1.3, DURACION_PREDETERMINADA)
+        () -> new ItemRedimensionarPaleta(1.3, DURACION_PREDETERMINADA),
+        () -> new ItemMultiPelota(PELOTAS_POR_DIVISION)
     );
 
     /**
@@ -50,7 +56,18 @@ public final class FabricaItems {
      * @return Try conteniendo el item generado o un error si falla la generacion
      */
     public static Try<Item> generarItemAleatorio() {
-        return Try.of(() -> seleccionarProveedorAleatorio()
+        return generarItemAleatorio(generador);
+    }
+
+    /**
+     * Genera un item aleatorio eligiendo el tipo con el generador indicado.
+     * Con un generador de semilla fija la sucesion de items es repetible.
+     *
+     * @param azar generador con el que se elige el tipo de item
+     * @return Try conteniendo el item generado o un error si falla la generacion
+     */
+    public static Try<Item> generarItemAleatorio(Random azar) {
+        return Try.of(() -> seleccionarProveedorAleatorio(azar)
             .map(Supplier::get)
             .getOrElseThrow(() -> new IllegalStateException("No hay proveedores de items disponibles")));
     }
@@ -93,12 +110,13 @@ public final class FabricaItems {
      * Selecciona un proveedor de items aleatorio de la lista.
      * Funcion pura que utiliza el generador para seleccion aleatoria.
      *
+     * @param azar generador con el que se elige el proveedor
      * @return Option conteniendo el proveedor seleccionado o Option.none() si la lista esta vacia
      */
-    private static Option<Supplier<Item>> seleccionarProveedorAleatorio() {
+    private static Option<Supplier<Item>> seleccionarProveedorAleatorio(Random azar) {
         return Option.when(
             !proveedoresItems.isEmpty(),
-            () -> proveedoresItems.get(generador.nextInt(proveedoresItems.length()))
+            () -> proveedoresItems.get(azar.nextInt(proveedoresItems.length()))
         );
     }
 
@@ -1,15 +1,19 @@
 package patrones.observer;
 
 import io.vavr.Lazy;
+import io.vavr.collection.List;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
-import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import util.CargadorRecursos;
+import util.MezcladorEfectos;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.sound.sampled.SourceDataLine;
 
 /**
  * Gestor centralizado de audio del juego implementado como Singleton.
@@ -18,6 +22,12 @@ import java.util.Map;
  * <p>Esta clase proporciona control sobre la reproduccion de audio, volumen
  * y silenciado, desacoplando los componentes del juego de las APIs de JavaFX Media.</p>
  *
+ * <p>Los efectos de sonido no usan {@code AudioClip}, cuya latencia varia
+ * mucho: se decodifican una vez al iniciar y los mezcla un
+ * {@link MezcladorEfectos} en su propio hilo sobre una linea de Java Sound.
+ * Cada reproduccion varia un poco el volumen y el tono para que los golpes
+ * repetidos no suenen identicos.</p>
+ *
  * <p>Patron de diseno: Singleton con inicializacion lazy thread-safe.</p>
  *
  * @author Equipo-Polimorfo
@@ -28,8 +38,29 @@ public final class GestorAudio {
     private static final Lazy<GestorAudio> INSTANCIA = Lazy.of(GestorAudio::new);
     private static final double VOLUMEN_PREDETERMINADO = 0.4;
     private static final String RUTA_MUSICA_FONDO = "audio/musica/fondo.wav";
+    private static final String RUTA_EFECTOS = "audio/efectos/";
+
+    /** Variacion maxima del volumen de un efecto, como fraccion que se resta. */
+    private static final double VARIACION_VOLUMEN = 0.2;
+
+    /** Variacion maxima del tono de un efecto, en semitonos hacia cada lado. */
+    private static final double VARIACION_TONO_SEMITONOS = 1.0;
+
+    /** Efecto del golpe de la pelota contra una paleta. */
+    public static final String EFECTO_PALETA = "paleta";
 
-    private final Map<String, AudioClip> efectosSonido;
+    /** Efecto del rebote de la pelota en una pared. */
+    public static final String EFECTO_PARED = "pared";
+
+    /** Efecto del golpe de la pelota contra un bloque. */
+    public static final String EFECTO_BLOQUE = "bloque";
+
+    /** Efecto de un punto anotado. */
+    public static final String EFECTO_GOL = "gol";
+
+    private final Map<String, Integer> efectosSonido;
+    private final MezcladorEfectos mezclador;
+    private Option<SourceDataLine> lineaEfectos;
     private Option<MediaPlayer> musicaFondo;
     private double volumen;
     private boolean silenciado;
@@ -40,9 +71,12 @@ public final class GestorAudio {
      */
     private GestorAudio() {
         this.efectosSonido = new HashMap<>();
+        this.mezclador = new MezcladorEfectos();
+        this.lineaEfectos = Option.none();
         this.musicaFondo = Option.none();
         this.volumen = VOLUMEN_PREDETERMINADO;
         this.silenciado = false;
+        aplicarVolumenEfectos();
     }
 
     /**
@@ -137,14 +171,95 @@ public final class GestorAudio {
     }
 
     /**
-     * Reproduce un efecto de sonido identificado por su nombre.
+     * Carga los efectos de sonido del juego y abre la linea de salida. La
+     * linea queda detenida y el mezclador parado hasta
+     * {@link #reanudarEfectos()}.
+     *
+     * <p>Esta operacion es idempotente. Si no hay dispositivo de audio, los
+     * efectos quedan registrados pero no suenan.</p>
+     *
+     * @return true si la linea de efectos quedo abierta, false en caso contrario
+     */
+    public boolean inicializarEfectos() {
+        if (lineaEfectos.isDefined()) {
+            return true;
+        }
+        List.of(EFECTO_PALETA, EFECTO_PARED, EFECTO_BLOQUE, EFECTO_GOL)
+                .filter(nombre -> !efectosSonido.containsKey(nombre))
+                .forEach(nombre -> CargadorRecursos.cargarEfectoSonido(RUTA_EFECTOS + nombre + ".wav")
+                        .ifPresent(muestras -> registrarEfectoSonido(nombre, muestras)));
+        return Try.of(MezcladorEfectos::abrirLinea)
+                .onFailure(error -> System.err.println("No hay salida para los efectos de sonido: "
+                        + error.getMessage()))
+                .peek(linea -> {
+                    linea.stop();
+                    lineaEfectos = Option.of(linea);
+                    System.out.printf("Efectos de sonido: %d cargados, bufer de salida de %.1f ms%n",
+                            efectosSonido.size(),
+                            linea.getBufferSize() / 2 * 1000.0 / MezcladorEfectos.FRECUENCIA_MUESTREO);
+                })
+                .isSuccess();
+    }
+
+    /**
+     * Pone en marcha el mezclador sobre la linea abierta por
+     * {@link #inicializarEfectos()}. No hace nada si ya esta en marcha o si
+     * no hay linea.
+     */
+    public void reanudarEfectos() {
+        if (mezclador.estaEjecutando()) {
+            return;
+        }
+        lineaEfectos.forEach(linea -> {
+            linea.start();
+            mezclador.iniciar(MezcladorEfectos.salidaLinea(linea));
+        });
+    }
+
+    /**
+     * Detiene el mezclador y la linea de efectos, de modo que no se escriba
+     * silencio mientras el juego esta en pausa u oculto. Los efectos que
+     * sonaban continuan al reanudar; los disparados mientras tanto se
+     * descartan.
+     */
+    public void suspenderEfectos() {
+        mezclador.detener();
+        lineaEfectos.forEach(linea -> {
+            linea.stop();
+            linea.flush();
+        });
+    }
+
+    /**
+     * Reproduce un efecto de sonido identificado por su nombre, con una
+     * variacion aleatoria de volumen y tono.
      * Si el efecto no existe en el mapa, no realiza ninguna accion.
      *
      * @param nombreSonido Identificador del efecto de sonido a reproducir
      */
     public void reproducirSonido(String nombreSonido) {
-        Option.of(efectosSonido.get(nombreSonido))
-                .peek(AudioClip::play);
+        reproducirSonido(nombreSonido, 1.0, 1.0);
+    }
+
+    /**
+     * Reproduce un efecto de sonido con un volumen y un tono base, sobre los
+     * que se aplica la variacion aleatoria.
+     * Si el efecto no existe en el mapa o no hay salida de audio, no realiza
+     * ninguna accion.
+     *
+     * @param nombreSonido Identificador del efecto de sonido a reproducir
+     * @param volumenBase  Ganancia del efecto, 1 para el volumen original
+     * @param tonoBase     Factor de velocidad, 1 para el tono original
+     */
+    public void reproducirSonido(String nombreSonido, double volumenBase, double tonoBase) {
+        final Integer efecto = efectosSonido.get(nombreSonido);
+        if (efecto == null || !mezclador.estaEjecutando()) {
+            return;
+        }
+        final ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        final double volumenVariado = volumenBase * (1.0 - VARIACION_VOLUMEN * aleatorio.nextDouble());
+        final double semitonos = VARIACION_TONO_SEMITONOS * (2.0 * aleatorio.nextDouble() - 1.0);
+        mezclador.disparar(efecto, volumenVariado, tonoBase * Math.pow(2.0, semitonos / 12.0));
     }
 
     /**
@@ -171,6 +286,7 @@ public final class GestorAudio {
     public void establecerVolumen(double nuevoVolumen) {
         this.volumen = Math.max(0.0, Math.min(1.0, nuevoVolumen));
         musicaFondo.peek(reproductor -> reproductor.setVolume(this.volumen));
+        aplicarVolumenEfectos();
     }
 
     /**
@@ -180,6 +296,7 @@ public final class GestorAudio {
     public void silenciar() {
         this.silenciado = true;
         musicaFondo.peek(reproductor -> reproductor.setMute(true));
+        aplicarVolumenEfectos();
     }
 
     /**
@@ -189,6 +306,14 @@ public final class GestorAudio {
     public void activarSonido() {
         this.silenciado = false;
         musicaFondo.peek(reproductor -> reproductor.setMute(false));
+        aplicarVolumenEfectos();
+    }
+
+    /**
+     * Traslada el volumen y el silenciado al volumen maestro del mezclador.
+     */
+    private void aplicarVolumenEfectos() {
+        mezclador.establecerVolumenMaestro(silenciado ? 0.0 : volumen);
     }
 
     /**
@@ -219,17 +344,19 @@ public final class GestorAudio {
     public void liberarRecursos() {
         musicaFondo.peek(MediaPlayer::dispose);
         musicaFondo = Option.none();
-        efectosSonido.clear();
+        mezclador.detener();
+        lineaEfectos.peek(SourceDataLine::close);
+        lineaEfectos = Option.none();
     }
 
     /**
      * Registra un efecto de sonido en el mapa de efectos disponibles.
      *
-     * @param nombre Identificador unico del efecto de sonido
-     * @param efecto AudioClip con el efecto de sonido cargado
+     * @param nombre   Identificador unico del efecto de sonido
+     * @param muestras Muestras PCM mono decodificadas, ver {@link MezcladorEfectos#registrar}
      */
-    public void registrarEfectoSonido(String nombre, AudioClip efecto) {
-        efectosSonido.put(nombre, efecto);
+    public void registrarEfectoSonido(String nombre, float[] muestras) {
+        efectosSonido.put(nombre, mezclador.registrar(muestras));
     }
 
     /**
@@ -44,4 +44,16 @@ public interface ObservadorJuego {
      * @param item el objeto {@link Item} que ha sido generado
      */
     void alGenrarItem(Item item);
+
+    /**
+     * Se invoca cuando la pelota rebota en la paleta de un jugador.
+     * <p>
+     * Implementacion vacia por defecto; la usan los observadores que
+     * miden la longitud de los intercambios.
+     * </p>
+     *
+     * @param jugador el identificador del jugador cuya paleta golpeo la pelota
+     */
+    default void alGolpearPaleta(int jugador) {
+    }
 }
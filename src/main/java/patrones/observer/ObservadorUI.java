@@ -14,8 +14,8 @@ import mvc.vista.VistaJuego;
  *
  * <p>Esta clase implementa {@link ObservadorJuego} y se comunica con la
  * {@link VistaJuego} para reflejar en pantalla los cambios producidos en
- * el modelo: actualizaciones de puntaje, fin de juego, avance de nivel
- * y generación de ítems.</p>
+ * el modelo: fin de juego y avance de nivel. Los puntajes y los ítems
+ * generados llegan a la vista por el anillo de eventos del controlador.</p>
  *
  * <p>Su propósito principal es mantener la UI sincronizada con el estado
  * interno del juego sin acoplar la lógica visual al modelo.</p>
@@ -56,19 +56,20 @@ public class ObservadorUI implements ObservadorJuego {
         this.callbackVolverMenu = callbackVolverMenu;
     }
 
-    /**{@inheritDoc}*/
+    /**
+     * No hace nada: el controlador muestra en cada fotograma el puntaje de la
+     * ultima {@link mvc.modelo.simulacion.InstantaneaJuego}, sin encolar una
+     * tarea en el hilo de JavaFX desde la simulacion.
+     */
     @Override
     public void alcambiarPuntaje(int jugador, int nuevoPuntaje) {
-        if (vistaJuego != null) {
-            vistaJuego.actualizarPuntaje(jugador, nuevoPuntaje);
-        }
     }
 
     /**{@inheritDoc}*/
     @Override
     public void alTerminarJuego(int ganador) {
         Option.of(vistaJuego)
-            .peek(vista -> mostrarMensajeYVolverMenu(ganador));
+            .peek(vista -> ejecutarEnHiloFX(() -> mostrarMensajeYVolverMenu(ganador)));
     }
 
     /**
@@ -119,15 +120,33 @@ public class ObservadorUI implements ObservadorJuego {
     @Override
     public void alCompletarNivel() {
         if (vistaJuego != null) {
-            vistaJuego.mostrarMensajeCentral("NIVEL COMPLETADO");
+            ejecutarEnHiloFX(() -> vistaJuego.mostrarMensajeCentral("NIVEL COMPLETADO"));
         }
     }
 
-    /**{@inheritDoc}*/
+    /**
+     * No hace nada: el controlador muestra el aviso al drenar los items
+     * generados del {@link mvc.modelo.simulacion.AnilloEventos}.
+     */
     @Override
     public void alGenrarItem(Item item) {
-        if (vistaJuego != null) {
-            vistaJuego.mostrarMensajeCentral("POWER-UP");
+    }
+
+    /**
+     * Ejecuta una accion sobre la vista en el hilo de JavaFX.
+     * <p>
+     * Los eventos del modelo se emiten desde el hilo de simulacion, por lo que
+     * las modificaciones del grafo de escena se difieren con
+     * {@link Platform#runLater(Runnable)} cuando no se esta ya en el hilo de JavaFX.
+     * </p>
+     *
+     * @param accion la accion a ejecutar
+     */
+    private void ejecutarEnHiloFX(final Runnable accion) {
+        if (Platform.isFxApplicationThread()) {
+            accion.run();
+        } else {
+            Platform.runLater(accion);
         }
     }
 }
@@ -1,7 +1,11 @@
 package patrones.singleton;
 
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 
 /**
  * Clase Singleton que gestiona la configuración global de la aplicación.
@@ -15,7 +19,26 @@ public class ConfiguracionGlobal {
 
     private static ConfiguracionGlobal instancia;
 
+    /** Frecuencia de simulacion por defecto, en ticks por segundo. */
+    public static final int FRECUENCIA_SIMULACION_DEFECTO = 240;
+
+    /** Alto por defecto de la resolucion interna de renderizado, en pixeles. */
+    public static final int ALTO_RENDER_INTERNO_DEFECTO = 600;
+
+    /** Tiempo de fotograma objetivo por defecto de la calidad adaptativa, en milisegundos. */
+    public static final double OBJETIVO_FOTOGRAMA_MS_DEFECTO = 16.6;
+
+    /**
+     * Indica si se informan por consola los diagnosticos del renderizado.
+     * Se activa iniciando la JVM con {@code -Dpong.diagnostico=true}.
+     */
+    public static final boolean DIAGNOSTICO = Boolean.getBoolean("pong.diagnostico");
+
     private final BooleanProperty pantallaCompleta;
+    private final IntegerProperty frecuenciaSimulacion;
+    private final IntegerProperty altoRenderInterno;
+    private final BooleanProperty calidadAdaptativa;
+    private final DoubleProperty objetivoFotogramaMs;
 
     /**
      * Constructor privado que inicializa las propiedades de configuración.
@@ -24,6 +47,10 @@ public class ConfiguracionGlobal {
      */
     private ConfiguracionGlobal() {
         this.pantallaCompleta = new SimpleBooleanProperty(false);
+        this.frecuenciaSimulacion = new SimpleIntegerProperty(FRECUENCIA_SIMULACION_DEFECTO);
+        this.altoRenderInterno = new SimpleIntegerProperty(ALTO_RENDER_INTERNO_DEFECTO);
+        this.calidadAdaptativa = new SimpleBooleanProperty(true);
+        this.objetivoFotogramaMs = new SimpleDoubleProperty(OBJETIVO_FOTOGRAMA_MS_DEFECTO);
     }
 
     /**
@@ -131,4 +158,123 @@ public class ConfiguracionGlobal {
     private boolean calcularEstadoAlternado(boolean estadoActual) {
         return !estadoActual;
     }
+
+    /**
+     * Obtiene la propiedad observable de la frecuencia de simulacion.
+     * El bucle de simulacion escucha esta propiedad para ajustar su paso fijo.
+     *
+     * @return la propiedad observable de la frecuencia en hercios
+     */
+    public IntegerProperty frecuenciaSimulacionProperty() {
+        return frecuenciaSimulacion;
+    }
+
+    /**
+     * Obtiene la frecuencia de simulacion actual.
+     *
+     * @return ticks de simulacion por segundo
+     */
+    public int getFrecuenciaSimulacion() {
+        return frecuenciaSimulacion.get();
+    }
+
+    /**
+     * Establece la frecuencia de simulacion (por ejemplo 120, 240 o 500 Hz).
+     *
+     * @param hercios ticks de simulacion por segundo
+     */
+    public void setFrecuenciaSimulacion(int hercios) {
+        frecuenciaSimulacion.set(hercios);
+    }
+
+    /**
+     * Obtiene la propiedad observable del alto de la resolucion interna de
+     * renderizado. El ancho se deriva de la proporcion del campo de juego.
+     *
+     * @return la propiedad observable del alto interno en pixeles
+     */
+    public IntegerProperty altoRenderInternoProperty() {
+        return altoRenderInterno;
+    }
+
+    /**
+     * Obtiene el alto de la resolucion interna de renderizado.
+     *
+     * @return alto interno en pixeles
+     */
+    public int getAltoRenderInterno() {
+        return altoRenderInterno.get();
+    }
+
+    /**
+     * Establece el alto de la resolucion interna de renderizado (por ejemplo
+     * 360, 600 o 720 pixeles). El campo se rasteriza a esa resolucion y se
+     * escala a la ventana, de modo que el costo de relleno no depende del
+     * tamano de la ventana.
+     *
+     * @param alto alto interno en pixeles
+     */
+    public void setAltoRenderInterno(int alto) {
+        altoRenderInterno.set(alto);
+    }
+
+    /**
+     * Obtiene la propiedad observable que activa la calidad adaptativa, que
+     * baja y restaura la calidad visual para sostener el tiempo de fotograma
+     * objetivo.
+     *
+     * @return la propiedad observable de la calidad adaptativa
+     */
+    public BooleanProperty calidadAdaptativaProperty() {
+        return calidadAdaptativa;
+    }
+
+    /**
+     * Indica si la calidad adaptativa esta activa.
+     *
+     * @return true si la calidad se ajusta al tiempo de fotograma
+     */
+    public boolean isCalidadAdaptativa() {
+        return calidadAdaptativa.get();
+    }
+
+    /**
+     * Activa o desactiva la calidad adaptativa. Al desactivarla se vuelve a
+     * la calidad maxima.
+     *
+     * @param valor true para ajustar la calidad al tiempo de fotograma
+     */
+    public void setCalidadAdaptativa(boolean valor) {
+        calidadAdaptativa.set(valor);
+    }
+
+    /**
+     * Obtiene la propiedad observable del tiempo de fotograma objetivo de la
+     * calidad adaptativa.
+     *
+     * @return la propiedad observable del objetivo en milisegundos
+     */
+    public DoubleProperty objetivoFotogramaMsProperty() {
+        return objetivoFotogramaMs;
+    }
+
+    /**
+     * Obtiene el tiempo de fotograma objetivo de la calidad adaptativa.
+     *
+     * @return objetivo en milisegundos
+     */
+    public double getObjetivoFotogramaMs() {
+        return objetivoFotogramaMs.get();
+    }
+
+    /**
+     * Establece el tiempo de fotograma que la calidad adaptativa intenta
+     * sostener en el percentil 99 (por ejemplo 16.6 ms para 60 fotogramas
+     * por segundo).
+     *
+     * @param milisegundos objetivo en milisegundos
+     */
+    public void setObjetivoFotogramaMs(double milisegundos) {
+        objetivoFotogramaMs.set(milisegundos);
+    }
 }
@@ -0,0 +1,351 @@
+package patrones.strategy.colision;
+
+import mvc.modelo.ModeloJuego;
+import mvc.modelo.entidades.AlmacenEntidades;
+import mvc.modelo.entidades.Bloque;
+import mvc.modelo.entidades.paleta.Paleta;
+import mvc.modelo.enums.LadoHorizontal;
+
+/**
+ * Busqueda del primer impacto de una pelota que se desplaza durante un tramo.
+ * <p>
+ * Barre el circulo de la pelota a lo largo de su desplazamiento contra las
+ * paredes, las paletas y los bloques cercanos, y guarda el instante, la
+ * normal y el objeto del primer impacto. Solo lee el modelo: aplicar el
+ * rebote y sus efectos le corresponde a {@link GestorColisiones}.
+ * </p>
+ * <p>
+ * El resultado se guarda en campos que se reutilizan para no asignar memoria,
+ * por lo que cada hilo que busca impactos necesita su propia instancia.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+final class BarridoPelota {
+
+    static final int SIN_IMPACTO = 0;
+    static final int IMPACTO_PARED = 1;
+    static final int IMPACTO_GOL = 2;
+    static final int IMPACTO_PALETA = 3;
+    static final int IMPACTO_BLOQUE = 4;
+
+    private final RejillaEspacial.Consulta consulta = new RejillaEspacial.Consulta();
+
+    private int tipoImpacto;
+    private double tiempoImpacto;
+    private double normalImpactoX;
+    private double normalImpactoY;
+    private Paleta paletaImpactada;
+    private int posicionBloqueImpactado;
+
+    /**
+     * Busca el primer impacto del tramo que recorre la pelota.
+     *
+     * @param modeloJuego modelo con las paletas y los bloques
+     * @param paredes estrategia de paredes, o null si no hay paredes
+     * @param conBloques true si hay estrategia pelota-bloque registrada
+     * @param x posicion X de la pelota al iniciar el tramo
+     * @param y posicion Y de la pelota al iniciar el tramo
+     * @param radio radio de la pelota
+     * @param dx desplazamiento horizontal del tramo
+     * @param dy desplazamiento vertical del tramo
+     * @return tipo del primer impacto, o {@link #SIN_IMPACTO}
+     */
+    int buscar(final ModeloJuego modeloJuego, final EstrategiaColisionPelotaPared paredes,
+               final boolean conBloques, final double x, final double y, final double radio,
+               final double dx, final double dy) {
+        tipoImpacto = SIN_IMPACTO;
+        tiempoImpacto = 1.0;
+        if (paredes != null) {
+            buscarImpactoParedes(x, y, radio, dx, dy, paredes);
+        }
+        buscarImpactoPaleta(modeloJuego.obtenerJugador1(), x, y, radio, dx, dy);
+        buscarImpactoPaleta(modeloJuego.obtenerJugador2(), x, y, radio, dx, dy);
+        if (conBloques) {
+            buscarImpactoBloques(modeloJuego, x, y, radio, dx, dy);
+        }
+        return tipoImpacto;
+    }
+
+    /**
+     * Obtiene la fraccion del tramo en la que ocurre el ultimo impacto encontrado.
+     *
+     * @return instante en {@code [0, 1]}
+     */
+    double obtenerTiempoImpacto() {
+        return tiempoImpacto;
+    }
+
+    double obtenerNormalX() {
+        return normalImpactoX;
+    }
+
+    double obtenerNormalY() {
+        return normalImpactoY;
+    }
+
+    Paleta obtenerPaletaImpactada() {
+        return paletaImpactada;
+    }
+
+    int obtenerPosicionBloqueImpactado() {
+        return posicionBloqueImpactado;
+    }
+
+    /**
+     * Busca el impacto con las paredes superior e inferior y con las lineas
+     * de gol laterales.
+     */
+    private void buscarImpactoParedes(final double x, final double y, final double radio,
+                                      final double dx, final double dy,
+                                      final EstrategiaColisionPelotaPared pared) {
+        if (dy < 0) {
+            registrarImpactoPlano(Math.max(0.0, (radio - y) / dy), 0.0, 1.0, IMPACTO_PARED);
+        } else if (dy > 0) {
+            registrarImpactoPlano(Math.max(0.0, (pared.obtenerAltoCanvas() - radio - y) / dy), 0.0, -1.0,
+                IMPACTO_PARED);
+        }
+        if (dx < 0) {
+            registrarImpactoPlano(Math.max(0.0, (radio - x) / dx), 1.0, 0.0, IMPACTO_GOL);
+        } else if (dx > 0) {
+            registrarImpactoPlano(Math.max(0.0, (pared.obtenerAnchoCanvas() - radio - x) / dx), -1.0, 0.0,
+                IMPACTO_GOL);
+        }
+    }
+
+    private void registrarImpactoPlano(final double t, final double normalX, final double normalY,
+                                       final int tipo) {
+        if (t < tiempoImpacto || (t == tiempoImpacto && tipoImpacto == SIN_IMPACTO)) {
+            tiempoImpacto = t;
+            normalImpactoX = normalX;
+            normalImpactoY = normalY;
+            tipoImpacto = tipo;
+        }
+    }
+
+    /**
+     * Busca el impacto con una paleta.
+     * <p>
+     * La paleta se mueve antes que la pelota, por lo que puede terminar encima
+     * de ella. En ese caso, si la pelota va hacia el lado de la paleta, hay
+     * golpe inmediato en la cara frontal aunque la paleta la haya alcanzado
+     * por un canto; si no, la pelota la atravesaria hacia la linea de gol.
+     * </p>
+     */
+    private void buscarImpactoPaleta(final Paleta paleta, final double x, final double y,
+                                     final double radio, final double dx, final double dy) {
+        if (paleta == null) {
+            return;
+        }
+        final double izquierda = paleta.obtenerX();
+        final double arriba = paleta.obtenerY();
+        final double derecha = izquierda + paleta.obtenerAncho();
+        final double abajo = arriba + paleta.obtenerAlto();
+        final boolean ladoIzquierdo = paleta.obtenerLadoPantalla() == LadoHorizontal.IZQUIERDA;
+        final boolean seAcerca = ladoIzquierdo ? dx < 0 : dx > 0;
+
+        if (seAcerca && tiempoImpacto > 0.0) {
+            final double cercanoX = Math.max(izquierda, Math.min(x, derecha));
+            final double cercanoY = Math.max(arriba, Math.min(y, abajo));
+            final double distanciaX = x - cercanoX;
+            final double distanciaY = y - cercanoY;
+            if (distanciaX * distanciaX + distanciaY * distanciaY < radio * radio) {
+                tiempoImpacto = 0.0;
+                normalImpactoX = ladoIzquierdo ? 1.0 : -1.0;
+                normalImpactoY = 0.0;
+                tipoImpacto = IMPACTO_PALETA;
+                paletaImpactada = paleta;
+                return;
+            }
+        }
+        if (calcularImpacto(x, y, radio, dx, dy, izquierda, arriba, derecha, abajo)) {
+            tipoImpacto = IMPACTO_PALETA;
+            paletaImpactada = paleta;
+        }
+    }
+
+    /**
+     * Busca el impacto con los bloques cercanos al recorrido.
+     * <p>
+     * La fase amplia consulta la {@link RejillaEspacial} del modelo con el
+     * rectangulo que barre la pelota en este tramo, por lo que el costo no
+     * crece con la cantidad de bloques del nivel. El tiempo de impacto se
+     * calcula directamente sobre los arreglos del almacen.
+     * </p>
+     */
+    private void buscarImpactoBloques(final ModeloJuego modeloJuego, final double x, final double y,
+                                      final double radio, final double dx, final double dy) {
+        final AlmacenEntidades<Bloque> almacen = modeloJuego.obtenerAlmacenBloques();
+        final RejillaEspacial rejilla = modeloJuego.obtenerRejillaBloques();
+        final int candidatos = rejilla.consultar(almacen,
+            Math.min(x, x + dx) - radio,
+            Math.min(y, y + dy) - radio,
+            Math.max(x, x + dx) + radio,
+            Math.max(y, y + dy) + radio,
+            consulta);
+        for (int i = 0; i < candidatos; i++) {
+            final int posicion = consulta.obtenerCandidato(i);
+            if (!almacen.estaActivaEn(posicion)) {
+                continue;
+            }
+            final double bloqueX = almacen.obtenerXEn(posicion);
+            final double bloqueY = almacen.obtenerYEn(posicion);
+            if (calcularImpacto(x, y, radio, dx, dy, bloqueX, bloqueY,
+                    bloqueX + almacen.obtenerAnchoEn(posicion), bloqueY + almacen.obtenerAltoEn(posicion))) {
+                tipoImpacto = IMPACTO_BLOQUE;
+                posicionBloqueImpactado = posicion;
+            }
+        }
+    }
+
+    /**
+     * Calcula el instante en que un circulo que se desplaza toca un rectangulo.
+     * <p>
+     * Se prueba el segmento del centro contra el rectangulo agrandado en el
+     * radio y, si la entrada cae en una esquina, contra el circulo de esa
+     * esquina, lo que equivale a la suma de Minkowski exacta. Si el circulo ya
+     * solapa el rectangulo, hay impacto inmediato solo cuando se mueve hacia
+     * dentro, con la normal de la cara menos penetrada.
+     * </p>
+     * <p>
+     * Si el impacto es anterior al mejor encontrado, actualiza el tiempo y la
+     * normal y devuelve true; el llamador registra el objeto impactado.
+     * </p>
+     *
+     * @return true si este rectangulo es ahora el primer impacto del tramo
+     */
+    private boolean calcularImpacto(final double x, final double y, final double radio,
+                                    final double dx, final double dy,
+                                    final double izquierda, final double arriba,
+                                    final double derecha, final double abajo) {
+        final double minX = izquierda - radio;
+        final double maxX = derecha + radio;
+        final double minY = arriba - radio;
+        final double maxY = abajo + radio;
+
+        if (x > minX && x < maxX && y > minY && y < maxY) {
+            final boolean fueraX = x < izquierda || x > derecha;
+            final boolean fueraY = y < arriba || y > abajo;
+            if (fueraX && fueraY) {
+                final double esquinaX = x < izquierda ? izquierda : derecha;
+                final double esquinaY = y < arriba ? arriba : abajo;
+                final double distanciaX = x - esquinaX;
+                final double distanciaY = y - esquinaY;
+                final double distancia = Math.sqrt(distanciaX * distanciaX + distanciaY * distanciaY);
+                if (distancia >= radio) {
+                    return calcularImpactoEsquina(x, y, radio, dx, dy, esquinaX, esquinaY, 0.0);
+                }
+                return registrarSolapamiento(dx, dy, distanciaX / distancia, distanciaY / distancia);
+            }
+            final double penetracionIzquierda = x - minX;
+            final double penetracionDerecha = maxX - x;
+            final double penetracionArriba = y - minY;
+            final double penetracionAbajo = maxY - y;
+            final double minimo = Math.min(Math.min(penetracionIzquierda, penetracionDerecha),
+                Math.min(penetracionArriba, penetracionAbajo));
+            if (minimo == penetracionIzquierda) {
+                return registrarSolapamiento(dx, dy, -1.0, 0.0);
+            }
+            if (minimo == penetracionDerecha) {
+                return registrarSolapamiento(dx, dy, 1.0, 0.0);
+            }
+            if (minimo == penetracionArriba) {
+                return registrarSolapamiento(dx, dy, 0.0, -1.0);
+            }
+            return registrarSolapamiento(dx, dy, 0.0, 1.0);
+        }
+
+        double entrada = Double.NEGATIVE_INFINITY;
+        double salida = Double.POSITIVE_INFINITY;
+        double normalX = 0.0;
+        double normalY = 0.0;
+        if (dx == 0.0) {
+            if (x < minX || x > maxX) {
+                return false;
+            }
+        } else {
+            final double t1 = (minX - x) / dx;
+            final double t2 = (maxX - x) / dx;
+            entrada = Math.min(t1, t2);
+            salida = Math.max(t1, t2);
+            normalX = dx > 0 ? -1.0 : 1.0;
+        }
+        if (dy == 0.0) {
+            if (y < minY || y > maxY) {
+                return false;
+            }
+        } else {
+            final double t1 = (minY - y) / dy;
+            final double t2 = (maxY - y) / dy;
+            final double entradaY = Math.min(t1, t2);
+            if (entradaY > entrada) {
+                entrada = entradaY;
+                normalX = 0.0;
+                normalY = dy > 0 ? -1.0 : 1.0;
+            }
+            salida = Math.min(salida, Math.max(t1, t2));
+        }
+        if (entrada > salida || entrada < 0.0 || entrada >= tiempoImpacto) {
+            return false;
+        }
+
+        final double contactoX = x + dx * entrada;
+        final double contactoY = y + dy * entrada;
+        if ((contactoX < izquierda || contactoX > derecha) && (contactoY < arriba || contactoY > abajo)) {
+            return calcularImpactoEsquina(x, y, radio, dx, dy,
+                contactoX < izquierda ? izquierda : derecha,
+                contactoY < arriba ? arriba : abajo,
+                entrada);
+        }
+        tiempoImpacto = entrada;
+        normalImpactoX = normalX;
+        normalImpactoY = normalY;
+        return true;
+    }
+
+    /**
+     * Calcula el impacto del circulo con una esquina del rectangulo, resolviendo
+     * la interseccion del recorrido del centro con un circulo de igual radio.
+     */
+    private boolean calcularImpactoEsquina(final double x, final double y, final double radio,
+                                           final double dx, final double dy,
+                                           final double esquinaX, final double esquinaY,
+                                           final double desde) {
+        final double fx = x - esquinaX;
+        final double fy = y - esquinaY;
+        final double a = dx * dx + dy * dy;
+        if (a == 0.0) {
+            return false;
+        }
+        final double b = fx * dx + fy * dy;
+        final double c = fx * fx + fy * fy - radio * radio;
+        final double discriminante = b * b - a * c;
+        if (discriminante < 0.0) {
+            return false;
+        }
+        final double t = (-b - Math.sqrt(discriminante)) / a;
+        if (t < desde || t >= tiempoImpacto) {
+            return false;
+        }
+        tiempoImpacto = t;
+        normalImpactoX = (fx + dx * t) / radio;
+        normalImpactoY = (fy + dy * t) / radio;
+        return true;
+    }
+
+    /**
+     * Registra un impacto inmediato si la pelota, ya solapada, se mueve hacia
+     * dentro de la superficie; si se aleja, deja que salga sin rebotar.
+     */
+    private boolean registrarSolapamiento(final double dx, final double dy,
+                                          final double normalX, final double normalY) {
+        if (dx * normalX + dy * normalY >= 0.0 || tiempoImpacto <= 0.0) {
+            return false;
+        }
+        tiempoImpacto = 0.0;
+        normalImpactoX = normalX;
+        normalImpactoY = normalY;
+        return true;
+    }
+}
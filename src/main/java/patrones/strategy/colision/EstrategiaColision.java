@@ -1,41 +1,64 @@
 package patrones.strategy.colision;
 
 import mvc.modelo.entidades.ObjetoJuego;
+import mvc.modelo.enums.TipoEntidad;
 
 /**
  * La interfaz {@code EstrategiaColision} define el contrato para las estrategias
- * encargadas de manejar y verificar las colisiones entre dos objetos del juego.
+ * encargadas de verificar y resolver las colisiones entre dos tipos de objetos del juego.
  * 
  * <p>Forma parte del patrón de diseño <b>Strategy</b>, permitiendo que distintas
  * implementaciones definan comportamientos personalizados para detectar y 
  * responder a colisiones sin acoplar la lógica directamente a las clases 
  * de los objetos del juego.</p>
  * 
- * <p>De este modo, se puede cambiar fácilmente la manera en que las colisiones 
- * se calculan o manejan (por ejemplo, colisionPelotaPaleta, bloque, pared, etc... ) 
- * sin modificar las clases que representan los objetos.</p>
+ * <p>Cada estrategia declara el par de {@link TipoEntidad} que atiende y recibe
+ * sus argumentos ya tipados, en ese orden; {@link TablaColisiones} se encarga
+ * de elegirla y de invertir el par cuando llega en el orden contrario.</p>
  * 
+ * @param <A> tipo del primer objeto del par
+ * @param <B> tipo del segundo objeto del par
  * @author Equipo-polimorfo
- * @version 1.0
+ * @version 2.0
  */
-public interface EstrategiaColision {
+public interface EstrategiaColision<A extends ObjetoJuego, B extends ObjetoJuego> {
 
     /**
-     * Maneja la lógica que debe ejecutarse cuando ocurre una colisión entre
-     * dos objetos del juego.
+     * Obtiene el tipo de entidad del primer objeto del par.
      *
-     * @param obj1 el primer objeto involucrado en la colisión
-     * @param obj2 el segundo objeto involucrado en la colisión
+     * @return tipo del primer objeto
      */
-    public void manejarColision(ObjetoJuego obj1, ObjetoJuego obj2);
+    TipoEntidad obtenerTipoPrimero();
+
+    /**
+     * Obtiene el tipo de entidad del segundo objeto del par.
+     *
+     * @return tipo del segundo objeto
+     */
+    TipoEntidad obtenerTipoSegundo();
 
     /**
      * Verifica si dos objetos del juego han colisionado de acuerdo con la
-     * estrategia de detección implementada (por ejemplo, colisión pelotaPaleta, bloque, etc ...).
+     * estrategia de detección implementada.
      *
-     * @param obj1 el primer objeto a evaluar
-     * @param obj2 el segundo objeto a evaluar
+     * @param primero el primer objeto a evaluar
+     * @param segundo el segundo objeto a evaluar; {@code null} si su tipo no tiene objeto
      * @return {@code true} si los objetos colisionan; {@code false} en caso contrario
      */
-    public boolean verificarColision(ObjetoJuego obj1, ObjetoJuego obj2);
+    boolean verificar(A primero, B segundo);
+
+    /**
+     * Resuelve la colisión entre dos objetos del juego.
+     * <p>
+     * La normal de contacto es unitaria y apunta desde el segundo objeto hacia
+     * el primero. Si quien llama no la conoce, pasa {@code (0, 0)} y la
+     * estrategia la estima por su cuenta.
+     * </p>
+     *
+     * @param primero el primer objeto involucrado en la colisión
+     * @param segundo el segundo objeto involucrado; {@code null} si su tipo no tiene objeto
+     * @param normalX componente X de la normal de contacto
+     * @param normalY componente Y de la normal de contacto
+     */
+    void resolver(A primero, B segundo, double normalX, double normalY);
 }
@@ -1,9 +1,10 @@
 package patrones.strategy.colision;
 
-import io.vavr.control.Option;
+import java.util.Random;
+
 import mvc.modelo.entidades.Bloque;
-import mvc.modelo.entidades.ObjetoJuego;
 import mvc.modelo.entidades.pelota.Pelota;
+import mvc.modelo.enums.TipoEntidad;
 import mvc.modelo.items.Item;
 import patrones.builder.TipoBloque;
 import patrones.factory.items.FabricaItems;
@@ -18,7 +19,7 @@ import patrones.factory.items.FabricaItems;
  * @author Equipo-polimorfo
  * @version 1.0
  */
-public class EstrategiaColisionPelotaBloque implements EstrategiaColision {
+public class EstrategiaColisionPelotaBloque implements EstrategiaColision<Pelota, Bloque> {
 
     /**
      * Probabilidad de generacion de item al destruir bloque BONUS (0.0 - 1.0).
@@ -26,58 +27,104 @@ public class EstrategiaColisionPelotaBloque implements EstrategiaColision {
      */
     private static final double PROBABILIDAD_ITEM = 1.0;
 
+    /** Generador con el que se decide y se elige el item de un bloque BONUS. */
+    private final Random azar;
+
+    /**
+     * Crea la estrategia con un generador de items sin semilla fija.
+     */
+    public EstrategiaColisionPelotaBloque() {
+        this(new Random());
+    }
+
+    /**
+     * Crea la estrategia con el generador de items indicado. Con una semilla
+     * fija, dos partidas que rompen los mismos bloques en el mismo orden
+     * generan los mismos items.
+     *
+     * @param azar generador con el que se generan los items
+     * @throws NullPointerException si el generador es nulo
+     */
+    public EstrategiaColisionPelotaBloque(final Random azar) {
+        if (azar == null) {
+            throw new NullPointerException("Generador de items nulo no es valido.");
+        }
+        this.azar = azar;
+    }
+
     /**
-     * Maneja la colision entre una pelota y un bloque.
+     * {@inheritDoc}
+     *
+     * @return {@link TipoEntidad#PELOTA}
+     */
+    @Override
+    public TipoEntidad obtenerTipoPrimero() {
+        return TipoEntidad.PELOTA;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link TipoEntidad#BLOQUE}
+     */
+    @Override
+    public TipoEntidad obtenerTipoSegundo() {
+        return TipoEntidad.BLOQUE;
+    }
+
+    /**
+     * Resuelve la colision entre una pelota y un bloque.
      * <p>
-     * Reduce la resistencia del bloque, invierte la velocidad de la pelota
-     * y desactiva el bloque si su resistencia llega a cero.
-     * La generacion de items debe ser manejada externamente por el GestorColisiones.
+     * Reduce la resistencia del bloque, refleja la pelota respecto de la
+     * normal y desactiva el bloque si su resistencia llega a cero. La
+     * deteccion continua de {@link GestorColisiones} entrega la normal de la
+     * cara impactada; sin normal, se elige la cara por la posicion relativa
+     * de los centros. La generacion de items debe ser manejada externamente
+     * por el GestorColisiones.
      * </p>
      *
-     * @param obj1 primer objeto de la colision (pelota)
-     * @param obj2 segundo objeto de la colision (bloque)
+     * @param pelota pelota que impacta
+     * @param bloque bloque impactado
+     * @param normalX componente X de la normal unitaria, hacia fuera del bloque
+     * @param normalY componente Y de la normal unitaria, hacia fuera del bloque
      */
     @Override
-    public void manejarColision(final ObjetoJuego obj1, final ObjetoJuego obj2) {
-        io.vavr.control.Try.run(() -> {
-            final io.vavr.control.Option<Pelota> pelotaOpt = io.vavr.control.Option.of(obj1)
-                .filter(o -> o instanceof Pelota)
-                .map(o -> (Pelota) o)
-                .orElse(() -> io.vavr.control.Option.of(obj2)
-                    .filter(o -> o instanceof Pelota)
-                    .map(o -> (Pelota) o));
-
-            final io.vavr.control.Option<Bloque> bloqueOpt = io.vavr.control.Option.of(obj1)
-                .filter(o -> o instanceof Bloque)
-                .map(o -> (Bloque) o)
-                .orElse(() -> io.vavr.control.Option.of(obj2)
-                    .filter(o -> o instanceof Bloque)
-                    .map(o -> (Bloque) o));
-
-            pelotaOpt.flatMap(pelota -> bloqueOpt.map(bloque -> {
-                bloque.reducirResistencia();
-                
-                final double pelotaCentroX = pelota.obtenerX();
-                final double pelotaCentroY = pelota.obtenerY();
-                final double bloqueCentroX = bloque.obtenerX() + bloque.obtenerAncho() / 2.0;
-                final double bloqueCentroY = bloque.obtenerY() + bloque.obtenerAlto() / 2.0;
-                
-                final double deltaX = Math.abs(pelotaCentroX - bloqueCentroX);
-                final double deltaY = Math.abs(pelotaCentroY - bloqueCentroY);
-                
-                if (deltaX > deltaY) {
-                    pelota.invertirX();
-                } else {
-                    pelota.invertirY();
-                }
-                
-                if (bloque.estaDestruido()) {
-                    bloque.establecerActivo(false);
-                }
-                
-                return bloque;
-            }));
-        });
+    public void resolver(final Pelota pelota, final Bloque bloque,
+                         final double normalX, final double normalY) {
+        bloque.reducirResistencia();
+
+        if (normalX == 0.0 && normalY == 0.0) {
+            reflejarPorCentros(pelota, bloque);
+        } else {
+            pelota.reflejar(normalX, normalY);
+        }
+
+        if (bloque.estaDestruido()) {
+            bloque.establecerActivo(false);
+        }
+    }
+
+    /**
+     * Refleja la pelota respecto de la cara del bloque que mira hacia ella,
+     * elegida por el eje de mayor distancia entre los centros.
+     *
+     * @param pelota pelota que impacta
+     * @param bloque bloque impactado
+     */
+    private void reflejarPorCentros(final Pelota pelota, final Bloque bloque) {
+        final double pelotaCentroX = pelota.obtenerX();
+        final double pelotaCentroY = pelota.obtenerY();
+        final double bloqueCentroX = bloque.obtenerX() + bloque.obtenerAncho() / 2.0;
+        final double bloqueCentroY = bloque.obtenerY() + bloque.obtenerAlto() / 2.0;
+
+        final double deltaX = Math.abs(pelotaCentroX - bloqueCentroX);
+        final double deltaY = Math.abs(pelotaCentroY - bloqueCentroY);
+
+        if (deltaX > deltaY) {
+            pelota.reflejar(pelotaCentroX < bloqueCentroX ? -1.0 : 1.0, 0.0);
+        } else {
+            pelota.reflejar(0.0, pelotaCentroY < bloqueCentroY ? -1.0 : 1.0);
+        }
     }
 
     /**
@@ -87,49 +134,29 @@ public class EstrategiaColisionPelotaBloque implements EstrategiaColision {
      * Implementa deteccion de colision Axis-Aligned Bounding Box.
      * </p>
      *
-     * @param obj1 primer objeto
-     * @param obj2 segundo objeto
+     * @param pelota la pelota a evaluar
+     * @param bloque el bloque a evaluar
      * @return true si hay colision, false en caso contrario
      */
     @Override
-    public boolean verificarColision(final ObjetoJuego obj1, final ObjetoJuego obj2) {
-        return io.vavr.control.Try.of(() -> {
-            final io.vavr.control.Option<Pelota> pelotaOpt = io.vavr.control.Option.of(obj1)
-                .filter(o -> o instanceof Pelota)
-                .map(o -> (Pelota) o)
-                .orElse(() -> io.vavr.control.Option.of(obj2)
-                    .filter(o -> o instanceof Pelota)
-                    .map(o -> (Pelota) o));
-
-            final io.vavr.control.Option<Bloque> bloqueOpt = io.vavr.control.Option.of(obj1)
-                .filter(o -> o instanceof Bloque)
-                .map(o -> (Bloque) o)
-                .orElse(() -> io.vavr.control.Option.of(obj2)
-                    .filter(o -> o instanceof Bloque)
-                    .map(o -> (Bloque) o));
-
-            final Boolean resultado = pelotaOpt.flatMap(pelota -> bloqueOpt
-                .filter(Bloque::estaActivo)
-                .map(bloque -> {
-                    final double pelotaX = pelota.obtenerX();
-                    final double pelotaY = pelota.obtenerY();
-                    final double pelotaRadio = pelota.obtenerAncho() / 2.0;
-
-                    final double bloqueX = bloque.obtenerX();
-                    final double bloqueY = bloque.obtenerY();
-                    final double bloqueAncho = bloque.obtenerAncho();
-                    final double bloqueAlto = bloque.obtenerAlto();
-
-                    final boolean colisiona = (pelotaX + pelotaRadio >= bloqueX) &&
-                                              (pelotaX - pelotaRadio <= bloqueX + bloqueAncho) &&
-                                              (pelotaY + pelotaRadio >= bloqueY) &&
-                                              (pelotaY - pelotaRadio <= bloqueY + bloqueAlto);
-                    return Boolean.valueOf(colisiona);
-                })
-            ).getOrElse(Boolean.FALSE);
-
-            return resultado.booleanValue();
-        }).getOrElse(false);
+    public boolean verificar(final Pelota pelota, final Bloque bloque) {
+        if (!bloque.estaActivo()) {
+            return false;
+        }
+
+        final double pelotaX = pelota.obtenerX();
+        final double pelotaY = pelota.obtenerY();
+        final double pelotaRadio = pelota.obtenerAncho() / 2.0;
+
+        final double bloqueX = bloque.obtenerX();
+        final double bloqueY = bloque.obtenerY();
+        final double bloqueAncho = bloque.obtenerAncho();
+        final double bloqueAlto = bloque.obtenerAlto();
+
+        return (pelotaX + pelotaRadio >= bloqueX) &&
+               (pelotaX - pelotaRadio <= bloqueX + bloqueAncho) &&
+               (pelotaY + pelotaRadio >= bloqueY) &&
+               (pelotaY - pelotaRadio <= bloqueY + bloqueAlto);
     }
 
     /**
@@ -145,12 +172,9 @@ public class EstrategiaColisionPelotaBloque implements EstrategiaColision {
     private io.vavr.control.Option<Item> generarItem(final Bloque bloque) {
         return io.vavr.control.Option.of(bloque)
             .filter(b -> b.obtenerTipo() == TipoBloque.BONUS)
-            .filter(b -> Math.random() < PROBABILIDAD_ITEM)
+            .filter(b -> azar.nextDouble() < PROBABILIDAD_ITEM)
             .flatMap(b -> io.vavr.control.Option.ofOptional(
-                FabricaItems.generarItemAleatorioEn(
-                    b.obtenerX(),
-                    b.obtenerY()
-                ).toJavaOptional()
+                FabricaItems.generarItemAleatorio(azar).toJavaOptional()
             ));
     }
 
@@ -1,9 +1,9 @@
 package patrones.strategy.colision;
 
-import mvc.modelo.entidades.ObjetoJuego;
 import mvc.modelo.entidades.paleta.Paleta;
 import mvc.modelo.entidades.pelota.Pelota;
 import mvc.modelo.enums.LadoHorizontal;
+import mvc.modelo.enums.TipoEntidad;
 
 /**
  * Estrategia de colision entre pelota y paleta.
@@ -16,7 +16,7 @@ import mvc.modelo.enums.LadoHorizontal;
  * @author Equipo-polimorfo
  * @version 1.0
  */
-public class EstrategiaColisionPelotaPaleta implements EstrategiaColision {
+public class EstrategiaColisionPelotaPaleta implements EstrategiaColision<Pelota, Paleta> {
 
     /**
      * Angulo maximo de rebote en radianes (60 grados).
@@ -29,52 +29,53 @@ public class EstrategiaColisionPelotaPaleta implements EstrategiaColision {
     private static final double FACTOR_ACELERACION = 1.05;
 
     /**
-     * Maneja la colision entre pelota y paleta.
+     * {@inheritDoc}
+     *
+     * @return {@link TipoEntidad#PELOTA}
+     */
+    @Override
+    public TipoEntidad obtenerTipoPrimero() {
+        return TipoEntidad.PELOTA;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link TipoEntidad#PALETA}
+     */
+    @Override
+    public TipoEntidad obtenerTipoSegundo() {
+        return TipoEntidad.PALETA;
+    }
+
+    /**
+     * Resuelve la colision entre pelota y paleta.
      * <p>
      * Calcula el angulo de rebote basado en el punto de impacto,
      * invierte la direccion horizontal de la pelota y aplica
-     * un pequeno incremento de velocidad.
+     * un pequeno incremento de velocidad. La normal de contacto no se usa:
+     * el angulo depende solo del punto de impacto.
      * </p>
      *
-     * @param obj1 primer objeto (pelota o paleta)
-     * @param obj2 segundo objeto (paleta o pelota)
+     * @param pelota la pelota que impacta
+     * @param paleta la paleta impactada
+     * @param normalX no utilizado
+     * @param normalY no utilizado
      */
     @Override
-    public void manejarColision(final ObjetoJuego obj1, final ObjetoJuego obj2) {
-        io.vavr.control.Try.run(() -> {
-            final io.vavr.control.Option<Pelota> pelotaOpt = io.vavr.control.Option.of(obj1)
-                .filter(o -> o instanceof Pelota)
-                .map(o -> (Pelota) o)
-                .orElse(() -> io.vavr.control.Option.of(obj2)
-                    .filter(o -> o instanceof Pelota)
-                    .map(o -> (Pelota) o));
-
-            final io.vavr.control.Option<Paleta> paletaOpt = io.vavr.control.Option.of(obj1)
-                .filter(o -> o instanceof Paleta)
-                .map(o -> (Paleta) o)
-                .orElse(() -> io.vavr.control.Option.of(obj2)
-                    .filter(o -> o instanceof Paleta)
-                    .map(o -> (Paleta) o));
-
-            pelotaOpt.flatMap(pelota -> paletaOpt.map(paleta -> {
-                final double nuevoAngulo = calcularAnguloRebote(pelota, paleta);
-
-                final double velocidadActualX = pelota.obtenerVelocidadX();
-                final double velocidadActualY = pelota.obtenerVelocidadY();
-                final double velocidadActual = Math.sqrt(
-                    Math.pow(velocidadActualX, 2) +
-                    Math.pow(velocidadActualY, 2)
-                );
-                final double nuevaVelocidad = velocidadActual * FACTOR_ACELERACION;
-
-                pelota.establecerVelocidadX(nuevaVelocidad * Math.cos(nuevoAngulo));
-                pelota.establecerVelocidadY(nuevaVelocidad * Math.sin(nuevoAngulo));
-
-                pelota.establecerUltimaPaletaQueGolpeo(paleta);
-
-                return pelota;
-            }));
-        });
+    public void resolver(final Pelota pelota, final Paleta paleta,
+                         final double normalX, final double normalY) {
+        final double nuevoAngulo = calcularAnguloRebote(pelota, paleta);
+
+        final double nuevaVelocidad = pelota.obtenerVelocidad() * FACTOR_ACELERACION;
+
+        // El angulo se mide en sentido antihorario; en pantalla Y crece hacia abajo.
+        pelota.establecerVelocidad(
+            nuevaVelocidad * Math.cos(nuevoAngulo),
+            -nuevaVelocidad * Math.sin(nuevoAngulo)
+        );
+
+        pelota.establecerUltimaPaletaQueGolpeo(paleta);
     }
 
     /**
@@ -84,45 +85,47 @@ public class EstrategiaColisionPelotaPaleta implements EstrategiaColision {
      * verificando superposicion de rectangulos en ambos ejes.
      * </p>
      *
-     * @param obj1 primer objeto (pelota o paleta)
-     * @param obj2 segundo objeto (paleta o pelota)
+     * @param pelota la pelota a evaluar
+     * @param paleta la paleta a evaluar
      * @return true si hay colision, false en caso contrario
      */
     @Override
-    public boolean verificarColision(final ObjetoJuego obj1, final ObjetoJuego obj2) {
-        return io.vavr.control.Try.of(() -> {
-            final io.vavr.control.Option<Pelota> pelotaOpt = io.vavr.control.Option.of(obj1)
-                .filter(o -> o instanceof Pelota)
-                .map(o -> (Pelota) o)
-                .orElse(() -> io.vavr.control.Option.of(obj2)
-                    .filter(o -> o instanceof Pelota)
-                    .map(o -> (Pelota) o));
-
-            final io.vavr.control.Option<Paleta> paletaOpt = io.vavr.control.Option.of(obj1)
-                .filter(o -> o instanceof Paleta)
-                .map(o -> (Paleta) o)
-                .orElse(() -> io.vavr.control.Option.of(obj2)
-                    .filter(o -> o instanceof Paleta)
-                    .map(o -> (Paleta) o));
-
-            return pelotaOpt.flatMap(pelota -> paletaOpt.map(paleta -> {
-                final double pelotaX = pelota.obtenerX();
-                final double pelotaY = pelota.obtenerY();
-                final double pelotaRadio = pelota.obtenerAncho() / 2.0;
-
-                final double paletaX = paleta.obtenerX();
-                final double paletaY = paleta.obtenerY();
-                final double paletaAncho = paleta.obtenerAncho();
-                final double paletaAlto = paleta.obtenerAlto();
-
-                return (pelotaX + pelotaRadio >= paletaX) &&
-                       (pelotaX - pelotaRadio <= paletaX + paletaAncho) &&
-                       (pelotaY + pelotaRadio >= paletaY) &&
-                       (pelotaY - pelotaRadio <= paletaY + paletaAlto);
-            })).getOrElse(false);
-        }).getOrElse(false);
+    public boolean verificar(final Pelota pelota, final Paleta paleta) {
+        final double pelotaX = pelota.obtenerX();
+        final double pelotaY = pelota.obtenerY();
+        final double pelotaRadio = pelota.obtenerAncho() / 2.0;
+
+        final double paletaX = paleta.obtenerX();
+        final double paletaY = paleta.obtenerY();
+        final double paletaAncho = paleta.obtenerAncho();
+        final double paletaAlto = paleta.obtenerAlto();
+
+        return (pelotaX + pelotaRadio >= paletaX) &&
+               (pelotaX - pelotaRadio <= paletaX + paletaAncho) &&
+               (pelotaY + pelotaRadio >= paletaY) &&
+               (pelotaY - pelotaRadio <= paletaY + paletaAlto) &&
+               seAcercaALaPaleta(pelota, paleta);
     }
-    
+
+    /**
+     * Indica si la pelota se mueve hacia la paleta.
+     * <p>
+     * Tras un rebote la pelota puede seguir solapada con la paleta durante
+     * varios ticks; ignorar esos solapamientos evita rebotes y aceleraciones
+     * repetidas por un mismo golpe.
+     * </p>
+     *
+     * @param pelota la pelota a evaluar
+     * @param paleta la paleta a evaluar
+     * @return true si la velocidad horizontal apunta hacia la paleta
+     */
+    private boolean seAcercaALaPaleta(final Pelota pelota, final Paleta paleta) {
+        final double velocidadX = pelota.obtenerVelocidadX();
+        return paleta.obtenerLadoPantalla() == LadoHorizontal.IZQUIERDA
+            ? velocidadX < 0
+            : velocidadX > 0;
+    }
+
     /**
      * Calcula el angulo de rebote basado en el punto de impacto en la paleta.
      * <p>
@@ -138,23 +141,15 @@ public class EstrategiaColisionPelotaPaleta implements EstrategiaColision {
      * @return angulo de rebote en radianes (0 a 2π)
      */
     private double calcularAnguloRebote(final Pelota pelota, final Paleta paleta) {
-        return io.vavr.control.Try.of(() -> {
-            final double puntoImpacto = (pelota.obtenerY() - (paleta.obtenerY() + paleta.obtenerAlto() / 2.0))
-                                      / (paleta.obtenerAlto() / 2.0);
-
-            final double puntoImpactoLimitado = Math.max(-1.0, Math.min(1.0, puntoImpacto));
+        final double puntoImpacto = (pelota.obtenerY() - (paleta.obtenerY() + paleta.obtenerAlto() / 2.0))
+                                  / (paleta.obtenerAlto() / 2.0);
 
-            final double desviacionVertical = puntoImpactoLimitado * ANGULO_MAXIMO;
+        final double puntoImpactoLimitado = Math.max(-1.0, Math.min(1.0, puntoImpacto));
 
-            final io.vavr.control.Option<LadoHorizontal> ladoOpt = io.vavr.control.Option.of(paleta.obtenerLadoPantalla());
+        final double desviacionVertical = puntoImpactoLimitado * ANGULO_MAXIMO;
 
-            return ladoOpt.map(lado -> {
-                if (lado == LadoHorizontal.IZQUIERDA) {
-                    return -desviacionVertical;
-                } else {
-                    return Math.PI + desviacionVertical;
-                }
-            }).getOrElse(0.0);
-        }).getOrElse(0.0);
+        return paleta.obtenerLadoPantalla() == LadoHorizontal.IZQUIERDA
+            ? -desviacionVertical
+            : Math.PI + desviacionVertical;
     }
 }
@@ -3,18 +3,21 @@ package patrones.strategy.colision;
 import mvc.modelo.entidades.ObjetoJuego;
 import mvc.modelo.entidades.pelota.Pelota;
 import mvc.modelo.enums.LadoHorizontal;
+import mvc.modelo.enums.TipoEntidad;
 
 /**
  * Estrategia de colision entre la pelota y las paredes del campo de juego.
  * <p>
  * Implementa el patron Strategy para manejar rebotes en paredes superior/inferior
  * y deteccion de puntos cuando la pelota sale por los lados izquierdo/derecho.
+ * Las paredes no son objetos del juego, por lo que el segundo argumento
+ * de {@link #verificar} y {@link #resolver} no se usa.
  * </p>
  *
  * @author Equipo-polimorfo
  * @version 1.0
  */
-public class EstrategiaColisionPelotaPared implements EstrategiaColision {
+public class EstrategiaColisionPelotaPared implements EstrategiaColision<Pelota, ObjetoJuego> {
 
     private final double anchoCanvas;
     private final double altoCanvas;
@@ -30,68 +33,100 @@ public class EstrategiaColisionPelotaPared implements EstrategiaColision {
         this.altoCanvas = altoCanvas;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link TipoEntidad#PELOTA}
+     */
+    @Override
+    public TipoEntidad obtenerTipoPrimero() {
+        return TipoEntidad.PELOTA;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link TipoEntidad#PARED}
+     */
+    @Override
+    public TipoEntidad obtenerTipoSegundo() {
+        return TipoEntidad.PARED;
+    }
+
     /**
      * Maneja la colision de la pelota con las paredes.
      * <p>
-     * Invierte la velocidad vertical si colisiona con paredes superior/inferior.
+     * Invierte la velocidad vertical si colisiona con paredes superior/inferior
+     * mientras se acerca a ellas, para no rebotar de nuevo en el tick siguiente
+     * si la pelota aun se superpone con la pared.
      * Reinicia la posicion de la pelota si sale por los lados izquierdo/derecho.
      * </p>
      *
-     * @param obj1 la pelota
-     * @param obj2 no utilizado (las paredes no son objetos)
+     * @param pelota la pelota
+     * @param pared no utilizado (las paredes no son objetos)
+     * @param normalX no utilizado
+     * @param normalY no utilizado
      */
     @Override
-    public void manejarColision(final ObjetoJuego obj1, final ObjetoJuego obj2) {
-        if (!(obj1 instanceof Pelota pelota)) {
-            return;
+    public void resolver(final Pelota pelota, final ObjetoJuego pared,
+                         final double normalX, final double normalY) {
+        final double x = pelota.obtenerX();
+        final double y = pelota.obtenerY();
+        final double radio = pelota.obtenerAncho() / 2.0;
+        final double velocidadY = pelota.obtenerVelocidadY();
+
+        if (y - radio <= 0 && velocidadY < 0) {
+            pelota.invertirY();
         }
 
-        io.vavr.control.Try.run(() -> {
-            final double x = pelota.obtenerX();
-            final double y = pelota.obtenerY();
-            final double radio = pelota.obtenerAncho() / 2.0;
-
-            if (y - radio <= 0) {
-                pelota.invertirY();
-            }
-
-            if (y + radio >= altoCanvas) {
-                pelota.invertirY();
-            }
-
-            if (x - radio <= 0) {
-                pelota.restaurarEstado();
-                pelota.inicializaDireccionLateral(LadoHorizontal.IZQUIERDA);
-            } else if (x + radio >= anchoCanvas) {
-                pelota.restaurarEstado();
-                pelota.inicializaDireccionLateral(LadoHorizontal.DERECHA);
-            }
-        });
+        if (y + radio >= altoCanvas && velocidadY > 0) {
+            pelota.invertirY();
+        }
+
+        if (x - radio <= 0) {
+            pelota.restaurarEstado();
+            pelota.inicializaDireccionLateral(LadoHorizontal.IZQUIERDA);
+        } else if (x + radio >= anchoCanvas) {
+            pelota.restaurarEstado();
+            pelota.inicializaDireccionLateral(LadoHorizontal.DERECHA);
+        }
     }
 
     /**
      * Verifica si la pelota ha colisionado con alguna pared del campo.
      *
-     * @param obj1 la pelota a verificar
-     * @param obj2 no utilizado (las paredes no son objetos)
+     * @param pelota la pelota a verificar
+     * @param pared no utilizado (las paredes no son objetos)
      * @return true si la pelota esta en contacto con alguna pared
      */
     @Override
-    public boolean verificarColision(final ObjetoJuego obj1, final ObjetoJuego obj2) {
-        if (!(obj1 instanceof Pelota pelota)) {
-            return false;
-        }
+    public boolean verificar(final Pelota pelota, final ObjetoJuego pared) {
+        final double x = pelota.obtenerX();
+        final double y = pelota.obtenerY();
+        final double radio = pelota.obtenerAncho() / 2.0;
 
-        return io.vavr.control.Try.of(() -> {
-            final double x = pelota.obtenerX();
-            final double y = pelota.obtenerY();
-            final double radio = pelota.obtenerAncho() / 2.0;
+        return (y - radio <= 0) ||
+               (y + radio >= altoCanvas) ||
+               (x - radio <= 0) ||
+               (x + radio >= anchoCanvas);
+    }
 
-            return (y - radio <= 0) ||
-                   (y + radio >= altoCanvas) ||
-                   (x - radio <= 0) ||
-                   (x + radio >= anchoCanvas);
-        }).getOrElse(false);
+    /**
+     * Obtiene el ancho del campo de juego.
+     *
+     * @return ancho del canvas
+     */
+    public double obtenerAnchoCanvas() {
+        return anchoCanvas;
+    }
+
+    /**
+     * Obtiene el alto del campo de juego.
+     *
+     * @return alto del canvas
+     */
+    public double obtenerAltoCanvas() {
+        return altoCanvas;
     }
 
     /**
@@ -1,17 +1,32 @@
 package patrones.strategy.colision;
 
-import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import mvc.modelo.ModeloJuego;
 import mvc.modelo.entidades.Bloque;
 import mvc.modelo.entidades.ObjetoJuego;
-import patrones.strategy.colision.EstrategiaColision;
+import mvc.modelo.entidades.paleta.Paleta;
+import mvc.modelo.entidades.pelota.ConjuntoPelotas;
+import mvc.modelo.entidades.pelota.Pelota;
+import mvc.modelo.enums.LadoHorizontal;
+import mvc.modelo.enums.TipoEntidad;
+import mvc.modelo.enums.TipoEventoJuego;
+import mvc.modelo.items.Item;
+import mvc.modelo.items.ItemMultiPelota;
 
 /**
  * Gestor centralizado de colisiones que orquesta todas las estrategias.
  * <p>
  * Coordina la verificacion y manejo de colisiones entre todos los objetos del juego
  * usando el patron Strategy para delegar comportamientos especificos.
+ * Las estrategias se toman de una {@link TablaColisiones} y las que usa el
+ * avance de la pelota se resuelven al registrarlas, no en cada tick.
+ * </p>
+ * <p>
+ * Con muchas pelotas adicionales el avance se reparte entre los hilos de un
+ * {@link ForkJoinPool}; el resultado es identico bit a bit al del avance en
+ * serie (ver {@link #establecerPoolParalelo(ForkJoinPool)}).
  * </p>
  *
  * @author Equipo-polimorfo
@@ -19,131 +34,620 @@ import patrones.strategy.colision.EstrategiaColision;
  */
 public class GestorColisiones {
     
-    private Map<String, EstrategiaColision> estrategias;
+    /** Maximo de rebotes que se resuelven dentro de un mismo tick. */
+    private static final int MAXIMO_IMPACTOS_POR_TICK = 8;
+
+    /** Distancia que se deja pasar a la pelota por la linea de gol. */
+    private static final double EPSILON_GOL = 1e-6;
+
+    /** Pelotas adicionales a partir de las cuales conviene avanzar en paralelo. */
+    public static final int UMBRAL_PARALELO_DEFECTO = 512;
+
+    /** Tramos en que se divide el barrido paralelo por cada hilo del pool. */
+    private static final int TRAMOS_POR_HILO = 4;
+
+    private final TablaColisiones tabla;
+
+    // Estrategias del avance de la pelota, resueltas de la tabla al registrar.
+    private EstrategiaColision<Pelota, ObjetoJuego> estrategiaPared;
+    private EstrategiaColisionPelotaPared paredes;
+    private EstrategiaColision<Pelota, Paleta> estrategiaPaleta;
+    private EstrategiaColision<Pelota, Bloque> estrategiaBloque;
+    private EstrategiaColisionPelotaBloque generadorItems;
+
+    // Busqueda de impactos del avance en serie; se reutiliza para no asignar memoria.
+    private final BarridoPelota barrido;
+
+    // Barrido paralelo de las pelotas adicionales.
+    private ForkJoinPool poolParalelo;
+    private int umbralParalelo;
+    private BarridoPelota[] barridosTramo;
+    private Pelota[] cursoresTramo;
+    private Pelota plantillaCursores;
+    private double[] resultadoX;
+    private double[] resultadoY;
+    private double[] resultadoVelocidadX;
+    private double[] resultadoVelocidadY;
+    private boolean[] resultadoListo;
+    // Un item cambio paletas o pelotas durante la fase en serie del tick.
+    private boolean itemAplicado;
+
+    /**
+     * Constructor que inicializa el gestor con una tabla de estrategias.
+     *
+     * @param tabla tabla de estrategias indexada por pares de tipos de entidad
+     * @throws NullPointerException si la tabla es nula
+     */
+    public GestorColisiones(final TablaColisiones tabla) {
+        if (tabla == null) {
+            throw new NullPointerException("Tabla de colisiones nula no es valida.");
+        }
+        this.tabla = tabla;
+        this.barrido = new BarridoPelota();
+        this.poolParalelo = ForkJoinPool.commonPool();
+        this.umbralParalelo = UMBRAL_PARALELO_DEFECTO;
+        this.resultadoListo = new boolean[0];
+        resolverEstrategias();
+    }
 
     /**
-     * Constructor que inicializa el gestor con un mapa de estrategias.
+     * Establece el pool con el que se avanzan en paralelo las pelotas
+     * adicionales. Por defecto es el pool comun de la JVM.
      *
-     * @param estrategias mapa de estrategias indexadas por clave
+     * @param pool pool de trabajo, o null para avanzar siempre en serie
      */
-    public GestorColisiones(final Map<String, EstrategiaColision> estrategias) {
-        this.estrategias = estrategias;
+    public void establecerPoolParalelo(final ForkJoinPool pool) {
+        this.poolParalelo = pool;
     }
 
     /**
-     * Registra una nueva estrategia de colision en el gestor.
+     * Establece la cantidad de pelotas adicionales a partir de la cual el
+     * avance se reparte entre hilos. Por debajo, el costo de coordinar los
+     * hilos supera al de avanzarlas en serie.
+     *
+     * @param umbral cantidad minima de pelotas adicionales
+     * @throws IllegalArgumentException si el umbral no es positivo
+     */
+    public void establecerUmbralParalelo(final int umbral) {
+        if (umbral <= 0) {
+            throw new IllegalArgumentException("El umbral debe ser positivo: " + umbral);
+        }
+        this.umbralParalelo = umbral;
+    }
+
+    /**
+     * Registra una nueva estrategia de colision en el gestor, reemplazando
+     * la que hubiera para su par de tipos.
      *
-     * @param clave identificador unico de la estrategia
      * @param estrategia implementacion de la estrategia
+     * @throws NullPointerException si la estrategia es nula
+     */
+    public void registrarEstrategia(final EstrategiaColision<?, ?> estrategia) {
+        tabla.registrar(estrategia);
+        resolverEstrategias();
+    }
+
+    /**
+     * Obtiene la tabla de estrategias del gestor.
+     *
+     * @return tabla de colisiones
      */
-    public void registrarEstrategia(final String clave, final EstrategiaColision estrategia) {
-        io.vavr.control.Try.run(() -> {
-            estrategias.put(clave, estrategia);
-        });
+    public TablaColisiones obtenerTabla() {
+        return tabla;
     }
 
     /**
-     * Verifica y maneja todas las colisiones del juego.
+     * Toma de la tabla las estrategias que usa el avance de la pelota, para
+     * que cada tick las lea de un campo. Las paredes y los items necesitan la
+     * implementacion concreta, que aporta las dimensiones del campo y la
+     * generacion de items.
+     */
+    private void resolverEstrategias() {
+        estrategiaPared = tabla.obtener(TipoEntidad.PELOTA, TipoEntidad.PARED);
+        estrategiaPaleta = tabla.obtener(TipoEntidad.PELOTA, TipoEntidad.PALETA);
+        estrategiaBloque = tabla.obtener(TipoEntidad.PELOTA, TipoEntidad.BLOQUE);
+        paredes = estrategiaPared instanceof EstrategiaColisionPelotaPared pared ? pared : null;
+        generadorItems = estrategiaBloque instanceof EstrategiaColisionPelotaBloque bloque ? bloque : null;
+    }
+
+    /**
+     * Avanza la pelota un tick resolviendo sus colisiones de forma continua.
      * <p>
-     * Orquesta las verificaciones de colisiones en el siguiente orden:
-     * 1. Pelota con paredes (rebotes y puntos)
-     * 2. Pelota con paletas
-     * 3. Pelota con bloques (destruccion y generacion de items)
+     * En lugar de mover la pelota y luego buscar solapamientos, se barre el
+     * circulo de la pelota a lo largo de su desplazamiento y se busca el
+     * primer instante de impacto contra las paredes superior e inferior, las
+     * paletas y los bloques cercanos. La pelota avanza hasta ese instante,
+     * rebota y continua con el tiempo restante, hasta
+     * {@value #MAXIMO_IMPACTOS_POR_TICK} impactos por tick. Asi la pelota no
+     * atraviesa paletas ni bloques aunque se desplace en un tick mas que su
+     * grosor, y el resultado no depende de la frecuencia de simulacion.
+     * </p>
+     * <p>
+     * Al final se verifican las paredes laterales para asignar el punto. Se
+     * ejecuta en cada tick de simulacion, por lo que evita lambdas, Option y
+     * copias de listas: mientras no haya puntos, bloques destruidos ni items
+     * nuevos, una llamada no asigna memoria.
      * </p>
      *
      * @param modeloJuego modelo del juego con todas las entidades
+     * @param tiempoDelta duracion del tick en segundos
      */
-    public void verificarTodasColisiones(final ModeloJuego modeloJuego) {
-        io.vavr.control.Try.run(() -> {
-            final io.vavr.control.Option<EstrategiaColision> estrategiaPared = 
-                io.vavr.control.Option.of(estrategias.get("pelota-pared"));
-            final io.vavr.control.Option<EstrategiaColision> estrategiaPaleta = 
-                io.vavr.control.Option.of(estrategias.get("pelota-paleta"));
-            final io.vavr.control.Option<EstrategiaColision> estrategiaBloque = 
-                io.vavr.control.Option.of(estrategias.get("pelota-bloque"));
-
-            io.vavr.control.Option.of(modeloJuego.obtenerPelota()).forEach(pelota -> {
-                
-                estrategiaPared.forEach(estrategia -> {
-                    if (estrategia.verificarColision(pelota, null)) {
-                        if (estrategia instanceof EstrategiaColisionPelotaPared pared) {
-                            final double xAntes = pelota.obtenerX();
-                            final double radio = pelota.obtenerAncho() / 2.0;
-                            final double anchoCanvas = 800.0;
-
-                            final boolean golPorIzquierda = (xAntes - radio <= 0);
-                            final boolean golPorDerecha = (xAntes + radio >= anchoCanvas);
-
-                            estrategia.manejarColision(pelota, null);
-
-                            if (golPorIzquierda) {
-                                modeloJuego.incrementarPuntaje(2, 1);
-                            } else if (golPorDerecha) {
-                                modeloJuego.incrementarPuntaje(1, 1);
-                            }
-                        } else {
-                            estrategia.manejarColision(pelota, null);
-                        }
-                    }
-                });
+    public void avanzarPelota(final ModeloJuego modeloJuego, final double tiempoDelta) {
+        final Pelota pelota = modeloJuego.obtenerPelota();
+        if (pelota == null) {
+            return;
+        }
 
-                io.vavr.control.Option.of(modeloJuego.obtenerJugador1()).forEach(paleta1 -> {
-                    estrategiaPaleta.forEach(estrategia -> {
-                        if (estrategia.verificarColision(pelota, paleta1)) {
-                            estrategia.manejarColision(pelota, paleta1);
-                        }
-                    });
-                });
+        try {
+            if (pelota.estaActivo()) {
+                barrerPelota(modeloJuego, pelota, tiempoDelta, barrido, false);
+            }
+            verificarColisionParedes(modeloJuego, pelota);
+        } catch (RuntimeException e) {
+            System.err.println("Error al verificar colisiones: " + e.getMessage());
+        }
+        avanzarPelotasExtra(modeloJuego, tiempoDelta);
+    }
 
-                io.vavr.control.Option.of(modeloJuego.obtenerJugador2()).forEach(paleta2 -> {
-                    estrategiaPaleta.forEach(estrategia -> {
-                        if (estrategia.verificarColision(pelota, paleta2)) {
-                            estrategia.manejarColision(pelota, paleta2);
-                        }
-                    });
-                });
+    /**
+     * Avanza las pelotas adicionales del modo multipelota.
+     * <p>
+     * Cada pelota se carga en el cursor del {@link ConjuntoPelotas}, se barre
+     * con el mismo algoritmo que la principal y se guarda de nuevo, de modo
+     * que el costo crece linealmente con la cantidad de pelotas y no se crea
+     * ningun objeto por pelota. Las que salen por un lateral dan el punto y se
+     * eliminan en lugar de volver al centro. Las pelotas no chocan entre si.
+     * </p>
+     * <p>
+     * Con al menos {@link #establecerUmbralParalelo(int) umbral} pelotas y un
+     * pool de mas de un hilo, el avance se hace en dos fases. En la primera,
+     * en paralelo, cada pelota se barre de forma especulativa: integracion,
+     * fase amplia y fase estrecha sobre el estado del modelo al inicio de la
+     * fase, sin modificarlo. Si el barrido solo encuentra paredes, su
+     * resultado queda listo; si toca una paleta o un bloque, o anota, se
+     * descarta. En la segunda, en serie y en el mismo orden que el avance sin
+     * hilos, se confirman los resultados listos y se repite el barrido
+     * completo de las demas, que son las unicas que dañan bloques, notifican
+     * golpes o suman puntos.
+     * </p>
+     * <p>
+     * Durante un tick los bloques solo pueden desactivarse y las paletas no se
+     * mueven, asi que una pelota que no toco nada con el estado inicial
+     * tampoco lo haria en serie. La excepcion son los items: uno generado en
+     * la fase en serie puede agrandar una paleta o agregar pelotas, y desde
+     * ese momento los resultados especulativos que quedan se descartan y sus
+     * pelotas se barren de nuevo en serie. Asi el resultado es identico bit a
+     * bit al del avance sin hilos, con cualquier cantidad de hilos.
+     * </p>
+     * <p>
+     * Un error al barrer una pelota se informa y esa pelota conserva su
+     * estado anterior durante el tick; las demas se avanzan igual.
+     * </p>
+     *
+     * @param modeloJuego modelo del juego
+     * @param tiempoDelta duracion del tick en segundos
+     */
+    private void avanzarPelotasExtra(final ModeloJuego modeloJuego, final double tiempoDelta) {
+        final ConjuntoPelotas extra = modeloJuego.obtenerPelotasExtra();
+        final Pelota cursor = extra.obtenerCursor();
+        if (cursor == null) {
+            return;
+        }
+        final Paleta jugador1 = modeloJuego.obtenerJugador1();
+        final Paleta jugador2 = modeloJuego.obtenerJugador2();
+
+        final boolean paralelo = poolParalelo != null
+            && poolParalelo.getParallelism() > 1
+            && extra.cantidad() >= umbralParalelo;
+        int calculadas = 0;
+        if (paralelo) {
+            try {
+                calculadas = barrerEnParalelo(modeloJuego, extra, tiempoDelta);
+            } catch (RuntimeException e) {
+                // Sin resultados especulativos todas las pelotas se barren en serie.
+                System.err.println("Error al verificar colisiones: " + e.getMessage());
+            }
+        }
+        itemAplicado = false;
+
+        int posicion = 0;
+        while (posicion < extra.cantidad()) {
+            if (posicion < calculadas && resultadoListo[posicion]) {
+                extra.establecerEn(posicion, resultadoX[posicion], resultadoY[posicion],
+                    resultadoVelocidadX[posicion], resultadoVelocidadY[posicion]);
+                posicion++;
+                continue;
+            }
+            extra.cargarEn(posicion, jugador1, jugador2);
+            try {
+                barrerPelota(modeloJuego, cursor, tiempoDelta, barrido, false);
+            } catch (RuntimeException e) {
+                System.err.println("Error al verificar colisiones: " + e.getMessage());
+                posicion++;
+                continue;
+            } finally {
+                if (itemAplicado) {
+                    // Los barridos especulativos restantes usaron la geometria previa al item.
+                    calculadas = 0;
+                }
+            }
+            final int anotador = calcularAnotador(cursor);
+            if (anotador != 0) {
+                if (posicion < calculadas) {
+                    moverResultado(extra.cantidad() - 1, posicion, calculadas);
+                }
+                extra.eliminarEn(posicion);
+                modeloJuego.incrementarPuntaje(anotador, 1);
+            } else {
+                extra.guardarEn(posicion, jugador1, jugador2);
+                posicion++;
+            }
+        }
+    }
+
+    /**
+     * Fase paralela del avance: barre de forma especulativa las pelotas
+     * adicionales y deja en los arreglos de resultado las que solo rebotaron
+     * en paredes.
+     *
+     * @return cantidad de posiciones calculadas
+     */
+    private int barrerEnParalelo(final ModeloJuego modeloJuego, final ConjuntoPelotas extra,
+                                 final double tiempoDelta) {
+        final int cantidad = extra.cantidad();
+        prepararBarridoParalelo(extra, cantidad);
+        poolParalelo.invoke(new TareaBarrido(modeloJuego, extra, tiempoDelta, 0, barridosTramo.length, cantidad));
+        return cantidad;
+    }
+
+    /**
+     * Ajusta los buferes de resultado y crea un barrido y un cursor por tramo,
+     * copiando el cursor del conjunto para que compartan radio y velocidad maxima.
+     */
+    private void prepararBarridoParalelo(final ConjuntoPelotas extra, final int cantidad) {
+        final int tramos = poolParalelo.getParallelism() * TRAMOS_POR_HILO;
+        if (barridosTramo == null || barridosTramo.length != tramos
+                || plantillaCursores != extra.obtenerCursor()) {
+            plantillaCursores = extra.obtenerCursor();
+            barridosTramo = new BarridoPelota[tramos];
+            cursoresTramo = new Pelota[tramos];
+            for (int i = 0; i < tramos; i++) {
+                barridosTramo[i] = new BarridoPelota();
+                cursoresTramo[i] = plantillaCursores.clonar();
+            }
+        }
+        if (resultadoListo.length < cantidad) {
+            final int capacidad = Math.max(cantidad, resultadoListo.length * 2);
+            resultadoX = new double[capacidad];
+            resultadoY = new double[capacidad];
+            resultadoVelocidadX = new double[capacidad];
+            resultadoVelocidadY = new double[capacidad];
+            resultadoListo = new boolean[capacidad];
+        }
+    }
+
+    /**
+     * Barre de forma especulativa las pelotas de un tramo con el barrido y el
+     * cursor propios del tramo. Solo lee el modelo y el conjunto.
+     */
+    private void barrerTramo(final ModeloJuego modeloJuego, final ConjuntoPelotas extra,
+                             final double tiempoDelta, final int tramo, final int cantidad) {
+        final int tramos = barridosTramo.length;
+        final int desde = (int) ((long) cantidad * tramo / tramos);
+        final int hasta = (int) ((long) cantidad * (tramo + 1) / tramos);
+        final BarridoPelota barridoTramo = barridosTramo[tramo];
+        final Pelota cursorTramo = cursoresTramo[tramo];
+        final Paleta jugador1 = modeloJuego.obtenerJugador1();
+        final Paleta jugador2 = modeloJuego.obtenerJugador2();
+        for (int posicion = desde; posicion < hasta; posicion++) {
+            extra.cargarEn(posicion, cursorTramo, jugador1, jugador2);
+            final boolean listo = barrerPelota(modeloJuego, cursorTramo, tiempoDelta, barridoTramo, true)
+                && calcularAnotador(cursorTramo) == 0;
+            resultadoListo[posicion] = listo;
+            if (listo) {
+                resultadoX[posicion] = cursorTramo.obtenerX();
+                resultadoY[posicion] = cursorTramo.obtenerY();
+                resultadoVelocidadX[posicion] = cursorTramo.obtenerVelocidadX();
+                resultadoVelocidadY[posicion] = cursorTramo.obtenerVelocidadY();
+            }
+        }
+    }
 
-                final io.vavr.collection.List<Bloque> bloques =
-                    io.vavr.collection.List.ofAll(modeloJuego.obtenerBloques());
-
-                bloques.filter(Bloque::estaActivo).forEach(bloque -> {
-                    estrategiaBloque.forEach(estrategia -> {
-                        if (estrategia.verificarColision(pelota, bloque)) {
-                            estrategia.manejarColision(pelota, bloque);
-
-                            if (bloque.estaDestruido() &&
-                                estrategia instanceof EstrategiaColisionPelotaBloque bloqueEstrategia) {
-                                bloqueEstrategia.intentarGenerarItem(bloque)
-                                    .forEach(item -> {
-                                        modeloJuego.generarItem(item);
-
-                                        pelota.obtenerUltimaPaletaQueGolpeo()
-                                            .forEach(paleta -> item.aplicar(paleta));
-                                    });
-                            }
-                        }
-                    });
+    /**
+     * Acompaña en los arreglos de resultado el movimiento que hace
+     * {@link ConjuntoPelotas#eliminarEn(int)} de la ultima pelota al lugar de
+     * la eliminada, y marca la ultima posicion como no calculada, por si una
+     * pelota nueva llega a ocuparla en este mismo tick.
+     */
+    private void moverResultado(final int ultima, final int posicion, final int calculadas) {
+        if (ultima < calculadas) {
+            resultadoListo[posicion] = resultadoListo[ultima];
+            resultadoX[posicion] = resultadoX[ultima];
+            resultadoY[posicion] = resultadoY[ultima];
+            resultadoVelocidadX[posicion] = resultadoVelocidadX[ultima];
+            resultadoVelocidadY[posicion] = resultadoVelocidadY[ultima];
+            resultadoListo[ultima] = false;
+        } else {
+            resultadoListo[posicion] = false;
+        }
+    }
+
+    /**
+     * Tarea que divide recursivamente los tramos del barrido paralelo.
+     */
+    private final class TareaBarrido extends RecursiveAction {
+
+        private final ModeloJuego modeloJuego;
+        private final ConjuntoPelotas extra;
+        private final double tiempoDelta;
+        private final int desde;
+        private final int hasta;
+        private final int cantidad;
+
+        private TareaBarrido(final ModeloJuego modeloJuego, final ConjuntoPelotas extra,
+                             final double tiempoDelta, final int desde, final int hasta,
+                             final int cantidad) {
+            this.modeloJuego = modeloJuego;
+            this.extra = extra;
+            this.tiempoDelta = tiempoDelta;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.cantidad = cantidad;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde == 1) {
+                barrerTramo(modeloJuego, extra, tiempoDelta, desde, cantidad);
+                return;
+            }
+            final int mitad = (desde + hasta) >>> 1;
+            invokeAll(new TareaBarrido(modeloJuego, extra, tiempoDelta, desde, mitad, cantidad),
+                new TareaBarrido(modeloJuego, extra, tiempoDelta, mitad, hasta, cantidad));
+        }
+    }
+
+    /**
+     * Determina si una pelota salio por un lateral, sin reiniciarla.
+     *
+     * @param pelota pelota a verificar
+     * @return jugador que anota (1 o 2), o 0 si la pelota sigue en juego
+     */
+    private int calcularAnotador(final Pelota pelota) {
+        if (paredes == null) {
+            return 0;
+        }
+        if (paredes.pelotaSalioPorIzquierda(pelota)) {
+            return 2;
+        }
+        return paredes.pelotaSalioPorDerecha(pelota) ? 1 : 0;
+    }
+
+    /**
+     * Mueve la pelota por su recorrido del tick, rebotando en cada impacto.
+     * <p>
+     * En modo especulativo no modifica nada fuera de la pelota: se detiene y
+     * devuelve false en cuanto el primer impacto no es una pared superior o
+     * inferior, porque resolverlo dañaria un bloque, notificaria un golpe o
+     * sumaria un punto.
+     * </p>
+     *
+     * @param modeloJuego modelo del juego
+     * @param pelota pelota a mover
+     * @param tiempoDelta duracion del tick en segundos
+     * @param barridoPelota busqueda de impactos a usar, propia del hilo
+     * @param especulativo true para detenerse ante impactos que modifican el modelo
+     * @return false si se detuvo por un impacto especulativo; true en otro caso
+     */
+    private boolean barrerPelota(final ModeloJuego modeloJuego, final Pelota pelota,
+                                 final double tiempoDelta, final BarridoPelota barridoPelota,
+                                 final boolean especulativo) {
+        final double radio = pelota.obtenerAncho() / 2.0;
+        final boolean conBloques = estrategiaBloque != null;
+        double x = pelota.obtenerX();
+        double y = pelota.obtenerY();
+        double restante = tiempoDelta;
+
+        for (int impactos = 0; impactos < MAXIMO_IMPACTOS_POR_TICK && restante > 0; impactos++) {
+            final double dx = pelota.obtenerVelocidadX() * restante;
+            final double dy = pelota.obtenerVelocidadY() * restante;
+
+            final int tipoImpacto = barridoPelota.buscar(modeloJuego, paredes, conBloques,
+                x, y, radio, dx, dy);
+
+            if (tipoImpacto == BarridoPelota.SIN_IMPACTO) {
+                x += dx;
+                y += dy;
+                restante = 0.0;
+                break;
+            }
+            if (especulativo && tipoImpacto != BarridoPelota.IMPACTO_PARED) {
+                return false;
+            }
+
+            final double tiempoImpacto = barridoPelota.obtenerTiempoImpacto();
+            x += dx * tiempoImpacto;
+            y += dy * tiempoImpacto;
+            restante -= restante * tiempoImpacto;
+
+            if (tipoImpacto == BarridoPelota.IMPACTO_GOL) {
+                // Se deja la pelota apenas pasada la linea para que la
+                // verificacion de paredes asigne el punto.
+                x -= barridoPelota.obtenerNormalX() * EPSILON_GOL;
+                break;
+            }
+
+            pelota.establecerPosicionExacta(x, y);
+            resolverImpacto(modeloJuego, pelota, tipoImpacto, barridoPelota);
+        }
+        pelota.establecerPosicionExacta(x, y);
+        return true;
+    }
+
+    /**
+     * Aplica el rebote y los efectos del impacto encontrado en el ultimo barrido.
+     *
+     * @param modeloJuego modelo del juego
+     * @param pelota pelota que impacta, ya situada en el punto de contacto
+     * @param tipoImpacto tipo del impacto encontrado
+     * @param barridoPelota barrido con la normal y el objeto impactado
+     */
+    private void resolverImpacto(final ModeloJuego modeloJuego, final Pelota pelota,
+                                 final int tipoImpacto, final BarridoPelota barridoPelota) {
+        final double normalX = barridoPelota.obtenerNormalX();
+        final double normalY = barridoPelota.obtenerNormalY();
+        switch (tipoImpacto) {
+            case BarridoPelota.IMPACTO_PALETA -> resolverImpactoPaleta(modeloJuego, pelota,
+                barridoPelota.obtenerPaletaImpactada(), normalX, normalY);
+            case BarridoPelota.IMPACTO_BLOQUE -> resolverImpactoBloque(modeloJuego, pelota,
+                modeloJuego.obtenerAlmacenBloques().obtenerVistaEn(barridoPelota.obtenerPosicionBloqueImpactado()),
+                normalX, normalY);
+            default -> {
+                pelota.reflejar(normalX, normalY);
+                // Solo la pelota principal: los barridos especulativos de las
+                // adicionales corren en otros hilos y el anillo admite un
+                // unico productor.
+                if (pelota == modeloJuego.obtenerPelota()) {
+                    modeloJuego.publicarEvento(TipoEventoJuego.GOLPE_PARED, 0, 0,
+                        pelota.obtenerX(), pelota.obtenerY(), 0.0, 0.0, normalX, normalY);
+                }
+            }
+        }
+    }
+
+    /**
+     * Verifica el rebote de la pelota en las paredes y asigna el punto
+     * cuando sale por un lateral.
+     *
+     * @param modeloJuego modelo del juego
+     * @param pelota pelota a verificar
+     */
+    private void verificarColisionParedes(final ModeloJuego modeloJuego, final Pelota pelota) {
+        if (estrategiaPared == null || !estrategiaPared.verificar(pelota, null)) {
+            return;
+        }
+        if (paredes == null) {
+            estrategiaPared.resolver(pelota, null, 0.0, 0.0);
+            return;
+        }
+
+        final double xAntes = pelota.obtenerX();
+        final double radio = pelota.obtenerAncho() / 2.0;
+        final double anchoCanvas = paredes.obtenerAnchoCanvas();
+
+        final boolean golPorIzquierda = (xAntes - radio <= 0);
+        final boolean golPorDerecha = (xAntes + radio >= anchoCanvas);
+
+        paredes.resolver(pelota, null, 0.0, 0.0);
+
+        if (golPorIzquierda) {
+            modeloJuego.incrementarPuntaje(2, 1);
+        } else if (golPorDerecha) {
+            modeloJuego.incrementarPuntaje(1, 1);
+        }
+    }
+
+    /**
+     * Resuelve un impacto con una paleta. Si la pelota se acerca a la paleta
+     * desde el campo, como en la verificacion discreta anterior, se usa la
+     * estrategia pelota-paleta, que calcula el angulo segun el punto de
+     * impacto y acelera la pelota, aunque el contacto sea en un canto. Si la
+     * pelota ya venia alejandose, solo se refleja.
+     *
+     * @param modeloJuego modelo del juego
+     * @param pelota pelota que impacta
+     * @param paleta paleta impactada
+     * @param normalImpactoX componente X de la normal del impacto
+     * @param normalImpactoY componente Y de la normal del impacto
+     */
+    private void resolverImpactoPaleta(final ModeloJuego modeloJuego, final Pelota pelota,
+                                       final Paleta paleta, final double normalImpactoX,
+                                       final double normalImpactoY) {
+        final double velocidadX = pelota.obtenerVelocidadX();
+        final boolean seAcerca = paleta.obtenerLadoPantalla() == LadoHorizontal.IZQUIERDA
+            ? velocidadX < 0
+            : velocidadX > 0;
+        if (estrategiaPaleta != null && seAcerca) {
+            estrategiaPaleta.resolver(pelota, paleta, normalImpactoX, normalImpactoY);
+            modeloJuego.notificarGolpePaleta(paleta);
+            modeloJuego.publicarEvento(TipoEventoJuego.GOLPE_PALETA,
+                paleta == modeloJuego.obtenerJugador1() ? 1 : 2, 0,
+                pelota.obtenerX(), pelota.obtenerY(), 0.0, 0.0, normalImpactoX, normalImpactoY);
+        } else {
+            pelota.reflejar(normalImpactoX, normalImpactoY);
+        }
+    }
+
+    /**
+     * Resuelve un impacto con un bloque: aplica la estrategia pelota-bloque y
+     * genera el item del bloque si fue destruido. El item de multipelota
+     * divide la pelota que rompio el bloque. Cualquier item generado invalida
+     * los barridos especulativos pendientes del tick.
+     *
+     * @param modeloJuego modelo del juego
+     * @param pelota pelota que impacta
+     * @param bloque bloque impactado
+     * @param normalImpactoX componente X de la normal del impacto
+     * @param normalImpactoY componente Y de la normal del impacto
+     */
+    private void resolverImpactoBloque(final ModeloJuego modeloJuego, final Pelota pelota,
+                                       final Bloque bloque, final double normalImpactoX,
+                                       final double normalImpactoY) {
+        final int resistenciaPrevia = bloque.obtenerResistencia();
+        estrategiaBloque.resolver(pelota, bloque, normalImpactoX, normalImpactoY);
+        modeloJuego.notificarCambioBloques();
+        modeloJuego.publicarEvento(
+            bloque.estaDestruido() ? TipoEventoJuego.BLOQUE_DESTRUIDO : TipoEventoJuego.GOLPE_BLOQUE,
+            0, resistenciaPrevia, bloque.obtenerX(), bloque.obtenerY(), bloque.obtenerAncho(),
+            bloque.obtenerAlto(), normalImpactoX, normalImpactoY);
+
+        if (bloque.estaDestruido() && generadorItems != null) {
+            generadorItems.intentarGenerarItem(bloque)
+                .forEach(item -> {
+                    itemAplicado = true;
+                    modeloJuego.generarItem(item);
+                    modeloJuego.publicarEvento(TipoEventoJuego.ITEM_GENERADO, 0, 0,
+                        bloque.obtenerX(), bloque.obtenerY(), bloque.obtenerAncho(), bloque.obtenerAlto(),
+                        0.0, 0.0);
+
+                    pelota.obtenerUltimaPaletaQueGolpeo()
+                        .forEach(paleta -> aplicarItem(item, paleta));
+
+                    if (item instanceof ItemMultiPelota multiPelota) {
+                        modeloJuego.dividirPelota(pelota, multiPelota.obtenerPelotasNuevas());
+                    }
                 });
-            });
-        });
+        }
+    }
+
+    /**
+     * Aplica un item a la paleta que golpeo la pelota. Un item que falla se
+     * informa y se ignora, sin interrumpir el resto del tick.
+     *
+     * @param item item generado por el bloque
+     * @param paleta ultima paleta que golpeo la pelota
+     */
+    private static void aplicarItem(final Item item, final Paleta paleta) {
+        try {
+            item.aplicar(paleta);
+        } catch (RuntimeException e) {
+            System.err.println("Error al aplicar item: " + e.getMessage());
+        }
     }
 
     /**
      * Maneja una colision especifica entre dos objetos del juego.
      * <p>
-     * Metodo auxiliar que puede ser usado para manejar colisiones
-     * especificas sin verificar primero si existe la colision.
+     * Metodo auxiliar para resolver pares fuera del avance de la pelota: la
+     * estrategia se elige por los tipos de ambos objetos con una sola lectura
+     * de la tabla, y solo se aplica si verifica la colision.
      * </p>
      *
      * @param obj1 primer objeto de la colision
-     * @param obj2 segundo objeto de la colision
-     */
-    public void manejarColision(final ObjetoJuego obj1, final ObjetoJuego obj2) {
-        io.vavr.control.Try.run(() -> {
-            estrategias.values().stream()
-                .filter(estrategia -> estrategia.verificarColision(obj1, obj2))
-                .findFirst()
-                .ifPresent(estrategia -> estrategia.manejarColision(obj1, obj2));
-        });
+     * @param obj2 segundo objeto de la colision, o null para las paredes
+     * @return true si habia estrategia para el par y hubo colision
+     */
+    public boolean manejarColision(final ObjetoJuego obj1, final ObjetoJuego obj2) {
+        return obj1 != null && tabla.manejar(obj1, obj2);
     }
 }
@@ -0,0 +1,341 @@
+package patrones.strategy.colision;
+
+import java.util.Arrays;
+
+import mvc.modelo.entidades.AlmacenEntidades;
+
+/**
+ * Rejilla uniforme para la fase amplia de colisiones contra entidades estaticas.
+ * <p>
+ * Divide el campo en celdas cuadradas y guarda en cada una los manejadores de
+ * las entidades de un {@link AlmacenEntidades} cuyo rectangulo la toca. Una
+ * consulta por rectangulo solo visita las celdas que lo cubren, de modo que el
+ * costo depende de la densidad local y no de la cantidad total de entidades.
+ * </p>
+ * <p>
+ * Se guardan manejadores y no posiciones densas porque estas cambian cuando el
+ * almacen elimina una entidad. Las entidades que quedan fuera del campo se
+ * asignan a las celdas del borde. Las consultas no asignan memoria: los
+ * candidatos se escriben en un bufer interno reutilizado.
+ * </p>
+ * <p>
+ * Insertar y eliminar no es seguro para uso concurrente; debe hacerse desde el
+ * hilo que actualiza el modelo. Las consultas pueden repartirse entre hilos
+ * mientras nadie modifique la rejilla, siempre que cada hilo use su propia
+ * {@link Consulta}.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class RejillaEspacial {
+
+    /** Lado por defecto de una celda, algo mayor que un bloque estandar. */
+    public static final double TAMANO_CELDA_DEFECTO = 64.0;
+
+    private static final int CAPACIDAD_CELDA_INICIAL = 4;
+
+    private static final long MASCARA_INDICE = 0xFFFF_FFFFL;
+
+    private final double tamanoCelda;
+    private final int columnas;
+    private final int filas;
+    private final long[][] celdas;
+    private final int[] cantidadPorCelda;
+
+    private final Consulta consultaPropia;
+
+    /**
+     * Estado de una consulta: marcas para no repetir entidades y bufer de
+     * candidatos. Cada hilo que consulta la rejilla necesita la suya.
+     */
+    public static final class Consulta {
+
+        private int[] marcas;
+        private int marcaActual;
+        private int[] candidatos;
+        private int cantidadCandidatos;
+
+        /**
+         * Crea una consulta con buferes pequenos que crecen segun haga falta.
+         */
+        public Consulta() {
+            this.marcas = new int[64];
+            this.candidatos = new int[64];
+        }
+
+        /**
+         * Obtiene un candidato de la ultima consulta.
+         *
+         * @param i indice en {@code [0, cantidad devuelta por consultar)}
+         * @return posicion densa del candidato en el almacen consultado
+         */
+        public int obtenerCandidato(final int i) {
+            return candidatos[i];
+        }
+    }
+
+    /**
+     * Crea una rejilla vacia que cubre el campo {@code [0, ancho] x [0, alto]}.
+     *
+     * @param ancho ancho del campo
+     * @param alto alto del campo
+     * @param tamanoCelda lado de cada celda
+     * @throws IllegalArgumentException si alguna dimension no es positiva
+     */
+    public RejillaEspacial(final double ancho, final double alto, final double tamanoCelda) {
+        if (ancho <= 0 || alto <= 0 || tamanoCelda <= 0) {
+            throw new IllegalArgumentException(
+                "Dimensiones invalidas para la rejilla: " + ancho + "x" + alto + " / " + tamanoCelda);
+        }
+        this.tamanoCelda = tamanoCelda;
+        this.columnas = Math.max(1, (int) Math.ceil(ancho / tamanoCelda));
+        this.filas = Math.max(1, (int) Math.ceil(alto / tamanoCelda));
+        this.celdas = new long[columnas * filas][];
+        this.cantidadPorCelda = new int[columnas * filas];
+        this.consultaPropia = new Consulta();
+    }
+
+    /**
+     * Elige un lado de celda acorde al tamano de las entidades de un almacen:
+     * el lado medio de las entidades activas, nunca menor que {@code minimo}.
+     * Con celdas fijas, un nivel de bloques muy pequenos acumularia decenas de
+     * entidades por celda y la fase estrecha volveria a crecer con la densidad.
+     *
+     * @param almacen almacen con las entidades a indexar
+     * @param minimo lado minimo, normalmente el tamano del objeto que consulta
+     * @return lado de celda sugerido, o {@link #TAMANO_CELDA_DEFECTO} si no hay entidades
+     */
+    public static double calcularTamanoCelda(final AlmacenEntidades<?> almacen, final double minimo) {
+        double suma = 0.0;
+        int activas = 0;
+        for (int posicion = 0; posicion < almacen.cantidad(); posicion++) {
+            if (almacen.estaActivaEn(posicion)) {
+                suma += Math.max(almacen.obtenerAnchoEn(posicion), almacen.obtenerAltoEn(posicion));
+                activas++;
+            }
+        }
+        if (activas == 0) {
+            return TAMANO_CELDA_DEFECTO;
+        }
+        return Math.max(minimo, suma / activas);
+    }
+
+    /**
+     * Quita todas las entidades de la rejilla, conservando la memoria de las celdas.
+     */
+    public void vaciar() {
+        Arrays.fill(cantidadPorCelda, 0);
+        consultaPropia.cantidadCandidatos = 0;
+    }
+
+    /**
+     * Vacia la rejilla e inserta todas las entidades activas de un almacen.
+     *
+     * @param almacen almacen de origen
+     */
+    public void reconstruir(final AlmacenEntidades<?> almacen) {
+        vaciar();
+        for (int posicion = 0; posicion < almacen.cantidad(); posicion++) {
+            if (almacen.estaActivaEn(posicion)) {
+                insertar(almacen, posicion);
+            }
+        }
+    }
+
+    /**
+     * Inserta la entidad de una posicion densa usando su rectangulo actual.
+     *
+     * @param almacen almacen al que pertenece la entidad
+     * @param posicion posicion densa de la entidad
+     */
+    public void insertar(final AlmacenEntidades<?> almacen, final int posicion) {
+        final long entidad = almacen.obtenerEntidadEn(posicion);
+        final double x = almacen.obtenerXEn(posicion);
+        final double y = almacen.obtenerYEn(posicion);
+        final int columnaMin = columna(x);
+        final int columnaMax = columna(x + almacen.obtenerAnchoEn(posicion));
+        final int filaMin = fila(y);
+        final int filaMax = fila(y + almacen.obtenerAltoEn(posicion));
+        for (int f = filaMin; f <= filaMax; f++) {
+            for (int c = columnaMin; c <= columnaMax; c++) {
+                agregarACelda(f * columnas + c, entidad);
+            }
+        }
+    }
+
+    /**
+     * Quita la entidad de una posicion densa. Debe llamarse antes de que el
+     * almacen la elimine y sin haber movido su rectangulo desde que se inserto.
+     *
+     * @param almacen almacen al que pertenece la entidad
+     * @param posicion posicion densa de la entidad
+     * @return true si la entidad estaba en alguna celda
+     */
+    public boolean eliminar(final AlmacenEntidades<?> almacen, final int posicion) {
+        final long entidad = almacen.obtenerEntidadEn(posicion);
+        final double x = almacen.obtenerXEn(posicion);
+        final double y = almacen.obtenerYEn(posicion);
+        final int columnaMin = columna(x);
+        final int columnaMax = columna(x + almacen.obtenerAnchoEn(posicion));
+        final int filaMin = fila(y);
+        final int filaMax = fila(y + almacen.obtenerAltoEn(posicion));
+        boolean eliminada = false;
+        for (int f = filaMin; f <= filaMax; f++) {
+            for (int c = columnaMin; c <= columnaMax; c++) {
+                eliminada |= quitarDeCelda(f * columnas + c, entidad);
+            }
+        }
+        return eliminada;
+    }
+
+    /**
+     * Busca las entidades cuyas celdas tocan un rectangulo.
+     * <p>
+     * El resultado es un superconjunto de las entidades que solapan el
+     * rectangulo: la fase estrecha debe confirmar cada candidato. Los
+     * candidatos son posiciones densas sin repetir, en orden ascendente, para
+     * que la fase estrecha los recorra en el mismo orden que un barrido lineal
+     * del almacen. Los manejadores que ya no existen en el almacen se ignoran.
+     * </p>
+     *
+     * @param almacen almacen al que pertenecen las entidades
+     * @param minX borde izquierdo del rectangulo
+     * @param minY borde superior del rectangulo
+     * @param maxX borde derecho del rectangulo
+     * @param maxY borde inferior del rectangulo
+     * @return cantidad de candidatos, accesibles con {@link #obtenerCandidato(int)}
+     */
+    public int consultar(final AlmacenEntidades<?> almacen,
+                         final double minX, final double minY,
+                         final double maxX, final double maxY) {
+        return consultar(almacen, minX, minY, maxX, maxY, consultaPropia);
+    }
+
+    /**
+     * Busca las entidades cuyas celdas tocan un rectangulo usando el estado
+     * de una consulta dada, para poder consultar desde varios hilos.
+     *
+     * @param almacen almacen al que pertenecen las entidades
+     * @param minX borde izquierdo del rectangulo
+     * @param minY borde superior del rectangulo
+     * @param maxX borde derecho del rectangulo
+     * @param maxY borde inferior del rectangulo
+     * @param consulta estado de la consulta, propio del hilo que llama
+     * @return cantidad de candidatos, accesibles con {@link Consulta#obtenerCandidato(int)}
+     * @see #consultar(AlmacenEntidades, double, double, double, double)
+     */
+    public int consultar(final AlmacenEntidades<?> almacen,
+                         final double minX, final double minY,
+                         final double maxX, final double maxY,
+                         final Consulta consulta) {
+        consulta.cantidadCandidatos = 0;
+        if (++consulta.marcaActual == 0) {
+            Arrays.fill(consulta.marcas, 0);
+            consulta.marcaActual = 1;
+        }
+        final int columnaMin = columna(minX);
+        final int columnaMax = columna(maxX);
+        final int filaMin = fila(minY);
+        final int filaMax = fila(maxY);
+        for (int f = filaMin; f <= filaMax; f++) {
+            for (int c = columnaMin; c <= columnaMax; c++) {
+                final int celda = f * columnas + c;
+                final long[] entidades = celdas[celda];
+                for (int i = 0; i < cantidadPorCelda[celda]; i++) {
+                    agregarCandidato(almacen, entidades[i], consulta);
+                }
+            }
+        }
+        ordenarCandidatos(consulta);
+        return consulta.cantidadCandidatos;
+    }
+
+    /**
+     * Obtiene un candidato de la ultima consulta.
+     *
+     * @param i indice en {@code [0, cantidad devuelta por consultar)}
+     * @return posicion densa del candidato en el almacen consultado
+     */
+    public int obtenerCandidato(final int i) {
+        return consultaPropia.obtenerCandidato(i);
+    }
+
+    /**
+     * Obtiene el lado de las celdas.
+     *
+     * @return tamano de celda
+     */
+    public double obtenerTamanoCelda() {
+        return tamanoCelda;
+    }
+
+    private static void agregarCandidato(final AlmacenEntidades<?> almacen, final long entidad,
+                                         final Consulta consulta) {
+        final int indice = (int) (entidad & MASCARA_INDICE);
+        if (indice >= consulta.marcas.length) {
+            consulta.marcas = Arrays.copyOf(consulta.marcas, Math.max(consulta.marcas.length * 2, indice + 1));
+        }
+        if (consulta.marcas[indice] == consulta.marcaActual) {
+            return;
+        }
+        consulta.marcas[indice] = consulta.marcaActual;
+        final int posicion = almacen.obtenerPosicion(entidad);
+        if (posicion < 0) {
+            return;
+        }
+        if (consulta.cantidadCandidatos == consulta.candidatos.length) {
+            consulta.candidatos = Arrays.copyOf(consulta.candidatos, consulta.candidatos.length * 2);
+        }
+        consulta.candidatos[consulta.cantidadCandidatos++] = posicion;
+    }
+
+    /**
+     * Ordena los candidatos por insercion; suelen ser pocos y casi ordenados.
+     */
+    private static void ordenarCandidatos(final Consulta consulta) {
+        final int[] candidatos = consulta.candidatos;
+        for (int i = 1; i < consulta.cantidadCandidatos; i++) {
+            final int actual = candidatos[i];
+            int j = i - 1;
+            while (j >= 0 && candidatos[j] > actual) {
+                candidatos[j + 1] = candidatos[j];
+                j--;
+            }
+            candidatos[j + 1] = actual;
+        }
+    }
+
+    private void agregarACelda(final int celda, final long entidad) {
+        long[] entidades = celdas[celda];
+        if (entidades == null) {
+            entidades = new long[CAPACIDAD_CELDA_INICIAL];
+            celdas[celda] = entidades;
+        } else if (cantidadPorCelda[celda] == entidades.length) {
+            entidades = Arrays.copyOf(entidades, entidades.length * 2);
+            celdas[celda] = entidades;
+        }
+        entidades[cantidadPorCelda[celda]++] = entidad;
+    }
+
+    private boolean quitarDeCelda(final int celda, final long entidad) {
+        final long[] entidades = celdas[celda];
+        final int cantidad = cantidadPorCelda[celda];
+        for (int i = 0; i < cantidad; i++) {
+            if (entidades[i] == entidad) {
+                entidades[i] = entidades[cantidad - 1];
+                cantidadPorCelda[celda] = cantidad - 1;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int columna(final double x) {
+        return Math.min(columnas - 1, Math.max(0, (int) Math.floor(x / tamanoCelda)));
+    }
+
+    private int fila(final double y) {
+        return Math.min(filas - 1, Math.max(0, (int) Math.floor(y / tamanoCelda)));
+    }
+}
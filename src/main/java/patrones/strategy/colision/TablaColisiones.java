@@ -0,0 +1,130 @@
+package patrones.strategy.colision;
+
+import mvc.modelo.entidades.ObjetoJuego;
+import mvc.modelo.enums.TipoEntidad;
+
+/**
+ * Tabla de despacho de colisiones indexada por pares de {@link TipoEntidad}.
+ * <p>
+ * Guarda las estrategias en una matriz plana de {@code n x n} posiciones,
+ * indexada por los ordinales de los dos tipos, de modo que elegir la
+ * estrategia de un par es una sola lectura de arreglo, sin claves de texto
+ * ni recorridos. Al registrar una estrategia para {@code (A, B)} tambien se
+ * ocupa la posicion {@code (B, A)} con un adaptador que invierte los
+ * argumentos y la normal, salvo que ya haya una estrategia propia para ese orden.
+ * </p>
+ * <p>
+ * Se configura al crear el modelo y luego solo se lee; no es seguro
+ * registrar estrategias mientras otro hilo despacha colisiones.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class TablaColisiones {
+
+    private static final int CANTIDAD_TIPOS = TipoEntidad.values().length;
+
+    private final EstrategiaColision<?, ?>[] estrategias =
+        new EstrategiaColision<?, ?>[CANTIDAD_TIPOS * CANTIDAD_TIPOS];
+
+    /**
+     * Registra una estrategia para su par de tipos y para el par inverso.
+     *
+     * @param estrategia estrategia a registrar
+     * @return esta tabla, para encadenar registros
+     * @throws NullPointerException si la estrategia es nula
+     */
+    public TablaColisiones registrar(final EstrategiaColision<?, ?> estrategia) {
+        if (estrategia == null) {
+            throw new NullPointerException("Estrategia nula no es valida.");
+        }
+        final TipoEntidad primero = estrategia.obtenerTipoPrimero();
+        final TipoEntidad segundo = estrategia.obtenerTipoSegundo();
+        estrategias[indice(primero, segundo)] = estrategia;
+
+        final int inverso = indice(segundo, primero);
+        if (primero != segundo
+            && (estrategias[inverso] == null || estrategias[inverso] instanceof EstrategiaInvertida)) {
+            estrategias[inverso] = new EstrategiaInvertida<>(estrategia);
+        }
+        return this;
+    }
+
+    /**
+     * Obtiene la estrategia de un par de tipos. El llamador elige los tipos
+     * de los argumentos; deben coincidir con los que declara la estrategia.
+     *
+     * @param <A> tipo del primer objeto
+     * @param <B> tipo del segundo objeto
+     * @param primero tipo del primer objeto
+     * @param segundo tipo del segundo objeto
+     * @return la estrategia del par, o null si no hay ninguna registrada
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends ObjetoJuego, B extends ObjetoJuego> EstrategiaColision<A, B> obtener(
+            final TipoEntidad primero, final TipoEntidad segundo) {
+        return (EstrategiaColision<A, B>) estrategias[indice(primero, segundo)];
+    }
+
+    /**
+     * Verifica y, si corresponde, resuelve la colision entre dos objetos
+     * cualesquiera con la estrategia de sus tipos. Un segundo objeto nulo se
+     * interpreta como {@link TipoEntidad#PARED}, ya que las paredes no son objetos.
+     *
+     * @param primero primer objeto
+     * @param segundo segundo objeto, o null para las paredes
+     * @return true si habia estrategia para el par y los objetos colisionaban
+     */
+    @SuppressWarnings("unchecked")
+    public boolean manejar(final ObjetoJuego primero, final ObjetoJuego segundo) {
+        final TipoEntidad tipoSegundo = segundo == null ? TipoEntidad.PARED : segundo.obtenerTipoEntidad();
+        final EstrategiaColision<ObjetoJuego, ObjetoJuego> estrategia =
+            (EstrategiaColision<ObjetoJuego, ObjetoJuego>) estrategias[indice(primero.obtenerTipoEntidad(), tipoSegundo)];
+        if (estrategia == null || !estrategia.verificar(primero, segundo)) {
+            return false;
+        }
+        estrategia.resolver(primero, segundo, 0.0, 0.0);
+        return true;
+    }
+
+    private static int indice(final TipoEntidad primero, final TipoEntidad segundo) {
+        return primero.ordinal() * CANTIDAD_TIPOS + segundo.ordinal();
+    }
+
+    /**
+     * Adaptador que atiende el par {@code (B, A)} con una estrategia de {@code (A, B)}.
+     *
+     * @param <A> tipo del primer objeto de la estrategia original
+     * @param <B> tipo del segundo objeto de la estrategia original
+     */
+    private static final class EstrategiaInvertida<A extends ObjetoJuego, B extends ObjetoJuego>
+            implements EstrategiaColision<B, A> {
+
+        private final EstrategiaColision<A, B> original;
+
+        private EstrategiaInvertida(final EstrategiaColision<A, B> original) {
+            this.original = original;
+        }
+
+        @Override
+        public TipoEntidad obtenerTipoPrimero() {
+            return original.obtenerTipoSegundo();
+        }
+
+        @Override
+        public TipoEntidad obtenerTipoSegundo() {
+            return original.obtenerTipoPrimero();
+        }
+
+        @Override
+        public boolean verificar(final B primero, final A segundo) {
+            return original.verificar(segundo, primero);
+        }
+
+        @Override
+        public void resolver(final B primero, final A segundo, final double normalX, final double normalY) {
+            original.resolver(segundo, primero, -normalX, -normalY);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package patrones.strategy.movimiento;
 
-import io.vavr.control.Option;
+import mvc.modelo.CampoJuego;
 import mvc.modelo.entidades.pelota.Pelota;
 
 /**
@@ -54,14 +54,14 @@ public final class CalcularTrayectoria {
      * <p>Los valores por defecto son:</p>
      * <ul>
      *   <li>Límite superior: 0.0</li>
-     *   <li>Límite inferior: 600.0</li>
+     *   <li>Límite inferior: {@link CampoJuego#ALTO}</li>
      * </ul>
      *
      * <p><b>NOTA:</b> Este constructor se mantiene por compatibilidad con código existente.
      * Se recomienda usar {@link #crear(double, double)} para especificar límites explícitos.</p>
      */
     public CalcularTrayectoria() {
-        this(0.0, 600.0);
+        this(0.0, CampoJuego.ALTO);
     }
 
     /**
@@ -108,12 +108,14 @@ public final class CalcularTrayectoria {
         final double velX = pelota.obtenerVelocidadX();
         final double velY = pelota.obtenerVelocidadY();
 
-        return Option.of(velX)
-                .filter(vx -> vx != 0.0)
-                .map(vx -> calcularTiempo(posX, xObjetivo, vx))
-                .filter(tiempo -> tiempo >= 0.0)
-                .map(tiempo -> calcularPosicionConRebotes(posY, velY, tiempo))
-                .getOrElse(posY);
+        // Se evalua en cada reaccion de la IA: sin Option para no encajonar dobles.
+        if (velX == 0.0) {
+            return posY;
+        }
+        final double tiempo = calcularTiempo(posX, xObjetivo, velX);
+        return tiempo >= 0.0
+                ? calcularPosicionConRebotes(posY, velY, tiempo)
+                : posY;
     }
 
     /**
@@ -1,6 +1,5 @@
 package patrones.strategy.movimiento;
 
-import io.vavr.control.Option;
 import io.vavr.control.Try;
 import mvc.modelo.enums.Direccion;
 import mvc.modelo.entidades.paleta.Paleta;
@@ -28,13 +27,17 @@ import mvc.modelo.entidades.pelota.Pelota;
  *     <ul>
  *       <li>Predice la posición Y donde la pelota impactará en la coordenada X de la paleta</li>
  *       <li>Añade un error aleatorio a la predicción (simulando imperfección)</li>
- *       <li>Compara la posición actual de la paleta con el objetivo calculado</li>
- *       <li>Retorna la dirección de movimiento apropiada (ARRIBA, ABAJO, o NINGUNA)</li>
+ *       <li>Guarda el resultado como nuevo objetivo</li>
  *     </ul>
  *   </li>
- *   <li>Si el intervalo de reacción no ha transcurrido, retorna NINGUNA (no se mueve)</li>
+ *   <li>Compara la posición actual de la paleta con el último objetivo percibido y
+ *       retorna la dirección apropiada (ARRIBA, ABAJO, o NINGUNA)</li>
  * </ol>
  *
+ * <p>El retraso afecta solo a la percepción: entre reacciones la paleta sigue
+ * moviéndose hacia el último objetivo, de modo que la velocidad efectiva de la IA
+ * no depende de la frecuencia de actualización.</p>
+ *
  * <p>Esta implementación utiliza la biblioteca Vavr para garantizar inmutabilidad,
  * manejo seguro de errores y composición funcional.</p>
  *
@@ -52,6 +55,8 @@ public final class EstrategiaMovimientoIA implements EstrategiaMovimiento {
     private final GeneradorErrorMovimiento generadorError;
     private final double retrasoReaccion;
     private final double amplitudError;
+    private double yObjetivo;
+    private boolean tieneObjetivo;
 
     /**
      * Construye una nueva estrategia de movimiento para la IA con los parámetros especificados.
@@ -75,6 +80,8 @@ public final class EstrategiaMovimientoIA implements EstrategiaMovimiento {
         this.temporizador = new TemporizadorReaccion(retrasoReaccion);
         this.calculador = new CalcularTrayectoria();
         this.generadorError = new GeneradorErrorMovimiento(amplitudError);
+        this.yObjetivo = 0.0;
+        this.tieneObjetivo = false;
     }
 
     /**
@@ -146,12 +153,12 @@ public final class EstrategiaMovimientoIA implements EstrategiaMovimiento {
      * <ol>
      *   <li>Actualizar el temporizador de reacción</li>
      *   <li>Verificar si ha transcurrido el intervalo de reacción</li>
-     *   <li>Si puede reaccionar: predecir posición de impacto + error, y determinar dirección</li>
-     *   <li>Si no puede reaccionar: permanecer inmóvil</li>
+     *   <li>Si puede reaccionar: predecir posición de impacto + error y guardarla como objetivo</li>
+     *   <li>Determinar la dirección hacia el último objetivo; sin objetivo, permanecer inmóvil</li>
      * </ol>
      *
-     * <p>La implementación utiliza programación funcional con {@code Option} de Vavr
-     * para manejar el caso de "puede reaccionar" vs "no puede reaccionar" de forma elegante.</p>
+     * <p>Se ejecuta en cada tick de simulación, por lo que el objetivo se guarda en
+     * campos primitivos en lugar de un {@code Option} para no asignar memoria.</p>
      *
      * @param paleta      la paleta controlada por la IA. No debe ser {@code null}.
      * @param pelota      la pelota del juego. No debe ser {@code null}.
@@ -167,14 +174,17 @@ public final class EstrategiaMovimientoIA implements EstrategiaMovimiento {
 
         temporizador.actualizar(tiempoDelta);
 
-        return Option.when(temporizador.puedeReaccionar(), () -> {
-                    final double yPredicho = calculador.predecirPosicionImpacto(
-                            pelota,
-                            paleta.obtenerX());
-                    final double yObjetivo = yPredicho + generadorError.generarError();
-                    return determinarDireccion(paleta.obtenerY(), yObjetivo);
-                })
-                .getOrElse(Direccion.NINGUNA);
+        if (temporizador.puedeReaccionar()) {
+            final double yPredicho = calculador.predecirPosicionImpacto(
+                    pelota,
+                    paleta.obtenerX());
+            yObjetivo = yPredicho + generadorError.generarError();
+            tieneObjetivo = true;
+        }
+
+        return tieneObjetivo
+                ? determinarDireccion(paleta.obtenerY(), yObjetivo)
+                : Direccion.NINGUNA;
     }
 
     /**
@@ -80,13 +80,15 @@ public class TemporizadorReaccion {
      * Verifica si la IA puede reaccionar en este momento.
      *
      * <p>Si el tiempo acumulado ha alcanzado o superado el intervalo de reacción,
-     * este método retorna {@code true} y reinicia automáticamente el temporizador
-     * a cero. Esto permite que la IA reaccione y comience a contar el tiempo
-     * hasta la próxima reacción permitida.</p>
+     * este método retorna {@code true} y descuenta un intervalo del contador.
+     * Conservar el sobrante, en lugar de reiniciar a cero, mantiene la cadencia
+     * real de reacción igual a la configurada sea cual sea el paso de simulación;
+     * si se acumuló más de un intervalo (por ejemplo tras una pausa) el
+     * contador sí se reinicia, para no encadenar reacciones atrasadas.</p>
      *
      * <p><b>Comportamiento:</b></p>
      * <ul>
-     *   <li>Si {@code tiempoAcumulado >= intervaloReaccion}: retorna {@code true} y reinicia el contador</li>
+     *   <li>Si {@code tiempoAcumulado >= intervaloReaccion}: retorna {@code true} y descuenta un intervalo</li>
      *   <li>Si {@code tiempoAcumulado < intervaloReaccion}: retorna {@code false} sin cambios</li>
      * </ul>
      *
@@ -104,7 +106,10 @@ public class TemporizadorReaccion {
      */
     public boolean puedeReaccionar(){
         if(tiempoAcumulado >= intervaloReaccion){
-            tiempoAcumulado = 0;
+            tiempoAcumulado -= intervaloReaccion;
+            if(tiempoAcumulado >= intervaloReaccion){
+                tiempoAcumulado = 0;
+            }
             return true;
         }else {
             return false;
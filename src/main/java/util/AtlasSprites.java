@@ -0,0 +1,300 @@
+package util;
+
+import io.vavr.Tuple;
+import io.vavr.collection.List;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import mvc.modelo.simulacion.InstantaneaJuego;
+
+/**
+ * Atlas de sprites pre-rasterizados para el renderizado del juego.
+ * <p>
+ * Se construye una vez al iniciar un nivel y reune en una sola imagen las
+ * pieles de bloque por tamano y nivel de resistencia, el icono de item, la
+ * pelota principal, el segmento de su estela, la pelota del modo
+ * multipelota y los digitos de la fuente retro. Cada fotograma se dibuja con
+ * {@code drawImage} desde el atlas, sin crear fuentes, colores ni cadenas.
+ * </p>
+ * <p>
+ * Cada sprite guarda un borde transparente alrededor del contenido para
+ * conservar los trazos y el suavizado; {@link #dibujar} lo extiende por fuera
+ * del destino para que el contenido coincida con el dibujo vectorial.
+ * Construir el atlas requiere el hilo de JavaFX.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class AtlasSprites {
+
+    /** Niveles de resistencia con piel propia; a partir del ultimo el color no cambia. */
+    public static final int NIVELES_RESISTENCIA = 5;
+
+    /** Ancho de la celda de un digito, igual al avance de la fuente retro a 8 puntos. */
+    public static final double ANCHO_DIGITO = 8.0;
+
+    /** Alto de la celda de un digito, desde su borde superior hasta la linea base. */
+    public static final double ALTO_DIGITO = 8.0;
+
+    /** Sprite del icono de item. */
+    public static final int SPRITE_ITEM = 0;
+
+    /** Sprite de la pelota principal con su brillo. */
+    public static final int SPRITE_PELOTA = 1;
+
+    /** Sprite de un segmento de estela, opaco; se atenua con el alfa global. */
+    public static final int SPRITE_ESTELA = 2;
+
+    /** Sprite de una pelota del modo multipelota. */
+    public static final int SPRITE_PELOTA_EXTRA = 3;
+
+    /** Primer sprite de digito; el digito {@code d} es {@code SPRITE_DIGITO_CERO + d}. */
+    public static final int SPRITE_DIGITO_CERO = 4;
+
+    private static final int PRIMER_SPRITE_BLOQUE = SPRITE_DIGITO_CERO + 10;
+
+    private static final double ANCHO_ATLAS = 512.0;
+    private static final double SEPARACION = 1.0;
+    private static final double BORDE_BLOQUE = 1.0;
+    private static final double BORDE_ITEM = 1.0;
+    private static final double BORDE_PELOTA = 1.0;
+    private static final double BORDE_MAXIMO = 1.0;
+    private static final double TAMANIO_ITEM = 20.0;
+    private static final String FUENTE_RETRO = "Press Start 2P";
+    private static final double TAMANIO_FUENTE_ITEM = 10.0;
+    private static final double TAMANIO_FUENTE_DIGITO = 8.0;
+
+    private final Image imagen;
+    private final double[] origenX;
+    private final double[] origenY;
+    private final double[] anchoSprite;
+    private final double[] altoSprite;
+    private final double[] borde;
+    private final double[] anchosBloque;
+    private final double[] altosBloque;
+    private final double radioPelota;
+
+    private AtlasSprites(final Image imagen, final double[] origenX, final double[] origenY,
+                         final double[] anchoSprite, final double[] altoSprite, final double[] borde,
+                         final double[] anchosBloque, final double[] altosBloque, final double radioPelota) {
+        this.imagen = imagen;
+        this.origenX = origenX;
+        this.origenY = origenY;
+        this.anchoSprite = anchoSprite;
+        this.altoSprite = altoSprite;
+        this.borde = borde;
+        this.anchosBloque = anchosBloque;
+        this.altosBloque = altosBloque;
+        this.radioPelota = radioPelota;
+    }
+
+    /**
+     * Construye el atlas para un nivel.
+     *
+     * @param bloques     bloques del nivel; se genera una piel por cada tamano distinto
+     * @param radioPelota radio con el que se rasterizan las pelotas
+     * @return atlas listo para dibujar
+     * @throws IllegalArgumentException si el radio no es positivo
+     */
+    public static AtlasSprites construir(final List<InstantaneaJuego.EstadoBloque> bloques,
+                                         final double radioPelota) {
+        if (radioPelota <= 0) {
+            throw new IllegalArgumentException("El radio de la pelota debe ser positivo: " + radioPelota);
+        }
+        final List<InstantaneaJuego.EstadoBloque> tamanios = bloques.distinctBy(b -> Tuple.of(b.ancho(), b.alto()));
+        final double[] anchosBloque = tamanios.map(InstantaneaJuego.EstadoBloque::ancho)
+            .toJavaStream().mapToDouble(Double::doubleValue).toArray();
+        final double[] altosBloque = tamanios.map(InstantaneaJuego.EstadoBloque::alto)
+            .toJavaStream().mapToDouble(Double::doubleValue).toArray();
+
+        final int sprites = PRIMER_SPRITE_BLOQUE + anchosBloque.length * NIVELES_RESISTENCIA;
+        final double[] anchoSprite = new double[sprites];
+        final double[] altoSprite = new double[sprites];
+        final double[] borde = new double[sprites];
+
+        dimensionar(anchoSprite, altoSprite, borde, SPRITE_ITEM, TAMANIO_ITEM, TAMANIO_ITEM, BORDE_ITEM);
+        dimensionar(anchoSprite, altoSprite, borde, SPRITE_PELOTA, radioPelota * 2, radioPelota * 2, BORDE_PELOTA);
+        dimensionar(anchoSprite, altoSprite, borde, SPRITE_ESTELA, radioPelota * 1.6, radioPelota * 1.6, BORDE_PELOTA);
+        dimensionar(anchoSprite, altoSprite, borde, SPRITE_PELOTA_EXTRA, radioPelota * 2, radioPelota * 2, BORDE_PELOTA);
+        for (int d = 0; d < 10; d++) {
+            dimensionar(anchoSprite, altoSprite, borde, SPRITE_DIGITO_CERO + d, ANCHO_DIGITO, ALTO_DIGITO, 0.0);
+        }
+        for (int i = 0; i < anchosBloque.length; i++) {
+            for (int nivel = 0; nivel < NIVELES_RESISTENCIA; nivel++) {
+                dimensionar(anchoSprite, altoSprite, borde, PRIMER_SPRITE_BLOQUE + i * NIVELES_RESISTENCIA + nivel,
+                    anchosBloque[i], altosBloque[i], BORDE_BLOQUE);
+            }
+        }
+
+        final double[] origenX = new double[sprites];
+        final double[] origenY = new double[sprites];
+        final double altoAtlas = empaquetar(anchoSprite, altoSprite, origenX, origenY);
+
+        final Canvas lienzo = new Canvas(ANCHO_ATLAS, altoAtlas);
+        final GraphicsContext gc = lienzo.getGraphicsContext2D();
+        rasterizarItem(gc, origenX[SPRITE_ITEM], origenY[SPRITE_ITEM]);
+        rasterizarPelota(gc, origenX[SPRITE_PELOTA], origenY[SPRITE_PELOTA], radioPelota);
+        rasterizarDisco(gc, origenX[SPRITE_ESTELA], origenY[SPRITE_ESTELA], radioPelota * 0.8);
+        rasterizarDisco(gc, origenX[SPRITE_PELOTA_EXTRA], origenY[SPRITE_PELOTA_EXTRA], radioPelota);
+        for (int d = 0; d < 10; d++) {
+            rasterizarDigito(gc, origenX[SPRITE_DIGITO_CERO + d], origenY[SPRITE_DIGITO_CERO + d], d);
+        }
+        for (int i = 0; i < anchosBloque.length; i++) {
+            for (int nivel = 0; nivel < NIVELES_RESISTENCIA; nivel++) {
+                final int sprite = PRIMER_SPRITE_BLOQUE + i * NIVELES_RESISTENCIA + nivel;
+                rasterizarBloque(gc, origenX[sprite], origenY[sprite], anchosBloque[i], altosBloque[i], nivel + 1);
+            }
+        }
+
+        final SnapshotParameters parametros = new SnapshotParameters();
+        parametros.setFill(Color.TRANSPARENT);
+        final Image imagen = lienzo.snapshot(parametros, null);
+
+        return new AtlasSprites(imagen, origenX, origenY, anchoSprite, altoSprite, borde,
+            anchosBloque, altosBloque, radioPelota);
+    }
+
+    /**
+     * Busca la piel de un bloque.
+     *
+     * @param ancho       ancho del bloque
+     * @param alto        alto del bloque
+     * @param resistencia resistencia restante del bloque
+     * @return indice del sprite, o -1 si el atlas no tiene un bloque de ese tamano
+     */
+    public int buscarBloque(final double ancho, final double alto, final int resistencia) {
+        for (int i = 0; i < anchosBloque.length; i++) {
+            if (anchosBloque[i] == ancho && altosBloque[i] == alto) {
+                final int nivel = Math.max(1, Math.min(NIVELES_RESISTENCIA, resistencia));
+                return PRIMER_SPRITE_BLOQUE + i * NIVELES_RESISTENCIA + nivel - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Dibuja un sprite cubriendo un rectangulo de destino. El borde
+     * transparente del sprite se agrega por fuera del rectangulo, escalado en
+     * la misma proporcion que el contenido.
+     *
+     * @param gc     contexto grafico destino
+     * @param sprite indice del sprite
+     * @param x      posicion horizontal del contenido
+     * @param y      posicion vertical del contenido
+     * @param ancho  ancho del contenido en el destino
+     * @param alto   alto del contenido en el destino
+     */
+    public void dibujar(final GraphicsContext gc, final int sprite, final double x, final double y,
+                        final double ancho, final double alto) {
+        final double b = borde[sprite];
+        final double escalaX = ancho / anchoSprite[sprite];
+        final double escalaY = alto / altoSprite[sprite];
+        gc.drawImage(imagen,
+            origenX[sprite] - b, origenY[sprite] - b, anchoSprite[sprite] + 2 * b, altoSprite[sprite] + 2 * b,
+            x - b * escalaX, y - b * escalaY, ancho + 2 * b * escalaX, alto + 2 * b * escalaY);
+    }
+
+    /**
+     * Obtiene el radio con el que se rasterizaron las pelotas.
+     *
+     * @return radio de referencia en pixeles
+     */
+    public double obtenerRadioPelota() {
+        return radioPelota;
+    }
+
+    /**
+     * Obtiene la imagen del atlas.
+     *
+     * @return imagen con todos los sprites
+     */
+    public Image obtenerImagen() {
+        return imagen;
+    }
+
+    private static void dimensionar(final double[] anchoSprite, final double[] altoSprite, final double[] borde,
+                                    final int sprite, final double ancho, final double alto, final double margen) {
+        anchoSprite[sprite] = ancho;
+        altoSprite[sprite] = alto;
+        borde[sprite] = margen;
+    }
+
+    /**
+     * Ubica los sprites en filas de {@link #ANCHO_ATLAS} pixeles, dejando a
+     * cada uno su borde y una separacion para que el filtrado no mezcle
+     * sprites vecinos.
+     *
+     * @return alto total del atlas
+     */
+    private static double empaquetar(final double[] anchoSprite, final double[] altoSprite,
+                                     final double[] origenX, final double[] origenY) {
+        double x = 0.0;
+        double y = 0.0;
+        double altoFila = 0.0;
+        for (int sprite = 0; sprite < anchoSprite.length; sprite++) {
+            final double celdaAncho = Math.ceil(anchoSprite[sprite]) + 2 * (BORDE_MAXIMO + SEPARACION);
+            final double celdaAlto = Math.ceil(altoSprite[sprite]) + 2 * (BORDE_MAXIMO + SEPARACION);
+            if (x + celdaAncho > ANCHO_ATLAS && x > 0.0) {
+                x = 0.0;
+                y += altoFila;
+                altoFila = 0.0;
+            }
+            origenX[sprite] = x + BORDE_MAXIMO + SEPARACION;
+            origenY[sprite] = y + BORDE_MAXIMO + SEPARACION;
+            x += celdaAncho;
+            altoFila = Math.max(altoFila, celdaAlto);
+        }
+        return Math.max(1.0, y + altoFila);
+    }
+
+    private static void rasterizarItem(final GraphicsContext gc, final double x, final double y) {
+        gc.setFill(Color.YELLOW);
+        gc.fillOval(x, y, TAMANIO_ITEM, TAMANIO_ITEM);
+
+        gc.setStroke(Color.GOLD);
+        gc.setLineWidth(2.0);
+        gc.strokeOval(x, y, TAMANIO_ITEM, TAMANIO_ITEM);
+
+        gc.setFill(Color.BLACK);
+        gc.setFont(Font.font(FUENTE_RETRO, TAMANIO_FUENTE_ITEM));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.fillText("?", x + TAMANIO_ITEM / 2, y + TAMANIO_ITEM / 2 + 3);
+    }
+
+    private static void rasterizarPelota(final GraphicsContext gc, final double x, final double y,
+                                         final double radio) {
+        gc.setFill(Color.WHITE);
+        gc.fillOval(x, y, radio * 2, radio * 2);
+
+        gc.setFill(Color.color(1.0, 1.0, 1.0, 0.5));
+        gc.fillOval(x + radio * 0.5, y + radio * 0.5, radio, radio);
+    }
+
+    private static void rasterizarDisco(final GraphicsContext gc, final double x, final double y,
+                                        final double radio) {
+        gc.setFill(Color.WHITE);
+        gc.fillOval(x, y, radio * 2, radio * 2);
+    }
+
+    private static void rasterizarDigito(final GraphicsContext gc, final double x, final double y, final int digito) {
+        gc.setFill(Color.WHITE);
+        gc.setFont(Font.font(FUENTE_RETRO, TAMANIO_FUENTE_DIGITO));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.fillText(String.valueOf(digito), x + ANCHO_DIGITO / 2, y + ALTO_DIGITO);
+    }
+
+    private static void rasterizarBloque(final GraphicsContext gc, final double x, final double y,
+                                         final double ancho, final double alto, final int resistencia) {
+        gc.setFill(RenderizadorJuego.calcularColorBloque(resistencia));
+        gc.fillRect(x, y, ancho, alto);
+
+        gc.setStroke(Color.WHITE);
+        gc.setLineWidth(1.5);
+        gc.strokeRect(x, y, ancho, alto);
+    }
+}
@@ -0,0 +1,204 @@
+package util;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+import patrones.observer.GestorAudio;
+
+/**
+ * Banco de pruebas del mezclador de efectos de sonido sin dispositivo de
+ * audio.
+ * <p>
+ * Mide la latencia entre el disparo de un efecto y su salida, las voces
+ * robadas y los subdesbordes de la salida, y captura el pico de la mezcla.
+ * </p>
+ * <p>
+ * Se ejecuta con {@link #main(String[])}, junto al {@link MezcladorEfectos}
+ * que mide. Termina con codigo 1 si algun efecto no se entrego a tiempo o si
+ * la mezcla se recorto.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class BancoPruebasAudio {
+
+    /** Disparos medidos por defecto. */
+    private static final int DISPAROS_MEDIDOS = 2_000;
+
+    /** Efectos de sonido que se disparan en la medicion del mezclador. */
+    private static final String[] EFECTOS_AUDIO = {
+        GestorAudio.EFECTO_PALETA, GestorAudio.EFECTO_PARED, GestorAudio.EFECTO_BLOQUE, GestorAudio.EFECTO_GOL
+    };
+
+    /** Bloques que se mezclan sin dispositivo antes de medir, para compilar la mezcla. */
+    private static final int BLOQUES_CALENTAMIENTO_AUDIO = 20_000;
+
+    /** Pausa maxima entre disparos de la medicion del mezclador, en milisegundos. */
+    private static final int PAUSA_MAXIMA_AUDIO_MS = 20;
+
+    /** Cada cuantos disparos la medicion del mezclador lanza una rafaga que agota las voces. */
+    private static final int PERIODO_RAFAGAS_AUDIO = 100;
+
+    /** Latencia admitida entre un disparo y su salida en el percentil 99, en nanosegundos. */
+    private static final long LATENCIA_MAXIMA_AUDIO_NANOS = 10_000_000L;
+
+    /** Semilla de los disparos de la medicion del mezclador, para que sea repetible. */
+    private static final long SEMILLA_AUDIO = 0x534F4E49L;
+
+    /**
+     * Resultado de la medicion del mezclador de efectos.
+     *
+     * @param disparos         disparos pedidos
+     * @param atendidos        disparos que obtuvieron voz
+     * @param descartados      disparos descartados por anillo lleno
+     * @param robadas          voces robadas a otro efecto
+     * @param latenciaMediaMs  latencia media entre disparo y salida
+     * @param latenciaP99Ms    percentil 99 de la latencia entre disparo y salida
+     * @param latenciaMaximaMs latencia maxima entre disparo y salida
+     * @param subdesbordes     veces que la salida se quedo sin datos
+     * @param picoSalida       mayor amplitud capturada, de 0 a 32767
+     */
+    public record ResultadoAudio(int disparos, long atendidos, long descartados, long robadas,
+                                 double latenciaMediaMs, double latenciaP99Ms, double latenciaMaximaMs,
+                                 long subdesbordes,
+                                 int picoSalida) {
+
+        /**
+         * Indica si los disparos sonaron a tiempo. Se juzga por el percentil
+         * 99 y no por el maximo, que refleja sobre todo las demoras del
+         * planificador del sistema al despertar el hilo del mezclador.
+         *
+         * @return true si se atendieron todos y el percentil 99 quedo bajo el limite
+         */
+        public boolean cumpleLatencia() {
+            return atendidos == disparos && latenciaP99Ms * 1e6 < LATENCIA_MAXIMA_AUDIO_NANOS;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Disparos: %d (%d atendidos, %d descartados, %d voces robadas)%n"
+                    + "Latencia disparo-salida: media %.2f ms, p99 %.1f ms, maxima %.2f ms%n"
+                    + "Subdesbordes: %d, pico de salida %d",
+                disparos, atendidos, descartados, robadas, latenciaMediaMs, latenciaP99Ms, latenciaMaximaMs,
+                subdesbordes, picoSalida);
+        }
+    }
+
+    private BancoPruebasAudio() {
+    }
+
+    /**
+     * Punto de entrada. Argumento opcional: cantidad de disparos a medir
+     * (2000).
+     *
+     * @param args argumentos de la linea de comandos
+     */
+    public static void main(final String[] args) {
+        final int disparos = args.length > 0 ? Integer.parseInt(args[0]) : DISPAROS_MEDIDOS;
+        if (!ejecutar(disparos)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Mide el mezclador e imprime el resultado.
+     *
+     * @param disparos disparos a medir
+     * @return false si algun efecto no se entrego a tiempo o la salida quedo en silencio o se recorto
+     */
+    private static boolean ejecutar(final int disparos) {
+        final ResultadoAudio resultado = medirAudio(disparos);
+        System.out.println(resultado);
+        if (!resultado.cumpleLatencia() || resultado.picoSalida() == 0) {
+            System.err.println("El mezclador no entrego todos los efectos a tiempo");
+            return false;
+        }
+        if (resultado.picoSalida() >= Short.MAX_VALUE) {
+            System.err.println("La mezcla se recorto");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Mide la latencia del mezclador de efectos sin dispositivo de audio.
+     * <p>
+     * Los efectos del juego se cargan como al iniciar la aplicacion y la
+     * mezcla se calienta sin salida. Despues el mezclador corre en su hilo
+     * contra una {@link MezcladorEfectos.SalidaMemoria}, que consume al ritmo
+     * de un dispositivo real con el mismo bufer que la linea del juego,
+     * mientras este hilo dispara efectos con pausas al azar de hasta
+     * {@value #PAUSA_MAXIMA_AUDIO_MS} ms y volumen y tono variados. Cada
+     * {@value #PERIODO_RAFAGAS_AUDIO} disparos lanza una rafaga de mas
+     * efectos que voces, para forzar el robo de voces.
+     * </p>
+     *
+     * @param disparos disparos a medir
+     * @return resultado de la medicion
+     * @throws IllegalStateException si no se pudo cargar ningun efecto
+     */
+    public static ResultadoAudio medirAudio(final int disparos) {
+        final MezcladorEfectos mezclador = new MezcladorEfectos();
+        final int[] efectos = Arrays.stream(EFECTOS_AUDIO)
+            .map(nombre -> CargadorRecursos.cargarEfectoSonido("audio/efectos/" + nombre + ".wav"))
+            .flatMap(java.util.Optional::stream)
+            .mapToInt(mezclador::registrar)
+            .toArray();
+        if (efectos.length == 0) {
+            throw new IllegalStateException("No se pudo cargar ningun efecto de sonido");
+        }
+        final Random azar = new Random(SEMILLA_AUDIO);
+
+        final byte[] bloque = new byte[MezcladorEfectos.BYTES_POR_BLOQUE];
+        for (int i = 0; i < BLOQUES_CALENTAMIENTO_AUDIO; i++) {
+            if (i % 8 == 0) {
+                mezclador.disparar(efectos[azar.nextInt(efectos.length)], 1.0, 0.8 + 0.4 * azar.nextDouble());
+            }
+            mezclador.mezclar(bloque, MezcladorEfectos.CUADROS_POR_BLOQUE);
+        }
+        mezclador.iniciar(new MezcladorEfectos.SalidaMemoria(0));
+        dispararEfectos(mezclador, efectos, azar, disparos / 4);
+        mezclador.detener();
+        mezclador.reiniciarEstadisticas();
+
+        final MezcladorEfectos.SalidaMemoria salida =
+            new MezcladorEfectos.SalidaMemoria((int) MezcladorEfectos.FRECUENCIA_MUESTREO * 2);
+        mezclador.iniciar(salida);
+        final int disparados = dispararEfectos(mezclador, efectos, azar, disparos);
+        LockSupport.parkNanos(50_000_000L);
+        mezclador.detener();
+
+        final byte[] captura = salida.obtenerCaptura();
+        int pico = 0;
+        for (int i = 0; i + 1 < salida.obtenerBytesCapturados(); i += 2) {
+            pico = Math.max(pico, Math.abs((short) ((captura[i] & 0xFF) | (captura[i + 1] << 8))));
+        }
+        return new ResultadoAudio(disparados, mezclador.obtenerDisparosAtendidos(),
+            mezclador.obtenerDisparosDescartados(), mezclador.obtenerVocesRobadas(),
+            mezclador.obtenerLatenciaMediaNanos() / 1e6, mezclador.obtenerLatenciaPercentilNanos(0.99) / 1e6,
+            mezclador.obtenerLatenciaMaximaNanos() / 1e6,
+            salida.obtenerSubdesbordes(), pico);
+    }
+
+    /**
+     * Dispara efectos al azar con pausas al azar y una rafaga periodica.
+     *
+     * @return cantidad de disparos hechos, contando las rafagas
+     */
+    private static int dispararEfectos(final MezcladorEfectos mezclador, final int[] efectos, final Random azar,
+                                       final int disparos) {
+        int disparados = 0;
+        for (int i = 0; i < disparos; i++) {
+            LockSupport.parkNanos((long) (azar.nextDouble() * PAUSA_MAXIMA_AUDIO_MS * 1_000_000));
+            final int rafaga = i % PERIODO_RAFAGAS_AUDIO == 0 ? mezclador.obtenerVoces() + 8 : 1;
+            for (int j = 0; j < rafaga; j++) {
+                mezclador.disparar(efectos[azar.nextInt(efectos.length)], 0.5 + 0.5 * azar.nextDouble(),
+                    Math.pow(2.0, (2.0 * azar.nextDouble() - 1.0) / 12.0));
+                disparados++;
+            }
+        }
+        return disparados;
+    }
+}
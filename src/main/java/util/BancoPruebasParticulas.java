@@ -0,0 +1,293 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+
+import io.vavr.collection.List;
+import mvc.modelo.simulacion.InstantaneaJuego;
+import mvc.modelo.simulacion.PartidaHeadless;
+
+/**
+ * Banco de pruebas del sistema de particulas sin interfaz grafica.
+ * <p>
+ * Mide la actualizacion y el rasterizado de un sistema con muchas
+ * particulas vivas, que debe actualizarse sin asignar memoria, y compara
+ * los integradores de particulas disponibles con el escalar, que deben
+ * coincidir bit a bit.
+ * </p>
+ * <p>
+ * Se ejecuta con {@link #main(String[])}, junto al {@link ParticleEmitter}
+ * y los integradores que mide.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class BancoPruebasParticulas {
+
+    /** Fotogramas o pasos medidos por defecto. */
+    private static final int PASOS_MEDIDOS = 1_000;
+
+    /** Modos que se ejecutan si no se indica ninguno. */
+    private static final String[] MODOS = {"particulas", "integrador"};
+
+    /** Particulas vivas durante la medicion del sistema de particulas. */
+    private static final int PARTICULAS_POOL = 50_000;
+
+    /** Particulas de cada explosion con la que se repone el sistema medido. */
+    private static final int PARTICULAS_POR_EXPLOSION = 1_000;
+
+    /** Semilla de las posiciones de las explosiones, para que la medicion sea repetible. */
+    private static final long SEMILLA_PARTICULAS = 0x50415254L;
+
+    /** Particulas con las que se comparan los integradores escalar y vectorial. */
+    private static final int[] PARTICULAS_INTEGRADOR = {10_000, 100_000, 1_000_000};
+
+    /** Pasos sobre pocas particulas con los que cada integrador se compila antes de medirlo. */
+    private static final int PASOS_CALENTAMIENTO_INTEGRADOR = 20_000;
+
+    /** Particulas de los pasos de calentamiento de los integradores. */
+    private static final int PARTICULAS_CALENTAMIENTO_INTEGRADOR = 1_000;
+
+    /**
+     * Costo por fotograma del sistema de particulas con una cantidad fija de
+     * particulas vivas.
+     *
+     * @param particulas        particulas vivas al empezar cada fotograma
+     * @param fotogramas        fotogramas medidos
+     * @param nanosActualizar   tiempo medio de {@link ParticleEmitter.SistemaParticulas#actualizar}
+     * @param nanosRasterizar   tiempo medio de rasterizar las particulas a 800x600
+     * @param bytesActualizar   bytes asignados en todas las actualizaciones medidas
+     */
+    public record ResultadoParticulas(int particulas, int fotogramas, double nanosActualizar,
+                                      double nanosRasterizar, long bytesActualizar) {
+
+        /**
+         * Fraccion del presupuesto de un fotograma a 60 Hz que ocupan la
+         * actualizacion y el rasterizado juntos.
+         *
+         * @return fraccion de 16,7 ms usada
+         */
+        public double fraccionFotograma() {
+            return (nanosActualizar + nanosRasterizar) * 60 / 1e9;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%6d particulas: actualizar %6.2f ms, rasterizar %6.2f ms, %5.1f%% de un fotograma"
+                + " a 60 Hz, %d bytes asignados al actualizar", particulas, nanosActualizar / 1e6,
+                nanosRasterizar / 1e6, 100 * fraccionFotograma(), bytesActualizar);
+        }
+    }
+
+    /**
+     * Costo medio de un paso de un integrador de particulas.
+     *
+     * @param integrador   nombre del integrador
+     * @param particulas   particulas integradas en cada paso
+     * @param nanosPorPaso tiempo medio de {@link IntegradorParticulas#integrar}
+     * @param aceleracion  tiempo del integrador escalar dividido por este tiempo
+     * @param identico     true si el resultado coincidio bit a bit con el escalar
+     */
+    public record ResultadoIntegrador(String integrador, int particulas, double nanosPorPaso, double aceleracion,
+                                      boolean identico) {
+
+        @Override
+        public String toString() {
+            return String.format("%8d particulas, %-36s %10.1f us/paso, %5.2f ns/particula, aceleracion %4.2fx, %s",
+                particulas, integrador + ":", nanosPorPaso / 1e3, nanosPorPaso / particulas, aceleracion,
+                identico ? "identico al escalar" : "DIFIERE del escalar");
+        }
+    }
+
+    private BancoPruebasParticulas() {
+    }
+
+    /**
+     * Punto de entrada. Argumentos opcionales: cantidad de fotogramas o pasos
+     * a medir (1000) y un modo; sin modo se ejecutan todos:
+     * <ul>
+     *   <li>{@code particulas}: sistema de 50000 particulas, por fotogramas;
+     *       falla si la actualizacion asigna memoria.</li>
+     *   <li>{@code integrador}: integradores de particulas con 10000 a 1000000
+     *       particulas, por pasos; informa el integrador que usa el juego y
+     *       falla si el vectorial difiere del escalar.</li>
+     * </ul>
+     * Termina con codigo 1 si la verificacion de algun modo fallo.
+     *
+     * @param args argumentos de la linea de comandos
+     */
+    public static void main(final String[] args) {
+        final int pasos = args.length > 0 ? Integer.parseInt(args[0]) : PASOS_MEDIDOS;
+        final String[] modos = args.length > 1 ? new String[] {args[1].toLowerCase(java.util.Locale.ROOT)} : MODOS;
+        boolean correcto = true;
+        for (final String modo : modos) {
+            correcto &= ejecutar(modo, pasos);
+        }
+        if (!correcto) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Ejecuta un modo del banco de particulas e imprime sus resultados.
+     *
+     * @param modo {@code particulas} o {@code integrador}
+     * @param ticks fotogramas o pasos a medir
+     * @return false si la verificacion del modo fallo
+     */
+    private static boolean ejecutar(final String modo, final int ticks) {
+        switch (modo) {
+            case "particulas" -> {
+                final ResultadoParticulas resultado = medirParticulas(PARTICULAS_POOL, ticks);
+                System.out.println(resultado);
+                if (resultado.bytesActualizar() != 0L) {
+                    System.err.println("La actualizacion de particulas asigno memoria");
+                    return false;
+                }
+            }
+            case "integrador" -> {
+                System.out.println("Integrador del juego: " + ParticleEmitter.obtenerNombreIntegrador());
+                final List<ResultadoIntegrador> resultados = medirIntegradores(PARTICULAS_INTEGRADOR, ticks);
+                resultados.forEach(System.out::println);
+                if (resultados.exists(r -> !r.identico())) {
+                    System.err.println("El integrador vectorial difiere del escalar");
+                    return false;
+                }
+            }
+            default -> throw new IllegalArgumentException("Modo de particulas desconocido: " + modo);
+        }
+        return true;
+    }
+
+    /**
+     * Mide el sistema de particulas con una cantidad fija de particulas
+     * vivas. Antes de cada fotograma se repone con explosiones en posiciones
+     * al azar lo que expiro en el anterior, fuera de la medicion; despues se
+     * mide por separado la actualizacion de un fotograma a 60 Hz, con sus
+     * asignaciones de memoria, y el rasterizado por software de un campo
+     * vacio con las particulas a 800x600.
+     *
+     * @param particulas particulas vivas al empezar cada fotograma
+     * @param fotogramas fotogramas medidos
+     * @return resultado de la medicion
+     * @throws IllegalStateException si la JVM no permite medir asignaciones por hilo
+     */
+    public static ResultadoParticulas medirParticulas(final int particulas, final int fotogramas) {
+        final com.sun.management.ThreadMXBean mx =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!mx.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("La JVM no permite medir asignaciones por hilo");
+        }
+        mx.setThreadAllocatedMemoryEnabled(true);
+
+        final ParticleEmitter.SistemaParticulas sistema = new ParticleEmitter.SistemaParticulas(particulas);
+        final Random random = new Random(SEMILLA_PARTICULAS);
+        final RasterizadorSoftware rasterizador = new RasterizadorSoftware(
+            (int) PartidaHeadless.ANCHO_CAMPO, (int) PartidaHeadless.ALTO_CAMPO);
+        final InstantaneaJuego vacia = InstantaneaJuego.vacia();
+        final double delta = 1.0 / 60;
+        final long hilo = Thread.currentThread().getId();
+
+        long nanosActualizar = 0L;
+        long nanosRasterizar = 0L;
+        long bytes = 0L;
+        int medidos = 0;
+        for (int fotograma = 0; fotograma < fotogramas + fotogramas / 10; fotograma++) {
+            while (sistema.obtenerCantidad() < sistema.obtenerCapacidad()) {
+                ParticleEmitter.crearExplosion(sistema, random.nextDouble() * PartidaHeadless.ANCHO_CAMPO,
+                    random.nextDouble() * PartidaHeadless.ALTO_CAMPO, PARTICULAS_POR_EXPLOSION,
+                    javafx.scene.paint.Color.ORANGE, random.nextDouble());
+            }
+
+            final long bytesAntes = mx.getThreadAllocatedBytes(hilo);
+            final long inicio = System.nanoTime();
+            sistema.actualizar(delta);
+            final long actualizado = System.nanoTime();
+            final long bytesDespues = mx.getThreadAllocatedBytes(hilo);
+            final long inicioRasterizado = System.nanoTime();
+            rasterizador.rasterizar(vacia, vacia, 1.0, sistema);
+            final long rasterizado = System.nanoTime();
+
+            if (fotograma >= fotogramas / 10) {
+                nanosActualizar += actualizado - inicio;
+                nanosRasterizar += rasterizado - inicioRasterizado;
+                bytes += bytesDespues - bytesAntes;
+                medidos++;
+            }
+        }
+        return new ResultadoParticulas(particulas, medidos, medidos > 0 ? (double) nanosActualizar / medidos : 0.0,
+            medidos > 0 ? (double) nanosRasterizar / medidos : 0.0, bytes);
+    }
+
+    /**
+     * Compara los integradores de particulas disponibles con el escalar.
+     * <p>
+     * Para cada cantidad de particulas genera posiciones, velocidades y
+     * vidas al azar con una semilla fija, con vidas que no expiran durante
+     * la medicion, y las avanza con cada integrador a 60 Hz, despues de
+     * calentarlos con muchos pasos sobre pocas particulas. El integrador
+     * vectorial solo participa si la JVM se inicio con el modulo de
+     * vectores y el proyecto se compilo con el perfil {@code vector}.
+     * </p>
+     *
+     * @param cantidades cantidades de particulas a comparar
+     * @param pasos      pasos medidos por integrador y cantidad
+     * @return un resultado por cantidad e integrador, el escalar primero
+     */
+    public static List<ResultadoIntegrador> medirIntegradores(final int[] cantidades, final int pasos) {
+        final List<IntegradorParticulas> integradores =
+            List.of(IntegradorParticulas.escalar()).appendAll(IntegradorParticulas.vectorial());
+        final float delta = 1.0f / 60;
+        final float caida = 200.0f * delta * delta * 0.5f;
+        final float aceleracion = 200.0f * delta;
+
+        final float[][] calentamiento = new float[5][PARTICULAS_CALENTAMIENTO_INTEGRADOR];
+        Arrays.fill(calentamiento[4], Float.MAX_VALUE);
+        for (final IntegradorParticulas integrador : integradores) {
+            for (int paso = 0; paso < PASOS_CALENTAMIENTO_INTEGRADOR; paso++) {
+                integrador.integrar(calentamiento[0], calentamiento[1], calentamiento[2], calentamiento[3],
+                    calentamiento[4], PARTICULAS_CALENTAMIENTO_INTEGRADOR - paso % 16, delta, caida, aceleracion);
+            }
+        }
+
+        List<ResultadoIntegrador> resultados = List.empty();
+        for (final int cantidad : cantidades) {
+            final Random random = new Random(SEMILLA_PARTICULAS);
+            final float[][] iniciales = new float[5][cantidad];
+            for (int i = 0; i < cantidad; i++) {
+                iniciales[0][i] = random.nextFloat() * 800.0f;
+                iniciales[1][i] = random.nextFloat() * 600.0f;
+                iniciales[2][i] = (random.nextFloat() - 0.5f) * 300.0f;
+                iniciales[3][i] = (random.nextFloat() - 0.5f) * 300.0f;
+                iniciales[4][i] = pasos + random.nextFloat() * pasos;
+            }
+
+            float[][] referencia = null;
+            double nanosEscalar = 0.0;
+            for (final IntegradorParticulas integrador : integradores) {
+                final float[][] a = new float[5][];
+                for (int k = 0; k < a.length; k++) {
+                    a[k] = iniciales[k].clone();
+                }
+                long nanos = 0L;
+                for (int paso = 0; paso < pasos + pasos / 10; paso++) {
+                    final long inicio = System.nanoTime();
+                    integrador.integrar(a[0], a[1], a[2], a[3], a[4], cantidad, delta, caida, aceleracion);
+                    if (paso >= pasos / 10) {
+                        nanos += System.nanoTime() - inicio;
+                    }
+                }
+                final double nanosPorPaso = (double) nanos / pasos;
+                if (referencia == null) {
+                    referencia = a;
+                    nanosEscalar = nanosPorPaso;
+                }
+                resultados = resultados.append(new ResultadoIntegrador(integrador.obtenerNombre(), cantidad,
+                    nanosPorPaso, nanosEscalar / nanosPorPaso, Arrays.deepEquals(referencia, a)));
+            }
+        }
+        return resultados;
+    }
+}
@@ -0,0 +1,490 @@
+package util;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import io.vavr.collection.List;
+import mvc.modelo.ModeloJuego;
+import mvc.modelo.entidades.Nivel;
+import mvc.modelo.simulacion.BancoPruebasSimulacion;
+import mvc.modelo.simulacion.InstantaneaJuego;
+import mvc.modelo.simulacion.PartidaHeadless;
+import patrones.singleton.ConfiguracionGlobal;
+
+/**
+ * Banco de pruebas del renderizado sin interfaz grafica.
+ * <p>
+ * Mide la lista de dibujo de las entidades, que no necesita JavaFX en
+ * ejecucion: cuanto cuesta construirla y ordenarla, y cuantos cambios de
+ * estado del contexto grafico ahorra el orden por estilo. Mide tambien el
+ * rasterizador por software a varias resoluciones, el postproceso CRT con
+ * distintas cantidades de hilos y su degradacion por presupuesto, y simula
+ * la calidad adaptativa con tiempos de fotograma sinteticos.
+ * </p>
+ * <p>
+ * Se ejecuta con {@link #main(String[])}, junto a las clases de
+ * renderizado que mide; las partidas se arman con los niveles de
+ * {@link BancoPruebasSimulacion}.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class BancoPruebasRenderizado {
+
+    /** Fotogramas medidos por defecto. */
+    private static final int FOTOGRAMAS_MEDIDOS = 1_000;
+
+    /** Modos que se ejecutan si no se indica ninguno. */
+    private static final String[] MODOS = {"dibujo", "raster", "crt", "calidad"};
+
+    /** Ticks de simulacion por fotograma, a 60 fotogramas por segundo. */
+    private static final int TICKS_POR_FOTOGRAMA = ConfiguracionGlobal.FRECUENCIA_SIMULACION_DEFECTO / 60;
+
+    /** Pelotas adicionales que se comparan en la medicion de la lista de dibujo. */
+    private static final int[] CANTIDADES_DIBUJO = {0, 100, 1_000, 8_000};
+
+    /**
+     * Resoluciones del rasterizador por software: dos resoluciones internas
+     * con la proporcion del campo, y 1080p y 4K como si se rasterizara al
+     * tamano de la ventana.
+     */
+    private static final int[][] RESOLUCIONES_RASTER = {
+        {640, 480}, {960, 720}, {1_920, 1_080}, {3_840, 2_160}};
+
+    /** Pelotas adicionales con las que se mide el rasterizador por software. */
+    private static final int[] PELOTAS_RASTER = {0, 1_000};
+
+    /** Particulas en pantalla durante la medicion del rasterizador. */
+    private static final int PARTICULAS_RASTER = 500;
+
+    /** Hilos con los que se mide el postproceso CRT. */
+    private static final int[] HILOS_POSTPROCESO = {1, 2, 4};
+
+    /** Resoluciones del postproceso CRT: la interna por defecto y 1080p. */
+    private static final int[][] RESOLUCIONES_POSTPROCESO = {{800, 600}, {1_920, 1_080}};
+
+    /** Objetivo de la simulacion de calidad adaptativa, el p99 de 60 fotogramas por segundo. */
+    private static final long OBJETIVO_CALIDAD_NANOS = 16_600_000L;
+
+    /**
+     * Fases de carga de la simulacion de calidad adaptativa: costo del
+     * fotograma con la calidad maxima, en milisegundos, y fotogramas. Una
+     * fase liviana, una pesada y otra liviana para comprobar la recuperacion.
+     */
+    private static final double[][] FASES_CALIDAD = {{8.0, 3_000}, {30.0, 6_000}, {8.0, 9_000}};
+
+    /** Semilla de las fluctuaciones de la simulacion de calidad, para que sea repetible. */
+    private static final long SEMILLA_CALIDAD = 0x43414C49L;
+
+    /** Cada cuantos fotogramas la simulacion de calidad inserta un pico del doble de costo. */
+    private static final int PERIODO_PICOS_CALIDAD = 500;
+
+    /**
+     * Costo y cambios de estado de la lista de dibujo de un fotograma.
+     *
+     * @param pelotas pelotas adicionales en juego
+     * @param comandos comandos de la lista en el ultimo fotograma
+     * @param cambiosInmediatos cambios de estado de un renderizado inmediato
+     * @param cambiosEmision cambios de estado reproduciendo en orden de emision
+     * @param cambiosOrdenada cambios de estado reproduciendo la lista ordenada
+     * @param nanosPorFotograma tiempo medio de construir y ordenar la lista
+     */
+    public record ResultadoListaDibujo(int pelotas, int comandos, int cambiosInmediatos, int cambiosEmision,
+                                       int cambiosOrdenada, double nanosPorFotograma) {
+
+        @Override
+        public String toString() {
+            return String.format("%5d pelotas: %5d comandos, cambios de estado %5d inmediato / %3d emision / %3d ordenada,"
+                + " %9.1f ns/fotograma", pelotas, comandos, cambiosInmediatos, cambiosEmision, cambiosOrdenada,
+                nanosPorFotograma);
+        }
+    }
+
+    /**
+     * Tiempo medio de rasterizar un fotograma completo por software.
+     *
+     * @param ancho ancho del destino en pixeles
+     * @param alto alto del destino en pixeles
+     * @param pelotas pelotas adicionales en juego
+     * @param particulas particulas en pantalla
+     * @param nanosPorFotograma tiempo medio de {@link RasterizadorSoftware#rasterizar}
+     */
+    public record ResultadoRasterizado(int ancho, int alto, int pelotas, int particulas, double nanosPorFotograma) {
+
+        /**
+         * Fraccion del presupuesto de un fotograma a 60 Hz que ocupa el rasterizado.
+         *
+         * @return fraccion de 16,7 ms usada
+         */
+        public double fraccionFotograma() {
+            return nanosPorFotograma * 60 / 1e9;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%4dx%-4d %5d pelotas, %4d particulas: %7.2f ms/fotograma, %5.1f%% de un fotograma a 60 Hz",
+                ancho, alto, pelotas, particulas, nanosPorFotograma / 1e6, 100 * fraccionFotograma());
+        }
+    }
+
+    /**
+     * Tiempo medio del postproceso CRT sobre un fotograma.
+     *
+     * @param ancho ancho del fotograma en pixeles
+     * @param alto alto del fotograma en pixeles
+     * @param hilos paralelismo del pool de bandas
+     * @param efectos efectos activos, contando desde el mas barato
+     * @param nanosPorFotograma tiempo medio de {@link PostprocesoCRT#aplicar}
+     */
+    public record ResultadoPostproceso(int ancho, int alto, int hilos, int efectos, double nanosPorFotograma) {
+
+        @Override
+        public String toString() {
+            final String ultimo = efectos == 0 ? "ninguno" : PostprocesoCRT.Efecto.values()[efectos - 1].toString();
+            return String.format("%4dx%-4d %d hilos, %d efectos (hasta %s): %6.2f ms/fotograma",
+                ancho, alto, hilos, efectos, ultimo, nanosPorFotograma / 1e6);
+        }
+    }
+
+    /**
+     * Estado del gobernador de calidad al terminar una fase de carga.
+     *
+     * @param cargaMs    costo del fotograma con la calidad maxima
+     * @param fotogramas fotogramas de la fase
+     * @param nivel      nivel de calidad al terminar la fase
+     * @param cambios    cambios de nivel acumulados
+     * @param p99Ms      percentil 99 de la ultima evaluacion
+     */
+    public record ResultadoCalidad(double cargaMs, int fotogramas, String nivel, long cambios, double p99Ms) {
+
+        @Override
+        public String toString() {
+            return String.format("carga %5.1f ms, %5d fotogramas: nivel %-6s, %d cambios, p99 %6.2f ms",
+                cargaMs, fotogramas, nivel, cambios, p99Ms);
+        }
+    }
+
+    private BancoPruebasRenderizado() {
+    }
+
+    /**
+     * Punto de entrada. Argumentos opcionales: cantidad de fotogramas a medir
+     * (1000) y un modo; sin modo se ejecutan todos:
+     * <ul>
+     *   <li>{@code dibujo}: lista de dibujo con 0 a 8000 pelotas.</li>
+     *   <li>{@code raster}: rasterizador por software a dos resoluciones
+     *       internas, 1080p y 4K.</li>
+     *   <li>{@code crt}: postproceso CRT a 800x600 y 1080p con 1, 2 y 4 hilos y
+     *       su degradacion.</li>
+     *   <li>{@code calidad}: calidad adaptativa con una carga liviana, una pesada
+     *       y otra liviana; falla si la calidad no vuelve al maximo.</li>
+     * </ul>
+     * Termina con codigo 1 si la verificacion de algun modo fallo.
+     *
+     * @param args argumentos de la linea de comandos
+     */
+    public static void main(final String[] args) {
+        final int fotogramas = args.length > 0 ? Integer.parseInt(args[0]) : FOTOGRAMAS_MEDIDOS;
+        final String[] modos = args.length > 1 ? new String[] {args[1].toLowerCase(java.util.Locale.ROOT)} : MODOS;
+        boolean correcto = true;
+        for (final String modo : modos) {
+            correcto &= ejecutar(modo, fotogramas);
+        }
+        if (!correcto) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Ejecuta un modo del banco de renderizado e imprime sus resultados.
+     *
+     * @param modo {@code dibujo}, {@code raster}, {@code crt} o {@code calidad}
+     * @param ticks fotogramas a medir
+     * @return false si la verificacion del modo fallo
+     */
+    private static boolean ejecutar(final String modo, final int ticks) {
+        switch (modo) {
+            case "dibujo" -> medirListaDibujo(CANTIDADES_DIBUJO, ticks).forEach(System.out::println);
+            case "raster" -> medirRasterizado(RESOLUCIONES_RASTER, PELOTAS_RASTER, ticks).forEach(System.out::println);
+            case "crt" -> {
+                System.out.println("Procesadores disponibles: " + Runtime.getRuntime().availableProcessors());
+                medirPostproceso(RESOLUCIONES_POSTPROCESO, HILOS_POSTPROCESO, ticks).forEach(System.out::println);
+                System.out.println("Efectos activos a 1080p tras degradar con 1 ms de presupuesto: "
+                    + medirDegradacionPostproceso(RESOLUCIONES_POSTPROCESO[1], 1_000_000L, ticks) + " de "
+                    + PostprocesoCRT.Efecto.values().length);
+            }
+            case "calidad" -> {
+                final List<ResultadoCalidad> resultados = simularCalidad(FASES_CALIDAD, OBJETIVO_CALIDAD_NANOS);
+                resultados.forEach(System.out::println);
+                if (!resultados.last().nivel().equals(GobernadorCalidad.NIVELES.head().nombre())) {
+                    System.err.println("La calidad no se restauro al volver la holgura");
+                    return false;
+                }
+            }
+            default -> throw new IllegalArgumentException("Modo de renderizado desconocido: " + modo);
+        }
+        return true;
+    }
+
+    /**
+     * Mide la lista de dibujo de las entidades dinamicas sobre partidas con
+     * distintas cantidades de pelotas adicionales.
+     * <p>
+     * La simulacion avanza {@link #TICKS_POR_FOTOGRAMA} ticks por fotograma
+     * y cada fotograma se describe con
+     * {@link RenderizadorJuego#emitirEntidades} a partir de las dos ultimas
+     * instantaneas, como en el juego. Se mide el tiempo de construir y
+     * ordenar la lista, sin capturar instantaneas, y se cuentan los cambios
+     * de estado del ultimo fotograma en los tres modos de reproduccion.
+     * </p>
+     *
+     * @param cantidades cantidades de pelotas a comparar
+     * @param fotogramas fotogramas medidos por cada cantidad
+     * @return un resultado por cantidad, en el mismo orden
+     */
+    public static List<ResultadoListaDibujo> medirListaDibujo(final int[] cantidades, final int fotogramas) {
+        final Nivel nivel = BancoPruebasSimulacion.construirNivelUniforme(BancoPruebasSimulacion.BLOQUES_MULTIPELOTA);
+        List<ResultadoListaDibujo> resultados = List.empty();
+        for (final int cantidad : cantidades) {
+            final ListaDibujo lista = new ListaDibujo();
+            final ModeloJuego modelo = crearPartida(nivel);
+            InstantaneaJuego previa = InstantaneaJuego.vacia();
+            InstantaneaJuego actual = InstantaneaJuego.capturar(modelo, 0L, previa);
+            double[] posiciones = new double[0];
+            long nanos = 0L;
+            int medidos = 0;
+            int cambiosEmision = 0;
+            for (int fotograma = 0; fotograma < fotogramas + fotogramas / 10 && modelo.estaActivo(); fotograma++) {
+                for (int i = 0; i < TICKS_POR_FOTOGRAMA; i++) {
+                    BancoPruebasSimulacion.reponerPelotas(modelo, cantidad);
+                    modelo.actualizar(BancoPruebasSimulacion.PASO);
+                }
+                previa = actual;
+                actual = InstantaneaJuego.capturar(modelo, fotograma + 1L, previa);
+
+                final long inicio = System.nanoTime();
+                posiciones = RenderizadorJuego.emitirEntidades(lista, actual, previa, 0.5, posiciones);
+                cambiosEmision = lista.contarCambiosEstado();
+                lista.ordenar();
+                final long transcurrido = System.nanoTime() - inicio;
+                if (fotograma >= fotogramas / 10) {
+                    nanos += transcurrido;
+                    medidos++;
+                }
+            }
+            resultados = resultados.append(new ResultadoListaDibujo(cantidad, lista.cantidad(),
+                lista.contarCambiosEstadoInmediatos(), cambiosEmision, lista.contarCambiosEstado(),
+                medidos > 0 ? (double) nanos / medidos : 0.0));
+        }
+        return resultados;
+    }
+
+    /**
+     * Mide el rasterizador por software a distintas resoluciones.
+     * <p>
+     * El campo del juego se escala para ocupar todo el alto del destino, de
+     * modo que el costo refleja el de una ventana a pantalla completa. Cada
+     * fotograma avanza la simulacion como en el juego y se rasteriza entre
+     * las dos ultimas instantaneas, con una explosion de particulas en el
+     * centro. Solo se mide el rasterizado, que en el juego corre en un hilo
+     * de trabajo; el camino del canvas necesita una pantalla y no se puede
+     * medir sin interfaz grafica.
+     * </p>
+     *
+     * @param resoluciones pares ancho, alto a comparar
+     * @param pelotas cantidades de pelotas adicionales a comparar
+     * @param fotogramas fotogramas medidos por cada combinacion
+     * @return un resultado por combinacion, por resolucion y luego por pelotas
+     */
+    public static List<ResultadoRasterizado> medirRasterizado(final int[][] resoluciones, final int[] pelotas,
+                                                              final int fotogramas) {
+        final Nivel nivel = BancoPruebasSimulacion.construirNivelDenso(12, 10);
+        final ParticleEmitter.SistemaParticulas particulas = crearExplosionRaster();
+        List<ResultadoRasterizado> resultados = List.empty();
+        for (final int[] resolucion : resoluciones) {
+            final RasterizadorSoftware rasterizador = new RasterizadorSoftware(resolucion[0], resolucion[1]);
+            rasterizador.establecerEscala(resolucion[1] / PartidaHeadless.ALTO_CAMPO);
+            for (final int cantidad : pelotas) {
+                final ModeloJuego modelo = crearPartida(nivel);
+                InstantaneaJuego previa = InstantaneaJuego.vacia();
+                InstantaneaJuego actual = InstantaneaJuego.capturar(modelo, 0L, previa);
+                long nanos = 0L;
+                int medidos = 0;
+                for (int fotograma = 0; fotograma < fotogramas + fotogramas / 10 && modelo.estaActivo(); fotograma++) {
+                    for (int i = 0; i < TICKS_POR_FOTOGRAMA; i++) {
+                        BancoPruebasSimulacion.reponerPelotas(modelo, cantidad);
+                        modelo.actualizar(BancoPruebasSimulacion.PASO);
+                    }
+                    previa = actual;
+                    actual = InstantaneaJuego.capturar(modelo, fotograma + 1L, previa);
+
+                    final long inicio = System.nanoTime();
+                    rasterizador.rasterizar(actual, previa, 0.5, particulas);
+                    final long transcurrido = System.nanoTime() - inicio;
+                    if (fotograma >= fotogramas / 10) {
+                        nanos += transcurrido;
+                        medidos++;
+                    }
+                }
+                resultados = resultados.append(new ResultadoRasterizado(resolucion[0], resolucion[1], cantidad,
+                    particulas.obtenerCantidad(), medidos > 0 ? (double) nanos / medidos : 0.0));
+            }
+        }
+        return resultados;
+    }
+
+    /**
+     * Crea una partida IA contra IA cuyos eventos solo se cuentan.
+     */
+    private static ModeloJuego crearPartida(final Nivel nivel) {
+        return BancoPruebasSimulacion.crearModelo(nivel, new BancoPruebasSimulacion.ContadorEventos());
+    }
+
+    private static ParticleEmitter.SistemaParticulas crearExplosionRaster() {
+        final ParticleEmitter.SistemaParticulas particulas =
+            new ParticleEmitter.SistemaParticulas(PARTICULAS_RASTER);
+        ParticleEmitter.crearExplosion(particulas, PartidaHeadless.ANCHO_CAMPO / 2, PartidaHeadless.ALTO_CAMPO / 2,
+            PARTICULAS_RASTER, javafx.scene.paint.Color.WHITE, 1.0);
+        particulas.actualizar(0.1);
+        return particulas;
+    }
+
+    /**
+     * Mide el postproceso CRT sobre un fotograma rasterizado por software
+     * con 1000 pelotas y una explosion de particulas, para cada cantidad de
+     * hilos y cada cantidad de efectos activos. El fotograma original se
+     * restaura antes de cada aplicacion, fuera de la medicion, y el
+     * presupuesto no limita, para medir cada combinacion sin degradacion.
+     *
+     * @param resoluciones pares ancho, alto a comparar
+     * @param hilos cantidades de hilos a comparar
+     * @param fotogramas aplicaciones medidas por combinacion
+     * @return un resultado por combinacion, por resolucion, hilos y efectos
+     */
+    public static List<ResultadoPostproceso> medirPostproceso(final int[][] resoluciones, final int[] hilos,
+                                                              final int fotogramas) {
+        List<ResultadoPostproceso> resultados = List.empty();
+        for (final int[] resolucion : resoluciones) {
+            resultados = resultados.appendAll(medirPostproceso(resolucion, hilos, fotogramas));
+        }
+        return resultados;
+    }
+
+    private static List<ResultadoPostproceso> medirPostproceso(final int[] resolucion, final int[] hilos,
+                                                               final int fotogramas) {
+        final int ancho = resolucion[0];
+        final int alto = resolucion[1];
+        final ModeloJuego modelo = crearPartida(BancoPruebasSimulacion.construirNivelDenso(12, 10));
+        BancoPruebasSimulacion.reponerPelotas(modelo, PELOTAS_RASTER[PELOTAS_RASTER.length - 1]);
+        for (int i = 0; i < TICKS_POR_FOTOGRAMA; i++) {
+            modelo.actualizar(BancoPruebasSimulacion.PASO);
+        }
+        final InstantaneaJuego instantanea = InstantaneaJuego.capturar(modelo, 0L, InstantaneaJuego.vacia());
+        final ParticleEmitter.SistemaParticulas particulas = crearExplosionRaster();
+        final RasterizadorSoftware rasterizador = new RasterizadorSoftware(ancho, alto);
+        rasterizador.establecerEscala(alto / PartidaHeadless.ALTO_CAMPO);
+        rasterizador.rasterizar(instantanea, instantanea, 1.0, particulas);
+        final int[] original = rasterizador.obtenerPixeles().clone();
+        final int[] pixeles = rasterizador.obtenerPixeles();
+
+        List<ResultadoPostproceso> resultados = List.empty();
+        for (final int cantidadHilos : hilos) {
+            final ForkJoinPool pool = new ForkJoinPool(cantidadHilos);
+            try {
+                final PostprocesoCRT postproceso = new PostprocesoCRT();
+                postproceso.establecerPool(pool);
+                postproceso.establecerPresupuestoNanos(Long.MAX_VALUE);
+                postproceso.establecerActivo(true);
+                for (int efectos = 1; efectos <= PostprocesoCRT.Efecto.values().length; efectos++) {
+                    postproceso.establecerEfectosActivos(efectos);
+                    long nanos = 0L;
+                    for (int fotograma = 0; fotograma < fotogramas + fotogramas / 10; fotograma++) {
+                        System.arraycopy(original, 0, pixeles, 0, original.length);
+                        postproceso.aplicar(pixeles, ancho, alto);
+                        if (fotograma >= fotogramas / 10) {
+                            nanos += postproceso.obtenerNanosUltimoFotograma();
+                        }
+                    }
+                    resultados = resultados.append(new ResultadoPostproceso(ancho, alto, cantidadHilos, efectos,
+                        fotogramas > 0 ? (double) nanos / fotogramas : 0.0));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+        return resultados;
+    }
+
+    /**
+     * Aplica el postproceso con un presupuesto menor que el costo de todos
+     * los efectos y devuelve cuantos quedan activos, para comprobar que la
+     * degradacion desactiva los mas caros hasta entrar en el presupuesto.
+     *
+     * @param resolucion par ancho, alto del fotograma
+     * @param presupuestoNanos presupuesto por fotograma
+     * @param fotogramas aplicaciones a realizar
+     * @return efectos activos al terminar
+     */
+    public static int medirDegradacionPostproceso(final int[] resolucion, final long presupuestoNanos,
+                                                  final int fotogramas) {
+        final int ancho = resolucion[0];
+        final int alto = resolucion[1];
+        final int[] pixeles = new int[ancho * alto];
+        Arrays.fill(pixeles, 0xFFFFFFFF);
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            final PostprocesoCRT postproceso = new PostprocesoCRT();
+            postproceso.establecerPool(pool);
+            postproceso.establecerPresupuestoNanos(presupuestoNanos);
+            postproceso.establecerActivo(true);
+            for (int fotograma = 0; fotograma < fotogramas; fotograma++) {
+                postproceso.aplicar(pixeles, ancho, alto);
+            }
+            return postproceso.obtenerEfectosActivos();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Alimenta un {@link GobernadorCalidad} con tiempos de fotograma
+     * sinteticos y devuelve su estado al final de cada fase.
+     * <p>
+     * El costo de un fotograma es la carga de la fase escalada por un modelo
+     * de los ajustes del nivel: proporcional a los pixeles de la resolucion
+     * interna y con el postproceso como parte del costo restante. Cada
+     * fotograma fluctua un 10 % y periodicamente hay un pico del doble, que
+     * el percentil no debe confundir con falta de margen.
+     * </p>
+     *
+     * @param fases     pares de carga en milisegundos y fotogramas
+     * @param objetivo  tiempo de fotograma objetivo en nanosegundos
+     * @return estado del gobernador al terminar cada fase
+     */
+    public static List<ResultadoCalidad> simularCalidad(final double[][] fases, final long objetivo) {
+        final Random azar = new Random(SEMILLA_CALIDAD);
+        final GobernadorCalidad gobernador = new GobernadorCalidad(objetivo, nivel -> { });
+        List<ResultadoCalidad> resultados = List.empty();
+        int fotogramaTotal = 0;
+        for (final double[] fase : fases) {
+            final double cargaNanos = fase[0] * 1e6;
+            final int fotogramas = (int) fase[1];
+            for (int i = 0; i < fotogramas; i++) {
+                final GobernadorCalidad.NivelCalidad nivel = gobernador.obtenerNivel();
+                final double escala = nivel.escalaResolucion() * nivel.escalaResolucion();
+                final double postproceso = 0.6 + 0.1 * nivel.efectosCRT();
+                double nanos = cargaNanos * escala * postproceso * (0.9 + 0.2 * azar.nextDouble());
+                if (++fotogramaTotal % PERIODO_PICOS_CALIDAD == 0) {
+                    nanos *= 2;
+                }
+                gobernador.registrarFotograma((long) nanos);
+            }
+            resultados = resultados.append(new ResultadoCalidad(fase[0], fotogramas,
+                gobernador.obtenerNivel().nombre(), gobernador.obtenerCambios(),
+                gobernador.obtenerPercentilUltimo() / 1e6));
+        }
+        return resultados;
+    }
+}
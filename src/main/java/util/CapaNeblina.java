@@ -0,0 +1,254 @@
+package util;
+
+import java.util.Random;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Textura de neblina pre-difuminada y cacheada por tamano de canvas.
+ * <p>
+ * En lugar de aplicar un {@code GaussianBlur} en cada fotograma, la neblina
+ * se genera una sola vez por tamano de canvas como ruido suave y repetible a
+ * un cuarto de la resolucion, se difumina por software y se guarda en una
+ * {@link WritableImage}. Al dibujarla, {@code drawImage} la escala al tamano
+ * del canvas y el filtrado bilineal completa el desenfoque, sin efectos en el
+ * camino caliente.
+ * </p>
+ * <p>
+ * La textura es periodica en ambos ejes, de modo que puede desplazarse con el
+ * tiempo para animar la neblina y recortarse a una franja sobre una paleta.
+ * Una region cuesta a lo sumo cuatro {@code drawImage}.
+ * </p>
+ * <p>
+ * Sin textura, la neblina se reduce a un relleno gris de la opacidad media:
+ * un unico {@code fillRect} que no muestrea ninguna imagen.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class CapaNeblina {
+
+    /** Pixeles del canvas por texel de la textura. */
+    private static final int ESCALA = 4;
+
+    /** Celdas de ruido a lo ancho de la textura; a lo alto se mantiene la proporcion. */
+    private static final int CELDAS_RUIDO = 6;
+
+    private static final int RADIO_DIFUMINADO = 2;
+    private static final double OPACIDAD_MEDIA = 0.5;
+    private static final double VARIACION_OPACIDAD = 0.35;
+    private static final int GRIS = 128;
+    private static final double VELOCIDAD_X = 14.0;
+    private static final double VELOCIDAD_Y = 6.0;
+    private static final long SEMILLA = 0x4E45424CL;
+
+    private WritableImage textura;
+    private double anchoCanvas;
+    private double altoCanvas;
+    private boolean animada;
+    private boolean texturizada;
+    private long generaciones;
+
+    /**
+     * Crea una capa de neblina animada, sin textura hasta el primer dibujo.
+     */
+    public CapaNeblina() {
+        this.animada = true;
+        this.texturizada = true;
+    }
+
+    /**
+     * Elige entre la textura de ruido y un relleno plano, mas barato.
+     *
+     * @param texturizada true para dibujar la textura
+     */
+    public void establecerTexturizada(final boolean texturizada) {
+        this.texturizada = texturizada;
+    }
+
+    /**
+     * Indica si la neblina se dibuja con la textura de ruido.
+     *
+     * @return true si se usa la textura, false si es un relleno plano
+     */
+    public boolean estaTexturizada() {
+        return texturizada;
+    }
+
+    /**
+     * Activa o desactiva el desplazamiento de la textura con el tiempo.
+     *
+     * @param animada true para desplazar la neblina
+     */
+    public void establecerAnimada(final boolean animada) {
+        this.animada = animada;
+    }
+
+    /**
+     * Obtiene cuantas veces se genero la textura, para verificar que solo se
+     * regenera al cambiar el tamano del canvas.
+     *
+     * @return generaciones de textura
+     */
+    public long obtenerGeneraciones() {
+        return generaciones;
+    }
+
+    /**
+     * Dibuja la neblina sobre una region del canvas.
+     *
+     * @param gc          contexto grafico destino
+     * @param anchoTotal  ancho del canvas, que determina el tamano de la textura
+     * @param altoTotal   alto del canvas
+     * @param x           borde izquierdo de la region
+     * @param y           borde superior de la region
+     * @param ancho       ancho de la region
+     * @param alto        alto de la region
+     * @param intensidad  opacidad de la neblina, en [0, 1]
+     * @param segundos    tiempo usado para desplazar la textura
+     * @return cantidad de llamadas de dibujo emitidas
+     */
+    public int dibujar(final GraphicsContext gc, final double anchoTotal, final double altoTotal,
+                       final double x, final double y, final double ancho, final double alto,
+                       final double intensidad, final double segundos) {
+        if (ancho <= 0 || alto <= 0 || anchoTotal <= 0 || altoTotal <= 0) {
+            return 0;
+        }
+        if (!texturizada) {
+            gc.setFill(Color.gray(GRIS / 255.0, OPACIDAD_MEDIA * Math.max(0.0, Math.min(1.0, intensidad))));
+            gc.fillRect(x, y, ancho, alto);
+            return 1;
+        }
+        asegurarTextura(anchoTotal, altoTotal);
+
+        final double anchoTextura = textura.getWidth();
+        final double altoTextura = textura.getHeight();
+        final double desplazamientoX = animada ? segundos * VELOCIDAD_X / ESCALA : 0.0;
+        final double desplazamientoY = animada ? segundos * VELOCIDAD_Y / ESCALA : 0.0;
+
+        gc.setGlobalAlpha(Math.max(0.0, Math.min(1.0, intensidad)));
+        int llamadas = 0;
+        double destinoY = y;
+        double origenY = modulo(y / ESCALA + desplazamientoY, altoTextura);
+        while (destinoY < y + alto) {
+            final double tramoAlto = Math.min((altoTextura - origenY) * ESCALA, y + alto - destinoY);
+            double destinoX = x;
+            double origenX = modulo(x / ESCALA + desplazamientoX, anchoTextura);
+            while (destinoX < x + ancho) {
+                final double tramoAncho = Math.min((anchoTextura - origenX) * ESCALA, x + ancho - destinoX);
+                gc.drawImage(textura, origenX, origenY, tramoAncho / ESCALA, tramoAlto / ESCALA,
+                    destinoX, destinoY, tramoAncho, tramoAlto);
+                llamadas++;
+                destinoX += tramoAncho;
+                origenX = 0.0;
+            }
+            destinoY += tramoAlto;
+            origenY = 0.0;
+        }
+        gc.setGlobalAlpha(1.0);
+        return llamadas;
+    }
+
+    /**
+     * Regenera la textura si el canvas cambio de tamano.
+     */
+    private void asegurarTextura(final double ancho, final double alto) {
+        if (textura != null && ancho == anchoCanvas && alto == altoCanvas) {
+            return;
+        }
+        final int anchoTextura = Math.max(1, (int) Math.ceil(ancho / ESCALA));
+        final int altoTextura = Math.max(1, (int) Math.ceil(alto / ESCALA));
+        final int[] pixeles = generarPixeles(anchoTextura, altoTextura);
+
+        textura = new WritableImage(anchoTextura, altoTextura);
+        textura.getPixelWriter().setPixels(0, 0, anchoTextura, altoTextura,
+            PixelFormat.getIntArgbInstance(), pixeles, 0, anchoTextura);
+        anchoCanvas = ancho;
+        altoCanvas = alto;
+        generaciones++;
+    }
+
+    /**
+     * Genera ruido de valor periodico, lo difumina con una caja circular y lo
+     * convierte en pixeles grises cuya opacidad varia alrededor de la media.
+     */
+    private static int[] generarPixeles(final int ancho, final int alto) {
+        final int celdasX = CELDAS_RUIDO;
+        final int celdasY = Math.max(1, (int) Math.round(CELDAS_RUIDO * (double) alto / ancho));
+        final double[] reticula = new double[celdasX * celdasY];
+        final Random azar = new Random(SEMILLA);
+        for (int i = 0; i < reticula.length; i++) {
+            reticula[i] = azar.nextDouble();
+        }
+
+        final double[] ruido = new double[ancho * alto];
+        for (int py = 0; py < alto; py++) {
+            final double v = (double) py * celdasY / alto;
+            final int celdaY = (int) v;
+            final double fy = suavizar(v - celdaY);
+            final int fila0 = (celdaY % celdasY) * celdasX;
+            final int fila1 = ((celdaY + 1) % celdasY) * celdasX;
+            for (int px = 0; px < ancho; px++) {
+                final double u = (double) px * celdasX / ancho;
+                final int celdaX = (int) u;
+                final double fx = suavizar(u - celdaX);
+                final int columna0 = celdaX % celdasX;
+                final int columna1 = (celdaX + 1) % celdasX;
+                final double arriba = reticula[fila0 + columna0] + (reticula[fila0 + columna1] - reticula[fila0 + columna0]) * fx;
+                final double abajo = reticula[fila1 + columna0] + (reticula[fila1 + columna1] - reticula[fila1 + columna0]) * fx;
+                ruido[py * ancho + px] = arriba + (abajo - arriba) * fy;
+            }
+        }
+
+        final double[] difuminado = difuminar(ruido, ancho, alto);
+        final int[] pixeles = new int[ancho * alto];
+        for (int i = 0; i < pixeles.length; i++) {
+            final double opacidad = OPACIDAD_MEDIA + VARIACION_OPACIDAD * (difuminado[i] - 0.5);
+            final int alfa = (int) Math.round(Math.max(0.0, Math.min(1.0, opacidad)) * 255);
+            pixeles[i] = alfa << 24 | GRIS << 16 | GRIS << 8 | GRIS;
+        }
+        return pixeles;
+    }
+
+    /**
+     * Aplica un desenfoque de caja separable que envuelve en los bordes, para
+     * conservar la periodicidad de la textura.
+     */
+    private static double[] difuminar(final double[] origen, final int ancho, final int alto) {
+        final double ventana = 2 * RADIO_DIFUMINADO + 1;
+        final double[] horizontal = new double[origen.length];
+        for (int py = 0; py < alto; py++) {
+            for (int px = 0; px < ancho; px++) {
+                double suma = 0.0;
+                for (int k = -RADIO_DIFUMINADO; k <= RADIO_DIFUMINADO; k++) {
+                    suma += origen[py * ancho + Math.floorMod(px + k, ancho)];
+                }
+                horizontal[py * ancho + px] = suma / ventana;
+            }
+        }
+        final double[] resultado = new double[origen.length];
+        for (int py = 0; py < alto; py++) {
+            for (int px = 0; px < ancho; px++) {
+                double suma = 0.0;
+                for (int k = -RADIO_DIFUMINADO; k <= RADIO_DIFUMINADO; k++) {
+                    suma += horizontal[Math.floorMod(py + k, alto) * ancho + px];
+                }
+                resultado[py * ancho + px] = suma / ventana;
+            }
+        }
+        return resultado;
+    }
+
+    private static double suavizar(final double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    private static double modulo(final double valor, final double periodo) {
+        final double resto = valor % periodo;
+        return resto < 0 ? resto + periodo : resto;
+    }
+}
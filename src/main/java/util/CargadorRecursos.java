@@ -146,6 +146,26 @@ public final class CargadorRecursos {
                 });
     }
 
+    /**
+     * Carga un efecto de sonido WAV desde el directorio de recursos y lo
+     * decodifica a muestras PCM para el {@link MezcladorEfectos}.
+     *
+     * @param rutaRelativa Ruta relativa al directorio de recursos (ej: "audio/efectos/paleta.wav")
+     * @return Optional con las muestras decodificadas, o Optional.empty() si falla
+     */
+    public static Optional<float[]> cargarEfectoSonido(String rutaRelativa) {
+        return obtenerURL(rutaRelativa)
+                .flatMap(url -> {
+                    try {
+                        return Optional.of(MezcladorEfectos.decodificar(url));
+                    } catch (Exception e) {
+                        System.err.println("Error al cargar efecto de sonido: " + rutaRelativa);
+                        e.printStackTrace();
+                        return Optional.empty();
+                    }
+                });
+    }
+
     /**
      * Carga una imagen desde el directorio de recursos.
      *
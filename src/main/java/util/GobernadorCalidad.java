@@ -0,0 +1,230 @@
+package util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import io.vavr.collection.List;
+
+/**
+ * Gobernador que ajusta la calidad visual para sostener un tiempo de
+ * fotograma objetivo.
+ * <p>
+ * Guarda los tiempos de los ultimos fotogramas en un anillo y, cada cierta
+ * cantidad de fotogramas, calcula su percentil 99. Si supera el objetivo
+ * baja un {@link NivelCalidad}; si queda holgadamente por debajo durante una
+ * espera sube uno. Despues de cada cambio el anillo se vacia, de modo que
+ * la siguiente decision solo mira fotogramas del nivel nuevo. Una subida que
+ * se revierte enseguida duplica la espera de la siguiente, para no oscilar
+ * entre dos niveles en el limite.
+ * </p>
+ * <p>
+ * El gobernador no conoce los ajustes: entrega cada nivel a un aplicador
+ * que lo traslada a las particulas, la estela, la neblina, el postproceso y
+ * la resolucion interna. Cada cambio se informa por la salida estandar.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class GobernadorCalidad {
+
+    /**
+     * Ajustes de calidad de un nivel.
+     *
+     * @param nombre             nombre con el que se informa el nivel
+     * @param factorParticulas   fraccion de las particulas pedidas que se generan
+     * @param segmentosEstela    segmentos de la estela de la pelota
+     * @param neblinaTexturizada true para la textura de neblina, false para un relleno plano
+     * @param efectosCRT         maximo de efectos del postproceso CRT
+     * @param escalaResolucion   fraccion del alto interno configurado con la que se renderiza
+     */
+    public record NivelCalidad(String nombre, double factorParticulas, int segmentosEstela,
+                               boolean neblinaTexturizada, int efectosCRT, double escalaResolucion) {
+    }
+
+    /**
+     * Niveles de mayor a menor calidad. Cada nivel sacrifica primero lo que
+     * menos se nota: particulas y estela, despues neblina y postproceso, y
+     * por ultimo la resolucion.
+     */
+    public static final List<NivelCalidad> NIVELES = List.of(
+        new NivelCalidad("alta", 1.0, 5, true, 4, 1.0),
+        new NivelCalidad("media", 0.6, 3, true, 3, 1.0),
+        new NivelCalidad("baja", 0.35, 2, false, 2, 0.75),
+        new NivelCalidad("minima", 0.15, 0, false, 1, 0.5));
+
+    /** Fotogramas del anillo sobre los que se calcula el percentil. */
+    public static final int MUESTRAS = 240;
+
+    private static final double PERCENTIL = 0.99;
+    private static final int FOTOGRAMAS_ENTRE_EVALUACIONES = 30;
+    private static final double HOLGURA_PARA_SUBIR = 0.7;
+    private static final int FOTOGRAMAS_PARA_SUBIR = MUESTRAS * 2;
+    private static final int ESPERA_MAXIMA_SUBIDA = FOTOGRAMAS_PARA_SUBIR * 16;
+
+    private final long[] muestras;
+    private final long[] ordenadas;
+    private final Consumer<NivelCalidad> aplicador;
+    private long objetivoNanos;
+    private int cantidad;
+    private int siguiente;
+    private int nivel;
+    private int fotogramasDesdeCambio;
+    private int esperaSubida;
+    private boolean recienSubido;
+    private long percentilUltimo;
+    private long cambios;
+
+    /**
+     * Crea el gobernador en el nivel de calidad maxima y lo aplica.
+     *
+     * @param objetivoNanos tiempo de fotograma objetivo en nanosegundos
+     * @param aplicador     recibe cada nivel nuevo para trasladarlo a los ajustes
+     * @throws IllegalArgumentException si el objetivo no es positivo
+     */
+    public GobernadorCalidad(final long objetivoNanos, final Consumer<NivelCalidad> aplicador) {
+        this.muestras = new long[MUESTRAS];
+        this.ordenadas = new long[MUESTRAS];
+        this.aplicador = aplicador;
+        this.esperaSubida = FOTOGRAMAS_PARA_SUBIR;
+        establecerObjetivoNanos(objetivoNanos);
+        aplicador.accept(NIVELES.head());
+    }
+
+    /**
+     * Establece el tiempo de fotograma objetivo y reinicia las mediciones.
+     *
+     * @param nanos objetivo en nanosegundos
+     * @throws IllegalArgumentException si el objetivo no es positivo
+     */
+    public void establecerObjetivoNanos(final long nanos) {
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("El objetivo debe ser positivo: " + nanos);
+        }
+        this.objetivoNanos = nanos;
+        reiniciarMediciones();
+    }
+
+    /**
+     * Obtiene el tiempo de fotograma objetivo.
+     *
+     * @return objetivo en nanosegundos
+     */
+    public long obtenerObjetivoNanos() {
+        return objetivoNanos;
+    }
+
+    /**
+     * Obtiene el nivel de calidad actual.
+     *
+     * @return nivel actual
+     */
+    public NivelCalidad obtenerNivel() {
+        return NIVELES.get(nivel);
+    }
+
+    /**
+     * Obtiene el indice del nivel actual en {@link #NIVELES}.
+     *
+     * @return 0 para la calidad maxima
+     */
+    public int obtenerIndiceNivel() {
+        return nivel;
+    }
+
+    /**
+     * Obtiene el percentil calculado en la ultima evaluacion.
+     *
+     * @return nanosegundos, o 0 si aun no hubo evaluaciones
+     */
+    public long obtenerPercentilUltimo() {
+        return percentilUltimo;
+    }
+
+    /**
+     * Obtiene cuantas veces cambio el nivel.
+     *
+     * @return cambios desde la creacion
+     */
+    public long obtenerCambios() {
+        return cambios;
+    }
+
+    /**
+     * Vuelve a la calidad maxima y descarta las mediciones, por ejemplo al
+     * desactivar el gobernador o al empezar otra partida.
+     */
+    public void restablecer() {
+        esperaSubida = FOTOGRAMAS_PARA_SUBIR;
+        recienSubido = false;
+        if (nivel != 0) {
+            cambiarNivel(0, "restablecido");
+        }
+        reiniciarMediciones();
+    }
+
+    /**
+     * Descarta las mediciones sin cambiar de nivel, por ejemplo tras una
+     * pausa cuyos fotogramas no representan la carga de la partida.
+     */
+    public void reiniciarMediciones() {
+        cantidad = 0;
+        siguiente = 0;
+        fotogramasDesdeCambio = 0;
+    }
+
+    /**
+     * Registra el tiempo de un fotograma y cambia de nivel si corresponde.
+     *
+     * @param nanos tiempo del fotograma en nanosegundos
+     */
+    public void registrarFotograma(final long nanos) {
+        muestras[siguiente] = nanos;
+        siguiente = (siguiente + 1) % MUESTRAS;
+        cantidad = Math.min(cantidad + 1, MUESTRAS);
+        fotogramasDesdeCambio++;
+
+        if (cantidad < MUESTRAS || fotogramasDesdeCambio % FOTOGRAMAS_ENTRE_EVALUACIONES != 0) {
+            return;
+        }
+        percentilUltimo = calcularPercentil();
+
+        if (percentilUltimo > objetivoNanos && nivel < NIVELES.size() - 1) {
+            if (recienSubido) {
+                esperaSubida = Math.min(esperaSubida * 2, ESPERA_MAXIMA_SUBIDA);
+            }
+            recienSubido = false;
+            cambiarNivel(nivel + 1, "p99 " + formatear(percentilUltimo) + " > " + formatear(objetivoNanos));
+        } else if (percentilUltimo < objetivoNanos * HOLGURA_PARA_SUBIR && nivel > 0
+                && fotogramasDesdeCambio >= esperaSubida) {
+            recienSubido = true;
+            cambiarNivel(nivel - 1, "p99 " + formatear(percentilUltimo) + " < "
+                + formatear((long) (objetivoNanos * HOLGURA_PARA_SUBIR)));
+        } else if (recienSubido && fotogramasDesdeCambio >= esperaSubida) {
+            recienSubido = false;
+        }
+    }
+
+    /**
+     * Calcula el percentil del anillo lleno sobre una copia ordenada, sin
+     * reservar memoria.
+     */
+    private long calcularPercentil() {
+        System.arraycopy(muestras, 0, ordenadas, 0, MUESTRAS);
+        Arrays.sort(ordenadas);
+        return ordenadas[Math.min(MUESTRAS - 1, (int) Math.ceil(PERCENTIL * MUESTRAS) - 1)];
+    }
+
+    private void cambiarNivel(final int nuevo, final String motivo) {
+        System.out.printf("Calidad adaptativa: %s -> %s (%s)%n",
+            NIVELES.get(nivel).nombre(), NIVELES.get(nuevo).nombre(), motivo);
+        nivel = nuevo;
+        cambios++;
+        reiniciarMediciones();
+        aplicador.accept(NIVELES.get(nuevo));
+    }
+
+    private static String formatear(final long nanos) {
+        return String.format("%.2f ms", nanos / 1e6);
+    }
+}
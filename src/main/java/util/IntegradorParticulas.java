@@ -0,0 +1,87 @@
+package util;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+/**
+ * Integracion por fotograma de las particulas guardadas en arreglos
+ * paralelos.
+ * <p>
+ * Cada paso descuenta la vida, avanza la posicion con la velocidad, aplica
+ * la gravedad a la velocidad vertical y cuenta las particulas que
+ * expiraron, sin eliminarlas: la compactacion queda a cargo del
+ * {@link ParticleEmitter.SistemaParticulas}. Todas las implementaciones
+ * hacen las mismas operaciones de punto flotante en el mismo orden, de modo
+ * que sus resultados coinciden bit a bit.
+ * </p>
+ * <p>
+ * La implementacion vectorial usa el modulo incubado
+ * {@code jdk.incubator.vector}, que solo se compila con el perfil
+ * {@code vector} de Maven y solo esta disponible si la JVM se inicia con
+ * {@code --add-modules jdk.incubator.vector}. Si falta cualquiera de las
+ * dos cosas, {@link #seleccionar()} elige la escalar.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public interface IntegradorParticulas {
+
+    /**
+     * Avanza las particulas de los indices {@code [0, cantidad)} un paso.
+     *
+     * @param x          posiciones horizontales
+     * @param y          posiciones verticales
+     * @param velocidadX velocidades horizontales
+     * @param velocidadY velocidades verticales
+     * @param vida       vidas restantes en segundos
+     * @param cantidad   particulas a avanzar
+     * @param delta      duracion del paso en segundos
+     * @param caida      desplazamiento vertical de la gravedad en el paso
+     * @param aceleracion velocidad vertical que la gravedad suma en el paso
+     * @return cantidad de particulas cuya vida quedo en cero o menos
+     */
+    int integrar(float[] x, float[] y, float[] velocidadX, float[] velocidadY, float[] vida, int cantidad,
+                 float delta, float caida, float aceleracion);
+
+    /**
+     * Obtiene un nombre que describe la implementacion, para informarla.
+     *
+     * @return nombre de la implementacion
+     */
+    String obtenerNombre();
+
+    /**
+     * Obtiene la implementacion escalar, disponible siempre.
+     *
+     * @return integrador escalar
+     */
+    static IntegradorParticulas escalar() {
+        return IntegradorParticulasEscalar.INSTANCIA;
+    }
+
+    /**
+     * Obtiene la implementacion vectorial si el modulo de vectores esta en
+     * la JVM y la clase se compilo con el perfil {@code vector}.
+     *
+     * @return integrador vectorial, o vacio si no esta disponible
+     */
+    static Option<IntegradorParticulas> vectorial() {
+        return Option.ofOptional(ModuleLayer.boot().findModule("jdk.incubator.vector"))
+            .flatMap(modulo -> Try.of(() -> {
+                IntegradorParticulas.class.getModule().addReads(modulo);
+                return (IntegradorParticulas) Class.forName("util.IntegradorParticulasVectorial")
+                    .getDeclaredConstructor().newInstance();
+            }).toOption());
+    }
+
+    /**
+     * Elige la implementacion vectorial si esta disponible y la escalar en
+     * caso contrario.
+     *
+     * @return integrador elegido
+     */
+    static IntegradorParticulas seleccionar() {
+        return vectorial().getOrElse(IntegradorParticulas::escalar);
+    }
+}
@@ -0,0 +1,49 @@
+package util;
+
+/**
+ * Integrador de particulas escalar, una particula por iteracion.
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+final class IntegradorParticulasEscalar implements IntegradorParticulas {
+
+    /** Instancia compartida; el integrador no tiene estado. */
+    static final IntegradorParticulasEscalar INSTANCIA = new IntegradorParticulasEscalar();
+
+    private IntegradorParticulasEscalar() {
+    }
+
+    @Override
+    public int integrar(final float[] x, final float[] y, final float[] velocidadX, final float[] velocidadY,
+                        final float[] vida, final int cantidad, final float delta, final float caida,
+                        final float aceleracion) {
+        return integrarRango(x, y, velocidadX, velocidadY, vida, 0, cantidad, delta, caida, aceleracion);
+    }
+
+    /**
+     * Avanza las particulas de los indices {@code [desde, hasta)}. El
+     * integrador vectorial lo usa para la cola que no llena un vector.
+     */
+    static int integrarRango(final float[] x, final float[] y, final float[] velocidadX, final float[] velocidadY,
+                             final float[] vida, final int desde, final int hasta, final float delta,
+                             final float caida, final float aceleracion) {
+        int expiradas = 0;
+        for (int i = desde; i < hasta; i++) {
+            final float restante = vida[i] - delta;
+            vida[i] = restante;
+            if (restante <= 0f) {
+                expiradas++;
+            }
+            x[i] += velocidadX[i] * delta;
+            y[i] += velocidadY[i] * delta + caida;
+            velocidadY[i] += aceleracion;
+        }
+        return expiradas;
+    }
+
+    @Override
+    public String obtenerNombre() {
+        return "escalar";
+    }
+}
@@ -0,0 +1,55 @@
+package util;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Integrador de particulas con la API de vectores del JDK, tantas
+ * particulas por iteracion como carriles tenga la especie preferida del
+ * procesador. La cola que no llena un vector se avanza con el integrador
+ * escalar.
+ * <p>
+ * Solo se compila con el perfil {@code vector} de Maven; se instancia por
+ * reflexion desde {@link IntegradorParticulas#vectorial()}.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+final class IntegradorParticulasVectorial implements IntegradorParticulas {
+
+    private static final VectorSpecies<Float> ESPECIE = FloatVector.SPECIES_PREFERRED;
+
+    IntegradorParticulasVectorial() {
+    }
+
+    @Override
+    public int integrar(final float[] x, final float[] y, final float[] velocidadX, final float[] velocidadY,
+                        final float[] vida, final int cantidad, final float delta, final float caida,
+                        final float aceleracion) {
+        final int limite = ESPECIE.loopBound(cantidad);
+        int expiradas = 0;
+        for (int i = 0; i < limite; i += ESPECIE.length()) {
+            final FloatVector restante = FloatVector.fromArray(ESPECIE, vida, i).sub(delta);
+            restante.intoArray(vida, i);
+            expiradas += restante.compare(VectorOperators.LE, 0f).trueCount();
+
+            final FloatVector vy = FloatVector.fromArray(ESPECIE, velocidadY, i);
+            FloatVector.fromArray(ESPECIE, x, i)
+                .add(FloatVector.fromArray(ESPECIE, velocidadX, i).mul(delta))
+                .intoArray(x, i);
+            FloatVector.fromArray(ESPECIE, y, i)
+                .add(vy.mul(delta).add(caida))
+                .intoArray(y, i);
+            vy.add(aceleracion).intoArray(velocidadY, i);
+        }
+        return expiradas + IntegradorParticulasEscalar.integrarRango(x, y, velocidadX, velocidadY, vida,
+            limite, cantidad, delta, caida, aceleracion);
+    }
+
+    @Override
+    public String obtenerNombre() {
+        return "vectorial (" + ESPECIE.vectorBitSize() + " bits, " + ESPECIE.length() + " carriles)";
+    }
+}
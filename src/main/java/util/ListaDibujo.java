@@ -0,0 +1,450 @@
+package util;
+
+import java.util.Arrays;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Lista reutilizable de comandos de dibujo de un fotograma.
+ * <p>
+ * En lugar de llamar al {@link GraphicsContext} entidad por entidad, el
+ * fotograma se describe como una secuencia de rectangulos, bordes, ovalos y
+ * sprites del {@link AtlasSprites}, cada uno con un estilo registrado en la
+ * propia lista (relleno, trazo, grosor de linea y opacidad). Antes de
+ * reproducirla, {@link #ordenar()} agrupa los comandos por estilo dentro de
+ * cada capa, de modo que el reproductor solo cambia el estado del contexto
+ * cuando el estilo realmente cambia.
+ * </p>
+ * <p>
+ * Las capas conservan el orden de pintado: un comando de una capa menor
+ * siempre se dibuja antes que uno de una capa mayor. Dentro de una capa el
+ * orden puede cambiar, por lo que los comandos que deben superponerse en un
+ * orden dado van en capas distintas.
+ * </p>
+ * <p>
+ * Los arreglos crecen al principio y despues se reutilizan, de modo que un
+ * fotograma estable no asigna memoria. Construir y ordenar la lista no
+ * requiere JavaFX en ejecucion, lo que permite capturarla en pruebas y
+ * bancos sin interfaz grafica.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class ListaDibujo {
+
+    /** Rectangulo relleno con el color de relleno del estilo. */
+    public static final byte RECTANGULO = 0;
+
+    /** Borde de rectangulo con el color y el grosor de trazo del estilo. */
+    public static final byte BORDE_RECTANGULO = 1;
+
+    /** Ovalo relleno con el color de relleno del estilo. */
+    public static final byte OVALO = 2;
+
+    /** Sprite del atlas, dibujado con la opacidad del estilo. */
+    public static final byte SPRITE = 3;
+
+    /** Capa maxima que admite la lista. */
+    public static final int CAPA_MAXIMA = 255;
+
+    private static final int CAPACIDAD_INICIAL = 64;
+    private static final int BITS_INDICE = 24;
+    private static final int BITS_ESTILO = 16;
+    private static final long MASCARA_INDICE = (1L << BITS_INDICE) - 1;
+    private static final int CAPACIDAD_MAXIMA = 1 << BITS_INDICE;
+    private static final int ESTILOS_MAXIMOS = 1 << BITS_ESTILO;
+
+    private Color[] estiloRelleno;
+    private Color[] estiloTrazo;
+    private double[] estiloAnchoLinea;
+    private double[] estiloAlfa;
+    private int estilos;
+
+    private byte[] tipo;
+    private byte[] capa;
+    private int[] estilo;
+    private int[] sprite;
+    private double[] x;
+    private double[] y;
+    private double[] ancho;
+    private double[] alto;
+    private long[] claves;
+    private int cantidad;
+    private int capaActual;
+    private boolean ordenada;
+
+    private Color rellenoAplicado;
+    private Color trazoAplicado;
+    private double anchoLineaAplicado;
+    private double alfaAplicado;
+
+    /**
+     * Crea una lista vacia.
+     */
+    public ListaDibujo() {
+        this.estiloRelleno = new Color[8];
+        this.estiloTrazo = new Color[8];
+        this.estiloAnchoLinea = new double[8];
+        this.estiloAlfa = new double[8];
+        this.tipo = new byte[CAPACIDAD_INICIAL];
+        this.capa = new byte[CAPACIDAD_INICIAL];
+        this.estilo = new int[CAPACIDAD_INICIAL];
+        this.sprite = new int[CAPACIDAD_INICIAL];
+        this.x = new double[CAPACIDAD_INICIAL];
+        this.y = new double[CAPACIDAD_INICIAL];
+        this.ancho = new double[CAPACIDAD_INICIAL];
+        this.alto = new double[CAPACIDAD_INICIAL];
+        this.claves = new long[CAPACIDAD_INICIAL];
+    }
+
+    /**
+     * Obtiene el identificador de un estilo, registrandolo si es nuevo. Los
+     * estilos se conservan entre fotogramas; buscar uno ya registrado no
+     * asigna memoria.
+     *
+     * @param relleno    color de relleno, o null si el estilo no rellena
+     * @param trazo      color de trazo, o null si el estilo no traza
+     * @param anchoLinea grosor del trazo
+     * @param alfa       opacidad global, en [0, 1]
+     * @return identificador del estilo
+     * @throws IllegalStateException si se supera la cantidad maxima de estilos
+     */
+    public int estilo(final Color relleno, final Color trazo, final double anchoLinea, final double alfa) {
+        for (int i = 0; i < estilos; i++) {
+            if (mismoColor(estiloRelleno[i], relleno) && mismoColor(estiloTrazo[i], trazo)
+                    && estiloAnchoLinea[i] == anchoLinea && estiloAlfa[i] == alfa) {
+                return i;
+            }
+        }
+        if (estilos == ESTILOS_MAXIMOS) {
+            throw new IllegalStateException("Se supero la cantidad maxima de estilos: " + ESTILOS_MAXIMOS);
+        }
+        if (estilos == estiloRelleno.length) {
+            final int capacidad = estilos * 2;
+            estiloRelleno = Arrays.copyOf(estiloRelleno, capacidad);
+            estiloTrazo = Arrays.copyOf(estiloTrazo, capacidad);
+            estiloAnchoLinea = Arrays.copyOf(estiloAnchoLinea, capacidad);
+            estiloAlfa = Arrays.copyOf(estiloAlfa, capacidad);
+        }
+        estiloRelleno[estilos] = relleno;
+        estiloTrazo[estilos] = trazo;
+        estiloAnchoLinea[estilos] = anchoLinea;
+        estiloAlfa[estilos] = alfa;
+        return estilos++;
+    }
+
+    /**
+     * Obtiene un estilo opaco que solo rellena.
+     *
+     * @param relleno color de relleno
+     * @return identificador del estilo
+     */
+    public int estiloRelleno(final Color relleno) {
+        return estilo(relleno, null, 0.0, 1.0);
+    }
+
+    /**
+     * Obtiene un estilo opaco que solo traza.
+     *
+     * @param trazo      color de trazo
+     * @param anchoLinea grosor del trazo
+     * @return identificador del estilo
+     */
+    public int estiloTrazo(final Color trazo, final double anchoLinea) {
+        return estilo(null, trazo, anchoLinea, 1.0);
+    }
+
+    /**
+     * Obtiene un estilo para sprites con una opacidad dada.
+     *
+     * @param alfa opacidad global, en [0, 1]
+     * @return identificador del estilo
+     */
+    public int estiloImagen(final double alfa) {
+        return estilo(null, null, 0.0, alfa);
+    }
+
+    /**
+     * Establece la capa de los comandos que se agreguen a continuacion.
+     *
+     * @param nuevaCapa capa en {@code [0, CAPA_MAXIMA]}
+     * @throws IllegalArgumentException si la capa esta fuera de rango
+     */
+    public void establecerCapa(final int nuevaCapa) {
+        if (nuevaCapa < 0 || nuevaCapa > CAPA_MAXIMA) {
+            throw new IllegalArgumentException("Capa fuera de rango: " + nuevaCapa);
+        }
+        this.capaActual = nuevaCapa;
+    }
+
+    /**
+     * Agrega un rectangulo relleno.
+     *
+     * @param idEstilo estilo con color de relleno
+     * @param px       borde izquierdo
+     * @param py       borde superior
+     * @param pAncho   ancho
+     * @param pAlto    alto
+     */
+    public void agregarRectangulo(final int idEstilo, final double px, final double py,
+                                  final double pAncho, final double pAlto) {
+        agregar(RECTANGULO, idEstilo, -1, px, py, pAncho, pAlto);
+    }
+
+    /**
+     * Agrega el borde de un rectangulo.
+     *
+     * @param idEstilo estilo con color y grosor de trazo
+     * @param px       borde izquierdo
+     * @param py       borde superior
+     * @param pAncho   ancho
+     * @param pAlto    alto
+     */
+    public void agregarBordeRectangulo(final int idEstilo, final double px, final double py,
+                                       final double pAncho, final double pAlto) {
+        agregar(BORDE_RECTANGULO, idEstilo, -1, px, py, pAncho, pAlto);
+    }
+
+    /**
+     * Agrega un ovalo relleno inscripto en un rectangulo.
+     *
+     * @param idEstilo estilo con color de relleno
+     * @param px       borde izquierdo
+     * @param py       borde superior
+     * @param pAncho   ancho
+     * @param pAlto    alto
+     */
+    public void agregarOvalo(final int idEstilo, final double px, final double py,
+                             final double pAncho, final double pAlto) {
+        agregar(OVALO, idEstilo, -1, px, py, pAncho, pAlto);
+    }
+
+    /**
+     * Agrega un sprite del atlas.
+     *
+     * @param idEstilo estilo con la opacidad del sprite
+     * @param idSprite indice del sprite en el atlas
+     * @param px       borde izquierdo del contenido
+     * @param py       borde superior del contenido
+     * @param pAncho   ancho del contenido
+     * @param pAlto    alto del contenido
+     */
+    public void agregarSprite(final int idEstilo, final int idSprite, final double px, final double py,
+                              final double pAncho, final double pAlto) {
+        agregar(SPRITE, idEstilo, idSprite, px, py, pAncho, pAlto);
+    }
+
+    /**
+     * Descarta los comandos, conservando los estilos y la memoria.
+     */
+    public void vaciar() {
+        cantidad = 0;
+        capaActual = 0;
+        ordenada = false;
+    }
+
+    /**
+     * Obtiene la cantidad de comandos.
+     *
+     * @return comandos en la lista
+     */
+    public int cantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Obtiene la cantidad de estilos registrados.
+     *
+     * @return estilos distintos usados desde que se creo la lista
+     */
+    public int cantidadEstilos() {
+        return estilos;
+    }
+
+    /**
+     * Ordena los comandos por capa y, dentro de cada capa, por estilo. Los
+     * comandos con la misma capa y el mismo estilo conservan el orden en que
+     * se agregaron.
+     */
+    public void ordenar() {
+        for (int i = 0; i < cantidad; i++) {
+            claves[i] = (long) (capa[i] & 0xFF) << (BITS_INDICE + BITS_ESTILO)
+                | (long) estilo[i] << BITS_INDICE
+                | i;
+        }
+        Arrays.sort(claves, 0, cantidad);
+        ordenada = true;
+    }
+
+    /**
+     * Obtiene el tipo del comando en una posicion del orden de reproduccion.
+     *
+     * @param posicion posicion en {@code [0, cantidad())}
+     * @return uno de {@link #RECTANGULO}, {@link #BORDE_RECTANGULO}, {@link #OVALO} o {@link #SPRITE}
+     */
+    public byte obtenerTipoEn(final int posicion) {
+        return tipo[indiceEn(posicion)];
+    }
+
+    /**
+     * Obtiene el estilo del comando en una posicion del orden de reproduccion.
+     *
+     * @param posicion posicion en {@code [0, cantidad())}
+     * @return identificador del estilo
+     */
+    public int obtenerEstiloEn(final int posicion) {
+        return estilo[indiceEn(posicion)];
+    }
+
+    /**
+     * Cuenta los cambios de estado del contexto que haria
+     * {@link #reproducir(GraphicsContext, AtlasSprites)} en el orden actual,
+     * sin dibujar.
+     *
+     * @return llamadas a setFill, setStroke, setLineWidth y setGlobalAlpha
+     */
+    public int contarCambiosEstado() {
+        reiniciarEstadoAplicado();
+        int cambios = 0;
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            cambios += aplicarEstilo(null, indiceEn(posicion));
+        }
+        return cambios;
+    }
+
+    /**
+     * Cuenta los cambios de estado que haria un renderizado inmediato, que
+     * establece el estilo completo de cada entidad antes de dibujarla.
+     *
+     * @return llamadas a setFill, setStroke, setLineWidth y setGlobalAlpha
+     */
+    public int contarCambiosEstadoInmediatos() {
+        int cambios = 0;
+        for (int i = 0; i < cantidad; i++) {
+            cambios += switch (tipo[i]) {
+                case BORDE_RECTANGULO -> 2;
+                case SPRITE -> estiloAlfa[estilo[i]] != 1.0 ? 2 : 0;
+                default -> 1;
+            };
+        }
+        return cambios;
+    }
+
+    /**
+     * Reproduce la lista sobre un contexto grafico, cambiando su estado solo
+     * cuando el estilo del comando difiere del aplicado. Al terminar la
+     * opacidad global queda en 1.
+     *
+     * @param gc    contexto grafico destino
+     * @param atlas atlas con los sprites referenciados por la lista
+     */
+    public void reproducir(final GraphicsContext gc, final AtlasSprites atlas) {
+        reiniciarEstadoAplicado();
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            final int i = indiceEn(posicion);
+            aplicarEstilo(gc, i);
+            switch (tipo[i]) {
+                case RECTANGULO -> gc.fillRect(x[i], y[i], ancho[i], alto[i]);
+                case BORDE_RECTANGULO -> gc.strokeRect(x[i], y[i], ancho[i], alto[i]);
+                case OVALO -> gc.fillOval(x[i], y[i], ancho[i], alto[i]);
+                default -> atlas.dibujar(gc, sprite[i], x[i], y[i], ancho[i], alto[i]);
+            }
+        }
+        if (alfaAplicado != 1.0) {
+            gc.setGlobalAlpha(1.0);
+        }
+        RenderizadorJuego.registrarLlamadasDibujo(cantidad);
+    }
+
+    private void agregar(final byte tipoComando, final int idEstilo, final int idSprite, final double px,
+                         final double py, final double pAncho, final double pAlto) {
+        if (cantidad == tipo.length) {
+            crecer();
+        }
+        tipo[cantidad] = tipoComando;
+        capa[cantidad] = (byte) capaActual;
+        estilo[cantidad] = idEstilo;
+        sprite[cantidad] = idSprite;
+        x[cantidad] = px;
+        y[cantidad] = py;
+        ancho[cantidad] = pAncho;
+        alto[cantidad] = pAlto;
+        cantidad++;
+        ordenada = false;
+    }
+
+    private void crecer() {
+        if (tipo.length == CAPACIDAD_MAXIMA) {
+            throw new IllegalStateException("Se supero la cantidad maxima de comandos: " + CAPACIDAD_MAXIMA);
+        }
+        final int capacidad = Math.min(CAPACIDAD_MAXIMA, tipo.length * 2);
+        tipo = Arrays.copyOf(tipo, capacidad);
+        capa = Arrays.copyOf(capa, capacidad);
+        estilo = Arrays.copyOf(estilo, capacidad);
+        sprite = Arrays.copyOf(sprite, capacidad);
+        x = Arrays.copyOf(x, capacidad);
+        y = Arrays.copyOf(y, capacidad);
+        ancho = Arrays.copyOf(ancho, capacidad);
+        alto = Arrays.copyOf(alto, capacidad);
+        claves = Arrays.copyOf(claves, capacidad);
+    }
+
+    private int indiceEn(final int posicion) {
+        return ordenada ? (int) (claves[posicion] & MASCARA_INDICE) : posicion;
+    }
+
+    private void reiniciarEstadoAplicado() {
+        rellenoAplicado = null;
+        trazoAplicado = null;
+        anchoLineaAplicado = Double.NaN;
+        alfaAplicado = 1.0;
+    }
+
+    /**
+     * Aplica las propiedades del estilo de un comando que difieran del estado
+     * actual. Con el contexto nulo solo las cuenta.
+     *
+     * @return cantidad de propiedades cambiadas
+     */
+    private int aplicarEstilo(final GraphicsContext gc, final int i) {
+        final int e = estilo[i];
+        int cambios = 0;
+        if (estiloAlfa[e] != alfaAplicado) {
+            alfaAplicado = estiloAlfa[e];
+            if (gc != null) {
+                gc.setGlobalAlpha(alfaAplicado);
+            }
+            cambios++;
+        }
+        if ((tipo[i] == RECTANGULO || tipo[i] == OVALO) && !mismoColor(estiloRelleno[e], rellenoAplicado)) {
+            rellenoAplicado = estiloRelleno[e];
+            if (gc != null) {
+                gc.setFill(rellenoAplicado);
+            }
+            cambios++;
+        }
+        if (tipo[i] == BORDE_RECTANGULO) {
+            if (!mismoColor(estiloTrazo[e], trazoAplicado)) {
+                trazoAplicado = estiloTrazo[e];
+                if (gc != null) {
+                    gc.setStroke(trazoAplicado);
+                }
+                cambios++;
+            }
+            if (estiloAnchoLinea[e] != anchoLineaAplicado) {
+                anchoLineaAplicado = estiloAnchoLinea[e];
+                if (gc != null) {
+                    gc.setLineWidth(anchoLineaAplicado);
+                }
+                cambios++;
+            }
+        }
+        return cambios;
+    }
+
+    private static boolean mismoColor(final Color a, final Color b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
@@ -0,0 +1,741 @@
+package util;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Mezclador de efectos de sonido de baja latencia con un conjunto fijo de
+ * voces.
+ * <p>
+ * Los efectos se decodifican una sola vez a muestras PCM mono en
+ * {@link #FORMATO} y se registran con un identificador. Cada disparo indica
+ * el efecto, el volumen y el tono, y se encola sin bloqueos en un anillo de
+ * tamano fijo; el hilo del mezclador lo toma al comenzar el siguiente bloque
+ * de {@link #CUADROS_POR_BLOQUE} cuadros y le asigna una voz libre o, si
+ * todas suenan, roba la que mas avanzo. El tono se aplica recorriendo las
+ * muestras con un paso distinto de uno e interpolando linealmente.
+ * </p>
+ * <p>
+ * La mezcla se atenua con un margen fijo de {@link #HOLGURA} y, si la suma de
+ * los volumenes de las voces activas aun pudiera superar la escala, con la
+ * inversa de esa suma, de modo que muchas voces juntas no se recortan. La
+ * atenuacion se aplica de inmediato al comenzar un bloque y se recupera de a
+ * poco, para que no se oigan saltos de volumen.
+ * </p>
+ * <p>
+ * Cada bloque mezclado se entrega a una {@link SalidaAudio}: una
+ * {@link SourceDataLine} con un bufer de {@link #BLOQUES_EN_SALIDA} bloques
+ * en el juego, o una {@link SalidaMemoria} que consume al ritmo del reloj
+ * para probarlo sin dispositivo. El hilo espera a que la salida tenga lugar
+ * para un bloque antes de mezclarlo, lo que marca su ritmo y hace que los
+ * disparos se atiendan lo mas tarde posible. La latencia de cada disparo se mide
+ * desde la llamada a {@link #disparar} hasta el instante en que su primera
+ * muestra llega a la salida, contando el audio que la salida aun tenia en
+ * cola.
+ * </p>
+ * <p>
+ * El hilo solo existe entre {@link #iniciar} y {@link #detener()}; el juego
+ * lo detiene mientras esta en pausa o minimizado, para no escribir silencio
+ * en segundo plano.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class MezcladorEfectos {
+
+    /** Frecuencia de muestreo de la mezcla en hercios. */
+    public static final float FRECUENCIA_MUESTREO = 44_100f;
+
+    /** Formato de la mezcla: PCM con signo de 16 bits, mono, little-endian. */
+    public static final AudioFormat FORMATO = new AudioFormat(FRECUENCIA_MUESTREO, 16, 1, true, false);
+
+    /** Cuadros que se mezclan por bloque: unos 2,9 ms. */
+    public static final int CUADROS_POR_BLOQUE = 128;
+
+    /** Bytes de un bloque mezclado. */
+    public static final int BYTES_POR_BLOQUE = CUADROS_POR_BLOQUE * 2;
+
+    /** Bloques que admite el bufer de la linea de salida. */
+    public static final int BLOQUES_EN_SALIDA = 2;
+
+    /** Voces simultaneas por defecto. */
+    public static final int VOCES_DEFECTO = 24;
+
+    /** Disparos pendientes que admite el anillo; potencia de dos. */
+    private static final int CAPACIDAD_DISPAROS = 64;
+
+    private static final double NANOS_POR_SEGUNDO = 1_000_000_000.0;
+
+    /** Ancho de cada cubeta del histograma de latencias: 0,1 ms. */
+    private static final long NANOS_POR_CUBETA = 100_000L;
+
+    /** Cubetas del histograma; la ultima acumula las latencias de 30 ms o mas. */
+    private static final int CUBETAS_LATENCIA = 300;
+
+    private static final float MAXIMO_MUESTRA = 32767f;
+
+    /** Ganancia fija de la mezcla: 6 dB de margen para que dos voces a volumen pleno sumen sin recortar. */
+    private static final float HOLGURA = 0.5f;
+
+    /** Fraccion de la distancia a la ganancia objetivo que la mezcla recupera por bloque al subir. */
+    private static final float RECUPERACION_POR_BLOQUE = 0.05f;
+
+    /**
+     * Destino de los bloques mezclados.
+     */
+    public interface SalidaAudio {
+
+        /**
+         * Espera a que la salida tenga lugar para la cantidad de bytes
+         * indicada.
+         *
+         * @param longitud bytes que se van a escribir
+         */
+        void esperarEspacio(int longitud);
+
+        /**
+         * Escribe un bloque, esperando si la salida no tiene lugar.
+         *
+         * @param datos    muestras en {@link #FORMATO}
+         * @param longitud bytes a escribir
+         */
+        void escribir(byte[] datos, int longitud);
+
+        /**
+         * Obtiene el tiempo que tardara en sonar lo ya escrito.
+         *
+         * @return nanosegundos de audio en cola
+         */
+        long obtenerRetrasoNanos();
+    }
+
+    /**
+     * Salida en memoria que simula un dispositivo: consume los bytes al ritmo
+     * del reloj desde la primera escritura, admite en cola lo mismo que la
+     * linea del juego y guarda lo escrito hasta llenar su captura.
+     */
+    public static final class SalidaMemoria implements SalidaAudio {
+
+        private final byte[] captura;
+        private final int capacidadCola;
+        private int bytesCapturados;
+        private long bytesEscritos;
+        private long inicioNanos;
+        private long subdesbordes;
+
+        /**
+         * Crea una salida que captura hasta la cantidad de bytes indicada.
+         *
+         * @param bytesCaptura bytes a guardar; lo que se escriba despues se descarta
+         */
+        public SalidaMemoria(final int bytesCaptura) {
+            this.captura = new byte[bytesCaptura];
+            this.capacidadCola = BYTES_POR_BLOQUE * BLOQUES_EN_SALIDA;
+        }
+
+        @Override
+        public void esperarEspacio(final int longitud) {
+            if (inicioNanos == 0L) {
+                return;
+            }
+            long exceso;
+            while ((exceso = bytesEscritos + longitud - bytesReproducidos(System.nanoTime()) - capacidadCola) > 0) {
+                LockSupport.parkNanos(bytesANanos(exceso));
+            }
+        }
+
+        @Override
+        public void escribir(final byte[] datos, final int longitud) {
+            final long ahora = System.nanoTime();
+            if (inicioNanos == 0L) {
+                inicioNanos = ahora;
+            }
+            if (bytesReproducidos(ahora) > bytesEscritos) {
+                // La mezcla se atraso: el dispositivo se quedo sin datos y
+                // vuelve a empezar a partir de este bloque.
+                subdesbordes++;
+                inicioNanos = ahora - bytesANanos(bytesEscritos);
+            }
+            esperarEspacio(longitud);
+            final int copiados = Math.min(longitud, captura.length - bytesCapturados);
+            System.arraycopy(datos, 0, captura, bytesCapturados, copiados);
+            bytesCapturados += copiados;
+            bytesEscritos += longitud;
+        }
+
+        @Override
+        public long obtenerRetrasoNanos() {
+            if (inicioNanos == 0L) {
+                return 0L;
+            }
+            return bytesANanos(Math.max(0L, bytesEscritos - bytesReproducidos(System.nanoTime())));
+        }
+
+        /**
+         * Obtiene los bytes guardados; solo son validos los primeros
+         * {@link #obtenerBytesCapturados()}.
+         *
+         * @return arreglo de la captura
+         */
+        public byte[] obtenerCaptura() {
+            return captura;
+        }
+
+        /**
+         * Obtiene la cantidad de bytes guardados.
+         *
+         * @return bytes validos de la captura
+         */
+        public int obtenerBytesCapturados() {
+            return bytesCapturados;
+        }
+
+        /**
+         * Obtiene cuantas veces el dispositivo simulado se quedo sin datos.
+         *
+         * @return subdesbordes desde la primera escritura
+         */
+        public long obtenerSubdesbordes() {
+            return subdesbordes;
+        }
+
+        private long bytesReproducidos(final long ahora) {
+            return (long) ((ahora - inicioNanos) * FRECUENCIA_MUESTREO / NANOS_POR_SEGUNDO) * 2L;
+        }
+
+        private static long bytesANanos(final long bytes) {
+            return (long) (bytes / 2 * NANOS_POR_SEGUNDO / FRECUENCIA_MUESTREO);
+        }
+    }
+
+    private volatile float[][] efectos = new float[0][];
+
+    private final int[] efectoVoz;
+    private final double[] posicionVoz;
+    private final double[] pasoVoz;
+    private final float[] gananciaVoz;
+
+    private final int[] efectoDisparo = new int[CAPACIDAD_DISPAROS];
+    private final float[] volumenDisparo = new float[CAPACIDAD_DISPAROS];
+    private final float[] tonoDisparo = new float[CAPACIDAD_DISPAROS];
+    private final long[] instanteDisparo = new long[CAPACIDAD_DISPAROS];
+    private final AtomicLong disparosEscritos = new AtomicLong();
+    private final AtomicLong disparosLeidos = new AtomicLong();
+
+    private final float[] acumulado = new float[CUADROS_POR_BLOQUE];
+    /** Ganancia de la mezcla al terminar el ultimo bloque; solo la usa el hilo que mezcla. */
+    private float gananciaMezcla = HOLGURA;
+    private final byte[] bloque = new byte[BYTES_POR_BLOQUE];
+
+    private volatile float volumenMaestro = 1f;
+    private volatile SalidaAudio salida;
+    private volatile boolean ejecutando;
+    private Thread hilo;
+
+    private volatile long disparosDescartados;
+    private volatile long disparosAtendidos;
+    private volatile long vocesRobadas;
+    private volatile long latenciaTotalNanos;
+    private volatile long latenciaMaximaNanos;
+    private final int[] histogramaLatencia = new int[CUBETAS_LATENCIA];
+
+    /**
+     * Crea un mezclador con la cantidad de voces por defecto.
+     */
+    public MezcladorEfectos() {
+        this(VOCES_DEFECTO);
+    }
+
+    /**
+     * Crea un mezclador con una cantidad fija de voces.
+     *
+     * @param voces voces que pueden sonar a la vez
+     * @throws IllegalArgumentException si la cantidad no es positiva
+     */
+    public MezcladorEfectos(final int voces) {
+        if (voces <= 0) {
+            throw new IllegalArgumentException("La cantidad de voces debe ser positiva: " + voces);
+        }
+        this.efectoVoz = new int[voces];
+        this.posicionVoz = new double[voces];
+        this.pasoVoz = new double[voces];
+        this.gananciaVoz = new float[voces];
+        Arrays.fill(efectoVoz, -1);
+    }
+
+    /**
+     * Decodifica un archivo WAV a muestras mono en {@link #FORMATO}, en el
+     * rango [-1, 1]. Los canales se promedian y, si la frecuencia difiere,
+     * se remuestrea por interpolacion lineal.
+     *
+     * @param url ubicacion del archivo
+     * @return muestras decodificadas
+     * @throws IOException si no se puede leer
+     * @throws UnsupportedAudioFileException si el formato no es reconocido
+     */
+    public static float[] decodificar(final URL url) throws IOException, UnsupportedAudioFileException {
+        try (InputStream entrada = new BufferedInputStream(url.openStream());
+             AudioInputStream original = AudioSystem.getAudioInputStream(entrada)) {
+            final AudioFormat formatoOriginal = original.getFormat();
+            final AudioFormat pcm = new AudioFormat(formatoOriginal.getSampleRate(), 16,
+                formatoOriginal.getChannels(), true, false);
+            try (AudioInputStream convertido = AudioSystem.getAudioInputStream(pcm, original)) {
+                final byte[] datos = convertido.readAllBytes();
+                final int canales = pcm.getChannels();
+                final int cuadros = datos.length / (2 * canales);
+                final float[] mono = new float[cuadros];
+                for (int cuadro = 0; cuadro < cuadros; cuadro++) {
+                    float suma = 0f;
+                    for (int canal = 0; canal < canales; canal++) {
+                        final int i = (cuadro * canales + canal) * 2;
+                        suma += (short) ((datos[i] & 0xFF) | (datos[i + 1] << 8)) / MAXIMO_MUESTRA;
+                    }
+                    mono[cuadro] = suma / canales;
+                }
+                return remuestrear(mono, pcm.getSampleRate());
+            }
+        }
+    }
+
+    private static float[] remuestrear(final float[] muestras, final float frecuencia) {
+        if (frecuencia == FRECUENCIA_MUESTREO || muestras.length < 2) {
+            return muestras;
+        }
+        final double paso = frecuencia / FRECUENCIA_MUESTREO;
+        final float[] resultado = new float[(int) ((muestras.length - 1) / paso) + 1];
+        for (int i = 0; i < resultado.length; i++) {
+            final double posicion = i * paso;
+            final int indice = Math.min((int) posicion, muestras.length - 2);
+            final float fraccion = (float) (posicion - indice);
+            resultado[i] = muestras[indice] + (muestras[indice + 1] - muestras[indice]) * fraccion;
+        }
+        return resultado;
+    }
+
+    /**
+     * Abre y arranca una linea del sistema en {@link #FORMATO} con un bufer
+     * de {@link #BLOQUES_EN_SALIDA} bloques. El controlador de audio puede
+     * imponer un bufer mayor; {@link SourceDataLine#getBufferSize()} informa
+     * el real.
+     *
+     * @return linea abierta y arrancada
+     * @throws LineUnavailableException si no hay una linea disponible
+     */
+    public static SourceDataLine abrirLinea() throws LineUnavailableException {
+        final SourceDataLine linea = AudioSystem.getSourceDataLine(FORMATO);
+        linea.open(FORMATO, BYTES_POR_BLOQUE * BLOQUES_EN_SALIDA);
+        linea.start();
+        return linea;
+    }
+
+    /**
+     * Adapta una linea del sistema como salida del mezclador.
+     *
+     * @param linea linea abierta en {@link #FORMATO}
+     * @return salida que escribe en la linea
+     */
+    public static SalidaAudio salidaLinea(final SourceDataLine linea) {
+        return new SalidaAudio() {
+            @Override
+            public void esperarEspacio(final int longitud) {
+                int disponibles;
+                while ((disponibles = linea.available()) < longitud) {
+                    LockSupport.parkNanos((long) ((longitud - disponibles) / 2 * NANOS_POR_SEGUNDO
+                        / FRECUENCIA_MUESTREO));
+                }
+            }
+
+            @Override
+            public void escribir(final byte[] datos, final int longitud) {
+                linea.write(datos, 0, longitud);
+            }
+
+            @Override
+            public long obtenerRetrasoNanos() {
+                final int bytes = linea.getBufferSize() - linea.available();
+                return (long) (bytes / 2 * NANOS_POR_SEGUNDO / FRECUENCIA_MUESTREO);
+            }
+        };
+    }
+
+    /**
+     * Registra un efecto ya decodificado. Puede llamarse con el mezclador en
+     * marcha; el efecto queda disponible para los disparos siguientes.
+     *
+     * @param muestras muestras mono en [-1, 1] a {@link #FRECUENCIA_MUESTREO}
+     * @return identificador del efecto para {@link #disparar}
+     */
+    public synchronized int registrar(final float[] muestras) {
+        final float[][] nuevos = Arrays.copyOf(efectos, efectos.length + 1);
+        nuevos[efectos.length] = muestras.clone();
+        efectos = nuevos;
+        return efectos.length - 1;
+    }
+
+    /**
+     * Encola el disparo de un efecto para el siguiente bloque. No asigna
+     * memoria; los productores se turnan con el cerrojo del mezclador, pero
+     * el hilo que mezcla nunca lo toma.
+     *
+     * @param efecto  identificador devuelto por {@link #registrar}
+     * @param volumen ganancia del disparo, 1 para el volumen original
+     * @param tono    factor de velocidad de reproduccion, 1 para el tono original
+     * @return true si se encolo; false si el anillo estaba lleno
+     * @throws IllegalArgumentException si el efecto no esta registrado
+     */
+    public synchronized boolean disparar(final int efecto, final double volumen, final double tono) {
+        final long instante = System.nanoTime();
+        if (efecto < 0 || efecto >= efectos.length) {
+            throw new IllegalArgumentException("Efecto no registrado: " + efecto);
+        }
+        final long posicion = disparosEscritos.get();
+        if (posicion - disparosLeidos.get() >= CAPACIDAD_DISPAROS) {
+            disparosDescartados++;
+            return false;
+        }
+        final int i = (int) posicion & (CAPACIDAD_DISPAROS - 1);
+        efectoDisparo[i] = efecto;
+        volumenDisparo[i] = (float) volumen;
+        tonoDisparo[i] = (float) tono;
+        instanteDisparo[i] = instante;
+        disparosEscritos.lazySet(posicion + 1);
+        return true;
+    }
+
+    /**
+     * Mezcla las voces activas en un arreglo de bytes en {@link #FORMATO},
+     * atendiendo antes de cada bloque los disparos pendientes. La usa el
+     * hilo del mezclador; desde otro hilo, para mezclar sin dispositivo,
+     * solo puede llamarse con el mezclador detenido.
+     *
+     * @param destino arreglo de al menos {@code cuadros * 2} bytes
+     * @param cuadros cuadros a mezclar
+     */
+    public void mezclar(final byte[] destino, final int cuadros) {
+        final SalidaAudio salidaActual = salida;
+        final long salidaNanos = System.nanoTime()
+            + (salidaActual != null ? salidaActual.obtenerRetrasoNanos() : 0L);
+        for (int desde = 0; desde < cuadros; desde += CUADROS_POR_BLOQUE) {
+            final int cantidad = Math.min(CUADROS_POR_BLOQUE, cuadros - desde);
+            atenderDisparos(salidaNanos + (long) (desde * NANOS_POR_SEGUNDO / FRECUENCIA_MUESTREO));
+            final float inicial = gananciaMezcla;
+            final float objetivo = mezclarBloque(cantidad);
+            // Bajar de inmediato evita recortar; subir de a poco evita que se oiga un salto.
+            gananciaMezcla = objetivo < inicial
+                ? objetivo
+                : inicial + (objetivo - inicial) * RECUPERACION_POR_BLOQUE;
+            convertir(destino, desde * 2, cantidad, Math.min(inicial, gananciaMezcla), gananciaMezcla);
+        }
+    }
+
+    /**
+     * Arranca el hilo del mezclador, que mezcla bloque a bloque y los
+     * escribe en la salida. Puede volver a llamarse tras {@link #detener()}:
+     * las voces que sonaban continuan, y los disparos que quedaron sin atender
+     * se cuentan como descartados en lugar de sonar con retraso.
+     *
+     * @param destino salida de los bloques mezclados
+     * @throws IllegalStateException si el mezclador ya esta en marcha
+     */
+    public synchronized void iniciar(final SalidaAudio destino) {
+        if (ejecutando) {
+            throw new IllegalStateException("El mezclador ya esta en marcha");
+        }
+        final long pendientes = disparosEscritos.get();
+        disparosDescartados += pendientes - disparosLeidos.get();
+        disparosLeidos.set(pendientes);
+        salida = destino;
+        ejecutando = true;
+        hilo = new Thread(this::ejecutar, "MezcladorEfectos");
+        hilo.setDaemon(true);
+        hilo.setPriority(Thread.MAX_PRIORITY);
+        hilo.start();
+    }
+
+    /**
+     * Detiene el hilo del mezclador y espera a que termine su bloque.
+     */
+    public void detener() {
+        final Thread actual;
+        synchronized (this) {
+            ejecutando = false;
+            actual = hilo;
+            hilo = null;
+        }
+        if (actual != null) {
+            try {
+                actual.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        salida = null;
+    }
+
+    private void ejecutar() {
+        try {
+            while (ejecutando) {
+                // Mezclar recien cuando hay lugar deja en cola un solo bloque
+                // por delante del nuevo, en lugar del bufer completo.
+                salida.esperarEspacio(BYTES_POR_BLOQUE);
+                mezclar(bloque, CUADROS_POR_BLOQUE);
+                salida.escribir(bloque, BYTES_POR_BLOQUE);
+            }
+        } catch (RuntimeException e) {
+            ejecutando = false;
+            System.err.println("Error en el mezclador de efectos: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Asigna una voz a cada disparo pendiente.
+     *
+     * @param salidaNanos instante en que sonara la primera muestra del bloque
+     */
+    private void atenderDisparos(final long salidaNanos) {
+        final long desde = disparosLeidos.get();
+        final long hasta = disparosEscritos.get();
+        for (long posicion = desde; posicion < hasta; posicion++) {
+            final int i = (int) posicion & (CAPACIDAD_DISPAROS - 1);
+            iniciarVoz(efectoDisparo[i], volumenDisparo[i], tonoDisparo[i]);
+            final long latencia = salidaNanos - instanteDisparo[i];
+            latenciaTotalNanos += latencia;
+            if (latencia > latenciaMaximaNanos) {
+                latenciaMaximaNanos = latencia;
+            }
+            histogramaLatencia[(int) Math.min(CUBETAS_LATENCIA - 1, Math.max(0L, latencia / NANOS_POR_CUBETA))]++;
+        }
+        disparosLeidos.lazySet(hasta);
+        disparosAtendidos += hasta - desde;
+    }
+
+    /**
+     * Ocupa una voz libre o, si no hay, la que mas avanzo en su efecto.
+     */
+    private void iniciarVoz(final int efecto, final float volumen, final float tono) {
+        final float[][] actuales = efectos;
+        int elegida = -1;
+        double avanceMaximo = -1.0;
+        for (int voz = 0; voz < efectoVoz.length; voz++) {
+            if (efectoVoz[voz] < 0) {
+                elegida = voz;
+                avanceMaximo = -1.0;
+                break;
+            }
+            final double avance = posicionVoz[voz] / actuales[efectoVoz[voz]].length;
+            if (avance > avanceMaximo) {
+                avanceMaximo = avance;
+                elegida = voz;
+            }
+        }
+        if (avanceMaximo >= 0.0) {
+            vocesRobadas++;
+        }
+        efectoVoz[elegida] = efecto;
+        posicionVoz[elegida] = 0.0;
+        pasoVoz[elegida] = Math.max(0.01, tono);
+        gananciaVoz[elegida] = volumen;
+    }
+
+    /**
+     * Suma las voces activas en el acumulador.
+     *
+     * @return ganancia de mezcla que mantiene el bloque dentro de la escala
+     */
+    private float mezclarBloque(final int cantidad) {
+        Arrays.fill(acumulado, 0, cantidad, 0f);
+        final float[][] actuales = efectos;
+        float sumaGanancias = 0f;
+        for (int voz = 0; voz < efectoVoz.length; voz++) {
+            if (efectoVoz[voz] < 0) {
+                continue;
+            }
+            sumaGanancias += gananciaVoz[voz];
+            final float[] muestras = actuales[efectoVoz[voz]];
+            final int ultima = muestras.length - 1;
+            final double paso = pasoVoz[voz];
+            final float ganancia = gananciaVoz[voz];
+            double posicion = posicionVoz[voz];
+            for (int i = 0; i < cantidad; i++) {
+                final int indice = (int) posicion;
+                if (indice >= ultima) {
+                    efectoVoz[voz] = -1;
+                    break;
+                }
+                final float anterior = muestras[indice];
+                final float fraccion = (float) (posicion - indice);
+                acumulado[i] += (anterior + (muestras[indice + 1] - anterior) * fraccion) * ganancia;
+                posicion += paso;
+            }
+            posicionVoz[voz] = posicion;
+        }
+        // Las muestras estan en [-1, 1]: con la inversa de la suma de
+        // volumenes la mezcla no puede salir de la escala.
+        return sumaGanancias * HOLGURA > 1f ? 1f / sumaGanancias : HOLGURA;
+    }
+
+    /**
+     * Convierte el acumulador a PCM de 16 bits, llevando la ganancia de la
+     * mezcla de forma lineal desde la inicial hasta la final a lo largo del
+     * bloque.
+     */
+    private void convertir(final byte[] destino, final int desde, final int cantidad,
+                           final float gananciaInicial, final float gananciaFinal) {
+        final float maestro = volumenMaestro * MAXIMO_MUESTRA;
+        final float pasoGanancia = (gananciaFinal - gananciaInicial) / cantidad;
+        for (int i = 0; i < cantidad; i++) {
+            final float ganancia = (gananciaInicial + pasoGanancia * (i + 1)) * maestro;
+            final float escalada = Math.max(-MAXIMO_MUESTRA, Math.min(MAXIMO_MUESTRA, acumulado[i] * ganancia));
+            final int muestra = Math.round(escalada);
+            destino[desde + i * 2] = (byte) muestra;
+            destino[desde + i * 2 + 1] = (byte) (muestra >> 8);
+        }
+    }
+
+    /**
+     * Establece la ganancia aplicada a toda la mezcla.
+     *
+     * @param volumen ganancia en [0, 1]; 0 silencia
+     */
+    public void establecerVolumenMaestro(final double volumen) {
+        this.volumenMaestro = (float) Math.max(0.0, Math.min(1.0, volumen));
+    }
+
+    /**
+     * Indica si el hilo del mezclador esta en marcha.
+     *
+     * @return true si esta mezclando
+     */
+    public boolean estaEjecutando() {
+        return ejecutando;
+    }
+
+    /**
+     * Obtiene la cantidad de voces del conjunto.
+     *
+     * @return voces que pueden sonar a la vez
+     */
+    public int obtenerVoces() {
+        return efectoVoz.length;
+    }
+
+    /**
+     * Obtiene la cantidad de voces sonando. Solo es exacta desde el hilo que
+     * mezcla o con el mezclador detenido.
+     *
+     * @return voces ocupadas
+     */
+    public int obtenerVocesActivas() {
+        int activas = 0;
+        for (final int efecto : efectoVoz) {
+            if (efecto >= 0) {
+                activas++;
+            }
+        }
+        return activas;
+    }
+
+    /**
+     * Obtiene la cantidad de disparos que ya tienen voz.
+     *
+     * @return disparos atendidos
+     */
+    public long obtenerDisparosAtendidos() {
+        return disparosAtendidos;
+    }
+
+    /**
+     * Obtiene la cantidad de disparos descartados por anillo lleno.
+     *
+     * @return disparos descartados
+     */
+    public long obtenerDisparosDescartados() {
+        return disparosDescartados;
+    }
+
+    /**
+     * Obtiene cuantas veces se robo una voz en uso.
+     *
+     * @return voces robadas
+     */
+    public long obtenerVocesRobadas() {
+        return vocesRobadas;
+    }
+
+    /**
+     * Obtiene la mayor latencia entre un disparo y su salida.
+     *
+     * @return nanosegundos
+     */
+    public long obtenerLatenciaMaximaNanos() {
+        return latenciaMaximaNanos;
+    }
+
+    /**
+     * Obtiene un percentil de la latencia entre los disparos y su salida,
+     * con la resolucion de 0,1 ms del histograma. Solo es exacto con el
+     * mezclador detenido.
+     *
+     * @param percentil fraccion en (0, 1], por ejemplo 0.99
+     * @return limite superior de la cubeta del percentil en nanosegundos, o 0 si no hubo disparos
+     */
+    public long obtenerLatenciaPercentilNanos(final double percentil) {
+        final long atendidos = disparosAtendidos;
+        if (atendidos == 0L) {
+            return 0L;
+        }
+        final long objetivo = (long) Math.ceil(percentil * atendidos);
+        long acumulados = 0L;
+        for (int cubeta = 0; cubeta < CUBETAS_LATENCIA; cubeta++) {
+            acumulados += histogramaLatencia[cubeta];
+            if (acumulados >= objetivo) {
+                return (cubeta + 1) * NANOS_POR_CUBETA;
+            }
+        }
+        return latenciaMaximaNanos;
+    }
+
+    /**
+     * Obtiene la latencia media entre los disparos y su salida.
+     *
+     * @return nanosegundos, o 0 si no hubo disparos
+     */
+    public long obtenerLatenciaMediaNanos() {
+        final long atendidos = disparosAtendidos;
+        return atendidos == 0L ? 0L : latenciaTotalNanos / atendidos;
+    }
+
+    /**
+     * Pone a cero las estadisticas y silencia las voces. Las voces y el
+     * histograma pertenecen al hilo del mezclador, por lo que solo puede
+     * llamarse con el mezclador detenido.
+     *
+     * @throws IllegalStateException si el mezclador esta en marcha
+     */
+    public synchronized void reiniciarEstadisticas() {
+        if (ejecutando) {
+            throw new IllegalStateException("No se pueden reiniciar las estadisticas con el mezclador en marcha");
+        }
+        Arrays.fill(efectoVoz, -1);
+        gananciaMezcla = HOLGURA;
+        Arrays.fill(histogramaLatencia, 0);
+        disparosDescartados = 0L;
+        disparosAtendidos = 0L;
+        vocesRobadas = 0L;
+        latenciaTotalNanos = 0L;
+        latenciaMaximaNanos = 0L;
+    }
+}
@@ -1,17 +1,16 @@
 package util;
 
-import io.vavr.collection.List;
-import io.vavr.control.Try;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 
 import java.util.Random;
 
 /**
  * Emisor de partículas para efectos visuales en el juego.
- * Genera y renderiza sistemas de partículas para eventos del juego
+ * Genera y actualiza sistemas de partículas para eventos del juego
  * como colisiones, destrucción de bloques, celebraciones y otros efectos visuales.
- * Proporciona una implementación funcional para la creación y manipulación de partículas.
+ * Los emisores escriben directamente en un {@link SistemaParticulas} de
+ * capacidad fija, sin crear objetos por partícula, y
+ * {@link SalpicadorParticulas} las dibuja.
  */
 public final class ParticleEmitter {
 
@@ -20,6 +19,22 @@ public final class ParticleEmitter {
     private static final double VELOCIDAD_PARTICULA_MAX = 150.0;
     private static final double VIDA_PARTICULA_DEFECTO = 1.0;
     private static final double GRAVEDAD = 200.0;
+    private static final Color[] COLORES_CONFETI = {
+        Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE,
+        Color.MAGENTA, Color.CYAN, Color.ORANGE, Color.PINK
+    };
+
+    /**
+     * Integrador de los sistemas de partículas: el vectorial si la JVM tiene
+     * el módulo de vectores y el escalar en caso contrario.
+     */
+    private static final IntegradorParticulas INTEGRADOR = IntegradorParticulas.seleccionar();
+
+    /**
+     * Fraccion de las partículas pedidas que generan los efectos. La ajusta
+     * el gobernador de calidad para abaratar los efectos en equipos lentos.
+     */
+    private static volatile double factorCantidad = 1.0;
 
     /**
      * Constructor privado para prevenir instanciación de esta clase de utilidad.
@@ -29,166 +44,282 @@ public final class ParticleEmitter {
     }
 
     /**
-     * Clase que representa una partícula individual inmutable dentro de un sistema de partículas.
-     * Cada partícula tiene propiedades como posición, velocidad, vida y color que evolucionan con el tiempo.
+     * Obtiene el nombre del integrador que usan los sistemas de partículas.
+     *
+     * @return nombre del integrador elegido al cargar la clase
+     */
+    public static String obtenerNombreIntegrador() {
+        return INTEGRADOR.obtenerNombre();
+    }
+
+    /**
+     * Establece la fracción de las partículas pedidas que generan los efectos.
+     *
+     * @param factor fracción en (0, 1]
+     * @throws IllegalArgumentException si el factor está fuera de rango
+     */
+    public static void establecerFactorCantidad(final double factor) {
+        if (!(factor > 0.0 && factor <= 1.0)) {
+            throw new IllegalArgumentException("Factor de partículas fuera de rango: " + factor);
+        }
+        factorCantidad = factor;
+    }
+
+    /**
+     * Obtiene la fracción de las partículas pedidas que generan los efectos.
+     *
+     * @return fracción en (0, 1]
+     */
+    public static double obtenerFactorCantidad() {
+        return factorCantidad;
+    }
+
+    /**
+     * Aplica el factor de cantidad, conservando al menos una partícula si se
+     * pidió alguna para que el efecto siga siendo visible.
      */
-    public static final class Particula {
-        private final double x;
-        private final double y;
-        private final double velocidadX;
-        private final double velocidadY;
-        private final double vida;
-        private final double vidaMaxima;
-        private final Color color;
-        private final double tamanio;
+    private static int escalarCantidad(final int cantidad) {
+        return cantidad <= 0 ? 0 : Math.max(1, (int) Math.round(cantidad * factorCantidad));
+    }
+
+    /**
+     * Sistema de partículas de capacidad fija, guardado como estructura de
+     * arreglos primitivos.
+     * <p>
+     * Cada partícula ocupa un índice en arreglos paralelos de posición,
+     * velocidad, vida, tamaño y color ARGB empaquetado. Las vivas ocupan
+     * siempre los índices {@code [0, cantidad)}: al expirar una partícula, la
+     * última se mueve a su lugar, de modo que actualizar no reserva memoria
+     * ni recorre huecos. Los emisores escriben directamente en los índices
+     * libres y, con el sistema lleno, descartan las partículas sobrantes.
+     * </p>
+     * <p>
+     * El sistema es mutable y no es seguro entre hilos: quien lo lea desde
+     * otro hilo debe trabajar sobre una copia hecha con {@link #copiarEn}.
+     * </p>
+     */
+    public static final class SistemaParticulas {
+
+        /** Capacidad con la que se crea un sistema si no se indica otra. */
+        public static final int CAPACIDAD_DEFECTO = 65_536;
+
+        private final float[] x;
+        private final float[] y;
+        private final float[] velocidadX;
+        private final float[] velocidadY;
+        private final float[] vida;
+        private final float[] inversaVidaMaxima;
+        private final float[] tamanio;
+        private final int[] argb;
+        private int cantidad;
 
         /**
-         * Constructor privado para crear una nueva partícula con los parámetros especificados.
-         *
-         * @param x           Posición horizontal inicial de la partícula
-         * @param y           Posición vertical inicial de la partícula
-         * @param velocidadX  Velocidad horizontal de la partícula
-         * @param velocidadY  Velocidad vertical de la partícula
-         * @param vida        Vida restante actual de la partícula
-         * @param vidaMaxima  Vida máxima con la que fue creada la partícula
-         * @param color       Color de la partícula para renderizado
-         * @param tamanio     Tamaño de la partícula para renderizado
+         * Crea un sistema vacío con la capacidad por defecto.
          */
-        private Particula(final double x, final double y, final double velocidadX, final double velocidadY,
-                          final double vida, final double vidaMaxima, final Color color, final double tamanio) {
-            this.x = x;
-            this.y = y;
-            this.velocidadX = velocidadX;
-            this.velocidadY = velocidadY;
-            this.vida = vida;
-            this.vidaMaxima = vidaMaxima;
-            this.color = color;
-            this.tamanio = tamanio;
+        public SistemaParticulas() {
+            this(CAPACIDAD_DEFECTO);
         }
 
         /**
-         * Actualiza el estado de la partícula según el tiempo transcurrido.
-         * Aplica física básica como gravedad y actualiza posición y vida.
+         * Crea un sistema vacío con una capacidad dada.
          *
-         * @param delta Tiempo transcurrido en segundos desde la última actualización
-         * @return Nueva instancia de Particula con el estado actualizado
+         * @param capacidad máximo de partículas vivas a la vez
+         * @throws IllegalArgumentException si la capacidad no es positiva
          */
-        public Particula actualizar(final double delta) {
-            final double nuevaVida = vida - delta;
-            final double nuevaX = x + velocidadX * delta;
-            final double nuevaY = y + velocidadY * delta + GRAVEDAD * delta * delta * 0.5;
-            final double nuevaVelocidadY = velocidadY + GRAVEDAD * delta;
-
-            return new Particula(nuevaX, nuevaY, velocidadX, nuevaVelocidadY,
-                    nuevaVida, vidaMaxima, color, tamanio);
+        public SistemaParticulas(final int capacidad) {
+            if (capacidad <= 0) {
+                throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacidad);
+            }
+            this.x = new float[capacidad];
+            this.y = new float[capacidad];
+            this.velocidadX = new float[capacidad];
+            this.velocidadY = new float[capacidad];
+            this.vida = new float[capacidad];
+            this.inversaVidaMaxima = new float[capacidad];
+            this.tamanio = new float[capacidad];
+            this.argb = new int[capacidad];
         }
 
         /**
-         * Verifica si la partícula sigue estando activa (tiene vida restante).
+         * Agrega una partícula en el primer índice libre.
          *
-         * @return true si la partícula aún tiene vida (vida > 0), false en caso contrario
+         * @param px          posición horizontal del centro
+         * @param py          posición vertical del centro
+         * @param vx          velocidad horizontal
+         * @param vy          velocidad vertical
+         * @param vidaInicial vida en segundos, que también es la vida máxima
+         * @param color       color de la partícula
+         * @param diametro    tamaño de la partícula
+         * @return false si el sistema estaba lleno y la partícula se descartó
          */
-        public boolean estaViva() {
-            return vida > 0;
+        public boolean emitir(final double px, final double py, final double vx, final double vy,
+                              final double vidaInicial, final Color color, final double diametro) {
+            if (cantidad == x.length) {
+                return false;
+            }
+            final int i = cantidad++;
+            x[i] = (float) px;
+            y[i] = (float) py;
+            velocidadX[i] = (float) vx;
+            velocidadY[i] = (float) vy;
+            vida[i] = (float) vidaInicial;
+            inversaVidaMaxima[i] = (float) (1.0 / vidaInicial);
+            tamanio[i] = (float) diametro;
+            argb[i] = empaquetar(color);
+            return true;
         }
 
         /**
-         * Renderiza la partícula en el contexto gráfico proporcionado.
-         * Dibuja un círculo que representa la partícula con su color y opacidad actual.
+         * Avanza todas las partículas con el {@link IntegradorParticulas}
+         * elegido al iniciar, aplicando la gravedad, y elimina las que
+         * agotaron su vida moviendo la última a su lugar. No reserva memoria.
          *
-         * @param gc Contexto gráfico donde se dibujará la partícula
+         * @param delta tiempo transcurrido en segundos
          */
-        public void renderizar(final GraphicsContext gc) {
-            final double opacidad = Math.max(0.0, Math.min(1.0, vida / vidaMaxima));
-            final Color colorConOpacidad = Color.color(
-                    color.getRed(),
-                    color.getGreen(),
-                    color.getBlue(),
-                    opacidad
-            );
-
-            gc.setFill(colorConOpacidad);
-            gc.fillOval(x - tamanio / 2, y - tamanio / 2, tamanio, tamanio);
+        public void actualizar(final double delta) {
+            final int expiradas = INTEGRADOR.integrar(x, y, velocidadX, velocidadY, vida, cantidad, (float) delta,
+                (float) (GRAVEDAD * delta * delta * 0.5), (float) (GRAVEDAD * delta));
+            if (expiradas > 0) {
+                compactar();
+            }
         }
-    }
 
-    /**
-     * Clase que representa un sistema de partículas inmutable que gestiona una colección
-     * de partículas individuales para efectos visuales en el juego.
-     */
-    public static final class SistemaParticulas {
-        private final List<Particula> particulas;
+        /**
+         * Elimina las partículas sin vida moviendo la última a su lugar.
+         */
+        private void compactar() {
+            int i = 0;
+            while (i < cantidad) {
+                if (vida[i] <= 0f) {
+                    mover(--cantidad, i);
+                } else {
+                    i++;
+                }
+            }
+        }
 
         /**
-         * Constructor privado para crear un sistema de partículas con una lista específica de partículas.
+         * Elimina todas las partículas sin liberar los arreglos.
+         */
+        public void vaciar() {
+            cantidad = 0;
+        }
+
+        /**
+         * Copia las partículas vivas en otro sistema, reemplazando las suyas.
+         * Si el destino tiene menos capacidad, se copian las primeras que
+         * quepan.
          *
-         * @param particulas Lista inmutable de partículas que componen el sistema
+         * @param destino sistema que recibe la copia
          */
-        private SistemaParticulas(final List<Particula> particulas) {
-            this.particulas = particulas;
+        public void copiarEn(final SistemaParticulas destino) {
+            final int copiadas = Math.min(cantidad, destino.obtenerCapacidad());
+            System.arraycopy(x, 0, destino.x, 0, copiadas);
+            System.arraycopy(y, 0, destino.y, 0, copiadas);
+            System.arraycopy(velocidadX, 0, destino.velocidadX, 0, copiadas);
+            System.arraycopy(velocidadY, 0, destino.velocidadY, 0, copiadas);
+            System.arraycopy(vida, 0, destino.vida, 0, copiadas);
+            System.arraycopy(inversaVidaMaxima, 0, destino.inversaVidaMaxima, 0, copiadas);
+            System.arraycopy(tamanio, 0, destino.tamanio, 0, copiadas);
+            System.arraycopy(argb, 0, destino.argb, 0, copiadas);
+            destino.cantidad = copiadas;
         }
 
         /**
-         * Crea un nuevo sistema de partículas vacío, sin partículas iniciales.
+         * Obtiene la posición horizontal del centro de una partícula.
          *
-         * @return Nuevo sistema de partículas vacío
+         * @param i índice en {@code [0, obtenerCantidad())}
+         * @return coordenada X
          */
-        public static SistemaParticulas vacio() {
-            return new SistemaParticulas(List.empty());
+        public double obtenerX(final int i) {
+            return x[i];
         }
 
         /**
-         * Actualiza el estado de todas las partículas en el sistema según el tiempo transcurrido.
-         * Elimina las partículas que han expirado su vida útil.
+         * Obtiene la posición vertical del centro de una partícula.
          *
-         * @param delta Tiempo transcurrido en segundos desde la última actualización
-         * @return Nuevo sistema de partículas con las partículas actualizadas y expiradas filtradas
+         * @param i índice en {@code [0, obtenerCantidad())}
+         * @return coordenada Y
          */
-        public SistemaParticulas actualizar(final double delta) {
-            final List<Particula> particulasActualizadas = particulas
-                    .map(p -> p.actualizar(delta))
-                    .filter(Particula::estaViva);
+        public double obtenerY(final int i) {
+            return y[i];
+        }
 
-            return new SistemaParticulas(particulasActualizadas);
+        /**
+         * Obtiene el diámetro de una partícula.
+         *
+         * @param i índice en {@code [0, obtenerCantidad())}
+         * @return tamaño en píxeles
+         */
+        public double obtenerTamanio(final int i) {
+            return tamanio[i];
         }
 
         /**
-         * Renderiza todas las partículas activas en el sistema en el contexto gráfico proporcionado.
+         * Obtiene el color base de una partícula empaquetado como ARGB no
+         * premultiplicado, sin la atenuación por vida.
          *
-         * @param gc Contexto gráfico donde se dibujarán las partículas
-         * @return Try que contiene Unit si la operación de renderizado fue exitosa, o una excepción en caso de error
+         * @param i índice en {@code [0, obtenerCantidad())}
+         * @return color empaquetado
          */
-        public Try<Void> renderizar(final GraphicsContext gc) {
-            return Try.run(() -> particulas.forEach(p -> p.renderizar(gc)));
+        public int obtenerArgb(final int i) {
+            return argb[i];
         }
 
         /**
-         * Agrega nuevas partículas al sistema existente, creando un nuevo sistema que contiene
-         * todas las partículas originales más las nuevas.
+         * Obtiene la opacidad actual de una partícula, proporcional a su
+         * vida restante.
          *
-         * @param nuevasParticulas Lista de nuevas partículas a agregar al sistema
-         * @return Nuevo sistema de partículas que incluye las partículas originales y las nuevas
+         * @param i índice en {@code [0, obtenerCantidad())}
+         * @return opacidad en [0, 1]
          */
-        public SistemaParticulas agregar(final List<Particula> nuevasParticulas) {
-            return new SistemaParticulas(particulas.appendAll(nuevasParticulas));
+        public double obtenerOpacidad(final int i) {
+            return Math.max(0.0, Math.min(1.0, vida[i] * inversaVidaMaxima[i]));
         }
 
         /**
          * Obtiene la cantidad actual de partículas activas en el sistema.
          *
-         * @return Número de partículas activas en el sistema
+         * @return número de partículas activas
          */
         public int obtenerCantidad() {
-            return particulas.size();
+            return cantidad;
         }
 
         /**
-         * Verifica si el sistema de partículas está vacío (no contiene partículas).
+         * Obtiene el máximo de partículas que el sistema admite a la vez.
          *
-         * @return true si el sistema no contiene partículas, false en caso contrario
+         * @return capacidad del sistema
+         */
+        public int obtenerCapacidad() {
+            return x.length;
+        }
+
+        /**
+         * Verifica si el sistema de partículas está vacío.
+         *
+         * @return true si el sistema no contiene partículas
          */
         public boolean estaVacio() {
-            return particulas.isEmpty();
+            return cantidad == 0;
+        }
+
+        private void mover(final int origen, final int destino) {
+            x[destino] = x[origen];
+            y[destino] = y[origen];
+            velocidadX[destino] = velocidadX[origen];
+            velocidadY[destino] = velocidadY[origen];
+            vida[destino] = vida[origen];
+            inversaVidaMaxima[destino] = inversaVidaMaxima[origen];
+            tamanio[destino] = tamanio[origen];
+            argb[destino] = argb[origen];
+        }
+
+        private static int empaquetar(final Color color) {
+            return (int) Math.round(color.getOpacity() * 255) << 24
+                | (int) Math.round(color.getRed() * 255) << 16
+                | (int) Math.round(color.getGreen() * 255) << 8
+                | (int) Math.round(color.getBlue() * 255);
         }
     }
 
@@ -196,144 +327,156 @@ public final class ParticleEmitter {
      * Crea un efecto de explosión en una posición dada con partículas radiales.
      * Las partículas se emiten desde un punto central en todas direcciones.
      *
+     * @param destino      Sistema en cuyos índices libres se escriben las partículas
      * @param x            Posición horizontal del centro de la explosión
      * @param y            Posición vertical del centro de la explosión
      * @param cantidad     Número de partículas a generar para el efecto
      * @param color        Color que tendrán las partículas del efecto
      * @param intensidad   Intensidad de la explosión que afecta la velocidad de las partículas (0.0 a 1.0)
-     * @return Lista inmutable de partículas que representan el efecto de explosión
+     * @return Número de partículas emitidas, menor al pedido si el sistema se llenó
      */
-    public static List<Particula> crearExplosion(final double x, final double y, final int cantidad,
-                                                  final Color color, final double intensidad) {
-        return List.range(0, cantidad)
-                .map(i -> {
-                    final double angulo = (2.0 * Math.PI * i) / cantidad;
-                    final double velocidad = VELOCIDAD_PARTICULA_MIN +
-                            (VELOCIDAD_PARTICULA_MAX - VELOCIDAD_PARTICULA_MIN) * intensidad;
-                    final double velocidadX = Math.cos(angulo) * velocidad;
-                    final double velocidadY = Math.sin(angulo) * velocidad;
-                    final double tamanio = 2.0 + RANDOM.nextDouble() * 4.0;
-                    final double vida = VIDA_PARTICULA_DEFECTO * (0.5 + RANDOM.nextDouble() * 0.5);
-
-                    return new Particula(x, y, velocidadX, velocidadY, vida, vida, color, tamanio);
-                });
+    public static int crearExplosion(final SistemaParticulas destino, final double x, final double y,
+                                     final int cantidad, final Color color, final double intensidad) {
+        final int generadas = escalarCantidad(cantidad);
+        final double velocidad = VELOCIDAD_PARTICULA_MIN +
+                (VELOCIDAD_PARTICULA_MAX - VELOCIDAD_PARTICULA_MIN) * intensidad;
+        for (int i = 0; i < generadas; i++) {
+            final double angulo = (2.0 * Math.PI * i) / generadas;
+            final double velocidadX = Math.cos(angulo) * velocidad;
+            final double velocidadY = Math.sin(angulo) * velocidad;
+            final double tamanio = 2.0 + RANDOM.nextDouble() * 4.0;
+            final double vida = VIDA_PARTICULA_DEFECTO * (0.5 + RANDOM.nextDouble() * 0.5);
+
+            if (!destino.emitir(x, y, velocidadX, velocidadY, vida, color, tamanio)) {
+                return i;
+            }
+        }
+        return generadas;
     }
 
     /**
      * Crea un efecto de chispas aleatorias desde una posición central.
      * Las partículas se emiten en direcciones aleatorias con una ligera inclinación hacia arriba.
      *
+     * @param destino    Sistema en cuyos índices libres se escriben las partículas
      * @param x          Posición horizontal del centro del efecto de chispas
      * @param y          Posición vertical del centro del efecto de chispas
      * @param cantidad   Número de chispas a generar
      * @param color      Color que tendrán las chispas
-     * @return Lista inmutable de partículas que representan el efecto de chispas
+     * @return Número de chispas emitidas, menor al pedido si el sistema se llenó
      */
-    public static List<Particula> crearChispas(final double x, final double y, final int cantidad,
-                                                final Color color) {
-        return List.range(0, cantidad)
-                .map(i -> {
-                    final double angulo = RANDOM.nextDouble() * 2.0 * Math.PI;
-                    final double velocidad = VELOCIDAD_PARTICULA_MIN +
-                            RANDOM.nextDouble() * (VELOCIDAD_PARTICULA_MAX - VELOCIDAD_PARTICULA_MIN);
-                    final double velocidadX = Math.cos(angulo) * velocidad;
-                    final double velocidadY = Math.sin(angulo) * velocidad - 50.0;
-                    final double tamanio = 1.0 + RANDOM.nextDouble() * 3.0;
-                    final double vida = 0.5 + RANDOM.nextDouble() * 0.5;
-
-                    return new Particula(x, y, velocidadX, velocidadY, vida, vida, color, tamanio);
-                });
+    public static int crearChispas(final SistemaParticulas destino, final double x, final double y,
+                                   final int cantidad, final Color color) {
+        final int generadas = escalarCantidad(cantidad);
+        for (int i = 0; i < generadas; i++) {
+            final double angulo = RANDOM.nextDouble() * 2.0 * Math.PI;
+            final double velocidad = VELOCIDAD_PARTICULA_MIN +
+                    RANDOM.nextDouble() * (VELOCIDAD_PARTICULA_MAX - VELOCIDAD_PARTICULA_MIN);
+            final double velocidadX = Math.cos(angulo) * velocidad;
+            final double velocidadY = Math.sin(angulo) * velocidad - 50.0;
+            final double tamanio = 1.0 + RANDOM.nextDouble() * 3.0;
+            final double vida = 0.5 + RANDOM.nextDouble() * 0.5;
+
+            if (!destino.emitir(x, y, velocidadX, velocidadY, vida, color, tamanio)) {
+                return i;
+            }
+        }
+        return generadas;
     }
 
     /**
      * Crea un efecto de confeti de celebración con múltiples colores.
      * Las partículas se emiten hacia arriba con gravedad para simular caída.
      *
+     * @param destino    Sistema en cuyos índices libres se escriben las partículas
      * @param x          Posición horizontal del centro del efecto de confeti
      * @param y          Posición vertical del centro del efecto de confeti
      * @param cantidad   Número de piezas de confeti a generar
-     * @return Lista inmutable de partículas que representan el efecto de confeti
+     * @return Número de piezas emitidas, menor al pedido si el sistema se llenó
      */
-    public static List<Particula> crearConfeti(final double x, final double y, final int cantidad) {
-        final List<Color> colores = List.of(
-                Color.RED, Color.YELLOW, Color.GREEN, Color.BLUE,
-                Color.MAGENTA, Color.CYAN, Color.ORANGE, Color.PINK
-        );
-
-        return List.range(0, cantidad)
-                .map(i -> {
-                    final double angulo = RANDOM.nextDouble() * 2.0 * Math.PI;
-                    final double velocidad = VELOCIDAD_PARTICULA_MIN +
-                            RANDOM.nextDouble() * (VELOCIDAD_PARTICULA_MAX - VELOCIDAD_PARTICULA_MIN);
-                    final double velocidadX = Math.cos(angulo) * velocidad * 0.5;
-                    final double velocidadY = Math.sin(angulo) * velocidad - 100.0;
-                    final double tamanio = 3.0 + RANDOM.nextDouble() * 5.0;
-                    final double vida = 1.5 + RANDOM.nextDouble();
-                    final Color color = colores.get(RANDOM.nextInt(colores.size()));
-
-                    return new Particula(x, y, velocidadX, velocidadY, vida, vida, color, tamanio);
-                });
+    public static int crearConfeti(final SistemaParticulas destino, final double x, final double y,
+                                   final int cantidad) {
+        final int generadas = escalarCantidad(cantidad);
+        for (int i = 0; i < generadas; i++) {
+            final double angulo = RANDOM.nextDouble() * 2.0 * Math.PI;
+            final double velocidad = VELOCIDAD_PARTICULA_MIN +
+                    RANDOM.nextDouble() * (VELOCIDAD_PARTICULA_MAX - VELOCIDAD_PARTICULA_MIN);
+            final double velocidadX = Math.cos(angulo) * velocidad * 0.5;
+            final double velocidadY = Math.sin(angulo) * velocidad - 100.0;
+            final double tamanio = 3.0 + RANDOM.nextDouble() * 5.0;
+            final double vida = 1.5 + RANDOM.nextDouble();
+            final Color color = COLORES_CONFETI[RANDOM.nextInt(COLORES_CONFETI.length)];
+
+            if (!destino.emitir(x, y, velocidadX, velocidadY, vida, color, tamanio)) {
+                return i;
+            }
+        }
+        return generadas;
     }
 
     /**
      * Crea un efecto de fragmentos cuando un bloque es destruido.
      * Las partículas se generan desde el centro del bloque destruido.
      *
+     * @param destino    Sistema en cuyos índices libres se escriben las partículas
      * @param x          Posición horizontal del bloque destruido
      * @param y          Posición vertical del bloque destruido
      * @param ancho      Ancho del bloque destruido
      * @param alto       Alto del bloque destruido
      * @param color      Color del bloque que se replica en los fragmentos
-     * @return Lista inmutable de partículas que representan los fragmentos del bloque destruido
+     * @return Número de fragmentos emitidos
      */
-    public static List<Particula> crearFragmentosBloque(final double x, final double y,
-                                                         final double ancho, final double alto,
-                                                         final Color color) {
-        final int cantidad = 8 + RANDOM.nextInt(8);
+    public static int crearFragmentosBloque(final SistemaParticulas destino, final double x, final double y,
+                                            final double ancho, final double alto, final Color color) {
+        final int cantidad = escalarCantidad(8 + RANDOM.nextInt(8));
         final double centroX = x + ancho / 2;
         final double centroY = y + alto / 2;
 
-        return List.range(0, cantidad)
-                .map(i -> {
-                    final double angulo = (2.0 * Math.PI * i) / cantidad + (RANDOM.nextDouble() - 0.5) * 0.5;
-                    final double velocidad = 100.0 + RANDOM.nextDouble() * 100.0;
-                    final double velocidadX = Math.cos(angulo) * velocidad;
-                    final double velocidadY = Math.sin(angulo) * velocidad - 50.0;
-                    final double tamanio = 3.0 + RANDOM.nextDouble() * 4.0;
-                    final double vida = 0.8 + RANDOM.nextDouble() * 0.4;
-
-                    return new Particula(centroX, centroY, velocidadX, velocidadY, vida, vida, color, tamanio);
-                });
+        for (int i = 0; i < cantidad; i++) {
+            final double angulo = (2.0 * Math.PI * i) / cantidad + (RANDOM.nextDouble() - 0.5) * 0.5;
+            final double velocidad = 100.0 + RANDOM.nextDouble() * 100.0;
+            final double velocidadX = Math.cos(angulo) * velocidad;
+            final double velocidadY = Math.sin(angulo) * velocidad - 50.0;
+            final double tamanio = 3.0 + RANDOM.nextDouble() * 4.0;
+            final double vida = 0.8 + RANDOM.nextDouble() * 0.4;
+
+            if (!destino.emitir(centroX, centroY, velocidadX, velocidadY, vida, color, tamanio)) {
+                return i;
+            }
+        }
+        return cantidad;
     }
 
     /**
      * Crea un efecto de impacto cuando ocurre una colisión.
      * Las partículas se emiten en una dirección específica basada en la dirección de impacto.
      *
+     * @param destino    Sistema en cuyos índices libres se escriben las partículas
      * @param x          Posición horizontal del punto de impacto
      * @param y          Posición vertical del punto de impacto
      * @param direccionX Componente horizontal de la dirección del impacto (-1, 0, 1)
      * @param direccionY Componente vertical de la dirección del impacto (-1, 0, 1)
      * @param color      Color de las partículas que representan el efecto de impacto
-     * @return Lista inmutable de partículas que representan el efecto de impacto de la colisión
+     * @return Número de partículas emitidas
      */
-    public static List<Particula> crearImpacto(final double x, final double y,
-                                                final double direccionX, final double direccionY,
-                                                final Color color) {
-        final int cantidad = 5 + RANDOM.nextInt(6);
-
-        return List.range(0, cantidad)
-                .map(i -> {
-                    final double dispersión = 0.5;
-                    final double anguloBase = Math.atan2(direccionY, direccionX);
-                    final double angulo = anguloBase + (RANDOM.nextDouble() - 0.5) * Math.PI * dispersión;
-                    final double velocidad = 80.0 + RANDOM.nextDouble() * 80.0;
-                    final double velocidadX = Math.cos(angulo) * velocidad;
-                    final double velocidadY = Math.sin(angulo) * velocidad;
-                    final double tamanio = 2.0 + RANDOM.nextDouble() * 3.0;
-                    final double vida = 0.3 + RANDOM.nextDouble() * 0.3;
-
-                    return new Particula(x, y, velocidadX, velocidadY, vida, vida, color, tamanio);
-                });
+    public static int crearImpacto(final SistemaParticulas destino, final double x, final double y,
+                                   final double direccionX, final double direccionY, final Color color) {
+        final int cantidad = escalarCantidad(5 + RANDOM.nextInt(6));
+        final double dispersion = 0.5;
+        final double anguloBase = Math.atan2(direccionY, direccionX);
+
+        for (int i = 0; i < cantidad; i++) {
+            final double angulo = anguloBase + (RANDOM.nextDouble() - 0.5) * Math.PI * dispersion;
+            final double velocidad = 80.0 + RANDOM.nextDouble() * 80.0;
+            final double velocidadX = Math.cos(angulo) * velocidad;
+            final double velocidadY = Math.sin(angulo) * velocidad;
+            final double tamanio = 2.0 + RANDOM.nextDouble() * 3.0;
+            final double vida = 0.3 + RANDOM.nextDouble() * 0.3;
+
+            if (!destino.emitir(x, y, velocidadX, velocidadY, vida, color, tamanio)) {
+                return i;
+            }
+        }
+        return cantidad;
     }
 }
@@ -0,0 +1,630 @@
+package util;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Postproceso de estetica CRT sobre los pixeles de un fotograma ya
+ * rasterizado: lineas de barrido, vineta, aberracion cromatica y resplandor
+ * alrededor de la pelota y las particulas.
+ * <p>
+ * Cada pasada divide las filas en bandas que se reparten en un
+ * {@link ForkJoinPool}. El resplandor se calcula a un cuarto de la
+ * resolucion: se extraen los pixeles brillantes, se difuminan con una caja
+ * separable y se suman al fotograma al componer. La composicion aplica los
+ * demas efectos en una sola pasada por pixel; la aberracion solo lee la
+ * misma fila, que cada banda copia a su propio arreglo antes de escribirla.
+ * </p>
+ * <p>
+ * El costo se mide en cada fotograma. Si el promedio supera el presupuesto
+ * se desactiva el efecto mas caro que siga activo, en el orden inverso de
+ * {@link Efecto}; si durante un tiempo sobra holgura se vuelve a activar.
+ * Cada vez que un efecto reactivado vuelve a exceder el presupuesto, la
+ * espera para reintentarlo se duplica.
+ * </p>
+ * <p>
+ * Los pixeles deben ser opacos, en formato ARGB premultiplicado, como los
+ * que produce {@link RasterizadorSoftware}. Una instancia no es segura para
+ * varios hilos a la vez: {@link #aplicar} se invoca siempre desde el mismo.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class PostprocesoCRT {
+
+    /**
+     * Efectos del postproceso, ordenados de menor a mayor costo. Al degradar
+     * se desactivan desde el final.
+     */
+    public enum Efecto {
+        /** Oscurece filas alternas. */
+        LINEAS_BARRIDO,
+        /** Oscurece los bordes del fotograma. */
+        VINETA,
+        /** Desplaza los canales rojo y azul en sentidos opuestos hacia los bordes. */
+        ABERRACION_CROMATICA,
+        /** Difumina los pixeles brillantes y los suma al fotograma. */
+        RESPLANDOR
+    }
+
+    /** Presupuesto por defecto del postproceso por fotograma. */
+    public static final long PRESUPUESTO_DEFECTO_NANOS = 3_000_000L;
+
+    private static final Efecto[] EFECTOS = Efecto.values();
+    private static final int BANDAS_POR_HILO = 4;
+    private static final int FASE_EXTRAER = 0;
+    private static final int FASE_DIFUMINAR_HORIZONTAL = 1;
+    private static final int FASE_DIFUMINAR_VERTICAL = 2;
+    private static final int FASE_COMPONER = 3;
+
+    /** Pixeles del fotograma por pixel del buffer de resplandor, en cada eje. */
+    private static final int REDUCCION_RESPLANDOR = 4;
+    private static final int RADIO_RESPLANDOR = 3;
+    private static final int UMBRAL_RESPLANDOR = 150;
+    /** Ganancia del resplandor en punto fijo de 8 bits (1.5); se aplica al difuminar. */
+    private static final int GANANCIA_RESPLANDOR = 384;
+    /** Brillo de las filas oscuras en punto fijo de 8 bits (0.7). */
+    private static final int BRILLO_LINEA = 180;
+    /** Filas de referencia por linea de barrido; se escala con el alto. */
+    private static final double ALTO_REFERENCIA_LINEAS = 360.0;
+    private static final double INTENSIDAD_VINETA = 0.45;
+    /** Desplazamiento maximo de canales en los bordes, como fraccion del ancho. */
+    private static final double ABERRACION_MAXIMA = 1.0 / 400;
+
+    private static final double SUAVIZADO_COSTO = 0.1;
+    private static final double HOLGURA_PARA_SUBIR = 0.6;
+    private static final int FOTOGRAMAS_PARA_BAJAR = 30;
+    private static final int FOTOGRAMAS_PARA_SUBIR = 240;
+    private static final int ESPERA_MAXIMA_SUBIDA = FOTOGRAMAS_PARA_SUBIR * 16;
+
+    private ForkJoinPool pool;
+    private volatile boolean activo;
+    private volatile long presupuestoNanos;
+    private volatile int efectosActivos;
+    private volatile int efectosMaximos;
+    /** Efectos del fotograma en curso, leidos una vez para todas sus fases. */
+    private int efectosFotograma;
+    private volatile long nanosUltimoFotograma;
+    private double nanosMedios;
+    private int fotogramasDesdeCambio;
+    private int esperaSubida;
+    private boolean recienSubido;
+
+    private int[] pixeles;
+    private int ancho;
+    private int alto;
+    private int bandas;
+    private int[][] filasBanda;
+    private int[][] sumasBanda;
+    private int[] vinetaX;
+    private int[] vinetaY;
+    private int[] brilloFila;
+    private int[] indiceRojo;
+    private int[] indiceAzul;
+    private int anchoReducido;
+    private int altoReducido;
+    private int[] resplandor;
+    private int[] resplandorTemporal;
+    private int[] muestraX0;
+    private int[] muestraX1;
+    private int[] pesoX;
+    private int[] muestraY0;
+    private int[] muestraY1;
+    private int[] pesoY;
+
+    /**
+     * Crea el postproceso inactivo, con todos los efectos y el pool comun.
+     */
+    public PostprocesoCRT() {
+        this.pool = ForkJoinPool.commonPool();
+        this.presupuestoNanos = PRESUPUESTO_DEFECTO_NANOS;
+        this.efectosActivos = EFECTOS.length;
+        this.efectosMaximos = EFECTOS.length;
+        this.esperaSubida = FOTOGRAMAS_PARA_SUBIR;
+    }
+
+    /**
+     * Establece el pool en el que se reparten las bandas. Con paralelismo 1
+     * las pasadas se ejecutan en el hilo que invoca {@link #aplicar}.
+     *
+     * @param nuevoPool pool de trabajo
+     */
+    public void establecerPool(final ForkJoinPool nuevoPool) {
+        this.pool = nuevoPool;
+        this.ancho = 0;
+    }
+
+    /**
+     * Activa o desactiva el postproceso.
+     *
+     * @param valor true para aplicar los efectos
+     */
+    public void establecerActivo(final boolean valor) {
+        this.activo = valor;
+    }
+
+    /**
+     * Indica si el postproceso esta activo.
+     *
+     * @return true si se aplican los efectos
+     */
+    public boolean estaActivo() {
+        return activo;
+    }
+
+    /**
+     * Establece el tiempo maximo por fotograma antes de desactivar efectos.
+     *
+     * @param nanos presupuesto en nanosegundos
+     * @throws IllegalArgumentException si el presupuesto no es positivo
+     */
+    public void establecerPresupuestoNanos(final long nanos) {
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("El presupuesto debe ser positivo: " + nanos);
+        }
+        this.presupuestoNanos = nanos;
+    }
+
+    /**
+     * Fija cuantos efectos estan activos, contando desde el mas barato, y
+     * reinicia la degradacion. Util para medir cada combinacion.
+     *
+     * @param cantidad efectos activos, entre 0 y la cantidad de efectos
+     * @throws IllegalArgumentException si la cantidad esta fuera de rango
+     */
+    public void establecerEfectosActivos(final int cantidad) {
+        if (cantidad < 0 || cantidad > EFECTOS.length) {
+            throw new IllegalArgumentException("Cantidad de efectos fuera de rango: " + cantidad);
+        }
+        this.efectosActivos = cantidad;
+        reiniciarDegradacion();
+    }
+
+    /**
+     * Limita cuantos efectos pueden estar activos, contando desde el mas
+     * barato. La degradacion por presupuesto sigue actuando por debajo del
+     * limite y nunca lo supera al reactivar efectos.
+     *
+     * @param cantidad maximo de efectos, entre 0 y la cantidad de efectos
+     * @throws IllegalArgumentException si la cantidad esta fuera de rango
+     */
+    public void establecerEfectosMaximos(final int cantidad) {
+        if (cantidad < 0 || cantidad > EFECTOS.length) {
+            throw new IllegalArgumentException("Cantidad de efectos fuera de rango: " + cantidad);
+        }
+        this.efectosMaximos = cantidad;
+        if (efectosActivos > cantidad) {
+            efectosActivos = cantidad;
+        }
+    }
+
+    /**
+     * Obtiene el maximo de efectos que pueden estar activos.
+     *
+     * @return maximo de efectos, contando desde {@link Efecto#LINEAS_BARRIDO}
+     */
+    public int obtenerEfectosMaximos() {
+        return efectosMaximos;
+    }
+
+    /**
+     * Obtiene cuantos efectos siguen activos tras la degradacion.
+     *
+     * @return efectos activos, contando desde {@link Efecto#LINEAS_BARRIDO}
+     */
+    public int obtenerEfectosActivos() {
+        return Math.min(efectosActivos, efectosMaximos);
+    }
+
+    /**
+     * Indica si un efecto se aplica en los fotogramas actuales.
+     *
+     * @param efecto efecto a consultar
+     * @return true si el postproceso esta activo y el efecto no se degrado
+     */
+    public boolean efectoActivo(final Efecto efecto) {
+        return activo && efecto.ordinal() < Math.min(efectosActivos, efectosMaximos);
+    }
+
+    /**
+     * Obtiene lo que tardo el postproceso del ultimo fotograma.
+     *
+     * @return nanosegundos del ultimo fotograma
+     */
+    public long obtenerNanosUltimoFotograma() {
+        return nanosUltimoFotograma;
+    }
+
+    /**
+     * Aplica los efectos activos sobre un fotograma, en el lugar, y ajusta
+     * los efectos al presupuesto segun lo que tardo.
+     *
+     * @param destino     pixeles ARGB premultiplicados y opacos, fila por fila
+     * @param anchoFrame  ancho del fotograma
+     * @param altoFrame   alto del fotograma
+     * @throws IllegalArgumentException si el arreglo no tiene el tamano indicado
+     */
+    public void aplicar(final int[] destino, final int anchoFrame, final int altoFrame) {
+        if (!activo) {
+            return;
+        }
+        if (anchoFrame <= 0 || altoFrame <= 0 || destino.length < anchoFrame * altoFrame) {
+            throw new IllegalArgumentException("Fotograma invalido: " + anchoFrame + "x" + altoFrame);
+        }
+        if (anchoFrame != ancho || altoFrame != alto) {
+            prepararTablas(anchoFrame, altoFrame);
+            reiniciarDegradacion();
+        }
+        final int efectos = Math.min(efectosActivos, efectosMaximos);
+        if (efectos == 0) {
+            registrarCosto(0L);
+            return;
+        }
+        final long inicio = System.nanoTime();
+        this.pixeles = destino;
+        this.efectosFotograma = efectos;
+        if (efectos > Efecto.RESPLANDOR.ordinal()) {
+            ejecutarFase(FASE_EXTRAER);
+            ejecutarFase(FASE_DIFUMINAR_HORIZONTAL);
+            ejecutarFase(FASE_DIFUMINAR_VERTICAL);
+        }
+        ejecutarFase(FASE_COMPONER);
+        this.pixeles = null;
+        registrarCosto(System.nanoTime() - inicio);
+    }
+
+    /**
+     * Actualiza el costo medio y desactiva o reactiva un efecto si
+     * corresponde.
+     */
+    private void registrarCosto(final long nanos) {
+        nanosUltimoFotograma = nanos;
+        nanosMedios = fotogramasDesdeCambio == 0 ? nanos : nanosMedios + (nanos - nanosMedios) * SUAVIZADO_COSTO;
+        fotogramasDesdeCambio++;
+
+        final int efectos = Math.min(efectosActivos, efectosMaximos);
+        if (efectos > 0 && nanosMedios > presupuestoNanos && fotogramasDesdeCambio >= FOTOGRAMAS_PARA_BAJAR) {
+            if (recienSubido) {
+                esperaSubida = Math.min(esperaSubida * 2, ESPERA_MAXIMA_SUBIDA);
+            }
+            System.out.printf("Postproceso CRT: se desactiva %s (%.2f ms > %.2f ms)%n",
+                EFECTOS[efectos - 1], nanosMedios / 1e6, presupuestoNanos / 1e6);
+            cambiarEfectos(efectos - 1, false);
+        } else if (efectos < efectosMaximos && nanosMedios < presupuestoNanos * HOLGURA_PARA_SUBIR
+                && fotogramasDesdeCambio >= esperaSubida) {
+            cambiarEfectos(efectos + 1, true);
+        } else if (recienSubido && fotogramasDesdeCambio >= esperaSubida) {
+            recienSubido = false;
+        }
+    }
+
+    private void cambiarEfectos(final int cantidad, final boolean subida) {
+        efectosActivos = cantidad;
+        fotogramasDesdeCambio = 0;
+        recienSubido = subida;
+    }
+
+    private void reiniciarDegradacion() {
+        fotogramasDesdeCambio = 0;
+        esperaSubida = FOTOGRAMAS_PARA_SUBIR;
+        recienSubido = false;
+    }
+
+    /**
+     * Ejecuta una fase repartiendo sus bandas en el pool, o en este hilo si
+     * el pool no tiene paralelismo.
+     */
+    private void ejecutarFase(final int fase) {
+        if (bandas == 1) {
+            ejecutarBanda(fase, 0);
+            return;
+        }
+        pool.invoke(new TareaBandas(fase, 0, bandas));
+    }
+
+    /**
+     * Ejecuta una fase sobre las filas de una banda.
+     */
+    private void ejecutarBanda(final int fase, final int banda) {
+        final int filas = fase == FASE_COMPONER ? alto : altoReducido;
+        final int desde = (int) ((long) filas * banda / bandas);
+        final int hasta = (int) ((long) filas * (banda + 1) / bandas);
+        switch (fase) {
+            case FASE_EXTRAER -> extraerBrillantes(desde, hasta);
+            case FASE_DIFUMINAR_HORIZONTAL -> difuminarHorizontal(desde, hasta);
+            case FASE_DIFUMINAR_VERTICAL -> difuminarVertical(sumasBanda[banda], desde, hasta);
+            default -> componer(filasBanda[banda], desde, hasta);
+        }
+    }
+
+    /**
+     * Reduce el fotograma a un cuarto de resolucion tomando cuatro muestras
+     * por bloque y conserva solo lo que supera el umbral de brillo.
+     */
+    private void extraerBrillantes(final int desde, final int hasta) {
+        final int paso = REDUCCION_RESPLANDOR / 2;
+        final int escalaUmbral = 255 * 256 / (255 - UMBRAL_RESPLANDOR);
+        for (int ry = desde; ry < hasta; ry++) {
+            final int fila0 = Math.min(alto - 1, ry * REDUCCION_RESPLANDOR + paso / 2) * ancho;
+            final int fila1 = Math.min(alto - 1, ry * REDUCCION_RESPLANDOR + paso / 2 + paso) * ancho;
+            final int salida = ry * anchoReducido;
+            for (int rx = 0; rx < anchoReducido; rx++) {
+                final int columna0 = Math.min(ancho - 1, rx * REDUCCION_RESPLANDOR + paso / 2);
+                final int columna1 = Math.min(ancho - 1, columna0 + paso);
+                final int a = pixeles[fila0 + columna0];
+                final int b = pixeles[fila0 + columna1];
+                final int c = pixeles[fila1 + columna0];
+                final int d = pixeles[fila1 + columna1];
+                final int r = ((a >> 16 & 0xFF) + (b >> 16 & 0xFF) + (c >> 16 & 0xFF) + (d >> 16 & 0xFF)) >> 2;
+                final int g = ((a >> 8 & 0xFF) + (b >> 8 & 0xFF) + (c >> 8 & 0xFF) + (d >> 8 & 0xFF)) >> 2;
+                final int bl = ((a & 0xFF) + (b & 0xFF) + (c & 0xFF) + (d & 0xFF)) >> 2;
+                resplandor[salida + rx] = brillante(r, escalaUmbral) << 16
+                    | brillante(g, escalaUmbral) << 8
+                    | brillante(bl, escalaUmbral);
+            }
+        }
+    }
+
+    private static int brillante(final int canal, final int escalaUmbral) {
+        return canal <= UMBRAL_RESPLANDOR ? 0 : Math.min(255, (canal - UMBRAL_RESPLANDOR) * escalaUmbral >> 8);
+    }
+
+    /**
+     * Difumina cada fila del buffer de resplandor con una ventana deslizante.
+     */
+    private void difuminarHorizontal(final int desde, final int hasta) {
+        final int ventana = 2 * RADIO_RESPLANDOR + 1;
+        final int ultimo = anchoReducido - 1;
+        for (int ry = desde; ry < hasta; ry++) {
+            final int fila = ry * anchoReducido;
+            int sumaR = 0;
+            int sumaG = 0;
+            int sumaB = 0;
+            for (int k = -RADIO_RESPLANDOR; k <= RADIO_RESPLANDOR; k++) {
+                final int p = resplandor[fila + Math.max(0, Math.min(ultimo, k))];
+                sumaR += p >> 16 & 0xFF;
+                sumaG += p >> 8 & 0xFF;
+                sumaB += p & 0xFF;
+            }
+            for (int rx = 0; rx < anchoReducido; rx++) {
+                resplandorTemporal[fila + rx] = sumaR / ventana << 16 | sumaG / ventana << 8 | sumaB / ventana;
+                final int sale = resplandor[fila + Math.max(0, rx - RADIO_RESPLANDOR)];
+                final int entra = resplandor[fila + Math.min(ultimo, rx + RADIO_RESPLANDOR + 1)];
+                sumaR += (entra >> 16 & 0xFF) - (sale >> 16 & 0xFF);
+                sumaG += (entra >> 8 & 0xFF) - (sale >> 8 & 0xFF);
+                sumaB += (entra & 0xFF) - (sale & 0xFF);
+            }
+        }
+    }
+
+    /**
+     * Difumina en vertical las filas de una banda con sumas por columna que
+     * se deslizan fila a fila, y aplica la ganancia del resplandor.
+     */
+    private void difuminarVertical(final int[] sumas, final int desde, final int hasta) {
+        final int divisor = (2 * RADIO_RESPLANDOR + 1) * 256;
+        final int ultima = altoReducido - 1;
+        Arrays.fill(sumas, 0, anchoReducido * 3, 0);
+        for (int k = desde - RADIO_RESPLANDOR; k <= desde + RADIO_RESPLANDOR; k++) {
+            acumularFila(sumas, Math.max(0, Math.min(ultima, k)), 1);
+        }
+        for (int ry = desde; ry < hasta; ry++) {
+            final int salida = ry * anchoReducido;
+            for (int rx = 0, j = 0; rx < anchoReducido; rx++, j += 3) {
+                final int r = Math.min(255, sumas[j] * GANANCIA_RESPLANDOR / divisor);
+                final int g = Math.min(255, sumas[j + 1] * GANANCIA_RESPLANDOR / divisor);
+                final int b = Math.min(255, sumas[j + 2] * GANANCIA_RESPLANDOR / divisor);
+                resplandor[salida + rx] = r << 16 | g << 8 | b;
+            }
+            acumularFila(sumas, Math.max(0, ry - RADIO_RESPLANDOR), -1);
+            acumularFila(sumas, Math.min(ultima, ry + RADIO_RESPLANDOR + 1), 1);
+        }
+    }
+
+    private void acumularFila(final int[] sumas, final int fila, final int signo) {
+        final int inicio = fila * anchoReducido;
+        for (int rx = 0, j = 0; rx < anchoReducido; rx++, j += 3) {
+            final int p = resplandorTemporal[inicio + rx];
+            sumas[j] += signo * (p >> 16 & 0xFF);
+            sumas[j + 1] += signo * (p >> 8 & 0xFF);
+            sumas[j + 2] += signo * (p & 0xFF);
+        }
+    }
+
+    /**
+     * Compone las filas de una banda: aberracion, resplandor, vineta y
+     * lineas de barrido en una sola pasada por pixel. Los canales se operan
+     * empaquetados, rojo y azul juntos y verde aparte; las filas que solo
+     * se oscurecen usan un lazo sin lecturas adicionales.
+     */
+    private void componer(final int[] fila, final int desde, final int hasta) {
+        final int efectos = efectosFotograma;
+        final boolean lineas = efectos > Efecto.LINEAS_BARRIDO.ordinal();
+        final boolean vineta = efectos > Efecto.VINETA.ordinal();
+        final boolean aberracion = efectos > Efecto.ABERRACION_CROMATICA.ordinal();
+        final boolean conResplandor = efectos > Efecto.RESPLANDOR.ordinal();
+
+        for (int y = desde; y < hasta; y++) {
+            final int inicio = y * ancho;
+            final int brillo = (lineas ? brilloFila[y] : 256) * (vineta ? vinetaY[y] : 256) >> 8;
+            if (!aberracion && !conResplandor) {
+                if (vineta) {
+                    for (int x = 0; x < ancho; x++) {
+                        pixeles[inicio + x] = escalar(pixeles[inicio + x], brillo * vinetaX[x] >> 8);
+                    }
+                } else if (brillo < 256) {
+                    for (int x = 0; x < ancho; x++) {
+                        pixeles[inicio + x] = escalar(pixeles[inicio + x], brillo);
+                    }
+                }
+                continue;
+            }
+
+            if (aberracion) {
+                System.arraycopy(pixeles, inicio, fila, 0, ancho);
+            }
+            final int resplandor0 = muestraY0[y] * anchoReducido;
+            final int resplandor1 = muestraY1[y] * anchoReducido;
+            final int wy = pesoY[y];
+            for (int x = 0; x < ancho; x++) {
+                int p = aberracion
+                    ? fila[indiceRojo[x]] & 0xFF0000 | fila[x] & 0xFF00 | fila[indiceAzul[x]] & 0xFF
+                    : pixeles[inicio + x];
+
+                if (conResplandor) {
+                    final int x0 = muestraX0[x];
+                    final int x1 = muestraX1[x];
+                    final int arribaIzq = resplandor[resplandor0 + x0];
+                    final int arribaDer = resplandor[resplandor0 + x1];
+                    final int abajoIzq = resplandor[resplandor1 + x0];
+                    final int abajoDer = resplandor[resplandor1 + x1];
+                    if ((arribaIzq | arribaDer | abajoIzq | abajoDer) != 0) {
+                        final int wx = pesoX[x];
+                        final int arriba = interpolar(arribaIzq, arribaDer, wx);
+                        final int abajo = interpolar(abajoIzq, abajoDer, wx);
+                        p = sumarSaturado(p, interpolar(arriba, abajo, wy));
+                    }
+                }
+
+                pixeles[inicio + x] = escalar(p, vineta ? brillo * vinetaX[x] >> 8 : brillo);
+            }
+        }
+    }
+
+    /**
+     * Multiplica los canales de un pixel por un factor en punto fijo de 8
+     * bits, entre 0 y 256, y lo deja opaco.
+     */
+    private static int escalar(final int p, final int factor) {
+        return 0xFF000000
+            | ((p & 0xFF00FF) * factor >>> 8) & 0xFF00FF
+            | ((p & 0xFF00) * factor >>> 8) & 0xFF00;
+    }
+
+    /**
+     * Interpola dos colores RGB empaquetados con un peso en punto fijo de 8 bits.
+     */
+    private static int interpolar(final int a, final int b, final int peso) {
+        final int inverso = 256 - peso;
+        return ((a & 0xFF00FF) * inverso + (b & 0xFF00FF) * peso >>> 8) & 0xFF00FF
+            | ((a & 0xFF00) * inverso + (b & 0xFF00) * peso >>> 8) & 0xFF00;
+    }
+
+    /**
+     * Suma dos colores RGB empaquetados saturando cada canal en 255.
+     */
+    private static int sumarSaturado(final int a, final int b) {
+        int rojoAzul = (a & 0xFF00FF) + (b & 0xFF00FF);
+        final int acarreoRojoAzul = rojoAzul & 0x1000100;
+        rojoAzul = (rojoAzul | acarreoRojoAzul - (acarreoRojoAzul >>> 8)) & 0xFF00FF;
+        int verde = (a & 0xFF00) + (b & 0xFF00);
+        final int acarreoVerde = verde & 0x10000;
+        verde = (verde | acarreoVerde - (acarreoVerde >>> 8)) & 0xFF00;
+        return rojoAzul | verde;
+    }
+
+    /**
+     * Recalcula las tablas que dependen del tamano del fotograma y del
+     * paralelismo: bandas, factores de vineta y de lineas, indices de
+     * aberracion y muestras del resplandor.
+     */
+    private void prepararTablas(final int anchoFrame, final int altoFrame) {
+        this.ancho = anchoFrame;
+        this.alto = altoFrame;
+        this.anchoReducido = Math.max(1, (anchoFrame + REDUCCION_RESPLANDOR - 1) / REDUCCION_RESPLANDOR);
+        this.altoReducido = Math.max(1, (altoFrame + REDUCCION_RESPLANDOR - 1) / REDUCCION_RESPLANDOR);
+
+        final int paralelismo = pool.getParallelism();
+        this.bandas = paralelismo > 1 ? Math.min(altoReducido, paralelismo * BANDAS_POR_HILO) : 1;
+        this.filasBanda = new int[bandas][anchoFrame];
+        this.sumasBanda = new int[bandas][anchoReducido * 3];
+
+        this.vinetaX = factoresVineta(anchoFrame);
+        this.vinetaY = factoresVineta(altoFrame);
+
+        this.brilloFila = new int[altoFrame];
+        final int grosorLinea = Math.max(1, (int) Math.round(altoFrame / ALTO_REFERENCIA_LINEAS));
+        for (int y = 0; y < altoFrame; y++) {
+            brilloFila[y] = (y / grosorLinea) % 2 == 1 ? BRILLO_LINEA : 256;
+        }
+
+        this.indiceRojo = new int[anchoFrame];
+        this.indiceAzul = new int[anchoFrame];
+        final double centro = anchoFrame / 2.0;
+        final double maximo = Math.max(1.0, anchoFrame * ABERRACION_MAXIMA);
+        for (int x = 0; x < anchoFrame; x++) {
+            final int desplazamiento = (int) Math.round((x + 0.5 - centro) / centro * maximo);
+            indiceRojo[x] = Math.max(0, Math.min(anchoFrame - 1, x - desplazamiento));
+            indiceAzul[x] = Math.max(0, Math.min(anchoFrame - 1, x + desplazamiento));
+        }
+
+        this.resplandor = new int[anchoReducido * altoReducido];
+        this.resplandorTemporal = new int[anchoReducido * altoReducido];
+        this.muestraX0 = new int[anchoFrame];
+        this.muestraX1 = new int[anchoFrame];
+        this.pesoX = new int[anchoFrame];
+        muestrasBilineales(anchoFrame, anchoReducido, muestraX0, muestraX1, pesoX);
+        this.muestraY0 = new int[altoFrame];
+        this.muestraY1 = new int[altoFrame];
+        this.pesoY = new int[altoFrame];
+        muestrasBilineales(altoFrame, altoReducido, muestraY0, muestraY1, pesoY);
+    }
+
+    /**
+     * Calcula el factor de vineta por posicion a lo largo de un eje, en
+     * punto fijo de 8 bits. El factor de un pixel es el producto de los dos
+     * ejes.
+     */
+    private static int[] factoresVineta(final int longitud) {
+        final int[] factores = new int[longitud];
+        final double centro = longitud / 2.0;
+        for (int i = 0; i < longitud; i++) {
+            final double distancia = (i + 0.5 - centro) / centro;
+            factores[i] = (int) Math.round(256 * (1.0 - INTENSIDAD_VINETA * distancia * distancia * distancia * distancia));
+        }
+        return factores;
+    }
+
+    /**
+     * Calcula, para cada pixel de un eje, las dos muestras del buffer
+     * reducido que lo rodean y el peso de la segunda, en punto fijo de 8 bits.
+     */
+    private static void muestrasBilineales(final int longitud, final int longitudReducida,
+                                           final int[] muestra0, final int[] muestra1, final int[] peso) {
+        for (int i = 0; i < longitud; i++) {
+            final double u = (i + 0.5) / REDUCCION_RESPLANDOR - 0.5;
+            final int base = Math.max(0, Math.min(longitudReducida - 1, (int) Math.floor(u)));
+            muestra0[i] = base;
+            muestra1[i] = Math.min(longitudReducida - 1, base + 1);
+            peso[i] = (int) Math.round(Math.max(0.0, Math.min(1.0, u - base)) * 256);
+        }
+    }
+
+    /**
+     * Tarea que divide recursivamente las bandas de una fase.
+     */
+    private final class TareaBandas extends RecursiveAction {
+
+        private final int fase;
+        private final int desde;
+        private final int hasta;
+
+        private TareaBandas(final int fase, final int desde, final int hasta) {
+            this.fase = fase;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde == 1) {
+                ejecutarBanda(fase, desde);
+                return;
+            }
+            final int mitad = (desde + hasta) >>> 1;
+            invokeAll(new TareaBandas(fase, desde, mitad), new TareaBandas(fase, mitad, hasta));
+        }
+    }
+}
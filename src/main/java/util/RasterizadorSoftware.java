@@ -0,0 +1,425 @@
+package util;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import javafx.scene.paint.Color;
+import mvc.modelo.simulacion.InstantaneaJuego;
+
+/**
+ * Rasterizador por software que dibuja un fotograma completo en un arreglo
+ * de pixeles ARGB premultiplicados.
+ * <p>
+ * No usa {@link javafx.scene.canvas.GraphicsContext} ni ningun otro objeto
+ * de la escena, por lo que puede ejecutarse en un hilo de trabajo mientras
+ * el hilo de JavaFX atiende la entrada y el layout. El arreglo se envuelve en
+ * un {@link IntBuffer} que puede respaldar directamente un
+ * {@link javafx.scene.image.PixelBuffer}, sin copias.
+ * </p>
+ * <p>
+ * Dibuja bloques con su resistencia, paletas, la pelota con su estela, las
+ * pelotas del modo multipelota, items, neblina y particulas, en el mismo
+ * orden que el renderizado sobre canvas. Las coordenadas del juego se
+ * multiplican por una escala, de modo que el mismo campo puede rasterizarse
+ * a cualquier resolucion.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class RasterizadorSoftware {
+
+    private static final int NEGRO = 0xFF000000;
+    private static final int BLANCO = 0xFFFFFFFF;
+    private static final double OPACIDAD_ESTELA = 0.6;
+    private static final double OPACIDAD_NEBLINA = 0.5;
+    private static final double ALTO_DIGITO = 8.0;
+
+    /**
+     * Digitos de 3x5 celdas, una fila por cada 3 bits, de arriba hacia abajo.
+     */
+    private static final int[] DIGITOS = {
+        0b111_101_101_101_111, 0b010_110_010_010_111, 0b111_001_111_100_111, 0b111_001_111_001_111,
+        0b101_101_111_001_001, 0b111_100_111_001_111, 0b111_100_111_101_111, 0b111_001_010_010_010,
+        0b111_101_111_101_111, 0b111_101_111_001_111
+    };
+
+    private final int ancho;
+    private final int alto;
+    private final int[] pixeles;
+    private final IntBuffer buffer;
+    private double escala;
+    private int segmentosEstela;
+    private double[] posicionesPelotasExtra = new double[0];
+    private final SalpicadorParticulas salpicador = new SalpicadorParticulas();
+
+    /**
+     * Crea un rasterizador con un destino propio.
+     *
+     * @param ancho ancho en pixeles
+     * @param alto  alto en pixeles
+     * @throws IllegalArgumentException si alguna dimension no es positiva
+     */
+    public RasterizadorSoftware(final int ancho, final int alto) {
+        if (ancho <= 0 || alto <= 0) {
+            throw new IllegalArgumentException("Dimensiones invalidas: " + ancho + "x" + alto);
+        }
+        this.ancho = ancho;
+        this.alto = alto;
+        this.pixeles = new int[ancho * alto];
+        this.buffer = IntBuffer.wrap(pixeles);
+        this.escala = 1.0;
+        this.segmentosEstela = RenderizadorJuego.SEGMENTOS_TRAIL_DEFECTO;
+    }
+
+    /**
+     * Establece cuantos pixeles del destino ocupa una unidad del juego.
+     *
+     * @param nuevaEscala escala positiva
+     * @throws IllegalArgumentException si la escala no es positiva
+     */
+    public void establecerEscala(final double nuevaEscala) {
+        if (nuevaEscala <= 0) {
+            throw new IllegalArgumentException("La escala debe ser positiva: " + nuevaEscala);
+        }
+        this.escala = nuevaEscala;
+    }
+
+    /**
+     * Establece cuantos segmentos tiene la estela de la pelota, como
+     * {@link RenderizadorJuego#establecerSegmentosTrail(int)}.
+     *
+     * @param segmentos segmentos de la estela, cero para no dibujarla
+     * @throws IllegalArgumentException si la cantidad es negativa
+     */
+    public void establecerSegmentosEstela(final int segmentos) {
+        if (segmentos < 0) {
+            throw new IllegalArgumentException("Segmentos de estela negativos: " + segmentos);
+        }
+        this.segmentosEstela = segmentos;
+    }
+
+    /**
+     * Obtiene el ancho del destino.
+     *
+     * @return ancho en pixeles
+     */
+    public int obtenerAncho() {
+        return ancho;
+    }
+
+    /**
+     * Obtiene el alto del destino.
+     *
+     * @return alto en pixeles
+     */
+    public int obtenerAlto() {
+        return alto;
+    }
+
+    /**
+     * Obtiene los pixeles del destino, en formato ARGB premultiplicado.
+     *
+     * @return arreglo de pixeles, fila por fila
+     */
+    public int[] obtenerPixeles() {
+        return pixeles;
+    }
+
+    /**
+     * Obtiene el buffer que envuelve los pixeles, apto para un
+     * {@link javafx.scene.image.PixelBuffer} con formato
+     * {@link javafx.scene.image.PixelFormat#getIntArgbPreInstance()}.
+     *
+     * @return buffer sobre el arreglo de pixeles
+     */
+    public IntBuffer obtenerBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Rasteriza un fotograma completo interpolando entre dos instantaneas.
+     *
+     * @param actual     instantanea mas reciente
+     * @param previa     instantanea anterior
+     * @param alfa       fraccion del tick transcurrida, en [0, 1]
+     * @param particulas particulas a dibujar sobre las entidades
+     */
+    public void rasterizar(final InstantaneaJuego actual, final InstantaneaJuego previa, final double alfa,
+                           final ParticleEmitter.SistemaParticulas particulas) {
+        Arrays.fill(pixeles, NEGRO);
+        rasterizarLineaCentral();
+
+        for (final InstantaneaJuego.EstadoBloque b : actual.bloques()) {
+            rellenarRectangulo(b.x(), b.y(), b.ancho(), b.alto(),
+                premultiplicar(RenderizadorJuego.calcularColorBloque(b.resistencia()), 1.0));
+            bordeRectangulo(b.x(), b.y(), b.ancho(), b.alto(), 1.5, BLANCO);
+            if (b.resistencia() > 1) {
+                rasterizarNumero(b.resistencia(), b.x() + b.ancho() / 2, b.y() + b.alto() / 2 + 3);
+            }
+        }
+
+        InstantaneaJuego.interpolarPaleta(actual.jugador1(), previa.jugador1(), alfa).forEach(this::rasterizarPaleta);
+        InstantaneaJuego.interpolarPaleta(actual.jugador2(), previa.jugador2(), alfa).forEach(this::rasterizarPaleta);
+
+        actual.pelotaInterpolada(previa, alfa).forEach(this::rasterizarPelota);
+
+        final int cantidad = actual.cantidadPelotasExtra();
+        if (cantidad > 0) {
+            posicionesPelotasExtra = actual.interpolarPelotasExtra(previa, alfa, posicionesPelotasExtra);
+            final double radio = actual.radioPelotasExtra();
+            for (int i = 0; i < cantidad; i++) {
+                rellenarCirculo(posicionesPelotasExtra[2 * i], posicionesPelotasExtra[2 * i + 1], radio, BLANCO);
+            }
+        }
+
+        for (final InstantaneaJuego.EstadoItem item : actual.items()) {
+            final double radio = Math.min(item.ancho(), item.alto()) / 2;
+            final double cx = item.x() + item.ancho() / 2;
+            final double cy = item.y() + item.alto() / 2;
+            rellenarCirculo(cx, cy, radio + 1, premultiplicar(Color.GOLD, 1.0));
+            rellenarCirculo(cx, cy, radio - 1, premultiplicar(Color.YELLOW, 1.0));
+        }
+
+        rasterizarNeblinas(actual);
+
+        salpicador.salpicar(pixeles, ancho, alto, escala, particulas);
+    }
+
+    /**
+     * Rellena un rectangulo en coordenadas del juego, mezclando si el color
+     * no es opaco.
+     *
+     * @param x     borde izquierdo
+     * @param y     borde superior
+     * @param w     ancho
+     * @param h     alto
+     * @param color color ARGB premultiplicado
+     */
+    public void rellenarRectangulo(final double x, final double y, final double w, final double h, final int color) {
+        final int x0 = Math.max(0, (int) Math.round(x * escala));
+        final int y0 = Math.max(0, (int) Math.round(y * escala));
+        final int x1 = Math.min(ancho, (int) Math.round((x + w) * escala));
+        final int y1 = Math.min(alto, (int) Math.round((y + h) * escala));
+        if (x0 >= x1 || y0 >= y1) {
+            return;
+        }
+        final boolean opaco = color >>> 24 == 0xFF;
+        for (int fila = y0; fila < y1; fila++) {
+            final int inicio = fila * ancho;
+            if (opaco) {
+                Arrays.fill(pixeles, inicio + x0, inicio + x1, color);
+            } else {
+                for (int i = inicio + x0; i < inicio + x1; i++) {
+                    pixeles[i] = mezclar(color, pixeles[i], 255);
+                }
+            }
+        }
+    }
+
+    /**
+     * Dibuja el borde de un rectangulo hacia adentro.
+     *
+     * @param x      borde izquierdo
+     * @param y      borde superior
+     * @param w      ancho
+     * @param h      alto
+     * @param grosor grosor del borde en unidades del juego
+     * @param color  color ARGB premultiplicado
+     */
+    public void bordeRectangulo(final double x, final double y, final double w, final double h,
+                                final double grosor, final int color) {
+        final double g = Math.max(grosor, 1.0 / escala);
+        rellenarRectangulo(x, y, w, g, color);
+        rellenarRectangulo(x, y + h - g, w, g, color);
+        rellenarRectangulo(x, y + g, g, h - 2 * g, color);
+        rellenarRectangulo(x + w - g, y + g, g, h - 2 * g, color);
+    }
+
+    /**
+     * Rellena un circulo en coordenadas del juego, con el borde suavizado
+     * segun la fraccion de cada pixel que cubre.
+     *
+     * @param cx    centro horizontal
+     * @param cy    centro vertical
+     * @param radio radio
+     * @param color color ARGB premultiplicado
+     */
+    public void rellenarCirculo(final double cx, final double cy, final double radio, final int color) {
+        if (radio <= 0) {
+            return;
+        }
+        final double centroX = cx * escala;
+        final double centroY = cy * escala;
+        final double r = radio * escala;
+        final int y0 = Math.max(0, (int) Math.floor(centroY - r));
+        final int y1 = Math.min(alto - 1, (int) Math.ceil(centroY + r));
+        final double interior = Math.max(0.0, r - 0.5);
+        final double interior2 = interior * interior;
+        final double exterior2 = (r + 0.5) * (r + 0.5);
+        final boolean opaco = color >>> 24 == 0xFF;
+        for (int fila = y0; fila <= y1; fila++) {
+            final double dy = fila + 0.5 - centroY;
+            final double dy2 = dy * dy;
+            if (dy2 >= exterior2) {
+                continue;
+            }
+            final int inicio = fila * ancho;
+            final double medioExterior = Math.sqrt(exterior2 - dy2);
+            final int x0 = Math.max(0, (int) Math.floor(centroX - medioExterior - 0.5));
+            final int x1 = Math.min(ancho - 1, (int) Math.ceil(centroX + medioExterior - 0.5));
+
+            // Tramo interior de la fila, cubierto por completo; se rellena de una vez.
+            int interiorDesde = Integer.MAX_VALUE;
+            int interiorHasta = Integer.MIN_VALUE;
+            if (dy2 < interior2) {
+                final double medioInterior = Math.sqrt(interior2 - dy2);
+                interiorDesde = Math.max(x0, (int) Math.ceil(centroX - medioInterior - 0.5));
+                interiorHasta = Math.min(x1, (int) Math.floor(centroX + medioInterior - 0.5));
+            }
+
+            for (int columna = x0; columna <= x1; columna++) {
+                if (columna == interiorDesde && interiorDesde <= interiorHasta) {
+                    if (opaco) {
+                        Arrays.fill(pixeles, inicio + interiorDesde, inicio + interiorHasta + 1, color);
+                    } else {
+                        for (int i = inicio + interiorDesde; i <= inicio + interiorHasta; i++) {
+                            pixeles[i] = mezclar(color, pixeles[i], 255);
+                        }
+                    }
+                    columna = interiorHasta;
+                    continue;
+                }
+                final double dx = columna + 0.5 - centroX;
+                final double d2 = dx * dx + dy2;
+                if (d2 >= exterior2) {
+                    continue;
+                }
+                final int cobertura = (int) ((r + 0.5 - Math.sqrt(d2)) * 255);
+                final int i = inicio + columna;
+                pixeles[i] = mezclar(color, pixeles[i], Math.max(0, Math.min(255, cobertura)));
+            }
+        }
+    }
+
+    /**
+     * Convierte un color a ARGB premultiplicado.
+     *
+     * @param color color de JavaFX
+     * @param alfa  opacidad adicional, en [0, 1]
+     * @return color empaquetado
+     */
+    public static int premultiplicar(final Color color, final double alfa) {
+        final double a = Math.max(0.0, Math.min(1.0, color.getOpacity() * alfa));
+        return (int) Math.round(a * 255) << 24
+            | (int) Math.round(color.getRed() * a * 255) << 16
+            | (int) Math.round(color.getGreen() * a * 255) << 8
+            | (int) Math.round(color.getBlue() * a * 255);
+    }
+
+    /**
+     * Convierte un color ARGB empaquetado sin premultiplicar a ARGB
+     * premultiplicado, sin crear objetos.
+     *
+     * @param argb color empaquetado sin premultiplicar
+     * @param alfa opacidad adicional, en [0, 1]
+     * @return color empaquetado premultiplicado
+     */
+    public static int premultiplicar(final int argb, final double alfa) {
+        final double a = Math.max(0.0, Math.min(1.0, (argb >>> 24) / 255.0 * alfa));
+        return (int) Math.round(a * 255) << 24
+            | (int) Math.round((argb >> 16 & 0xFF) * a) << 16
+            | (int) Math.round((argb >> 8 & 0xFF) * a) << 8
+            | (int) Math.round((argb & 0xFF) * a);
+    }
+
+    private void rasterizarLineaCentral() {
+        final double centro = ancho / escala / 2;
+        final int color = premultiplicar(Color.WHITE, 0.3);
+        for (double y = 0.0; y < alto / escala; y += 20.0) {
+            rellenarRectangulo(centro - 1.0, y, 2.0, 10.0, color);
+        }
+    }
+
+    private void rasterizarPaleta(final InstantaneaJuego.EstadoPaleta p) {
+        rellenarRectangulo(p.x(), p.y(), p.ancho(), p.alto(), premultiplicar(p.color(), 1.0));
+        bordeRectangulo(p.x(), p.y(), p.ancho(), p.alto(), 2.0, BLANCO);
+    }
+
+    private void rasterizarPelota(final InstantaneaJuego.EstadoPelota p) {
+        for (int i = 1; i <= segmentosEstela; i++) {
+            final double factor = (double) i / segmentosEstela;
+            final int gris = (int) Math.round(OPACIDAD_ESTELA * (1.0 - factor) * 255);
+            rellenarCirculo(p.x() - p.velocidadX() * factor * 2, p.y() - p.velocidadY() * factor * 2,
+                p.radio() * 0.8, gris << 24 | gris << 16 | gris << 8 | gris);
+        }
+        rellenarCirculo(p.x(), p.y(), p.radio(), BLANCO);
+    }
+
+    private void rasterizarNeblinas(final InstantaneaJuego instantanea) {
+        if (!instantanea.neblinaActiva()) {
+            return;
+        }
+        final int color = premultiplicar(Color.GRAY, OPACIDAD_NEBLINA);
+        final double altoCampo = alto / escala;
+        if (instantanea.neblinas().exists(n -> !n.enPaleta())) {
+            rellenarRectangulo(0.0, 0.0, ancho / escala, altoCampo, color);
+            return;
+        }
+        instantanea.neblinas().distinct().forEach(n ->
+            rellenarRectangulo(n.centroX() - n.ancho() / 2, 0.0, n.ancho(), altoCampo, color));
+    }
+
+    /**
+     * Dibuja un entero no negativo centrado con los digitos de 3x5 celdas,
+     * del mismo alto que la fuente retro a 8 puntos.
+     */
+    private void rasterizarNumero(final int numero, final double centroX, final double base) {
+        final double celda = ALTO_DIGITO / 5;
+        final double anchoDigito = celda * 4;
+        int digitos = 1;
+        for (int resto = numero / 10; resto > 0; resto /= 10) {
+            digitos++;
+        }
+        double x = centroX + digitos * anchoDigito / 2 - anchoDigito;
+        final double arriba = base - ALTO_DIGITO;
+        int resto = numero;
+        for (int d = 0; d < digitos; d++) {
+            final int patron = DIGITOS[resto % 10];
+            for (int fila = 0; fila < 5; fila++) {
+                for (int columna = 0; columna < 3; columna++) {
+                    if ((patron >> ((4 - fila) * 3 + (2 - columna)) & 1) != 0) {
+                        rellenarRectangulo(x + columna * celda, arriba + fila * celda, celda, celda, BLANCO);
+                    }
+                }
+            }
+            resto /= 10;
+            x -= anchoDigito;
+        }
+    }
+
+    /**
+     * Mezcla un color premultiplicado sobre otro con una cobertura dada.
+     * <p>
+     * Procesa dos canales por multiplicacion, rojo con azul y alfa con verde,
+     * separados por 16 bits para que no se contaminen. La division entre 255
+     * redondea igual que {@code (x + 127) / 255}.
+     * </p>
+     */
+    static int mezclar(final int origen, final int destino, final int cobertura) {
+        final int fuente = escalarCanales(origen & 0x00FF00FF, cobertura)
+            | escalarCanales(origen >>> 8 & 0x00FF00FF, cobertura) << 8;
+        final int inverso = 255 - (fuente >>> 24);
+        return fuente + (escalarCanales(destino & 0x00FF00FF, inverso)
+            | escalarCanales(destino >>> 8 & 0x00FF00FF, inverso) << 8);
+    }
+
+    /**
+     * Multiplica dos canales de 8 bits empaquetados como {@code 0x00AA00BB}
+     * por un factor en [0, 255] y divide entre 255 con redondeo.
+     */
+    private static int escalarCanales(final int canales, final int factor) {
+        final int t = canales * factor + 0x00800080;
+        return (t + (t >>> 8 & 0x00FF00FF)) >>> 8 & 0x00FF00FF;
+    }
+}
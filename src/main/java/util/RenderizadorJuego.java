@@ -14,6 +14,7 @@ import mvc.modelo.entidades.paleta.Paleta;
 import mvc.modelo.entidades.pelota.Pelota;
 import mvc.modelo.enums.LadoHorizontal;
 import mvc.modelo.items.Item;
+import mvc.modelo.simulacion.InstantaneaJuego;
 
 /**
  * Clase utilitaria para el renderizado de entidades del juego.
@@ -23,9 +24,29 @@ import mvc.modelo.items.Item;
 public final class RenderizadorJuego {
 
     private static final double RADIO_PELOTA_BASE = 5.0;
-    private static final int SEGMENTOS_TRAIL = 5;
+    /** Segmentos de la estela de la pelota con la calidad maxima. */
+    public static final int SEGMENTOS_TRAIL_DEFECTO = 5;
     private static final double OPACIDAD_TRAIL_BASE = 0.6;
 
+    /** Capas de la lista de dibujo, en orden de pintado. */
+    private static final int CAPA_PALETAS = 0;
+    private static final int CAPA_BORDES_PALETAS = 1;
+    private static final int CAPA_ESTELA = 2;
+    private static final int CAPA_PELOTAS = 3;
+    private static final int CAPA_ITEMS = 4;
+
+    /**
+     * Primitivas de dibujo emitidas desde el ultimo reinicio. Solo se
+     * modifica desde el hilo de JavaFX, como el resto del renderizado.
+     */
+    private static long llamadasDibujo;
+
+    /**
+     * Segmentos con los que se dibuja la estela de la pelota. Como el
+     * contador de llamadas, solo se usa desde el hilo de JavaFX.
+     */
+    private static int segmentosTrail = SEGMENTOS_TRAIL_DEFECTO;
+
     /**
      * Constructor privado para prevenir instanciación de esta clase de utilidad.
      */
@@ -33,6 +54,56 @@ public final class RenderizadorJuego {
         throw new AssertionError("Clase utilitaria no instanciable");
     }
 
+    /**
+     * Establece cuántos segmentos tiene la estela de la pelota. Con cero la
+     * pelota se dibuja sin estela.
+     *
+     * @param segmentos segmentos de la estela, entre 0 y {@link #SEGMENTOS_TRAIL_DEFECTO}
+     * @throws IllegalArgumentException si la cantidad está fuera de rango
+     */
+    public static void establecerSegmentosTrail(final int segmentos) {
+        if (segmentos < 0 || segmentos > SEGMENTOS_TRAIL_DEFECTO) {
+            throw new IllegalArgumentException("Segmentos de estela fuera de rango: " + segmentos);
+        }
+        segmentosTrail = segmentos;
+    }
+
+    /**
+     * Obtiene cuántos segmentos tiene la estela de la pelota.
+     *
+     * @return segmentos de la estela
+     */
+    public static int obtenerSegmentosTrail() {
+        return segmentosTrail;
+    }
+
+    /**
+     * Obtiene la cantidad de primitivas de dibujo (rellenos, trazos y textos)
+     * emitidas por esta clase desde el último reinicio del contador.
+     *
+     * @return llamadas de dibujo acumuladas
+     */
+    public static long obtenerLlamadasDibujo() {
+        return llamadasDibujo;
+    }
+
+    /**
+     * Suma llamadas de dibujo emitidas fuera de esta clase, como las de las
+     * partículas, para que el contador refleje el fotograma completo.
+     *
+     * @param cantidad llamadas de dibujo a sumar
+     */
+    public static void registrarLlamadasDibujo(final long cantidad) {
+        llamadasDibujo += cantidad;
+    }
+
+    /**
+     * Reinicia el contador de llamadas de dibujo.
+     */
+    public static void reiniciarLlamadasDibujo() {
+        llamadasDibujo = 0L;
+    }
+
     /**
      * Renderiza una pelota en el contexto gráfico especificado.
      * Dibuja la pelota con un efecto de estela y un brillo para mejorar la visibilidad.
@@ -42,21 +113,191 @@ public final class RenderizadorJuego {
      * @return Try conteniendo Unit si la operación de renderizado fue exitosa, o una excepción en caso de error
      */
     public static Try<Void> renderizarPelota(final GraphicsContext gc, final Pelota pelota) {
-        return Try.run(() -> {
-            final double x = pelota.obtenerX();
-            final double y = pelota.obtenerY();
-            final double radio = calcularRadioPelota(pelota);
+        return renderizarPelota(gc, pelota.obtenerX(), pelota.obtenerY(), calcularRadioPelota(pelota),
+                pelota.obtenerVelocidadX(), pelota.obtenerVelocidadY());
+    }
 
-            renderizarTrailPelota(gc, x, y, radio, pelota);
+    /**
+     * Renderiza una pelota a partir de valores primitivos.
+     * Permite dibujar el estado interpolado de una instantanea de simulacion
+     * sin acceder a la entidad mutable.
+     *
+     * @param gc         Contexto gráfico donde se dibujará la pelota
+     * @param x          Posición horizontal de la pelota
+     * @param y          Posición vertical de la pelota
+     * @param radio      Radio de la pelota
+     * @param velocidadX Velocidad horizontal, usada para orientar la estela
+     * @param velocidadY Velocidad vertical, usada para orientar la estela
+     * @return Try conteniendo Unit si la operación de renderizado fue exitosa, o una excepción en caso de error
+     */
+    public static Try<Void> renderizarPelota(final GraphicsContext gc, final double x, final double y,
+                                             final double radio, final double velocidadX,
+                                             final double velocidadY) {
+        return Try.run(() -> {
+            renderizarTrailPelota(gc, x, y, radio, velocidadX, velocidadY);
 
             gc.setFill(Color.WHITE);
             gc.fillOval(x - radio, y - radio, radio * 2, radio * 2);
 
             gc.setFill(Color.color(1.0, 1.0, 1.0, 0.5));
             gc.fillOval(x - radio * 0.5, y - radio * 0.5, radio, radio);
+            llamadasDibujo += 2;
+        });
+    }
+
+    /**
+     * Renderiza una pelota con su estela a partir del atlas de sprites.
+     * La estela se atenua con el alfa global del contexto, de modo que el
+     * fotograma no crea colores.
+     *
+     * @param gc         Contexto gráfico donde se dibujará la pelota
+     * @param atlas      Atlas con los sprites de pelota y estela
+     * @param x          Posición horizontal de la pelota
+     * @param y          Posición vertical de la pelota
+     * @param radio      Radio de la pelota
+     * @param velocidadX Velocidad horizontal, usada para orientar la estela
+     * @param velocidadY Velocidad vertical, usada para orientar la estela
+     */
+    public static void renderizarPelota(final GraphicsContext gc, final AtlasSprites atlas,
+                                        final double x, final double y, final double radio,
+                                        final double velocidadX, final double velocidadY) {
+        final double radioEstela = radio * 0.8;
+        for (int i = 1; i <= segmentosTrail; i++) {
+            final double factor = (double) i / segmentosTrail;
+            gc.setGlobalAlpha(OPACIDAD_TRAIL_BASE * (1.0 - factor));
+            atlas.dibujar(gc, AtlasSprites.SPRITE_ESTELA,
+                x - velocidadX * factor * 2 - radioEstela, y - velocidadY * factor * 2 - radioEstela,
+                radioEstela * 2, radioEstela * 2);
+        }
+        gc.setGlobalAlpha(1.0);
+
+        atlas.dibujar(gc, AtlasSprites.SPRITE_PELOTA, x - radio, y - radio, radio * 2, radio * 2);
+        llamadasDibujo += segmentosTrail + 1;
+    }
+
+    /**
+     * Renderiza un lote de pelotas sin estela, como las del modo multipelota.
+     * <p>
+     * A diferencia de {@link #renderizarPelota(GraphicsContext, double, double, double, double, double)},
+     * el lote entero se dibuja dentro de un unico Try y con un solo cambio de
+     * color, de modo que el costo por pelota es el de un ovalo.
+     * </p>
+     *
+     * @param gc         Contexto gráfico donde se dibujarán las pelotas
+     * @param posiciones Posiciones intercaladas como {@code x0, y0, x1, y1, ...}
+     * @param cantidad   Cantidad de pelotas a dibujar
+     * @param radio      Radio comun de las pelotas
+     * @return Try conteniendo Unit si la operación de renderizado fue exitosa, o una excepción en caso de error
+     */
+    public static Try<Void> renderizarPelotas(final GraphicsContext gc, final double[] posiciones,
+                                              final int cantidad, final double radio) {
+        return Try.run(() -> {
+            final double diametro = radio * 2;
+            gc.setFill(Color.WHITE);
+            for (int i = 0; i < cantidad; i++) {
+                gc.fillOval(posiciones[2 * i] - radio, posiciones[2 * i + 1] - radio, diametro, diametro);
+            }
+            llamadasDibujo += cantidad;
         });
     }
 
+    /**
+     * Renderiza un lote de pelotas sin estela a partir del atlas de sprites.
+     *
+     * @param gc         Contexto gráfico donde se dibujarán las pelotas
+     * @param atlas      Atlas con el sprite de pelota del modo multipelota
+     * @param posiciones Posiciones intercaladas como {@code x0, y0, x1, y1, ...}
+     * @param cantidad   Cantidad de pelotas a dibujar
+     * @param radio      Radio comun de las pelotas
+     */
+    public static void renderizarPelotas(final GraphicsContext gc, final AtlasSprites atlas,
+                                         final double[] posiciones, final int cantidad, final double radio) {
+        final double diametro = radio * 2;
+        for (int i = 0; i < cantidad; i++) {
+            atlas.dibujar(gc, AtlasSprites.SPRITE_PELOTA_EXTRA,
+                posiciones[2 * i] - radio, posiciones[2 * i + 1] - radio, diametro, diametro);
+        }
+        llamadasDibujo += cantidad;
+    }
+
+    /**
+     * Describe en una lista de dibujo las entidades dinámicas de un
+     * fotograma: paletas, pelota con estela, pelotas del modo multipelota e
+     * ítems, interpolados entre dos instantáneas. El fondo y los bloques
+     * quedan fuera porque se dibujan en la capa estática.
+     * <p>
+     * Cada grupo va en su propia capa, de modo que ordenar la lista por
+     * estilo conserva el orden de pintado de {@link #renderizarPelota} y
+     * {@link #renderizarPaleta}. No asigna memoria salvo para agrandar el
+     * buffer de pelotas o la lista.
+     * </p>
+     *
+     * @param lista      Lista de dibujo, vaciada por este método
+     * @param actual     Instantánea más reciente
+     * @param previa     Instantánea anterior
+     * @param alfa       Fracción del tick transcurrida, en [0, 1]
+     * @param posiciones Buffer para las posiciones interpoladas de las pelotas extra
+     * @return el buffer de posiciones, agrandado si hizo falta
+     */
+    public static double[] emitirEntidades(final ListaDibujo lista, final InstantaneaJuego actual,
+                                           final InstantaneaJuego previa, final double alfa,
+                                           final double[] posiciones) {
+        lista.vaciar();
+        final int estiloBorde = lista.estiloTrazo(Color.WHITE, 2.0);
+        final int estiloOpaco = lista.estiloImagen(1.0);
+
+        emitirPaleta(lista, actual.jugador1(), previa.jugador1(), alfa, estiloBorde);
+        emitirPaleta(lista, actual.jugador2(), previa.jugador2(), alfa, estiloBorde);
+
+        if (actual.pelota().isDefined()) {
+            final InstantaneaJuego.EstadoPelota p = actual.pelotaInterpolada(previa, alfa).get();
+            final double radioEstela = p.radio() * 0.8;
+            lista.establecerCapa(CAPA_ESTELA);
+            for (int i = 1; i <= segmentosTrail; i++) {
+                final double factor = (double) i / segmentosTrail;
+                lista.agregarSprite(lista.estiloImagen(OPACIDAD_TRAIL_BASE * (1.0 - factor)),
+                    AtlasSprites.SPRITE_ESTELA,
+                    p.x() - p.velocidadX() * factor * 2 - radioEstela,
+                    p.y() - p.velocidadY() * factor * 2 - radioEstela,
+                    radioEstela * 2, radioEstela * 2);
+            }
+            lista.establecerCapa(CAPA_PELOTAS);
+            lista.agregarSprite(estiloOpaco, AtlasSprites.SPRITE_PELOTA,
+                p.x() - p.radio(), p.y() - p.radio(), p.radio() * 2, p.radio() * 2);
+        }
+
+        double[] buffer = posiciones;
+        final int cantidad = actual.cantidadPelotasExtra();
+        if (cantidad > 0) {
+            buffer = actual.interpolarPelotasExtra(previa, alfa, posiciones);
+            final double radio = actual.radioPelotasExtra();
+            lista.establecerCapa(CAPA_PELOTAS);
+            for (int i = 0; i < cantidad; i++) {
+                lista.agregarSprite(estiloOpaco, AtlasSprites.SPRITE_PELOTA_EXTRA,
+                    buffer[2 * i] - radio, buffer[2 * i + 1] - radio, radio * 2, radio * 2);
+            }
+        }
+
+        lista.establecerCapa(CAPA_ITEMS);
+        for (final InstantaneaJuego.EstadoItem item : actual.items()) {
+            lista.agregarSprite(estiloOpaco, AtlasSprites.SPRITE_ITEM, item.x(), item.y(), item.ancho(), item.alto());
+        }
+        return buffer;
+    }
+
+    private static void emitirPaleta(final ListaDibujo lista, final Option<InstantaneaJuego.EstadoPaleta> actual,
+                                     final Option<InstantaneaJuego.EstadoPaleta> previa, final double alfa,
+                                     final int estiloBorde) {
+        if (actual.isEmpty()) {
+            return;
+        }
+        final InstantaneaJuego.EstadoPaleta p = InstantaneaJuego.interpolarPaleta(actual, previa, alfa).get();
+        lista.establecerCapa(CAPA_PALETAS);
+        lista.agregarRectangulo(lista.estiloRelleno(p.color()), p.x(), p.y(), p.ancho(), p.alto());
+        lista.establecerCapa(CAPA_BORDES_PALETAS);
+        lista.agregarBordeRectangulo(estiloBorde, p.x(), p.y(), p.ancho(), p.alto());
+    }
+
     /**
      * Renderiza una paleta en el contexto gráfico especificado.
      * Dibuja el cuerpo de la paleta con color específico.
@@ -66,18 +307,31 @@ public final class RenderizadorJuego {
      * @return Try conteniendo Unit si la operación de renderizado fue exitosa, o una excepción en caso de error
      */
     public static Try<Void> renderizarPaleta(final GraphicsContext gc, final Paleta paleta) {
-        return Try.run(() -> {
-            final double x = paleta.obtenerX();
-            final double y = paleta.obtenerY();
-            final double ancho = paleta.obtenerAncho();
-            final double alto = paleta.obtenerAlto();
+        return renderizarPaleta(gc, paleta.obtenerX(), paleta.obtenerY(), paleta.obtenerAncho(),
+                paleta.obtenerAlto(), paleta.obtenerColor());
+    }
 
-            gc.setFill(paleta.obtenerColor());
+    /**
+     * Renderiza una paleta a partir de valores primitivos.
+     *
+     * @param gc    Contexto gráfico donde se dibujará la paleta
+     * @param x     Posición horizontal de la paleta
+     * @param y     Posición vertical de la paleta
+     * @param ancho Ancho de la paleta
+     * @param alto  Alto de la paleta
+     * @param color Color de relleno de la paleta
+     * @return Try conteniendo Unit si la operación de renderizado fue exitosa, o una excepción en caso de error
+     */
+    public static Try<Void> renderizarPaleta(final GraphicsContext gc, final double x, final double y,
+                                             final double ancho, final double alto, final Color color) {
+        return Try.run(() -> {
+            gc.setFill(color);
             gc.fillRect(x, y, ancho, alto);
 
             gc.setStroke(Color.WHITE);
             gc.setLineWidth(2.0);
             gc.strokeRect(x, y, ancho, alto);
+            llamadasDibujo += 2;
         });
     }
 
@@ -90,17 +344,27 @@ public final class RenderizadorJuego {
      * @return Try conteniendo Unit si la operación de renderizado fue exitosa, o una excepción en caso de error
      */
     public static Try<Void> renderizarBloque(final GraphicsContext gc, final Bloque bloque) {
-        return Try.run(() -> {
-            if (bloque.estaDestruido()) {
-                return;
-            }
-
-            final double x = bloque.obtenerX();
-            final double y = bloque.obtenerY();
-            final double ancho = bloque.obtenerAncho();
-            final double alto = bloque.obtenerAlto();
-            final int resistencia = bloque.obtenerResistencia();
+        if (bloque.estaDestruido()) {
+            return Try.run(() -> { });
+        }
+        return renderizarBloque(gc, bloque.obtenerX(), bloque.obtenerY(), bloque.obtenerAncho(),
+                bloque.obtenerAlto(), bloque.obtenerResistencia());
+    }
 
+    /**
+     * Renderiza un bloque a partir de valores primitivos.
+     *
+     * @param gc          Contexto gráfico donde se dibujará el bloque
+     * @param x           Posición horizontal del bloque
+     * @param y           Posición vertical del bloque
+     * @param ancho       Ancho del bloque
+     * @param alto        Alto del bloque
+     * @param resistencia Resistencia restante del bloque
+     * @return Try conteniendo Unit si la operación de renderizado fue exitosa, o una excepción en caso de error
+     */
+    public static Try<Void> renderizarBloque(final GraphicsContext gc, final double x, final double y,
+                                             final double ancho, final double alto, final int resistencia) {
+        return Try.run(() -> {
             final Color color = calcularColorBloque(resistencia);
 
             gc.setFill(color);
@@ -109,6 +373,7 @@ public final class RenderizadorJuego {
             gc.setStroke(Color.WHITE);
             gc.setLineWidth(1.5);
             gc.strokeRect(x, y, ancho, alto);
+            llamadasDibujo += 2;
 
             if (resistencia > 1) {
                 renderizarIndicadorResistencia(gc, x, y, ancho, alto, resistencia);
@@ -116,6 +381,63 @@ public final class RenderizadorJuego {
         });
     }
 
+    /**
+     * Renderiza un bloque a partir del atlas de sprites, con la resistencia
+     * compuesta a partir de los digitos pre-rasterizados. Si el atlas no
+     * tiene un bloque de ese tamano, se dibuja con primitivas vectoriales.
+     *
+     * @param gc          Contexto gráfico donde se dibujará el bloque
+     * @param atlas       Atlas con las pieles de bloque y los digitos
+     * @param x           Posición horizontal del bloque
+     * @param y           Posición vertical del bloque
+     * @param ancho       Ancho del bloque
+     * @param alto        Alto del bloque
+     * @param resistencia Resistencia restante del bloque
+     */
+    public static void renderizarBloque(final GraphicsContext gc, final AtlasSprites atlas,
+                                        final double x, final double y, final double ancho,
+                                        final double alto, final int resistencia) {
+        final int sprite = atlas.buscarBloque(ancho, alto, resistencia);
+        if (sprite < 0) {
+            renderizarBloque(gc, x, y, ancho, alto, resistencia);
+            return;
+        }
+        atlas.dibujar(gc, sprite, x, y, ancho, alto);
+        llamadasDibujo++;
+
+        if (resistencia > 1) {
+            renderizarNumero(gc, atlas, resistencia, x + ancho / 2, y + alto / 2 + 3);
+        }
+    }
+
+    /**
+     * Dibuja un entero no negativo centrado horizontalmente con los digitos
+     * del atlas, sin convertirlo a cadena.
+     *
+     * @param gc      Contexto gráfico destino
+     * @param atlas   Atlas con los digitos
+     * @param numero  Numero a dibujar
+     * @param centroX Centro horizontal del numero
+     * @param base    Linea base del texto
+     */
+    public static void renderizarNumero(final GraphicsContext gc, final AtlasSprites atlas, final int numero,
+                                        final double centroX, final double base) {
+        int digitos = 1;
+        for (int resto = numero / 10; resto > 0; resto /= 10) {
+            digitos++;
+        }
+        final double arriba = base - AtlasSprites.ALTO_DIGITO;
+        double x = centroX + digitos * AtlasSprites.ANCHO_DIGITO / 2 - AtlasSprites.ANCHO_DIGITO;
+        int resto = numero;
+        for (int i = 0; i < digitos; i++) {
+            atlas.dibujar(gc, AtlasSprites.SPRITE_DIGITO_CERO + resto % 10, x, arriba,
+                AtlasSprites.ANCHO_DIGITO, AtlasSprites.ALTO_DIGITO);
+            resto /= 10;
+            x -= AtlasSprites.ANCHO_DIGITO;
+        }
+        llamadasDibujo += digitos;
+    }
+
     /**
      * Renderiza una lista de bloques en el contexto gráfico especificado.
      * Filtra los bloques destruidos y renderiza solo los que están activos.
@@ -156,11 +478,20 @@ public final class RenderizadorJuego {
      * @param item Instancia de Item que se va a renderizar
      */
     private static void renderizarItem(final GraphicsContext gc, final Item item) {
-        final double x = item.obtenerX();
-        final double y = item.obtenerY();
-        final double ancho = item.obtenerAncho();
-        final double alto = item.obtenerAlto();
+        renderizarItem(gc, item.obtenerX(), item.obtenerY(), item.obtenerAncho(), item.obtenerAlto());
+    }
 
+    /**
+     * Renderiza un ítem a partir de valores primitivos.
+     *
+     * @param gc    Contexto gráfico donde se dibujará el ítem
+     * @param x     Posición horizontal del ítem
+     * @param y     Posición vertical del ítem
+     * @param ancho Ancho del ítem
+     * @param alto  Alto del ítem
+     */
+    public static void renderizarItem(final GraphicsContext gc, final double x, final double y,
+                                      final double ancho, final double alto) {
         gc.setFill(Color.YELLOW);
         gc.fillOval(x, y, ancho, alto);
 
@@ -172,6 +503,23 @@ public final class RenderizadorJuego {
         gc.setFont(Font.font("Press Start 2P", 10));
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText("?", x + ancho / 2, y + alto / 2 + 3);
+        llamadasDibujo += 3;
+    }
+
+    /**
+     * Renderiza un ítem a partir del icono del atlas de sprites.
+     *
+     * @param gc    Contexto gráfico donde se dibujará el ítem
+     * @param atlas Atlas con el icono de ítem
+     * @param x     Posición horizontal del ítem
+     * @param y     Posición vertical del ítem
+     * @param ancho Ancho del ítem
+     * @param alto  Alto del ítem
+     */
+    public static void renderizarItem(final GraphicsContext gc, final AtlasSprites atlas, final double x,
+                                      final double y, final double ancho, final double alto) {
+        atlas.dibujar(gc, AtlasSprites.SPRITE_ITEM, x, y, ancho, alto);
+        llamadasDibujo++;
     }
 
     /**
@@ -182,15 +530,14 @@ public final class RenderizadorJuego {
      * @param x      Posición horizontal actual de la pelota
      * @param y      Posición vertical actual de la pelota
      * @param radio  Radio de la pelota para dimensionar la estela
-     * @param pelota Instancia de Pelota para obtener la velocidad y calcular la dirección de la estela
+     * @param velocidadX Velocidad horizontal de la pelota para calcular la dirección de la estela
+     * @param velocidadY Velocidad vertical de la pelota para calcular la dirección de la estela
      */
     private static void renderizarTrailPelota(final GraphicsContext gc, final double x, final double y,
-                                               final double radio, final Pelota pelota) {
-        final double velocidadX = pelota.obtenerVelocidadX();
-        final double velocidadY = pelota.obtenerVelocidadY();
-
-        for (int i = 1; i <= SEGMENTOS_TRAIL; i++) {
-            final double factor = (double) i / SEGMENTOS_TRAIL;
+                                               final double radio, final double velocidadX,
+                                               final double velocidadY) {
+        for (int i = 1; i <= segmentosTrail; i++) {
+            final double factor = (double) i / segmentosTrail;
             final double trailX = x - velocidadX * factor * 2;
             final double trailY = y - velocidadY * factor * 2;
             final double opacidad = OPACIDAD_TRAIL_BASE * (1.0 - factor);
@@ -198,6 +545,7 @@ public final class RenderizadorJuego {
             gc.setFill(Color.color(1.0, 1.0, 1.0, opacidad));
             gc.fillOval(trailX - radio * 0.8, trailY - radio * 0.8, radio * 1.6, radio * 1.6);
         }
+        llamadasDibujo += segmentosTrail;
     }
 
     /**
@@ -217,6 +565,7 @@ public final class RenderizadorJuego {
         gc.setFont(Font.font("Press Start 2P", 8));
         gc.setTextAlign(TextAlignment.CENTER);
         gc.fillText(String.valueOf(resistencia), x + ancho / 2, y + alto / 2 + 3);
+        llamadasDibujo++;
     }
 
     /**
@@ -237,7 +586,7 @@ public final class RenderizadorJuego {
      * @param resistencia Valor numérico de la resistencia del bloque
      * @return Color correspondiente basado en la resistencia
      */
-    private static Color calcularColorBloque(final int resistencia) {
+    public static Color calcularColorBloque(final int resistencia) {
         return Option.of(resistencia)
                 .map(r -> {
                     if (r >= 5) return Color.DARKRED;
@@ -268,6 +617,7 @@ public final class RenderizadorJuego {
             gc.setLineDashes(10, 10);
             gc.strokeLine(ancho / 2, 0, ancho / 2, alto);
             gc.setLineDashes(null);
+            llamadasDibujo += 2;
         });
     }
 
@@ -280,7 +630,10 @@ public final class RenderizadorJuego {
      * @return Try conteniendo Unit si la operación de limpieza fue exitosa, o una excepción en caso de error
      */
     public static Try<Void> limpiarCanvas(final GraphicsContext gc, final double ancho, final double alto) {
-        return Try.run(() -> gc.clearRect(0, 0, ancho, alto));
+        return Try.run(() -> {
+            gc.clearRect(0, 0, ancho, alto);
+            llamadasDibujo++;
+        });
     }
 
     /**
@@ -292,7 +645,12 @@ public final class RenderizadorJuego {
      * @param alto      Alto del canvas donde se aplica el efecto
      * @param intensidad Intensidad del efecto de neblina (0.0 para ninguno, 1.0 para máximo efecto)
      * @return Try conteniendo Unit si la operación de renderizado fue exitosa, o una excepción en caso de error
+     * @deprecated Crea y aplica un GaussianBlur en cada llamada, lo que la hace la llamada de dibujo
+     *             más costosa del fotograma. Usar
+     *             {@link #renderizarNeblina(GraphicsContext, CapaNeblina, double, double, double, double, double, double)},
+     *             que compone una textura pre-difuminada.
      */
+    @Deprecated
     public static Try<Void> renderizarNeblina(final GraphicsContext gc, final double ancho, final double alto,
                                               final double intensidad) {
         return Try.run(() -> {
@@ -300,6 +658,30 @@ public final class RenderizadorJuego {
             gc.setEffect(new GaussianBlur(20));
             gc.fillRect(0, 0, ancho, alto);
             gc.setEffect(null);
+            llamadasDibujo++;
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Renderiza la neblina como una franja vertical a partir de la textura
+     * cacheada de la capa, sin efectos. Con la franja del ancho del canvas
+     * cubre todo el campo.
+     *
+     * @param gc         Contexto gráfico donde se dibujará la neblina
+     * @param capa       Capa con la textura de neblina cacheada
+     * @param ancho      Ancho del canvas
+     * @param alto       Alto del canvas
+     * @param x          Borde izquierdo de la franja
+     * @param anchoFranja Ancho de la franja
+     * @param intensidad Opacidad de la neblina, en [0, 1]
+     * @param segundos   Tiempo usado para animar la textura
+     */
+    public static void renderizarNeblina(final GraphicsContext gc, final CapaNeblina capa,
+                                         final double ancho, final double alto, final double x,
+                                         final double anchoFranja, final double intensidad,
+                                         final double segundos) {
+        final double desde = Math.max(0.0, x);
+        final double hasta = Math.min(ancho, x + anchoFranja);
+        llamadasDibujo += capa.dibujar(gc, ancho, alto, desde, 0.0, hasta - desde, alto, intensidad, segundos);
+    }
+}
@@ -0,0 +1,175 @@
+package util;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Dibuja las particulas estampando discos precalculados en un arreglo de
+ * pixeles ARGB premultiplicados, sin una llamada de dibujo por particula.
+ * <p>
+ * Para cada diametro entero en pixeles hay un sello con la cobertura de un
+ * disco suavizado: 255 en el interior y una rampa en el borde. Cada
+ * particula elige el sello de su diametro a la escala del destino y lo
+ * mezcla con su color y su opacidad. El mismo estampado sirve al
+ * rasterizador por software, que lo aplica sobre su fotograma, y al canvas:
+ * {@link #renderizar} estampa en un arreglo propio, lo sube a una
+ * {@link WritableImage} con un unico {@code setPixels} y lo compone sobre
+ * el canvas con un unico {@code drawImage}, ambos limitados al rectangulo
+ * que ocupan las particulas. Asi el costo deja de depender de la cantidad
+ * de llamadas de dibujo.
+ * </p>
+ * <p>
+ * Cada instancia guarda su arreglo y sus limites, por lo que debe usarse
+ * desde un solo hilo.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class SalpicadorParticulas {
+
+    /** Diametro en pixeles del sello mas grande; las particulas mayores lo usan. */
+    public static final int DIAMETRO_MAXIMO = 64;
+
+    private static final PixelFormat<IntBuffer> FORMATO = PixelFormat.getIntArgbPreInstance();
+
+    /** Sellos por diametro: lado del sello al cuadrado, con un pixel de margen para la rampa. */
+    private static final byte[][] SELLOS = new byte[DIAMETRO_MAXIMO + 1][];
+
+    static {
+        for (int diametro = 1; diametro <= DIAMETRO_MAXIMO; diametro++) {
+            final int lado = diametro + 2;
+            final double centro = lado / 2.0;
+            final double radio = diametro / 2.0;
+            final byte[] sello = new byte[lado * lado];
+            for (int fila = 0; fila < lado; fila++) {
+                for (int columna = 0; columna < lado; columna++) {
+                    final double dx = columna + 0.5 - centro;
+                    final double dy = fila + 0.5 - centro;
+                    final double cobertura = radio + 0.5 - Math.sqrt(dx * dx + dy * dy);
+                    sello[fila * lado + columna] = (byte) Math.round(Math.max(0.0, Math.min(1.0, cobertura)) * 255);
+                }
+            }
+            SELLOS[diametro] = sello;
+        }
+    }
+
+    private int[] buffer = new int[0];
+    private WritableImage imagen;
+    private int minimoX;
+    private int minimoY;
+    private int maximoX;
+    private int maximoY;
+
+    /**
+     * Crea un salpicador sin arreglo propio; el canvas lo reserva al dibujar
+     * por primera vez.
+     */
+    public SalpicadorParticulas() {
+    }
+
+    /**
+     * Estampa las particulas sobre un arreglo de pixeles ARGB
+     * premultiplicados, mezclando con lo que ya contiene.
+     *
+     * @param pixeles    destino, de {@code ancho * alto} pixeles por filas
+     * @param ancho      ancho del destino en pixeles
+     * @param alto       alto del destino en pixeles
+     * @param escala     pixeles del destino por unidad logica
+     * @param particulas particulas a estampar
+     */
+    public void salpicar(final int[] pixeles, final int ancho, final int alto, final double escala,
+                         final ParticleEmitter.SistemaParticulas particulas) {
+        minimoX = ancho;
+        minimoY = alto;
+        maximoX = -1;
+        maximoY = -1;
+        for (int i = 0; i < particulas.obtenerCantidad(); i++) {
+            final int color = RasterizadorSoftware.premultiplicar(particulas.obtenerArgb(i),
+                particulas.obtenerOpacidad(i));
+            if (color >>> 24 == 0) {
+                continue;
+            }
+            final int diametro = Math.max(1, Math.min(DIAMETRO_MAXIMO,
+                (int) Math.round(particulas.obtenerTamanio(i) * escala)));
+            final int lado = diametro + 2;
+            final int x0 = (int) Math.round(particulas.obtenerX(i) * escala - lado / 2.0);
+            final int y0 = (int) Math.round(particulas.obtenerY(i) * escala - lado / 2.0);
+            estampar(pixeles, ancho, alto, SELLOS[diametro], lado, x0, y0, color);
+        }
+    }
+
+    /**
+     * Dibuja las particulas sobre un canvas con una sola subida de pixeles y
+     * una sola llamada de dibujo. El contexto debe tener la transformacion
+     * de coordenadas logicas a la resolucion interna.
+     *
+     * @param gc         contexto grafico del campo de juego
+     * @param ancho      ancho interno del canvas en pixeles
+     * @param alto       alto interno del canvas en pixeles
+     * @param escala     pixeles internos por unidad logica
+     * @param particulas particulas a dibujar
+     * @return llamadas de dibujo emitidas: 0 si no habia nada visible, 1 si no
+     */
+    public int renderizar(final GraphicsContext gc, final int ancho, final int alto, final double escala,
+                          final ParticleEmitter.SistemaParticulas particulas) {
+        if (particulas.estaVacio() || ancho <= 0 || alto <= 0) {
+            return 0;
+        }
+        if (imagen == null || (int) imagen.getWidth() != ancho || (int) imagen.getHeight() != alto) {
+            buffer = new int[ancho * alto];
+            imagen = new WritableImage(ancho, alto);
+        }
+        salpicar(buffer, ancho, alto, escala, particulas);
+        if (maximoX < minimoX) {
+            return 0;
+        }
+        final int w = maximoX - minimoX + 1;
+        final int h = maximoY - minimoY + 1;
+        imagen.getPixelWriter().setPixels(minimoX, minimoY, w, h, FORMATO, buffer, minimoY * ancho + minimoX, ancho);
+        gc.drawImage(imagen, minimoX, minimoY, w, h, minimoX / escala, minimoY / escala, w / escala, h / escala);
+        for (int fila = minimoY; fila <= maximoY; fila++) {
+            Arrays.fill(buffer, fila * ancho + minimoX, fila * ancho + maximoX + 1, 0);
+        }
+        return 1;
+    }
+
+    /**
+     * Mezcla un sello sobre el destino, recortado a sus bordes, y amplia el
+     * rectangulo ocupado.
+     */
+    private void estampar(final int[] pixeles, final int ancho, final int alto, final byte[] sello, final int lado,
+                          final int x0, final int y0, final int color) {
+        final int desdeX = Math.max(0, x0);
+        final int desdeY = Math.max(0, y0);
+        final int hastaX = Math.min(ancho, x0 + lado);
+        final int hastaY = Math.min(alto, y0 + lado);
+        if (desdeX >= hastaX || desdeY >= hastaY) {
+            return;
+        }
+        minimoX = Math.min(minimoX, desdeX);
+        minimoY = Math.min(minimoY, desdeY);
+        maximoX = Math.max(maximoX, hastaX - 1);
+        maximoY = Math.max(maximoY, hastaY - 1);
+
+        final boolean opaco = color >>> 24 == 0xFF;
+        for (int fila = desdeY; fila < hastaY; fila++) {
+            final int inicioSello = (fila - y0) * lado - x0;
+            final int inicio = fila * ancho;
+            for (int columna = desdeX; columna < hastaX; columna++) {
+                final int cobertura = sello[inicioSello + columna] & 0xFF;
+                if (cobertura == 0) {
+                    continue;
+                }
+                final int i = inicio + columna;
+                pixeles[i] = opaco && cobertura == 0xFF
+                    ? color
+                    : RasterizadorSoftware.mezclar(color, pixeles[i], cobertura);
+            }
+        }
+    }
+}
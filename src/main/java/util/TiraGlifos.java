@@ -0,0 +1,144 @@
+package util;
+
+import java.util.Arrays;
+
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Tira de glifos pre-rasterizados de la fuente retro, para dibujar texto
+ * con {@code drawImage} sin crear fuentes ni disposiciones de texto.
+ * <p>
+ * Cada caracter ocupa una celda del mismo ancho, igual al avance de la
+ * fuente monoespaciada, con la linea base a un tamano de fuente del borde
+ * superior y espacio debajo para los descendentes. El texto se dibuja a
+ * cualquier tamano escalando las celdas. Construir la tira requiere el hilo
+ * de JavaFX.
+ * </p>
+ *
+ * @author Equipo-polimorfo
+ * @version 1.0
+ */
+public final class TiraGlifos {
+
+    /** Caracteres ASCII imprimibles y la exclamacion de apertura. */
+    public static final String CARACTERES_DEFECTO;
+
+    private static final String FUENTE_RETRO = "Press Start 2P";
+    private static final double DESCENSO = 0.25;
+    private static final double SEPARACION = 2.0;
+
+    static {
+        final StringBuilder caracteres = new StringBuilder();
+        for (char c = ' '; c <= '~'; c++) {
+            caracteres.append(c);
+        }
+        CARACTERES_DEFECTO = caracteres.append('¡').toString();
+    }
+
+    private final Image imagen;
+    private final double tamanio;
+    private final double altoCelda;
+    private final int[] indices;
+
+    private TiraGlifos(final Image imagen, final double tamanio, final double altoCelda, final int[] indices) {
+        this.imagen = imagen;
+        this.tamanio = tamanio;
+        this.altoCelda = altoCelda;
+        this.indices = indices;
+    }
+
+    /**
+     * Rasteriza los caracteres en blanco a un tamano de fuente dado. Conviene
+     * usar el mayor tamano con el que se dibujara, para reducir al escalar.
+     *
+     * @param tamanio    tamano de la fuente en pixeles
+     * @param caracteres caracteres que tendra la tira
+     * @return tira con un glifo por caracter
+     * @throws IllegalArgumentException si el tamano no es positivo
+     */
+    public static TiraGlifos construir(final double tamanio, final String caracteres) {
+        if (tamanio <= 0) {
+            throw new IllegalArgumentException("El tamano de fuente debe ser positivo: " + tamanio);
+        }
+        final double altoCelda = Math.ceil(tamanio * (1 + DESCENSO));
+        final Canvas lienzo = new Canvas(caracteres.length() * (tamanio + SEPARACION), altoCelda);
+        final GraphicsContext gc = lienzo.getGraphicsContext2D();
+        gc.setFont(Font.font(FUENTE_RETRO, tamanio));
+        gc.setFill(Color.WHITE);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.BASELINE);
+
+        int maximo = 0;
+        for (int i = 0; i < caracteres.length(); i++) {
+            maximo = Math.max(maximo, caracteres.charAt(i));
+        }
+        final int[] indices = new int[maximo + 1];
+        Arrays.fill(indices, -1);
+        for (int i = 0; i < caracteres.length(); i++) {
+            final char c = caracteres.charAt(i);
+            indices[c] = i;
+            gc.fillText(String.valueOf(c), i * (tamanio + SEPARACION), tamanio);
+        }
+
+        final SnapshotParameters parametros = new SnapshotParameters();
+        parametros.setFill(Color.TRANSPARENT);
+        return new TiraGlifos(lienzo.snapshot(parametros, null), tamanio, altoCelda, indices);
+    }
+
+    /**
+     * Mide el ancho de un texto dibujado a un tamano dado.
+     *
+     * @param texto   texto a medir
+     * @param tamanio tamano de fuente destino
+     * @return ancho en las unidades del destino
+     */
+    public double medirAncho(final String texto, final double tamanio) {
+        return texto.length() * tamanio;
+    }
+
+    /**
+     * Obtiene el alto de una linea de texto dibujada a un tamano dado,
+     * incluido el espacio de los descendentes.
+     *
+     * @param tamanio tamano de fuente destino
+     * @return alto de la linea en las unidades del destino
+     */
+    public double obtenerAltoLinea(final double tamanio) {
+        return altoCelda * tamanio / this.tamanio;
+    }
+
+    /**
+     * Dibuja un texto de una linea. Los caracteres que la tira no tiene
+     * ocupan su celda sin dibujarse.
+     *
+     * @param gc      contexto grafico destino
+     * @param texto   texto a dibujar
+     * @param x       borde izquierdo del texto
+     * @param y       borde superior de la linea
+     * @param tamanio tamano de fuente destino
+     * @return cantidad de glifos dibujados
+     */
+    public int dibujar(final GraphicsContext gc, final String texto, final double x, final double y,
+                       final double tamanio) {
+        final double altoDestino = obtenerAltoLinea(tamanio);
+        int glifos = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            final char c = texto.charAt(i);
+            final int indice = c < indices.length ? indices[c] : -1;
+            if (indice < 0 || c == ' ') {
+                continue;
+            }
+            gc.drawImage(imagen, indice * (this.tamanio + SEPARACION), 0.0, this.tamanio, altoCelda,
+                x + i * tamanio, y, tamanio, altoDestino);
+            glifos++;
+        }
+        return glifos;
+    }
+}